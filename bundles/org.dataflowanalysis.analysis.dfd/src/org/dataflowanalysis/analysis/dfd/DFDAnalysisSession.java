@@ -0,0 +1,63 @@
+package org.dataflowanalysis.analysis.dfd;
+
+import org.apache.log4j.Logger;
+import org.dataflowanalysis.analysis.AnalysisSession;
+import org.eclipse.core.runtime.Plugin;
+import org.eclipse.emf.ecore.plugin.EcorePlugin;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
+
+import tools.mdsd.library.standalone.initialization.StandaloneInitializationException;
+import tools.mdsd.library.standalone.initialization.StandaloneInitializerBuilder;
+
+/**
+ * Session that initializes the standalone environment of DFD analyses once, including the resource factories of the data flow diagram models.
+ * Analyses of the session are created with {@link #newAnalysis()}.
+ * Analyses without a session use the shared default session, which initializes the environment on the first analysis
+ */
+public class DFDAnalysisSession extends AnalysisSession {
+	private static final DFDAnalysisSession DEFAULT_SESSION = new DFDAnalysisSession();
+
+	private final Logger logger = Logger.getLogger(DFDAnalysisSession.class);
+
+	/**
+	 * Returns the session shared by all analyses, that are created without a session.
+	 * The standalone environment is initialized once by the first of these analyses
+	 * @return Returns the shared default session
+	 */
+	public static DFDAnalysisSession getDefault() {
+		return DEFAULT_SESSION;
+	}
+
+	/**
+	 * Creates a builder for a new analysis, that uses the standalone environment of the session
+	 * @return Returns a builder of the analysis
+	 */
+	public DFDDataFlowAnalysisBuilder newAnalysis() {
+		return new DFDDataFlowAnalysisBuilder()
+				.standalone()
+				.useSession(this);
+	}
+
+	@Override
+	protected void initializeEnvironment() {
+		Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().put("dataflowdiagram", new XMIResourceFactoryImpl());
+		Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().put("datadictionary", new XMIResourceFactoryImpl());
+		EcorePlugin.ExtensionProcessor.process(null);
+		this.registerProject(DFDConfidentialityAnalysis.class, DFDConfidentialityAnalysis.PLUGIN_PATH);
+		logger.info("Successfully initialized standalone environment for the data flow analysis.");
+	}
+
+	@Override
+	protected void registerProject(Class<? extends Plugin> modelProjectActivator, String modelProjectName) {
+		try {
+			StandaloneInitializerBuilder.builder()
+				.registerProjectURI(modelProjectActivator, modelProjectName)
+				.build()
+				.init();
+		} catch (StandaloneInitializationException e) {
+			logger.error("Could not initialize analysis", e);
+			throw new IllegalStateException("Could not initialize analysis");
+		}
+	}
+}
@@ -3,24 +3,28 @@ package org.dataflowanalysis.analysis.dfd;
 import java.util.List;
 import java.util.Optional;
 
-import java.util.ArrayList;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import org.dataflowanalysis.analysis.DataFlowConfidentialityAnalysis;
 import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
 import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.core.LabelUniverse;
 import org.dataflowanalysis.analysis.dfd.core.DFDActionSequence;
 import org.dataflowanalysis.analysis.dfd.core.DFDActionSequenceFinder;
+import org.dataflowanalysis.analysis.dfd.core.DFDBehaviourCompiler;
+import org.dataflowanalysis.analysis.dfd.core.DFDGraphIndex;
+import org.dataflowanalysis.analysis.dfd.core.DFDLabelPropagation;
+import org.dataflowanalysis.analysis.dfd.core.DFDCharacteristicValue;
 import org.dataflowanalysis.analysis.dfd.core.DFDCharacteristicsCalculator;
 import org.dataflowanalysis.analysis.dfd.resource.DFDResourceProvider;
+import org.dataflowanalysis.analysis.execution.AnalysisExecutor;
+import org.dataflowanalysis.analysis.query.ConstraintQuery;
+import org.dataflowanalysis.analysis.query.ViolationMatrix;
+import org.dataflowanalysis.dfd.datadictionary.Label;
+import org.dataflowanalysis.dfd.datadictionary.LabelType;
 import org.eclipse.core.runtime.Plugin;
-import org.eclipse.emf.ecore.plugin.EcorePlugin;
-import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.emf.ecore.xmi.impl.XMIResourceFactoryImpl;
-
-import tools.mdsd.library.standalone.initialization.StandaloneInitializationException;
-import tools.mdsd.library.standalone.initialization.StandaloneInitializerBuilder;
 
 public class DFDConfidentialityAnalysis implements DataFlowConfidentialityAnalysis {
 	private final Logger logger = Logger.getLogger(DFDConfidentialityAnalysis.class);
@@ -28,73 +32,151 @@ public class DFDConfidentialityAnalysis implements DataFlowConfidentialityAnalys
 	protected DFDResourceProvider resourceProvider;
 	protected Optional<Class<? extends Plugin>> modelProjectActivator;
 	protected String modelProjectName;
+	protected boolean fixedPointPropagation;
+	protected int cycleUnrollingBound;
+	protected AnalysisExecutor executor;
+	protected Optional<DFDAnalysisSession> session;
+	private final DFDBehaviourCompiler behaviourCompiler;
+	private DFDGraphIndex graphIndex;
+	private DFDLabelPropagation labelPropagation;
 	
 	public DFDConfidentialityAnalysis(DFDResourceProvider resourceProvider, Optional<Class<? extends Plugin>> modelProjectActivator, String modelProjectName) {
+		this(resourceProvider, modelProjectActivator, modelProjectName, false, DFDActionSequenceFinder.DEFAULT_CYCLE_UNROLLING_BOUND, 
+				AnalysisExecutor.sequential());
+	}
+	
+	/**
+	 * Creates a new DFD analysis
+	 * @param resourceProvider Resource provider of the analysis
+	 * @param modelProjectActivator Plugin activator of the modelling project
+	 * @param modelProjectName Name of the modelling project
+	 * @param fixedPointPropagation Indicates whether labels are propagated over the flow graph instead of along each action sequence
+	 * @param cycleUnrollingBound Number of times a cycle may be traversed in a single action sequence
+	 * @param executor Executor that runs the phases of the analysis
+	 */
+	public DFDConfidentialityAnalysis(DFDResourceProvider resourceProvider, Optional<Class<? extends Plugin>> modelProjectActivator, String modelProjectName, 
+			boolean fixedPointPropagation, int cycleUnrollingBound, AnalysisExecutor executor) {
+		this(resourceProvider, modelProjectActivator, modelProjectName, fixedPointPropagation, cycleUnrollingBound, executor, Optional.empty());
+	}
+	
+	/**
+	 * Creates a new DFD analysis
+	 * @param resourceProvider Resource provider of the analysis
+	 * @param modelProjectActivator Plugin activator of the modelling project
+	 * @param modelProjectName Name of the modelling project
+	 * @param fixedPointPropagation Indicates whether labels are propagated over the flow graph instead of along each action sequence
+	 * @param cycleUnrollingBound Number of times a cycle may be traversed in a single action sequence
+	 * @param executor Executor that runs the phases of the analysis
+	 * @param session Session that has initialized the standalone environment. If no session is given, the shared default session is used
+	 */
+	public DFDConfidentialityAnalysis(DFDResourceProvider resourceProvider, Optional<Class<? extends Plugin>> modelProjectActivator, String modelProjectName, 
+			boolean fixedPointPropagation, int cycleUnrollingBound, AnalysisExecutor executor, Optional<DFDAnalysisSession> session) {
+		this.session = session;
 		this.resourceProvider = resourceProvider;
 		this.modelProjectActivator = modelProjectActivator;
 		this.modelProjectName = modelProjectName;
+		this.fixedPointPropagation = fixedPointPropagation;
+		this.cycleUnrollingBound = cycleUnrollingBound;
+		this.executor = executor;
+		this.behaviourCompiler = new DFDBehaviourCompiler(resourceProvider.getLabelUniverse());
 	}
 
 	@Override
 	public boolean initializeAnalysis() {
-		Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().put("dataflowdiagram", new XMIResourceFactoryImpl());
-		Resource.Factory.Registry.INSTANCE.getExtensionToFactoryMap().put("datadictionary", new XMIResourceFactoryImpl());
-
-        EcorePlugin.ExtensionProcessor.process(null);
-		
-        try {
-        	var initializationBuilder = StandaloneInitializerBuilder.builder()
-                    .registerProjectURI(DFDConfidentialityAnalysis.class, 
-                    		DFDConfidentialityAnalysis.PLUGIN_PATH);
-                 
-                 if (this.modelProjectActivator.isPresent()) {
-                	 initializationBuilder.registerProjectURI(this.modelProjectActivator.get(), this.modelProjectName);
-                 }
-                 
-                 initializationBuilder.build()
-                    .init();
-
-                logger.info("Successfully initialized standalone environment for the data flow analysis.");
-
-        } catch (StandaloneInitializationException e) {
-        	logger.error("Could not initialize analysis", e);
-        	throw new IllegalStateException("Could not initialize analysis");
-        }
+		this.session.orElseGet(DFDAnalysisSession::getDefault)
+			.registerModelProject(this.modelProjectActivator, this.modelProjectName);
         this.resourceProvider.loadRequiredResources();
+        this.resourceProvider.buildIndex();
         if(!this.resourceProvider.sufficientResourcesLoaded()) {
         	logger.error("Insufficient amount of resources loaded");
         	throw new IllegalStateException("Could not initialize analysis");
         }
+        this.registerLabels();
 		return true;
 	}
 	
 
 	@Override
 	public List<ActionSequence> findAllSequences() {
-		return DFDActionSequenceFinder.findAllSequencesInDFD(this.resourceProvider.getDataFlowDiagram(), this.resourceProvider.getDataDictionary());
+		return this.findSequences().toList();
+	}
+
+	@Override
+	public Stream<ActionSequence> findSequences() {
+		return DFDActionSequenceFinder.findSequencesInDFD(this.getGraphIndex(), this.cycleUnrollingBound);
 	}
 	
 
 	@Override
 	public List<ActionSequence> evaluateDataFlows(List<ActionSequence> sequences) {
-		List<ActionSequence> outSequences = new ArrayList<>();
-		for (var dfdActionSequence : sequences) {
-			outSequences.add(DFDCharacteristicsCalculator.fillDataFlowVariables((DFDActionSequence)dfdActionSequence));
+		if (this.fixedPointPropagation) {
+			DFDLabelPropagation propagation = this.propagateLabels();
+			return this.executor.map(sequences, dfdActionSequence -> propagation.evaluateSequence((DFDActionSequence)dfdActionSequence));
 		}
-		return outSequences;
+		DFDGraphIndex graphIndex = this.getGraphIndex();
+		return this.executor.map(sequences, dfdActionSequence -> DFDCharacteristicsCalculator.fillDataFlowVariables((DFDActionSequence)dfdActionSequence, 
+				this.behaviourCompiler, graphIndex));
+	}
+
+	/**
+	 * Returns the index of the loaded data flow diagram, which is shared by the sequence finder, the characteristics calculator and the label propagation.
+	 * The index is built once on first use
+	 * @return Returns the index of the data flow diagram
+	 */
+	public synchronized DFDGraphIndex getGraphIndex() {
+		if (this.graphIndex == null) {
+			this.graphIndex = new DFDGraphIndex(this.resourceProvider.getDataFlowDiagram(), this.resourceProvider.getLabelUniverse());
+		}
+		return this.graphIndex;
+	}
+
+	/**
+	 * Propagates the labels over the flow graph of the data flow diagram until a fixed point is reached.
+	 * Negated terms are evaluated against the bounds of the labels over all paths. See {@link DFDLabelPropagation}.
+	 * The result is computed once and can be used to answer per-node and per-path queries
+	 * @return Returns the result of the propagation
+	 */
+	public synchronized DFDLabelPropagation propagateLabels() {
+		if (this.labelPropagation == null) {
+			this.labelPropagation = DFDLabelPropagation.propagate(this.getGraphIndex(), this.behaviourCompiler);
+		}
+		return this.labelPropagation;
 	}
 
 	@Override
 	public List<AbstractActionSequenceElement<?>> queryDataFlow(ActionSequence sequence,
 			Predicate<? super AbstractActionSequenceElement<?>> condition) {
-		return sequence.getElements()
-	            .parallelStream()
-	            .filter(condition)
-	            .toList();
+		return this.executor.filter(sequence.getElements(), condition);
+	}
+
+	@Override
+	public ViolationMatrix queryDataFlows(List<ActionSequence> sequences, ConstraintQuery query) {
+		return query.evaluate(sequences, this.executor);
 	}
 
 	@Override
 	public void setLoggerLevel(Level level) {
 		logger.setLevel(level);
 	}
+
+	/**
+	 * Returns the resource provider of the analysis.
+	 * The resource provider may be used to access the loaded data flow diagram and data dictionary of the analysis.
+	 * @return Resource provider of the analysis
+	 */
+	public DFDResourceProvider getResourceProvider() {
+		return this.resourceProvider;
+	}
+	
+	/**
+	 * Registers all labels of the loaded data dictionary in the label universe of the resource provider
+	 */
+	private void registerLabels() {
+		LabelUniverse labelUniverse = this.resourceProvider.getLabelUniverse();
+		for (LabelType labelType : this.resourceProvider.getDataDictionary().getLabelTypes()) {
+			for (Label label : labelType.getLabel()) {
+				labelUniverse.register(new DFDCharacteristicValue(labelType, label));
+			}
+		}
+	}
 }
\ No newline at end of file
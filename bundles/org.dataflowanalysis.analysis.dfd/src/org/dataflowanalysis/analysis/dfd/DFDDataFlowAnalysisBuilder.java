@@ -1,11 +1,14 @@
 package org.dataflowanalysis.analysis.dfd;
 
+import java.nio.file.Path;
 import java.util.Optional;
 
 import org.apache.log4j.Logger;
 import org.dataflowanalysis.analysis.DataFlowAnalysisBuilder;
+import org.dataflowanalysis.analysis.dfd.core.DFDActionSequenceFinder;
 import org.dataflowanalysis.analysis.dfd.resource.DFDResourceProvider;
 import org.dataflowanalysis.analysis.dfd.resource.DFDURIResourceProvider;
+import org.dataflowanalysis.analysis.execution.AnalysisExecutor;
 import org.dataflowanalysis.analysis.utils.ResourceUtils;
 import org.eclipse.core.runtime.Plugin;
 
@@ -15,9 +18,14 @@ public class DFDDataFlowAnalysisBuilder extends DataFlowAnalysisBuilder {
 	protected String dataFlowDiagramPath;
 	protected String dataDictionaryPath;
 	protected Optional<DFDResourceProvider> customResourceProvider;
+	protected boolean fixedPointPropagation;
+	protected int cycleUnrollingBound;
+	protected Optional<DFDAnalysisSession> session;
 
 	public DFDDataFlowAnalysisBuilder() {
 		this.customResourceProvider = Optional.empty();
+		this.session = Optional.empty();
+		this.cycleUnrollingBound = DFDActionSequenceFinder.DEFAULT_CYCLE_UNROLLING_BOUND;
 	}	
 	
 	/**
@@ -66,6 +74,68 @@ public class DFDDataFlowAnalysisBuilder extends DataFlowAnalysisBuilder {
 		return this;
 	}
 	
+	/**
+	 * Propagates labels over the flow graph with a fixed-point iteration instead of along each action sequence.
+	 * If a node behaviour contains a negated term, the analysis falls back to the propagation along each action sequence
+	 * @return Builder of the analysis
+	 */
+	public DFDDataFlowAnalysisBuilder useFixedPointPropagation() {
+		this.fixedPointPropagation = true;
+		return this;
+	}
+	
+	/**
+	 * Sets the number of times a cycle in the data flow diagram may be traversed in a single action sequence
+	 * @param cycleUnrollingBound Number of times a cycle may be traversed. Must not be negative
+	 * @return Builder of the analysis
+	 */
+	public DFDDataFlowAnalysisBuilder useCycleUnrollingBound(int cycleUnrollingBound) {
+		this.cycleUnrollingBound = cycleUnrollingBound;
+		return this;
+	}
+	
+	/**
+	 * Sets the executor that runs the phases of the analysis. By default, the analysis runs sequentially.
+	 * Parallel evaluation and queries are enabled by setting a parallel executor, e.g. {@link AnalysisExecutor#commonPool()}
+	 * @param executor Executor of the analysis
+	 * @return Builder of the analysis
+	 */
+	public DFDDataFlowAnalysisBuilder useExecutor(AnalysisExecutor executor) {
+		super.useExecutor(executor);
+		return this;
+	}
+	
+	/**
+	 * Sets the executor that parses independent model files while the analysis is initialized. By default, model files are parsed sequentially
+	 * @param loadingExecutor Executor that parses model files
+	 * @return Builder of the analysis
+	 */
+	public DFDDataFlowAnalysisBuilder useLoadingExecutor(AnalysisExecutor loadingExecutor) {
+		super.useLoadingExecutor(loadingExecutor);
+		return this;
+	}
+	
+	/**
+	 * Sets the directory of the model cache of the analysis.
+	 * Unchanged models are loaded from the cache in the EMF binary format instead of parsing their source files
+	 * @param cacheDirectory Directory of the model cache
+	 * @return Builder of the analysis
+	 */
+	public DFDDataFlowAnalysisBuilder useModelCache(Path cacheDirectory) {
+		super.useModelCache(cacheDirectory);
+		return this;
+	}
+	
+	/**
+	 * Uses the standalone environment of the given session instead of the shared default session
+	 * @param session Session of the analysis
+	 * @return Builder of the analysis
+	 */
+	public DFDDataFlowAnalysisBuilder useSession(DFDAnalysisSession session) {
+		this.session = Optional.ofNullable(session);
+		return this;
+	}
+	
 	/**
 	 * Registers a custom resource provider for the analysis
 	 * @param resourceProvider Custom resource provider of the analysis
@@ -93,6 +163,9 @@ public class DFDDataFlowAnalysisBuilder extends DataFlowAnalysisBuilder {
 		if (this.dataFlowDiagramPath == null || this.dataFlowDiagramPath.isEmpty()) {
 			logger.error("A data flow diagram is required to run the data flow analysis", new IllegalStateException("The DFD analysis requires a data flow diagram"));
 		}
+		if (this.cycleUnrollingBound < 0) {
+			logger.error("The cycle unrolling bound must not be negative", new IllegalStateException("Negative cycle unrolling bound"));
+		}
 	}
 
 	/**
@@ -100,6 +173,10 @@ public class DFDDataFlowAnalysisBuilder extends DataFlowAnalysisBuilder {
 	 */
 	public DFDConfidentialityAnalysis build() {
 		this.validate();
-		return new DFDConfidentialityAnalysis(this.getEffectiveResourceProvider(), this.pluginActivator, this.modelProjectName);
+		DFDResourceProvider resourceProvider = this.getEffectiveResourceProvider();
+		this.modelCache.ifPresent(resourceProvider::setModelCache);
+		this.loadingExecutor.ifPresent(resourceProvider::setLoadingExecutor);
+		return new DFDConfidentialityAnalysis(resourceProvider, this.pluginActivator, this.modelProjectName, this.fixedPointPropagation, 
+				this.cycleUnrollingBound, this.executor.orElseGet(AnalysisExecutor::sequential), this.session);
 	}
 }
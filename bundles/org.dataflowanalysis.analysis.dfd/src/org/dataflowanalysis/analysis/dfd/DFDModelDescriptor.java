@@ -0,0 +1,73 @@
+package org.dataflowanalysis.analysis.dfd;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.dataflowanalysis.analysis.execution.ModelDescriptor;
+import org.dataflowanalysis.analysis.utils.ResourceUtils;
+import org.eclipse.core.runtime.Plugin;
+
+/**
+ * Description of a data flow diagram of a batch, whose analysis uses the standalone environment of a shared session
+ */
+public class DFDModelDescriptor implements ModelDescriptor {
+	private static final long MEMORY_PER_BYTE = 32;
+	
+	private final DFDAnalysisSession session;
+	private final String name;
+	private final String modelProjectName;
+	private final Class<? extends Plugin> modelProjectActivator;
+	private final String dataFlowDiagramPath;
+	private final String dataDictionaryPath;
+	
+	/**
+	 * Creates a new description of a data flow diagram
+	 * @param session Session, whose standalone environment is used by the analysis of the model
+	 * @param name Name of the model
+	 * @param modelProjectName Name of the modelling project
+	 * @param modelProjectActivator Plugin activator of the modelling project
+	 * @param dataFlowDiagramPath Relative path to the data flow diagram
+	 * @param dataDictionaryPath Relative path to the data dictionary
+	 */
+	public DFDModelDescriptor(DFDAnalysisSession session, String name, String modelProjectName, Class<? extends Plugin> modelProjectActivator, 
+			String dataFlowDiagramPath, String dataDictionaryPath) {
+		this.session = session;
+		this.name = name;
+		this.modelProjectName = modelProjectName;
+		this.modelProjectActivator = modelProjectActivator;
+		this.dataFlowDiagramPath = dataFlowDiagramPath;
+		this.dataDictionaryPath = dataDictionaryPath;
+	}
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Creates a new analysis of the model and registers the modelling project in the session, so that the models of the project can be resolved
+	 * @return Returns the created analysis
+	 */
+	@Override
+	public DFDConfidentialityAnalysis createAnalysis() {
+		this.session.registerModelProject(Optional.of(this.modelProjectActivator), this.modelProjectName);
+		return this.session.newAnalysis()
+				.modelProjectName(this.modelProjectName)
+				.usePluginActivator(this.modelProjectActivator)
+				.useDataFlowDiagram(this.dataFlowDiagramPath)
+				.useDataDictionary(this.dataDictionaryPath)
+				.build();
+	}
+
+	/**
+	 * Estimates the memory of the model from the size of its data flow diagram and data dictionary.
+	 * A data flow diagram only references its data dictionary, so both files contain the whole model
+	 * @return Returns the estimated memory in bytes
+	 */
+	@Override
+	public long estimateMemory() {
+		return MEMORY_PER_BYTE * Stream.of(this.dataFlowDiagramPath, this.dataDictionaryPath)
+				.mapToLong(it -> ResourceUtils.getLength(ResourceUtils.createRelativePluginURI(it, this.modelProjectName)))
+				.sum();
+	}
+}
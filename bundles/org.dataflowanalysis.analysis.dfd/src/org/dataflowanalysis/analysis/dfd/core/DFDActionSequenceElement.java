@@ -7,9 +7,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
-import org.dataflowanalysis.analysis.core.CharacteristicValue;
 import org.dataflowanalysis.analysis.core.DataCharacteristicsCalculatorFactory;
 import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.LabelSet;
 import org.dataflowanalysis.analysis.core.NodeCharacteristicsCalculator;
 import org.dataflowanalysis.dfd.dataflowdiagram.Flow;
 
@@ -21,7 +21,7 @@ public class DFDActionSequenceElement extends AbstractActionSequenceElement<EObj
 	private Flow flow;
 
 	public DFDActionSequenceElement(List<DataFlowVariable> dataFlowVariables,
-			List<CharacteristicValue> nodeCharacteristics, String name, Node node, Node previousNode, Flow flow) {
+			LabelSet nodeCharacteristics, String name, Node node, Node previousNode, Flow flow) {
 		super(dataFlowVariables, new ArrayList<>(), nodeCharacteristics); //ausgewertet wird erst unten DataFlowVariable kann hier leer sein
 		this.name = name;
 		this.node = node;
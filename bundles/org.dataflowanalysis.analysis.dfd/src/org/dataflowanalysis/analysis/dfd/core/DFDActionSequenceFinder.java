@@ -1,137 +1,204 @@
 package org.dataflowanalysis.analysis.dfd.core;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
 import org.dataflowanalysis.analysis.core.ActionSequence;
-import org.dataflowanalysis.analysis.core.CharacteristicValue;
 import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.LabelSet;
+import org.dataflowanalysis.analysis.core.LabelUniverse;
+import org.dataflowanalysis.analysis.core.PersistentElementList;
 import org.dataflowanalysis.dfd.datadictionary.DataDictionary;
 import org.dataflowanalysis.dfd.dataflowdiagram.DataFlowDiagram;
-import org.dataflowanalysis.dfd.dataflowdiagram.External;
 import org.dataflowanalysis.dfd.dataflowdiagram.Flow;
 import org.dataflowanalysis.dfd.dataflowdiagram.Node;
 
 public class DFDActionSequenceFinder {
+	/**
+	 * Default number of times a cycle is unrolled in a single strand
+	 */
+	public static final int DEFAULT_CYCLE_UNROLLING_BOUND = 1;
 
 	/**
 	 * Finds all Action Sequences in a dataflowdiagram instance
 	 * @param dfd Data Flow Diagram model instance
 	 * @param dataDictionary Data Dictionary model instance
+	 * @param labelUniverse Label universe of the labels in the data dictionary
 	 * @return All Action Sequences
 	 */
-	public static List<ActionSequence> findAllSequencesInDFD(DataFlowDiagram dfd, DataDictionary dataDictionary) { 
-		List<List<Node>> strands = new ArrayList<>();
-		List<ActionSequence> sequences = new ArrayList<>();
-		var flows = dfd.getFlows();
-		Map<Node, ArrayList<Node>> mapOfOutgoingEdges = getMapOfOutgoingEdges(flows);
-		var startNodesOfNonConnectedGraphs = getStartNodes(flows);
-
-		for (var startNode : startNodesOfNonConnectedGraphs) {
-			List<Node> currentStrand = new ArrayList<Node>();
-			strands.addAll(findStrand(currentStrand, startNode, mapOfOutgoingEdges));
-		}
-		
-		for (var strand : strands) {
-			sequences.add(convertNodeStrandToDFDActionSequence(strand, flows));
-		}
+	public static List<ActionSequence> findAllSequencesInDFD(DataFlowDiagram dfd, DataDictionary dataDictionary, LabelUniverse labelUniverse) { 
+		return findSequencesInDFD(dfd, dataDictionary, labelUniverse).toList();
+	}
 
-		return sequences;
+	/**
+	 * Finds all Action Sequences in a dataflowdiagram instance, unrolling each cycle at most the given number of times
+	 * @param dfd Data Flow Diagram model instance
+	 * @param dataDictionary Data Dictionary model instance
+	 * @param labelUniverse Label universe of the labels in the data dictionary
+	 * @param cycleUnrollingBound Number of times a cycle may be traversed in a single strand. Must not be negative
+	 * @return All Action Sequences
+	 */
+	public static List<ActionSequence> findAllSequencesInDFD(DataFlowDiagram dfd, DataDictionary dataDictionary, LabelUniverse labelUniverse, 
+			int cycleUnrollingBound) { 
+		return findSequencesInDFD(dfd, dataDictionary, labelUniverse, cycleUnrollingBound).toList();
 	}
-	
+
 	/**
-	 * Create Map with all outgoing edges for each node from list of all flows
-	 * @param flows All flows in the DFD
-	 * @return All outgoing edges
+	 * Lazily finds all Action Sequences in a dataflowdiagram instance.
+	 * Strands are found depth-first when the stream is consumed, therefore only the nodes of pending strands are kept in memory
+	 * @param dfd Data Flow Diagram model instance
+	 * @param dataDictionary Data Dictionary model instance
+	 * @param labelUniverse Label universe of the labels in the data dictionary
+	 * @return Lazy stream of all Action Sequences
 	 */
-	private static Map<Node, ArrayList<Node>> getMapOfOutgoingEdges(List<Flow> flows) {
-		 Map<Node, ArrayList<Node>> outgoingEdges = new HashMap<>();
-		 for (Flow flow : flows) {
-	            Node sourceNode = flow.getSourceNode();
-	            Node destinationNode = flow.getDestinationNode();
-
-	            if (outgoingEdges.containsKey(sourceNode)) {
-	                outgoingEdges.get(sourceNode).add(destinationNode);
-	            } else {
-	                ArrayList<Node> destinations = new ArrayList<>();
-	                destinations.add(destinationNode);
-	                outgoingEdges.put(sourceNode, destinations);
-	            }
-	        }
-		 
-		 return outgoingEdges;
+	public static Stream<ActionSequence> findSequencesInDFD(DataFlowDiagram dfd, DataDictionary dataDictionary, LabelUniverse labelUniverse) {
+		return findSequencesInDFD(dfd, dataDictionary, labelUniverse, DEFAULT_CYCLE_UNROLLING_BOUND);
 	}
-	
+
 	/**
-	 * Get List of all Nodes without incoming flows, or External nodes 
-	 * @param flows All flows
-	 * @return List of External Nodes and Nodes with no incoming flows
+	 * Lazily finds all Action Sequences in a dataflowdiagram instance, unrolling each cycle at most the given number of times.
+	 * A strand ends at a node, if all of its successors have already been visited the maximum number of times in the strand
+	 * @param dfd Data Flow Diagram model instance
+	 * @param dataDictionary Data Dictionary model instance
+	 * @param labelUniverse Label universe of the labels in the data dictionary
+	 * @param cycleUnrollingBound Number of times a cycle may be traversed in a single strand. Must not be negative
+	 * @return Lazy stream of all Action Sequences
 	 */
-	private static List<Node> getStartNodes(List<Flow> flows) {
-		List<Node> startNodes = new ArrayList<Node>();
-		for (var flow: flows) {
-			var sourceNode = flow.getSourceNode();
-			if(!startNodes.contains(sourceNode)) {
-				startNodes.add(sourceNode);
-			}
-		}
-		
-		
-		for (var flow:flows) {
-			var destinationNode = flow.getDestinationNode();
-			if(startNodes.contains(destinationNode) && !(destinationNode instanceof External)) {
-				startNodes.remove(destinationNode);
-			}
+	public static Stream<ActionSequence> findSequencesInDFD(DataFlowDiagram dfd, DataDictionary dataDictionary, LabelUniverse labelUniverse, 
+			int cycleUnrollingBound) {
+		return findSequencesInDFD(new DFDGraphIndex(dfd, labelUniverse), cycleUnrollingBound);
+	}
+
+	/**
+	 * Lazily finds all Action Sequences in an indexed dataflowdiagram instance, unrolling each cycle at most the given number of times.
+	 * The flow and the node characteristics of each element are looked up in the given index
+	 * @param graphIndex Index of the Data Flow Diagram model instance
+	 * @param cycleUnrollingBound Number of times a cycle may be traversed in a single strand. Must not be negative
+	 * @return Lazy stream of all Action Sequences
+	 */
+	public static Stream<ActionSequence> findSequencesInDFD(DFDGraphIndex graphIndex, int cycleUnrollingBound) {
+		if (cycleUnrollingBound < 0) {
+			throw new IllegalArgumentException("The cycle unrolling bound must not be negative");
 		}
-		return startNodes;
+		return StreamSupport.stream(new StrandSpliterator(graphIndex, cycleUnrollingBound), false)
+				.map(strand -> convertNodeStrandToDFDActionSequence(strand, graphIndex));
 	}
 
 	/**
-	 * Get List of all individual information flows (strands) from start to finish recursively
-	 * @param currentStrand Strand in building right now
-	 * @param start New start node	
-	 * @param mapOfOutgoingEdges Map of all outgoing edges
-	 * @return List of all strands
+	 * Spliterator that finds all individual information flows (strands) from start to finish iteratively.
+	 * The strand is explored depth-first with a stack of frames, each holding a strand and the position of the next successor to visit.
+	 * The strands of the frames share their prefixes structurally.
+	 * Cycles are detected by counting the occurrences of each node in the current strand, which is updated when a frame is pushed or popped
 	 */
-	private static List<List<Node>> findStrand(List<Node> currentStrand, Node start, Map<Node, ArrayList<Node>> mapOfOutgoingEdges) {
-		List<List<Node>> strands = new ArrayList<List<Node>>();
-		var nodesWithInGoingEdgeFromStart = mapOfOutgoingEdges.get(start);
-		
-		List<Node> currentStrandCopy = new ArrayList<>(currentStrand);
-		currentStrandCopy.add(start);
-		
-		if(nodesWithInGoingEdgeFromStart == null) {
-			strands.add(currentStrandCopy);
-			return strands;
+	private static class StrandSpliterator extends Spliterators.AbstractSpliterator<List<Node>> {
+		private final DFDGraphIndex graphIndex;
+		private final List<Node> startNodes;
+		private final Deque<StrandFrame> frames;
+		private final Map<Node, Integer> occurrences;
+		private final int cycleUnrollingBound;
+		private int nextStartNode;
+
+		/**
+		 * Creates a new spliterator for the strands beginning at the given start nodes
+		 * @param graphIndex Index of the Data Flow Diagram providing the start nodes and all outgoing edges
+		 * @param cycleUnrollingBound Number of times a cycle may be traversed in a single strand
+		 */
+		public StrandSpliterator(DFDGraphIndex graphIndex, int cycleUnrollingBound) {
+			super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+			this.graphIndex = graphIndex;
+			this.startNodes = graphIndex.getStartNodes();
+			this.cycleUnrollingBound = cycleUnrollingBound;
+			this.frames = new ArrayDeque<>();
+			this.occurrences = new HashMap<>();
 		}
-		else {
-			for (var nodeWithInGoingEdgeFromStrart : nodesWithInGoingEdgeFromStart) {
-				strands.addAll(findStrand(currentStrandCopy, nodeWithInGoingEdgeFromStrart, mapOfOutgoingEdges));
+
+		@Override
+		public boolean tryAdvance(Consumer<? super List<Node>> action) {
+			while (true) {
+				if (this.frames.isEmpty()) {
+					if (this.nextStartNode >= this.startNodes.size()) {
+						return false;
+					}
+					this.pushFrame(PersistentElementList.<Node>empty().append(this.startNodes.get(this.nextStartNode++)));
+					continue;
+				}
+				StrandFrame frame = this.frames.peek();
+				if (frame.nextSuccessor < frame.successors.size()) {
+					Node nextNode = frame.successors.get(frame.nextSuccessor++);
+					if (this.occurrences.getOrDefault(nextNode, 0) <= this.cycleUnrollingBound) {
+						frame.extended = true;
+						this.pushFrame(frame.strand.append(nextNode));
+					}
+					continue;
+				}
+				this.popFrame();
+				if (!frame.extended) {
+					action.accept(frame.strand);
+					return true;
+				}
 			}
 		}
-		
-		return strands;		
+
+		/**
+		 * Pushes a frame for the given strand and counts the occurrence of its last node
+		 * @param strand Strand of the new frame
+		 */
+		private void pushFrame(PersistentElementList<Node> strand) {
+			this.frames.push(new StrandFrame(strand, this.graphIndex.getSuccessors(strand.getLast())));
+			this.occurrences.merge(strand.getLast(), 1, Integer::sum);
+		}
+
+		/**
+		 * Pops the top frame and removes the occurrence of the last node of its strand
+		 */
+		private void popFrame() {
+			StrandFrame frame = this.frames.pop();
+			this.occurrences.computeIfPresent(frame.strand.getLast(), (node, count) -> count == 1 ? null : count - 1);
+		}
+	}
+
+	/**
+	 * Frame of the depth-first exploration of strands
+	 */
+	private static class StrandFrame {
+		private final PersistentElementList<Node> strand;
+		private final List<Node> successors;
+		private int nextSuccessor;
+		private boolean extended;
+
+		/**
+		 * Creates a new frame for the given strand
+		 * @param strand Strand leading to the node of the frame
+		 * @param successors Successors of the last node of the strand
+		 */
+		public StrandFrame(PersistentElementList<Node> strand, List<Node> successors) {
+			this.strand = strand;
+			this.successors = successors;
+		}
 	}
 	
 	/**
 	 * Convert single node strand into an Action Sequence element
 	 * @param nodes Strand	
-	 * @param flows List of all flows
+	 * @param graphIndex Index of the Data Flow Diagram
 	 * @return Converted Node strand
 	 */
-	private static DFDActionSequence convertNodeStrandToDFDActionSequence(List<Node> nodes, List<Flow> flows) {
+	private static DFDActionSequence convertNodeStrandToDFDActionSequence(List<Node> nodes, DFDGraphIndex graphIndex) {
 		List<AbstractActionSequenceElement<?>> actionSequence = new ArrayList<AbstractActionSequenceElement<?>>();
-//		var previousNode = nodes.get(0);
-//		for (int i = 1; i < nodes.size(); i++) {
-//			actionSequence.add(convertNodeToDFDActionSequenceElement(nodes.get(i), nodes.get(i-1), flows));
-//		}
-		
 		Node previousNode = null;
 		for (Node node : nodes) {
-			actionSequence.add(convertNodeToDFDActionSequenceElement(node, previousNode, flows));
+			actionSequence.add(convertNodeToDFDActionSequenceElement(node, previousNode, graphIndex));
+			previousNode = node;
 		}
 		
 		return new DFDActionSequence(actionSequence);
@@ -141,20 +208,13 @@ public class DFDActionSequenceFinder {
 	 * Convert single node into DFDActionSequenceElement
 	 * @param node Node
 	 * @param previousNode Node previous in the flow
-	 * @param flows All flows
+	 * @param graphIndex Index of the Data Flow Diagram
 	 * @return Converted node
 	 */
-	private static DFDActionSequenceElement convertNodeToDFDActionSequenceElement(Node node, Node previousNode, List<Flow> flows) {
+	private static DFDActionSequenceElement convertNodeToDFDActionSequenceElement(Node node, Node previousNode, DFDGraphIndex graphIndex) {
 		List<DataFlowVariable> dataFlowVariables = new ArrayList<DataFlowVariable>();
-		List<CharacteristicValue> nodeCharacteristics = new ArrayList<CharacteristicValue>();
-				
-		Flow flow = null;
-		for (Flow f : flows) {
-			if (f.getSourceNode().equals(previousNode) && f.getDestinationNode().equals(node)) {
-				flow = f;
-				break;
-			}
-		}
+		LabelSet nodeCharacteristics = graphIndex.getNodeCharacteristics(node);
+		Flow flow = previousNode == null ? null : graphIndex.findFlow(previousNode, node).orElse(null);
 
 		return new DFDActionSequenceElement(dataFlowVariables, nodeCharacteristics, node.getEntityName(), node,
 				previousNode, flow);
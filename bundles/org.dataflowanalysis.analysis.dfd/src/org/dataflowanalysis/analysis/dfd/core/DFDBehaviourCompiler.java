@@ -0,0 +1,195 @@
+package org.dataflowanalysis.analysis.dfd.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import org.dataflowanalysis.analysis.core.LabelSet;
+import org.dataflowanalysis.analysis.core.LabelUniverse;
+import org.dataflowanalysis.analysis.dfd.core.DFDCompiledBehaviour.CompiledAssignment;
+import org.dataflowanalysis.dfd.datadictionary.AND;
+import org.dataflowanalysis.dfd.datadictionary.Assignment;
+import org.dataflowanalysis.dfd.datadictionary.BinaryOperator;
+import org.dataflowanalysis.dfd.datadictionary.ForwardingAssignment;
+import org.dataflowanalysis.dfd.datadictionary.Label;
+import org.dataflowanalysis.dfd.datadictionary.LabelReference;
+import org.dataflowanalysis.dfd.datadictionary.LabelType;
+import org.dataflowanalysis.dfd.datadictionary.NOT;
+import org.dataflowanalysis.dfd.datadictionary.OR;
+import org.dataflowanalysis.dfd.datadictionary.Pin;
+import org.dataflowanalysis.dfd.datadictionary.TRUE;
+import org.dataflowanalysis.dfd.datadictionary.Term;
+import org.dataflowanalysis.dfd.dataflowdiagram.Node;
+
+/**
+ * Compiles the behaviour of DFD nodes into {@link DFDCompiledBehaviour}s.
+ * Compiled behaviours are cached per node and are built on first use
+ */
+public class DFDBehaviourCompiler {
+	private static final Predicate<LabelSet> TRUE_PREDICATE = labels -> true;
+	private static final Predicate<LabelSet> FALSE_PREDICATE = labels -> false;
+	private static final BiPredicate<LabelSet, LabelSet> TRUE_BOUNDS_PREDICATE = (possibleLabels, guaranteedLabels) -> true;
+	private static final BiPredicate<LabelSet, LabelSet> FALSE_BOUNDS_PREDICATE = (possibleLabels, guaranteedLabels) -> false;
+
+	private final LabelUniverse labelUniverse;
+	private final Map<Node, DFDCompiledBehaviour> compiledBehaviours;
+
+	/**
+	 * Creates a new compiler for node behaviours, which resolves labels in the given label universe
+	 * @param labelUniverse Label universe of the analysis
+	 */
+	public DFDBehaviourCompiler(LabelUniverse labelUniverse) {
+		this.labelUniverse = labelUniverse;
+		this.compiledBehaviours = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the label universe in which labels are resolved
+	 * @return Label universe of the analysis
+	 */
+	public LabelUniverse getLabelUniverse() {
+		return this.labelUniverse;
+	}
+
+	/**
+	 * Returns the compiled behaviour of the given node. The behaviour is compiled, if it has not been compiled before
+	 * @param node Node of which the behaviour should be compiled
+	 * @return Returns the compiled behaviour of the node
+	 */
+	public DFDCompiledBehaviour compile(Node node) {
+		return this.compiledBehaviours.computeIfAbsent(node, this::compileBehaviour);
+	}
+
+	/**
+	 * Compiles the behaviour of the given node
+	 * @param node Node of which the behaviour should be compiled
+	 * @return Returns the compiled behaviour of the node
+	 */
+	private DFDCompiledBehaviour compileBehaviour(Node node) {
+		Map<Pin, List<CompiledAssignment>> assignmentsByPin = new LinkedHashMap<>();
+		boolean monotone = true;
+		if (node.getBehaviour() != null) {
+			for (var assignment : node.getBehaviour().getAssignment()) {
+				if (assignment instanceof Assignment && this.containsNegation(((Assignment) assignment).getTerm())) {
+					monotone = false;
+				}
+				CompiledAssignment compiledAssignment = assignment instanceof ForwardingAssignment 
+						? new CompiledAssignment(true, LabelSet.empty(this.labelUniverse), TRUE_PREDICATE, TRUE_BOUNDS_PREDICATE, TRUE_BOUNDS_PREDICATE) 
+						: this.compileAssignment((Assignment) assignment);
+				assignmentsByPin.computeIfAbsent(assignment.getOutputPin(), it -> new ArrayList<>())
+					.add(compiledAssignment);
+			}
+		}
+		return new DFDCompiledBehaviour(this.labelUniverse, assignmentsByPin, monotone);
+	}
+
+	/**
+	 * Determines whether the given term contains a negation
+	 * @param term Term of an assignment
+	 * @return Returns true, if the term or one of its subterms is negated. Otherwise, the method returns false
+	 */
+	private boolean containsNegation(Term term) {
+		if (term instanceof NOT) {
+			return true;
+		}
+		else if (term instanceof BinaryOperator) {
+			return ((BinaryOperator) term).getTerms().stream()
+				.anyMatch(this::containsNegation);
+		}
+		return false;
+	}
+
+	/**
+	 * Compiles a single assignment of a node behaviour
+	 * @param assignment Assignment that should be compiled
+	 * @return Returns the compiled assignment
+	 */
+	private CompiledAssignment compileAssignment(Assignment assignment) {
+		Term term = assignment.getTerm();
+		return new CompiledAssignment(false, this.toLabelSet(assignment.getOutputLabels()), this.compileTerm(term), 
+				this.compileBoundsTerm(term, true), this.compileBoundsTerm(term, false));
+	}
+
+	/**
+	 * Compiles an assignment term into a predicate over the incoming labels
+	 * @param term Term to be compiled
+	 * @return Returns a predicate that evaluates the term for a set of incoming labels
+	 */
+	private Predicate<LabelSet> compileTerm(Term term) {
+		if (term instanceof TRUE) {
+			return TRUE_PREDICATE;
+		}
+		else if (term instanceof NOT) {
+			NOT notTerm = (NOT) term;
+			return this.compileTerm(notTerm.getNegatedTerm()).negate();
+		}
+		else if (term instanceof LabelReference) {
+			Label label = ((LabelReference) term).getLabel();
+			int labelId = this.labelUniverse.getId(new DFDCharacteristicValue((LabelType) label.eContainer(), label));
+			return labels -> labels.contains(labelId);
+		}
+		else if (term instanceof BinaryOperator) {
+			BinaryOperator binaryTerm = (BinaryOperator) term;
+			if (binaryTerm instanceof AND) {
+				return this.compileTerm(binaryTerm.getTerms().get(0)).and(this.compileTerm(binaryTerm.getTerms().get(1)));
+			}
+			else if(binaryTerm instanceof OR) {
+				return this.compileTerm(binaryTerm.getTerms().get(0)).or(this.compileTerm(binaryTerm.getTerms().get(1)));
+			}
+		}
+
+		return FALSE_PREDICATE;
+	}
+
+	/**
+	 * Compiles an assignment term into a predicate over the possible and guaranteed incoming labels of several paths.
+	 * A negated term may hold, if the negated term does not hold on all paths, and always holds, if the negated term holds on no path
+	 * @param term Term to be compiled
+	 * @param possibly Indicates whether the predicate tests if the term may hold on some path instead of whether it holds on all paths
+	 * @return Returns a predicate that evaluates the term for the bounds of the incoming labels
+	 */
+	private BiPredicate<LabelSet, LabelSet> compileBoundsTerm(Term term, boolean possibly) {
+		if (term instanceof TRUE) {
+			return TRUE_BOUNDS_PREDICATE;
+		}
+		else if (term instanceof NOT) {
+			NOT notTerm = (NOT) term;
+			return this.compileBoundsTerm(notTerm.getNegatedTerm(), !possibly).negate();
+		}
+		else if (term instanceof LabelReference) {
+			Label label = ((LabelReference) term).getLabel();
+			int labelId = this.labelUniverse.getId(new DFDCharacteristicValue((LabelType) label.eContainer(), label));
+			return possibly 
+					? (possibleLabels, guaranteedLabels) -> possibleLabels.contains(labelId) 
+					: (possibleLabels, guaranteedLabels) -> guaranteedLabels.contains(labelId);
+		}
+		else if (term instanceof BinaryOperator) {
+			BinaryOperator binaryTerm = (BinaryOperator) term;
+			if (binaryTerm instanceof AND) {
+				return this.compileBoundsTerm(binaryTerm.getTerms().get(0), possibly).and(this.compileBoundsTerm(binaryTerm.getTerms().get(1), possibly));
+			}
+			else if(binaryTerm instanceof OR) {
+				return this.compileBoundsTerm(binaryTerm.getTerms().get(0), possibly).or(this.compileBoundsTerm(binaryTerm.getTerms().get(1), possibly));
+			}
+		}
+
+		return FALSE_BOUNDS_PREDICATE;
+	}
+
+	/**
+	 * Converts the given labels into a label set of the label universe
+	 * @param labels Labels of the data dictionary
+	 * @return Label set containing the given labels
+	 */
+	private LabelSet toLabelSet(List<Label> labels) {
+		LabelSet labelSet = LabelSet.empty(this.labelUniverse);
+		for (Label label : labels) {
+			labelSet = labelSet.with(new DFDCharacteristicValue((LabelType) label.eContainer(), label));
+		}
+		return labelSet;
+	}
+}
@@ -0,0 +1,103 @@
+package org.dataflowanalysis.analysis.dfd.core;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import java.util.function.Predicate;
+
+import org.dataflowanalysis.analysis.core.LabelSet;
+import org.dataflowanalysis.analysis.core.LabelUniverse;
+import org.dataflowanalysis.dfd.datadictionary.Pin;
+
+/**
+ * Compiled behaviour of a DFD node, that is created by the {@link DFDBehaviourCompiler}.
+ * Assignments are indexed by their output pin and their terms are compiled into predicates over label sets
+ */
+public final class DFDCompiledBehaviour {
+	private final LabelUniverse labelUniverse;
+	private final Map<Pin, List<CompiledAssignment>> assignmentsByPin;
+	private final boolean monotone;
+
+	/**
+	 * Creates a new compiled behaviour
+	 * @param labelUniverse Label universe of the analysis
+	 * @param assignmentsByPin Compiled assignments of the node by their output pin in the order of the behaviour
+	 * @param monotone Indicates whether no term of the behaviour contains a negation
+	 */
+	DFDCompiledBehaviour(LabelUniverse labelUniverse, Map<Pin, List<CompiledAssignment>> assignmentsByPin, boolean monotone) {
+		this.labelUniverse = labelUniverse;
+		this.assignmentsByPin = assignmentsByPin;
+		this.monotone = monotone;
+	}
+
+	/**
+	 * Returns whether the behaviour is monotone, i.e. more incoming labels never result in fewer labels on an output pin.
+	 * An assignment, whose term is false, removes its labels from the output pin. Without negated terms, a term only tests for the presence of labels.
+	 * Therefore, such a term may only turn from false to true with more incoming labels and the behaviour stays monotone
+	 * @return Returns true, if no term of the behaviour contains a negation. Otherwise, the method returns false
+	 */
+	public boolean isMonotone() {
+		return this.monotone;
+	}
+
+	/**
+	 * Evaluates the assignments of the given output pin with the incoming labels of the node
+	 * @param outputPin Output pin of the node
+	 * @param incomingLabels All labels incoming to the node
+	 * @return Returns the labels on the output pin after evaluating all of its assignments
+	 */
+	public LabelSet evaluate(Pin outputPin, LabelSet incomingLabels) {
+		LabelSet outputLabels = LabelSet.empty(this.labelUniverse);
+		for (CompiledAssignment assignment : this.assignmentsByPin.getOrDefault(outputPin, List.of())) {
+			if (assignment.forwarding()) {
+				outputLabels = outputLabels.union(incomingLabels);
+			} else if (assignment.term().test(incomingLabels)) {
+				outputLabels = outputLabels.union(assignment.assignedLabels());
+			} else {
+				outputLabels = outputLabels.difference(assignment.assignedLabels());
+			}
+		}
+		return outputLabels;
+	}
+
+	/**
+	 * Evaluates the assignments of the given output pin with bounds of the incoming labels of the node over several paths.
+	 * A term, that holds on some but not on all paths, may both set and unset its labels. Its labels are therefore possible, but not guaranteed
+	 * @param outputPin Output pin of the node
+	 * @param incomingLabels Bounds of the labels incoming to the node
+	 * @return Returns the bounds of the labels on the output pin after evaluating all of its assignments
+	 */
+	public DFDLabelBounds evaluate(Pin outputPin, DFDLabelBounds incomingLabels) {
+		LabelSet possibleLabels = LabelSet.empty(this.labelUniverse);
+		LabelSet guaranteedLabels = LabelSet.empty(this.labelUniverse);
+		for (CompiledAssignment assignment : this.assignmentsByPin.getOrDefault(outputPin, List.of())) {
+			if (assignment.forwarding()) {
+				possibleLabels = possibleLabels.union(incomingLabels.possibleLabels());
+				guaranteedLabels = guaranteedLabels.union(incomingLabels.guaranteedLabels());
+			} else if (assignment.alwaysHolds().test(incomingLabels.possibleLabels(), incomingLabels.guaranteedLabels())) {
+				possibleLabels = possibleLabels.union(assignment.assignedLabels());
+				guaranteedLabels = guaranteedLabels.union(assignment.assignedLabels());
+			} else if (!assignment.possiblyHolds().test(incomingLabels.possibleLabels(), incomingLabels.guaranteedLabels())) {
+				possibleLabels = possibleLabels.difference(assignment.assignedLabels());
+				guaranteedLabels = guaranteedLabels.difference(assignment.assignedLabels());
+			} else {
+				possibleLabels = possibleLabels.union(assignment.assignedLabels());
+				guaranteedLabels = guaranteedLabels.difference(assignment.assignedLabels());
+			}
+		}
+		return new DFDLabelBounds(possibleLabels, guaranteedLabels);
+	}
+
+	/**
+	 * Compiled assignment of a node behaviour.
+	 * Besides the exact term, the term is compiled into two predicates over the possible and guaranteed incoming labels of several paths
+	 * @param forwarding Indicates whether all incoming labels are forwarded
+	 * @param assignedLabels Labels that are set or unset by the assignment
+	 * @param term Compiled term of the assignment
+	 * @param possiblyHolds Predicate that is true, if the term may hold on at least one of the paths
+	 * @param alwaysHolds Predicate that is only true, if the term holds on all paths
+	 */
+	record CompiledAssignment(boolean forwarding, LabelSet assignedLabels, Predicate<LabelSet> term, BiPredicate<LabelSet, LabelSet> possiblyHolds,
+			BiPredicate<LabelSet, LabelSet> alwaysHolds) {
+	}
+}
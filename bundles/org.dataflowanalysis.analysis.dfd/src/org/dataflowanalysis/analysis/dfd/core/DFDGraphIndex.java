@@ -0,0 +1,186 @@
+package org.dataflowanalysis.analysis.dfd.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.dataflowanalysis.analysis.core.LabelSet;
+import org.dataflowanalysis.analysis.core.LabelUniverse;
+import org.dataflowanalysis.dfd.datadictionary.Label;
+import org.dataflowanalysis.dfd.datadictionary.LabelType;
+import org.dataflowanalysis.dfd.datadictionary.Pin;
+import org.dataflowanalysis.dfd.dataflowdiagram.DataFlowDiagram;
+import org.dataflowanalysis.dfd.dataflowdiagram.External;
+import org.dataflowanalysis.dfd.dataflowdiagram.Flow;
+import org.dataflowanalysis.dfd.dataflowdiagram.Node;
+
+/**
+ * Immutable index of the flow graph of a data flow diagram, that is built once per loaded diagram.
+ * The index holds the adjacency of the nodes, the flows between two nodes, the flows of each pin and the node characteristics of each node
+ */
+public final class DFDGraphIndex {
+	private final List<Node> nodes;
+	private final List<Node> startNodes;
+	private final Map<Node, List<Node>> successors;
+	private final Map<Node, List<Flow>> incomingFlows;
+	private final Map<Node, List<Flow>> outgoingFlows;
+	private final Map<Node, Map<Node, List<Flow>>> flowsBetweenNodes;
+	private final Map<Pin, List<Flow>> flowsBySourcePin;
+	private final Map<Node, LabelSet> nodeCharacteristics;
+	private final LabelSet emptyLabels;
+
+	/**
+	 * Builds the index of the given data flow diagram
+	 * @param dataFlowDiagram Data flow diagram that should be indexed
+	 * @param labelUniverse Label universe of the labels in the data dictionary
+	 */
+	public DFDGraphIndex(DataFlowDiagram dataFlowDiagram, LabelUniverse labelUniverse) {
+		Set<Node> nodes = new LinkedHashSet<>();
+		Set<Node> startNodes = new LinkedHashSet<>();
+		Map<Node, List<Node>> successors = new HashMap<>();
+		Map<Node, List<Flow>> incomingFlows = new HashMap<>();
+		Map<Node, List<Flow>> outgoingFlows = new HashMap<>();
+		Map<Node, Map<Node, List<Flow>>> flowsBetweenNodes = new HashMap<>();
+		Map<Pin, List<Flow>> flowsBySourcePin = new HashMap<>();
+
+		for (Flow flow : dataFlowDiagram.getFlows()) {
+			Node sourceNode = flow.getSourceNode();
+			Node destinationNode = flow.getDestinationNode();
+			nodes.add(sourceNode);
+			nodes.add(destinationNode);
+			startNodes.add(sourceNode);
+			successors.computeIfAbsent(sourceNode, it -> new ArrayList<>()).add(destinationNode);
+			outgoingFlows.computeIfAbsent(sourceNode, it -> new ArrayList<>()).add(flow);
+			incomingFlows.computeIfAbsent(destinationNode, it -> new ArrayList<>()).add(flow);
+			flowsBetweenNodes.computeIfAbsent(sourceNode, it -> new HashMap<>())
+				.computeIfAbsent(destinationNode, it -> new ArrayList<>())
+				.add(flow);
+			if (flow.getSourcePin() != null) {
+				flowsBySourcePin.computeIfAbsent(flow.getSourcePin(), it -> new ArrayList<>()).add(flow);
+			}
+		}
+		for (Flow flow : dataFlowDiagram.getFlows()) {
+			if (!(flow.getDestinationNode() instanceof External)) {
+				startNodes.remove(flow.getDestinationNode());
+			}
+		}
+
+		Map<Node, LabelSet> nodeCharacteristics = new HashMap<>();
+		for (Node node : nodes) {
+			LabelSet labels = LabelSet.empty(labelUniverse);
+			for (Label label : node.getProperties()) {
+				labels = labels.with(new DFDCharacteristicValue((LabelType) label.eContainer(), label));
+			}
+			nodeCharacteristics.put(node, labels);
+		}
+
+		this.nodes = List.copyOf(nodes);
+		this.startNodes = List.copyOf(startNodes);
+		this.successors = copyOfListMap(successors);
+		this.incomingFlows = copyOfListMap(incomingFlows);
+		this.outgoingFlows = copyOfListMap(outgoingFlows);
+		this.flowsBetweenNodes = new HashMap<>();
+		flowsBetweenNodes.forEach((source, destinations) -> this.flowsBetweenNodes.put(source, copyOfListMap(destinations)));
+		this.flowsBySourcePin = copyOfListMap(flowsBySourcePin);
+		this.nodeCharacteristics = Map.copyOf(nodeCharacteristics);
+		this.emptyLabels = LabelSet.empty(labelUniverse);
+	}
+
+	/**
+	 * Returns all nodes that are connected by at least one flow
+	 * @return List of all connected nodes in the order of their first flow
+	 */
+	public List<Node> getNodes() {
+		return this.nodes;
+	}
+
+	/**
+	 * Returns all External nodes and all nodes without incoming flows, which are the start nodes of strands
+	 * @return List of start nodes in the order of their first flow
+	 */
+	public List<Node> getStartNodes() {
+		return this.startNodes;
+	}
+
+	/**
+	 * Returns the destination nodes of all outgoing flows of the given node
+	 * @param node Node of the data flow diagram
+	 * @return Returns a list of successor nodes, with one entry per outgoing flow
+	 */
+	public List<Node> getSuccessors(Node node) {
+		return this.successors.getOrDefault(node, List.of());
+	}
+
+	/**
+	 * Returns the incoming flows of the given node
+	 * @param node Node of the data flow diagram
+	 * @return List of flows with the node as destination
+	 */
+	public List<Flow> getIncomingFlows(Node node) {
+		return this.incomingFlows.getOrDefault(node, List.of());
+	}
+
+	/**
+	 * Returns the outgoing flows of the given node
+	 * @param node Node of the data flow diagram
+	 * @return List of flows with the node as source
+	 */
+	public List<Flow> getOutgoingFlows(Node node) {
+		return this.outgoingFlows.getOrDefault(node, List.of());
+	}
+
+	/**
+	 * Returns the flows from the given source node to the given destination node
+	 * @param sourceNode Source node of the flows
+	 * @param destinationNode Destination node of the flows
+	 * @return List of flows between both nodes in the order of the diagram
+	 */
+	public List<Flow> getFlows(Node sourceNode, Node destinationNode) {
+		return this.flowsBetweenNodes.getOrDefault(sourceNode, Map.of()).getOrDefault(destinationNode, List.of());
+	}
+
+	/**
+	 * Returns the first flow from the given source node to the given destination node
+	 * @param sourceNode Source node of the flow
+	 * @param destinationNode Destination node of the flow
+	 * @return Returns the first flow between both nodes, if one exists
+	 */
+	public Optional<Flow> findFlow(Node sourceNode, Node destinationNode) {
+		return this.getFlows(sourceNode, destinationNode).stream().findFirst();
+	}
+
+	/**
+	 * Returns the flows leaving the given output pin
+	 * @param sourcePin Output pin of a node
+	 * @return List of flows with the pin as source pin
+	 */
+	public List<Flow> getFlowsOfSourcePin(Pin sourcePin) {
+		return this.flowsBySourcePin.getOrDefault(sourcePin, List.of());
+	}
+
+	/**
+	 * Returns the node characteristics of the given node
+	 * @param node Node of the data flow diagram
+	 * @return Label set of the properties of the node
+	 */
+	public LabelSet getNodeCharacteristics(Node node) {
+		return this.nodeCharacteristics.getOrDefault(node, this.emptyLabels);
+	}
+
+	/**
+	 * Creates an immutable copy of a map with list values
+	 * @param <K> Type of the keys
+	 * @param <V> Type of the list elements
+	 * @param map Map that should be copied
+	 * @return Returns an immutable copy of the map and its lists
+	 */
+	private static <K, V> Map<K, List<V>> copyOfListMap(Map<K, List<V>> map) {
+		Map<K, List<V>> copy = new HashMap<>();
+		map.forEach((key, value) -> copy.put(key, List.copyOf(value)));
+		return Map.copyOf(copy);
+	}
+}
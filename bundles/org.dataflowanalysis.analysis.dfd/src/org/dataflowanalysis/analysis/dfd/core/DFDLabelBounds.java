@@ -0,0 +1,29 @@
+package org.dataflowanalysis.analysis.dfd.core;
+
+import org.dataflowanalysis.analysis.core.LabelSet;
+
+/**
+ * Bounds of the labels on a flow over all paths, that reach the flow.
+ * Each path carries at least the guaranteed labels and at most the possible labels
+ * @param possibleLabels Labels that are present on at least one path
+ * @param guaranteedLabels Labels that are present on every path
+ */
+public record DFDLabelBounds(LabelSet possibleLabels, LabelSet guaranteedLabels) {
+	/**
+	 * Creates the bounds of a single path with the given labels
+	 * @param labels Labels of the path
+	 * @return Returns bounds, whose possible and guaranteed labels are the given labels
+	 */
+	public static DFDLabelBounds of(LabelSet labels) {
+		return new DFDLabelBounds(labels, labels);
+	}
+
+	/**
+	 * Joins the bounds with the bounds of other paths
+	 * @param other Bounds of the other paths
+	 * @return Returns the bounds over the paths of both bounds
+	 */
+	public DFDLabelBounds join(DFDLabelBounds other) {
+		return new DFDLabelBounds(this.possibleLabels.union(other.possibleLabels), this.guaranteedLabels.intersection(other.guaranteedLabels));
+	}
+}
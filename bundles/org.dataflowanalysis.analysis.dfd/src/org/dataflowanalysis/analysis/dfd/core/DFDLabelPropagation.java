@@ -0,0 +1,207 @@
+package org.dataflowanalysis.analysis.dfd.core;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.LabelSet;
+import org.dataflowanalysis.dfd.datadictionary.Pin;
+import org.dataflowanalysis.dfd.dataflowdiagram.DataFlowDiagram;
+import org.dataflowanalysis.dfd.dataflowdiagram.Flow;
+import org.dataflowanalysis.dfd.dataflowdiagram.Node;
+
+/**
+ * Propagates labels over the flow graph of a data flow diagram and is used to answer per-node and per-path queries.
+ * <p>
+ * Every (node, pin) pair is evaluated on the graph itself with a worklist fixed-point iteration.
+ * Like the propagation along an action sequence, a node is evaluated separately with the labels of each of its incoming flows,
+ * and start nodes are additionally evaluated without any labels.
+ * The results of all incoming flows are joined into {@link DFDLabelBounds}, which hold the labels possible on some path and the labels guaranteed on all paths.
+ * <p>
+ * Negated terms are not monotone, as more incoming labels may remove labels from an output pin.
+ * Therefore, a term is evaluated against the bounds: It holds, if it holds on all paths, and does not hold, if it holds on no path.
+ * Otherwise, the labels of its assignment are possible, but not guaranteed.
+ * With this evaluation, the bounds of the output pins only widen, and the iteration terminates with the least fixed point.
+ * <p>
+ * The result is an approximation of the labels of each path: The possible labels of a flow contain the labels of every path reaching the flow,
+ * and the guaranteed labels are contained in them.
+ * Labels of different paths are joined on each flow, therefore, a path may receive labels of another path, that reaches the same flow.
+ * Cycles are traversed until the fixed point is reached instead of being unrolled a bounded number of times
+ */
+public class DFDLabelPropagation {
+	private final DFDBehaviourCompiler behaviourCompiler;
+	private final LabelSet emptyLabels;
+	private final DFDGraphIndex graphIndex;
+	private final Map<Node, Map<Pin, DFDLabelBounds>> outgoingLabels;
+	private final boolean monotone;
+
+	private DFDLabelPropagation(DFDGraphIndex graphIndex, DFDBehaviourCompiler behaviourCompiler) {
+		this.behaviourCompiler = behaviourCompiler;
+		this.emptyLabels = LabelSet.empty(behaviourCompiler.getLabelUniverse());
+		this.graphIndex = graphIndex;
+		this.outgoingLabels = new HashMap<>();
+		this.monotone = graphIndex.getNodes().stream()
+			.allMatch(it -> behaviourCompiler.compile(it).isMonotone());
+	}
+
+	/**
+	 * Propagates the labels over the flow graph of the given data flow diagram
+	 * @param dataFlowDiagram Data flow diagram of which the labels are propagated
+	 * @param behaviourCompiler Compiler that caches the compiled behaviours of the nodes
+	 * @return Returns the result of the propagation
+	 */
+	public static DFDLabelPropagation propagate(DataFlowDiagram dataFlowDiagram, DFDBehaviourCompiler behaviourCompiler) {
+		return propagate(new DFDGraphIndex(dataFlowDiagram, behaviourCompiler.getLabelUniverse()), behaviourCompiler);
+	}
+
+	/**
+	 * Propagates the labels over the indexed flow graph
+	 * @param graphIndex Index of the data flow diagram of which the labels are propagated
+	 * @param behaviourCompiler Compiler that caches the compiled behaviours of the nodes
+	 * @return Returns the result of the propagation
+	 */
+	public static DFDLabelPropagation propagate(DFDGraphIndex graphIndex, DFDBehaviourCompiler behaviourCompiler) {
+		DFDLabelPropagation propagation = new DFDLabelPropagation(graphIndex, behaviourCompiler);
+		propagation.computeFixedPoint();
+		return propagation;
+	}
+
+	/**
+	 * Returns whether the behaviours of all nodes are monotone.
+	 * If a behaviour contains a negated term, the guaranteed labels of a flow may be fewer than the labels of each path
+	 * @return Returns true, if the behaviours of all nodes are monotone. Otherwise, the method returns false
+	 */
+	public boolean isMonotone() {
+		return this.monotone;
+	}
+
+	/**
+	 * Computes the label bounds of all (node, pin) pairs with a worklist of nodes, whose incoming labels have changed.
+	 * Each pin is evaluated from scratch with the current bounds of the incoming flows of the node, which only widen
+	 */
+	private void computeFixedPoint() {
+		Set<Node> startNodes = new HashSet<>(this.graphIndex.getStartNodes());
+		Set<Node> worklist = new LinkedHashSet<>(this.graphIndex.getNodes());
+
+		while (!worklist.isEmpty()) {
+			Node node = worklist.iterator().next();
+			worklist.remove(node);
+
+			List<DFDLabelBounds> incomingLabels = new ArrayList<>();
+			if (startNodes.contains(node)) {
+				incomingLabels.add(DFDLabelBounds.of(this.emptyLabels));
+			}
+			for (Flow flow : this.graphIndex.getIncomingFlows(node)) {
+				this.getFlowLabelBounds(flow).ifPresent(incomingLabels::add);
+			}
+			if (incomingLabels.isEmpty()) {
+				continue;
+			}
+
+			DFDCompiledBehaviour behaviour = this.behaviourCompiler.compile(node);
+			Map<Pin, DFDLabelBounds> labelsOfNode = this.outgoingLabels.computeIfAbsent(node, it -> new HashMap<>());
+			List<Pin> pins = this.graphIndex.getOutgoingFlows(node).stream()
+				.map(Flow::getSourcePin)
+				.distinct()
+				.toList();
+			for (Pin pin : pins) {
+				DFDLabelBounds updatedLabels = incomingLabels.stream()
+					.map(it -> behaviour.evaluate(pin, it))
+					.reduce(DFDLabelBounds::join)
+					.orElseThrow();
+				if (!updatedLabels.equals(labelsOfNode.get(pin))) {
+					labelsOfNode.put(pin, updatedLabels);
+					this.getFlowsOfPin(node, pin).forEach(it -> worklist.add(it.getDestinationNode()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns the outgoing flows of a node that leave the given output pin
+	 * @param node Node of the data flow diagram
+	 * @param pin Output pin of the node. May be null, if the flows have no source pin
+	 * @return List of flows leaving the output pin
+	 */
+	private List<Flow> getFlowsOfPin(Node node, Pin pin) {
+		if (pin != null) {
+			return this.graphIndex.getFlowsOfSourcePin(pin);
+		}
+		return this.graphIndex.getOutgoingFlows(node).stream()
+			.filter(it -> Objects.equals(pin, it.getSourcePin()))
+			.toList();
+	}
+
+	/**
+	 * Returns the labels on the given output pin of a node
+	 * @param node Node of the data flow diagram
+	 * @param pin Output pin of the node
+	 * @return Returns the labels on the output pin after propagation
+	 */
+	public LabelSet getOutgoingLabels(Node node, Pin pin) {
+		return Optional.ofNullable(this.outgoingLabels.getOrDefault(node, Map.of()).get(pin))
+			.map(DFDLabelBounds::possibleLabels)
+			.orElse(this.emptyLabels);
+	}
+
+	/**
+	 * Returns the labels transported by the given flow on at least one path
+	 * @param flow Flow of the data flow diagram
+	 * @return Returns the labels on the source pin of the flow after propagation
+	 */
+	public LabelSet getFlowLabels(Flow flow) {
+		return this.getOutgoingLabels(flow.getSourceNode(), flow.getSourcePin());
+	}
+
+	/**
+	 * Returns the bounds of the labels transported by the given flow over all paths reaching the flow
+	 * @param flow Flow of the data flow diagram
+	 * @return Returns the bounds of the labels on the source pin of the flow, if the flow is reached by any path
+	 */
+	public Optional<DFDLabelBounds> getFlowLabelBounds(Flow flow) {
+		return Optional.ofNullable(this.outgoingLabels.getOrDefault(flow.getSourceNode(), Map.of()).get(flow.getSourcePin()));
+	}
+
+	/**
+	 * Returns the labels incoming to a node over all its incoming flows
+	 * @param node Node of the data flow diagram
+	 * @return Returns the union of the labels of all incoming flows after propagation
+	 */
+	public LabelSet getIncomingLabels(Node node) {
+		LabelSet incomingLabels = this.emptyLabels;
+		for (Flow flow : this.graphIndex.getIncomingFlows(node)) {
+			incomingLabels = incomingLabels.union(this.getFlowLabels(flow));
+		}
+		return incomingLabels;
+	}
+
+	/**
+	 * Annotates the elements of an action sequence with the propagated labels.
+	 * Each element receives the possible labels of the flow it was reached by
+	 * @param dfdActionSequence Action sequence that should be annotated
+	 * @return DFDActionSequence with elements annotated with DataFlowVariables
+	 */
+	public DFDActionSequence evaluateSequence(DFDActionSequence dfdActionSequence) {
+		if (dfdActionSequence.getElements().size() <= 1) return dfdActionSequence;
+		List<AbstractActionSequenceElement<?>> actionSequence = new ArrayList<>();
+		for (var abstractElement : dfdActionSequence.getElements()) {
+			DFDActionSequenceElement element = (DFDActionSequenceElement) abstractElement;
+			LabelSet nodeCharacteristics = this.graphIndex.getNodeCharacteristics(element.getNode());
+			LabelSet labels = element.getPreviousNode() == null || element.getFlow() == null ? this.emptyLabels : this.getFlowLabels(element.getFlow());
+
+			List<DataFlowVariable> dataFlowVariables = new ArrayList<>(element.getAllDataFlowVariables());
+			dataFlowVariables.add(new DataFlowVariable(element.getNode().getEntityName(), labels));
+			actionSequence.add(new DFDActionSequenceElement(dataFlowVariables, nodeCharacteristics, element.getName(), element.getNode(),
+					element.getPreviousNode(), element.getFlow()));
+		}
+		return new DFDActionSequence(actionSequence);
+	}
+}
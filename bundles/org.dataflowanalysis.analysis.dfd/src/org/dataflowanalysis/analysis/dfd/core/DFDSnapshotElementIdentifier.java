@@ -0,0 +1,40 @@
+package org.dataflowanalysis.analysis.dfd.core;
+
+import java.util.List;
+import java.util.Objects;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.snapshot.SnapshotElementIdentifier;
+
+/**
+ * Identifies DFD elements in snapshots by the id of their node and the id of the flow the node is reached by
+ */
+public class DFDSnapshotElementIdentifier implements SnapshotElementIdentifier {
+
+	@Override
+	public String getElementId(AbstractActionSequenceElement<?> element) {
+		return this.getDFDElement(element).getNode().getId();
+	}
+
+	@Override
+	public List<String> getContextIds(AbstractActionSequenceElement<?> element) {
+		DFDActionSequenceElement dfdElement = this.getDFDElement(element);
+		if (dfdElement.getFlow() == null) {
+			return List.of();
+		}
+		return List.of(Objects.toString(dfdElement.getFlow().getId(), ""));
+	}
+
+	/**
+	 * Casts the given element to a DFD element
+	 * @param element Element of a DFD sequence
+	 * @return Returns the DFD element
+	 * @throws IllegalArgumentException if the element is not a DFD element
+	 */
+	private DFDActionSequenceElement getDFDElement(AbstractActionSequenceElement<?> element) {
+		if (!(element instanceof DFDActionSequenceElement)) {
+			throw new IllegalArgumentException("Unexpected action sequence element that is not a DFD element: " + element);
+		}
+		return (DFDActionSequenceElement) element;
+	}
+}
@@ -1,13 +1,11 @@
 package org.dataflowanalysis.analysis.dfd.resource;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.dataflowanalysis.dfd.datadictionary.DataDictionary;
 import org.dataflowanalysis.dfd.dataflowdiagram.DataFlowDiagram;
 import org.eclipse.emf.common.util.URI;
-import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.EObject;
 
 public class DFDURIResourceProvider extends DFDResourceProvider {
 	private URI dataFlowDiagramURI;
@@ -27,13 +25,10 @@ public class DFDURIResourceProvider extends DFDResourceProvider {
 
 	@Override
 	public void loadRequiredResources() {
-		this.dataFlowDiagram = (DataFlowDiagram) this.loadModelContent(dataFlowDiagramURI);
-		this.dataDictionary = (DataDictionary) this.loadModelContent(dataDictionaryURI);
-		List<Resource> loadedResources = null;
-		do {
-			loadedResources = new ArrayList<>(this.resources.getResources());
-			loadedResources.forEach(it->EcoreUtil.resolveAll(it));
-		} while (loadedResources.size() != this.resources.getResources().size());
+		List<EObject> contents = this.loadModelContents(List.of(dataFlowDiagramURI, dataDictionaryURI));
+		this.dataFlowDiagram = (DataFlowDiagram) contents.get(0);
+		this.dataDictionary = (DataDictionary) contents.get(1);
+		this.resolveAllResources();
 	}
 
 	@Override
@@ -0,0 +1,100 @@
+package org.dataflowanalysis.analysis.pcm;
+
+import org.apache.log4j.Level;
+import org.apache.log4j.Logger;
+import org.dataflowanalysis.analysis.AnalysisSession;
+import org.dataflowanalysis.analysis.DataFlowConfidentialityAnalysis;
+import org.dataflowanalysis.pcm.extension.dddsl.DDDslStandaloneSetup;
+import org.eclipse.core.runtime.Plugin;
+import org.eclipse.emf.ecore.plugin.EcorePlugin;
+import org.eclipse.xtext.linking.impl.AbstractCleaningLinker;
+import org.eclipse.xtext.linking.impl.DefaultLinkingService;
+import org.eclipse.xtext.parser.antlr.AbstractInternalAntlrParser;
+import org.eclipse.xtext.resource.containers.ResourceSetBasedAllContainersStateProvider;
+
+import tools.mdsd.library.standalone.initialization.StandaloneInitializationException;
+import tools.mdsd.library.standalone.initialization.StandaloneInitializerBuilder;
+import tools.mdsd.library.standalone.initialization.log4j.Log4jInitilizationTask;
+
+/**
+ * Session that initializes the standalone environment of PCM analyses once, including logging and the data dictionary language.
+ * Analyses of the session are created with {@link #newAnalysis()}.
+ * Analyses without a session use the shared default session, which initializes the environment on the first analysis
+ */
+public class PCMAnalysisSession extends AnalysisSession {
+	private static final PCMAnalysisSession DEFAULT_SESSION = new PCMAnalysisSession();
+
+	private final Logger logger = Logger.getLogger(PCMAnalysisSession.class);
+
+	/**
+	 * Returns the session shared by all analyses, that are created without a session.
+	 * The standalone environment is initialized once by the first of these analyses
+	 * @return Returns the shared default session
+	 */
+	public static PCMAnalysisSession getDefault() {
+		return DEFAULT_SESSION;
+	}
+
+	/**
+	 * Creates a builder for a new analysis, that uses the standalone environment of the session
+	 * @return Returns a builder of the analysis
+	 */
+	public PCMDataFlowConfidentialityAnalysisBuilder newAnalysis() {
+		return new PCMDataFlowConfidentialityAnalysisBuilder()
+				.standalone()
+				.useSession(this);
+	}
+
+	@Override
+	protected void initializeEnvironment() {
+		EcorePlugin.ExtensionProcessor.process(null);
+		this.setupLogLevels();
+		try {
+			StandaloneInitializerBuilder.builder()
+				.registerProjectURI(DataFlowConfidentialityAnalysis.class, DataFlowConfidentialityAnalysis.PLUGIN_PATH)
+				.registerProjectURI(PCMDataFlowConfidentialityAnalysis.class, PCMDataFlowConfidentialityAnalysis.PLUGIN_PATH)
+				.build()
+				.init();
+			logger.info("Successfully initialized standalone environment for the data flow analysis.");
+		} catch (StandaloneInitializationException e) {
+			logger.error("Unable to initialize standalone environment for the data flow analysis.", e);
+			throw new IllegalStateException("Standalone initialization of the data flow analysis failed.", e);
+		}
+		DDDslStandaloneSetup.doSetup();
+	}
+
+	@Override
+	protected void registerProject(Class<? extends Plugin> modelProjectActivator, String modelProjectName) {
+		try {
+			StandaloneInitializerBuilder.builder()
+				.registerProjectURI(modelProjectActivator, modelProjectName)
+				.build()
+				.init();
+		} catch (StandaloneInitializationException e) {
+			logger.error(String.format("Unable to register the modelling project %s.", modelProjectName), e);
+			throw new IllegalStateException("Standalone initialization of the data flow analysis failed.", e);
+		}
+	}
+
+	/**
+	 * Sets up logging for the analysis
+	 * @throws IllegalStateException if logging could not be setup
+	 */
+	private void setupLogLevels() {
+		try {
+			new Log4jInitilizationTask().initilizationWithoutPlatform();
+		} catch (StandaloneInitializationException e) {
+			logger.error("Unable to initialize standalone log4j for the data flow analysis.", e);
+			throw new IllegalStateException("Standalone initialization of the data flow analysis failed.", e);
+		}
+		Logger.getLogger(AbstractInternalAntlrParser.class)
+			.setLevel(Level.WARN);
+		Logger.getLogger(DefaultLinkingService.class)
+			.setLevel(Level.WARN);
+		Logger.getLogger(ResourceSetBasedAllContainersStateProvider.class)
+			.setLevel(Level.WARN);
+		Logger.getLogger(AbstractCleaningLinker.class)
+			.setLevel(Level.WARN);
+		logger.info("Successfully initialized standalone log4j for the data flow analysis.");
+	}
+}
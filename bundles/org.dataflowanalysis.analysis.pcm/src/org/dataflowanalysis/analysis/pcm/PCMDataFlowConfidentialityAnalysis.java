@@ -1,9 +1,11 @@
 package org.dataflowanalysis.analysis.pcm;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
@@ -12,32 +14,37 @@ import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
 import org.dataflowanalysis.analysis.core.ActionSequence;
 import org.dataflowanalysis.analysis.core.ActionSequenceFinder;
 import org.dataflowanalysis.analysis.core.DataCharacteristicsCalculatorFactory;
+import org.dataflowanalysis.analysis.core.LabelUniverse;
 import org.dataflowanalysis.analysis.core.NodeCharacteristicsCalculator;
+import org.dataflowanalysis.analysis.execution.AnalysisExecutor;
+import org.dataflowanalysis.analysis.query.ConstraintQuery;
+import org.dataflowanalysis.analysis.query.ViolationMatrix;
 import org.dataflowanalysis.analysis.pcm.core.PCMActionSequence;
 import org.dataflowanalysis.analysis.pcm.core.PCMActionSequenceFinder;
+import org.dataflowanalysis.analysis.pcm.core.PCMCharacteristicValue;
+import org.dataflowanalysis.analysis.pcm.core.PCMSequencePrefixTree;
 import org.dataflowanalysis.analysis.pcm.resource.PCMResourceProvider;
+import org.dataflowanalysis.analysis.pcm.utils.SEFFResolutionCache;
 import org.dataflowanalysis.analysis.resource.ResourceProvider;
 import org.eclipse.core.runtime.Plugin;
-import org.eclipse.emf.ecore.plugin.EcorePlugin;
 import org.eclipse.xtext.linking.impl.AbstractCleaningLinker;
 import org.eclipse.xtext.linking.impl.DefaultLinkingService;
 import org.eclipse.xtext.parser.antlr.AbstractInternalAntlrParser;
 import org.eclipse.xtext.resource.containers.ResourceSetBasedAllContainersStateProvider;
-import org.dataflowanalysis.pcm.extension.dddsl.DDDslStandaloneSetup;
 import org.dataflowanalysis.pcm.extension.model.confidentiality.dictionary.DictionaryPackage;
 import org.dataflowanalysis.pcm.extension.model.confidentiality.dictionary.PCMDataDictionary;
-
-import tools.mdsd.library.standalone.initialization.StandaloneInitializationException;
-import tools.mdsd.library.standalone.initialization.StandaloneInitializerBuilder;
-import tools.mdsd.library.standalone.initialization.log4j.Log4jInitilizationTask;
+import org.dataflowanalysis.pcm.extension.dictionary.characterized.DataDictionaryCharacterized.EnumCharacteristicType;
 
 public class PCMDataFlowConfidentialityAnalysis implements DataFlowConfidentialityAnalysis {
-	private static final String PLUGIN_PATH = "org.dataflowanalysis.analysis.pcm";
+	static final String PLUGIN_PATH = "org.dataflowanalysis.analysis.pcm";
 	private final Logger logger;
 	
 	protected final NodeCharacteristicsCalculator nodeCharacteristicsCalculator;
 	protected final DataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory;
 	protected final PCMResourceProvider resourceProvider;
+	protected final AnalysisExecutor executor;
+	protected final Optional<PCMAnalysisSession> session;
+	protected final SEFFResolutionCache seffResolutionCache;
 
 	protected final String modelProjectName;
 	protected final Optional<Class<? extends Plugin>> modelProjectActivator;
@@ -54,6 +61,43 @@ public class PCMDataFlowConfidentialityAnalysis implements DataFlowConfidentiali
 	public PCMDataFlowConfidentialityAnalysis(NodeCharacteristicsCalculator nodeCharacteristicsCalculator, 
 			DataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory, PCMResourceProvider resourceProvider, 
 			String modelProjectName, Optional<Class<? extends Plugin>> modelProjectActivator) {
+		this(nodeCharacteristicsCalculator, dataCharacteristicsCalculatorFactory, resourceProvider, modelProjectName, modelProjectActivator, 
+				AnalysisExecutor.commonPool());
+	}
+	
+	/**
+	 * Creates a new instance of an data flow analysis with the given parameters
+	 * @param nodeCharacteristicsCalculator Calculator used to calculate the node characteristics of elements
+	 * @param dataCharacteristicsCalculatorFactory Calculators used to calculate the data characteristics of elements
+	 * @param resourceProvider Resource provider, which loads the required model resources
+	 * @param modelProjectName Name of the modelling project
+	 * @param modelProjectActivator Plugin class of the analysis
+	 * @param executor Executor that runs the phases of the analysis
+	 */
+	public PCMDataFlowConfidentialityAnalysis(NodeCharacteristicsCalculator nodeCharacteristicsCalculator, 
+			DataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory, PCMResourceProvider resourceProvider, 
+			String modelProjectName, Optional<Class<? extends Plugin>> modelProjectActivator, AnalysisExecutor executor) {
+		this(nodeCharacteristicsCalculator, dataCharacteristicsCalculatorFactory, resourceProvider, modelProjectName, modelProjectActivator, 
+				executor, Optional.empty());
+	}
+	
+	/**
+	 * Creates a new instance of an data flow analysis with the given parameters
+	 * @param nodeCharacteristicsCalculator Calculator used to calculate the node characteristics of elements
+	 * @param dataCharacteristicsCalculatorFactory Calculators used to calculate the data characteristics of elements
+	 * @param resourceProvider Resource provider, which loads the required model resources
+	 * @param modelProjectName Name of the modelling project
+	 * @param modelProjectActivator Plugin class of the analysis
+	 * @param executor Executor that runs the phases of the analysis
+	 * @param session Session that has initialized the standalone environment. If no session is given, the shared default session is used
+	 */
+	public PCMDataFlowConfidentialityAnalysis(NodeCharacteristicsCalculator nodeCharacteristicsCalculator, 
+			DataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory, PCMResourceProvider resourceProvider, 
+			String modelProjectName, Optional<Class<? extends Plugin>> modelProjectActivator, AnalysisExecutor executor, 
+			Optional<PCMAnalysisSession> session) {
+		this.executor = executor;
+		this.session = session;
+		this.seffResolutionCache = new SEFFResolutionCache();
 		this.nodeCharacteristicsCalculator = nodeCharacteristicsCalculator;
 		this.dataCharacteristicsCalculatorFactory = dataCharacteristicsCalculatorFactory;
 		this.resourceProvider = resourceProvider;
@@ -65,38 +109,46 @@ public class PCMDataFlowConfidentialityAnalysis implements DataFlowConfidentiali
 	@Override
 	public List<ActionSequence> findAllSequences() {
 		PCMResourceProvider resourceProvider = (PCMResourceProvider) this.resourceProvider;
-		ActionSequenceFinder sequenceFinder = new PCMActionSequenceFinder(resourceProvider.getUsageModel());
-        return sequenceFinder.findAllSequences().parallelStream()
+		ActionSequenceFinder sequenceFinder = new PCMActionSequenceFinder(resourceProvider.getUsageModel(), this.executor, this.seffResolutionCache);
+        return sequenceFinder.findAllSequences().stream()
         		.map(ActionSequence.class::cast)
         		.collect(Collectors.toList());
 	}
 
+	@Override
+	public Stream<ActionSequence> findSequences() {
+		PCMResourceProvider resourceProvider = (PCMResourceProvider) this.resourceProvider;
+		ActionSequenceFinder sequenceFinder = new PCMActionSequenceFinder(resourceProvider.getUsageModel(), AnalysisExecutor.sequential(), 
+				this.seffResolutionCache);
+		return sequenceFinder.findSequences()
+				.map(ActionSequence.class::cast);
+	}
+
 	@Override
 	public List<ActionSequence> evaluateDataFlows(List<ActionSequence> sequences) {
-		List<PCMActionSequence> actionSequences = sequences.parallelStream()
+		List<PCMActionSequence> actionSequences = sequences.stream()
     			.map(PCMActionSequence.class::cast)
     			.collect(Collectors.toList());
-    	return actionSequences.parallelStream()
-    	          .map(it -> it.evaluateDataFlow(this.nodeCharacteristicsCalculator, this.dataCharacteristicsCalculatorFactory))
-    	          .toList();
+		PCMSequencePrefixTree prefixTree = new PCMSequencePrefixTree(actionSequences);
+		return prefixTree.evaluateDataFlow(this.nodeCharacteristicsCalculator, this.dataCharacteristicsCalculatorFactory, this.executor);
 	}
 
 	@Override
 	public List<AbstractActionSequenceElement<?>> queryDataFlow(ActionSequence sequence,
 			Predicate<? super AbstractActionSequenceElement<?>> condition) {
-		return sequence.getElements()
-	            .parallelStream()
-	            .filter(condition)
-	            .toList();
+		return this.executor.filter(sequence.getElements(), condition);
+	}
+
+	@Override
+	public ViolationMatrix queryDataFlows(List<ActionSequence> sequences, ConstraintQuery query) {
+		return query.evaluate(sequences, this.executor);
 	}
 	
 	@Override
     public boolean initializeAnalysis() {
-        if (initStandaloneAnalysis()) {
-            logger.info("Successfully initialized standalone data flow analysis.");
-        } else {
-            throw new IllegalStateException("Standalone initialization of the data flow analysis failed.");
-        }
+        this.session.orElseGet(PCMAnalysisSession::getDefault)
+            .registerModelProject(this.modelProjectActivator, this.modelProjectName);
+        logger.info("Successfully initialized standalone data flow analysis.");
 
         if (loadRequiredModels()) {
             logger.info("Successfully loaded required models for the data flow analysis.");
@@ -122,6 +174,32 @@ public class PCMDataFlowConfidentialityAnalysis implements DataFlowConfidentiali
         	.setLevel(level);
 	}
 	
+	/**
+	 * Returns the executor that runs the phases of the analysis
+	 * @return Executor of the analysis
+	 */
+	public AnalysisExecutor getExecutor() {
+		return this.executor;
+	}
+	
+	/**
+	 * Returns the cache of the resolved SEFFs of the loaded models, which is shared by the sequence finders of the analysis
+	 * @return Resolution cache of the analysis
+	 */
+	public SEFFResolutionCache getSEFFResolutionCache() {
+		return this.seffResolutionCache;
+	}
+	
+	/**
+	 * Discards all information the analysis has derived from the loaded models, 
+	 * so that changes to the models are considered by the following phases of the analysis
+	 */
+	public void invalidateModelCaches() {
+		this.seffResolutionCache.invalidate();
+		this.nodeCharacteristicsCalculator.invalidate();
+		this.dataCharacteristicsCalculatorFactory.invalidate();
+	}
+	
 	/**
 	 * Returns the resource provider of the analysis.
 	 * The resource provider may be used to access the loaded PCM model of the analysis.
@@ -131,77 +209,6 @@ public class PCMDataFlowConfidentialityAnalysis implements DataFlowConfidentiali
 		return this.resourceProvider;
 	}
 	
-	/**
-	 * Initializes the standalone analysis to allow logging and EMF Profiles
-	 * @return Returns false, if analysis could not be setup
-	 */
-    private boolean initStandaloneAnalysis() {
-        EcorePlugin.ExtensionProcessor.process(null);
-
-        if (!setupLogLevels() || !initStandalone()) {
-            return false;
-        }
-        DDDslStandaloneSetup.doSetup();
-        return true;
-    }
-
-    /**
-     * Sets up logging for the analysis
-     * @return Returns true, if logging could be setup. Otherwise, the method returns false
-     */
-    private boolean setupLogLevels() {
-        try {
-            new Log4jInitilizationTask().initilizationWithoutPlatform();
-
-            Logger.getLogger(AbstractInternalAntlrParser.class)
-                .setLevel(Level.WARN);
-            Logger.getLogger(DefaultLinkingService.class)
-                .setLevel(Level.WARN);
-            Logger.getLogger(ResourceSetBasedAllContainersStateProvider.class)
-                .setLevel(Level.WARN);
-            Logger.getLogger(AbstractCleaningLinker.class)
-                .setLevel(Level.WARN);
-
-            logger.info("Successfully initialized standalone log4j for the data flow analysis.");
-            return true;
-
-        } catch (StandaloneInitializationException e) {
-            logger.error("Unable to initialize standalone log4j for the data flow analysis.");
-            e.printStackTrace();
-            return false;
-        }
-    }
-
-    /**
-     * Initializes the workspace of the analysis to function without a eclipse installation
-     * @return
-     */
-    private boolean initStandalone() {
-        try {
-             var initializationBuilder = StandaloneInitializerBuilder.builder()
-                .registerProjectURI(DataFlowConfidentialityAnalysis.class, 
-                		DataFlowConfidentialityAnalysis.PLUGIN_PATH)
-                .registerProjectURI(PCMDataFlowConfidentialityAnalysis.class, 
-                		PCMDataFlowConfidentialityAnalysis.PLUGIN_PATH);
-             
-             if (this.modelProjectActivator.isPresent()) {
-            	 initializationBuilder.registerProjectURI(this.modelProjectActivator.get(), this.modelProjectName);
-             }
-             
-             initializationBuilder.build()
-                .init();
-
-            logger.info("Successfully initialized standalone environment for the data flow analysis.");
-            return true;
-
-        } catch (StandaloneInitializationException e) {
-            logger.error("Unable to initialize standalone environment for the data flow analysis.");
-            e.printStackTrace();
-            return false;
-        }
-    }
-
-
     /**
      * Loads the required models from the resource loader
      * @return Returns true, if all required resources could be loaded. Otherwise, the method returns false
@@ -209,6 +216,8 @@ public class PCMDataFlowConfidentialityAnalysis implements DataFlowConfidentiali
     private boolean loadRequiredModels() {
         try {
         	this.resourceProvider.loadRequiredResources();
+        	this.resourceProvider.buildIndex();
+        	this.invalidateModelCaches();
 
             this.dataDictionaries = this.resourceProvider
                 .lookupToplevelElement(DictionaryPackage.eINSTANCE.getPCMDataDictionary())
@@ -219,6 +228,7 @@ public class PCMDataFlowConfidentialityAnalysis implements DataFlowConfidentiali
 
             logger.info(String.format("Successfully loaded %d data %s.", this.dataDictionaries.size(),
                     this.dataDictionaries.size() == 1 ? "dictionary" : "dictionaries"));
+            this.registerLabels();
             return true;
 
         } catch (IllegalArgumentException e) {
@@ -226,4 +236,20 @@ public class PCMDataFlowConfidentialityAnalysis implements DataFlowConfidentiali
             return false;
         }
     }
+
+    /**
+     * Registers all characteristic types and literals of the loaded data dictionaries in the label universe of the resource provider.
+     * Characteristic types are registered ordered by their name
+     */
+    private void registerLabels() {
+        LabelUniverse labelUniverse = this.resourceProvider.getLabelUniverse();
+        this.dataDictionaries.stream()
+            .flatMap(it -> it.getCharacteristicTypes().stream())
+            .filter(EnumCharacteristicType.class::isInstance)
+            .map(EnumCharacteristicType.class::cast)
+            .sorted(Comparator.comparing(EnumCharacteristicType::getName))
+            .forEach(characteristicType -> characteristicType.getType().getLiterals()
+                    .forEach(literal -> labelUniverse.register(new PCMCharacteristicValue(characteristicType, literal))));
+        logger.info(String.format("Registered %d characteristic values in the label universe.", labelUniverse.size()));
+    }
 }
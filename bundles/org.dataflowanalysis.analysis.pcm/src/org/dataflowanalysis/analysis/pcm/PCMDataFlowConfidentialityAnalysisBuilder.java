@@ -1,9 +1,11 @@
 package org.dataflowanalysis.analysis.pcm;
 
+import java.nio.file.Path;
 import java.util.Optional;
 
 import org.apache.log4j.Logger;
 import org.dataflowanalysis.analysis.DataFlowAnalysisBuilder;
+import org.dataflowanalysis.analysis.execution.AnalysisExecutor;
 import org.dataflowanalysis.analysis.pcm.core.PCMDataCharacteristicsCalculatorFactory;
 import org.dataflowanalysis.analysis.pcm.core.PCMNodeCharacteristicsCalculator;
 import org.dataflowanalysis.analysis.pcm.resource.PCMResourceProvider;
@@ -19,6 +21,7 @@ extends DataFlowAnalysisBuilder {
 	protected String relativeAllocationModelPath;
 	protected String relativeNodeCharacteristicsPath;
 	protected Optional<PCMResourceProvider> customResourceProvider = Optional.empty();
+	protected Optional<PCMAnalysisSession> session = Optional.empty();
 
 	public PCMDataFlowConfidentialityAnalysisBuilder() {}
 	
@@ -90,6 +93,47 @@ extends DataFlowAnalysisBuilder {
 		return this;
 	}
 	
+	/**
+	 * Sets the executor that runs the phases of the analysis. By default, the common fork-join pool is used
+	 * @param executor Executor of the analysis
+	 * @return Builder of the analysis
+	 */
+	public PCMDataFlowConfidentialityAnalysisBuilder useExecutor(AnalysisExecutor executor) {
+		super.useExecutor(executor);
+		return this;
+	}
+	
+	/**
+	 * Sets the executor that parses independent model files while the analysis is initialized. By default, model files are parsed sequentially
+	 * @param loadingExecutor Executor that parses model files
+	 * @return Builder of the analysis
+	 */
+	public PCMDataFlowConfidentialityAnalysisBuilder useLoadingExecutor(AnalysisExecutor loadingExecutor) {
+		super.useLoadingExecutor(loadingExecutor);
+		return this;
+	}
+	
+	/**
+	 * Sets the directory of the model cache of the analysis.
+	 * Unchanged models are loaded from the cache in the EMF binary format instead of parsing their source files
+	 * @param cacheDirectory Directory of the model cache
+	 * @return Builder of the analysis
+	 */
+	public PCMDataFlowConfidentialityAnalysisBuilder useModelCache(Path cacheDirectory) {
+		super.useModelCache(cacheDirectory);
+		return this;
+	}
+	
+	/**
+	 * Uses the standalone environment of the given session instead of the shared default session
+	 * @param session Session of the analysis
+	 * @return Builder of the analysis
+	 */
+	public PCMDataFlowConfidentialityAnalysisBuilder useSession(PCMAnalysisSession session) {
+		this.session = Optional.ofNullable(session);
+		return this;
+	}
+	
 	/**
 	 * Determines the effective resource provider for the analysis.
 	 * If a custom resource provider was provided, it will always be used
@@ -135,8 +179,11 @@ extends DataFlowAnalysisBuilder {
 	@Override
 	public PCMDataFlowConfidentialityAnalysis build() {
 		PCMResourceProvider resourceProvider = this.getEffectiveResourceProvider();
+		this.modelCache.ifPresent(resourceProvider::setModelCache);
+		this.loadingExecutor.ifPresent(resourceProvider::setLoadingExecutor);
 		return new PCMDataFlowConfidentialityAnalysis(new PCMNodeCharacteristicsCalculator(resourceProvider), 
 				new PCMDataCharacteristicsCalculatorFactory(resourceProvider), resourceProvider, 
-				this.modelProjectName, this.pluginActivator);
+				this.modelProjectName, this.pluginActivator, this.executor.orElseGet(AnalysisExecutor::commonPool), 
+				this.session);
 	}
 }
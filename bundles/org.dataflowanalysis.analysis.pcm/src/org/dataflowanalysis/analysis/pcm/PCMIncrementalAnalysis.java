@@ -0,0 +1,254 @@
+package org.dataflowanalysis.analysis.pcm;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.apache.log4j.Logger;
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.pcm.core.AbstractPCMActionSequenceElement;
+import org.dataflowanalysis.analysis.pcm.core.PCMActionSequenceFinder;
+import org.dataflowanalysis.analysis.pcm.core.PCMElementKey;
+import org.dataflowanalysis.analysis.pcm.core.PCMEvaluatedPrefixTree;
+import org.dataflowanalysis.pcm.extension.model.confidentiality.dictionary.PCMDataDictionary;
+import org.dataflowanalysis.pcm.extension.nodecharacteristics.nodecharacteristics.Assignments;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.palladiosimulator.pcm.allocation.Allocation;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceEnvironment;
+import org.palladiosimulator.pcm.seff.ResourceDemandingBehaviour;
+import org.palladiosimulator.pcm.usagemodel.ScenarioBehaviour;
+import org.palladiosimulator.pcm.usagemodel.UsageScenario;
+
+/**
+ * Incremental session of a PCM data flow analysis, that observes the models loaded by the analysis.
+ * The session records which usage scenarios and which elements of their sequences are affected by changes to the models.
+ * On {@link #update()}, only the sequences of affected usage scenarios are found again.
+ * Their evaluated elements are reused up to the first changed element of each sequence.
+ * Changes to the node characteristics, the allocation, the resource environment or the data dictionaries require all sequences to be evaluated again,
+ * while changes that cannot be attributed to a usage scenario require all sequences to be found again
+ */
+public class PCMIncrementalAnalysis {
+	private final Logger logger = Logger.getLogger(PCMIncrementalAnalysis.class);
+
+	private final PCMDataFlowConfidentialityAnalysis analysis;
+	private final Consumer<Notification> changeListener;
+	private final Map<UsageScenario, ScenarioResult> results;
+	private final Map<EObject, Set<UsageScenario>> touchedElements;
+	private final Map<EObject, Set<UsageScenario>> touchedContainers;
+
+	private final Set<UsageScenario> changedScenarios;
+	private final Set<EObject> changedElements;
+	private boolean findAll;
+	private boolean evaluateAll;
+
+	/**
+	 * Creates a new incremental session of the given analysis. The analysis must be initialized beforehand
+	 * @param analysis Initialized analysis, whose models are observed by the session
+	 */
+	public PCMIncrementalAnalysis(PCMDataFlowConfidentialityAnalysis analysis) {
+		this.analysis = analysis;
+		this.changeListener = this::handleChange;
+		this.results = new LinkedHashMap<>();
+		this.touchedElements = new HashMap<>();
+		this.touchedContainers = new HashMap<>();
+		this.changedScenarios = new HashSet<>();
+		this.changedElements = new HashSet<>();
+		this.findAll = true;
+		this.evaluateAll = true;
+	}
+
+	/**
+	 * Starts observing the models of the analysis and finds and evaluates all sequences
+	 * @return Returns the evaluated sequences of all usage scenarios
+	 */
+	public synchronized List<ActionSequence> initialize() {
+		this.analysis.resourceProvider.addModelChangeListener(this.changeListener);
+		return this.update();
+	}
+
+	/**
+	 * Determines whether the models have been changed since the last update
+	 * @return Returns true, if sequences have to be found or evaluated again. Otherwise, the method returns false
+	 */
+	public synchronized boolean hasChanges() {
+		return this.findAll || this.evaluateAll || !this.changedScenarios.isEmpty();
+	}
+
+	/**
+	 * Finds and evaluates the sequences affected by the changes since the last update
+	 * @return Returns the evaluated sequences of all usage scenarios in the order of the usage model
+	 */
+	public synchronized List<ActionSequence> update() {
+		if (!this.hasChanges()) {
+			return this.getEvaluatedSequences();
+		}
+		this.analysis.invalidateModelCaches();
+		PCMActionSequenceFinder sequenceFinder = new PCMActionSequenceFinder(this.analysis.resourceProvider.getUsageModel(),
+				this.analysis.getExecutor(), this.analysis.getSEFFResolutionCache());
+
+		Map<UsageScenario, ScenarioResult> previousResults = new HashMap<>(this.results);
+		this.results.clear();
+		int foundScenarios = 0;
+		for (UsageScenario usageScenario : this.analysis.resourceProvider.getUsageModel().getUsageScenario_UsageModel()) {
+			ScenarioResult previousResult = previousResults.get(usageScenario);
+			if (previousResult != null && !this.findAll && !this.changedScenarios.contains(usageScenario)) {
+				this.results.put(usageScenario, this.evaluateAll ?
+						new ScenarioResult(previousResult.sequences(), this.analysis.evaluateDataFlows(previousResult.sequences())) :
+						previousResult);
+				continue;
+			}
+
+			List<ActionSequence> sequences = new ArrayList<>(sequenceFinder.findAllSequences(usageScenario));
+			if (previousResult == null || this.evaluateAll) {
+				this.results.put(usageScenario, new ScenarioResult(sequences, this.analysis.evaluateDataFlows(sequences)));
+			} else {
+				PCMEvaluatedPrefixTree prefixTree = new PCMEvaluatedPrefixTree(previousResult.evaluatedSequences());
+				List<ActionSequence> evaluatedSequences = this.analysis.getExecutor().map(sequences,
+						it -> prefixTree.evaluateDataFlow(it, this::isChanged, this.analysis.nodeCharacteristicsCalculator,
+								this.analysis.dataCharacteristicsCalculatorFactory));
+				this.results.put(usageScenario, new ScenarioResult(sequences, evaluatedSequences));
+			}
+			foundScenarios++;
+		}
+		logger.info(String.format("Updated analysis: found sequences of %d of %d usage scenarios again.", foundScenarios, this.results.size()));
+
+		this.indexTouchedElements();
+		this.changedScenarios.clear();
+		this.changedElements.clear();
+		this.findAll = false;
+		this.evaluateAll = false;
+		return this.getEvaluatedSequences();
+	}
+
+	/**
+	 * Returns the evaluated sequences of the last update. Changes since the last update are not considered
+	 * @return Returns the evaluated sequences of all usage scenarios in the order of the usage model
+	 */
+	public synchronized List<ActionSequence> getEvaluatedSequences() {
+		return this.results.values().stream()
+				.flatMap(it -> it.evaluatedSequences().stream())
+				.toList();
+	}
+
+	/**
+	 * Stops observing the models of the analysis
+	 */
+	public synchronized void close() {
+		this.analysis.resourceProvider.removeModelChangeListener(this.changeListener);
+	}
+
+	/**
+	 * Records which usage scenarios and elements are affected by the given change of the models
+	 * @param notification Notification about the change
+	 */
+	private synchronized void handleChange(Notification notification) {
+		if (notification.getNotifier() instanceof ResourceSet) {
+			this.findAll |= notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES;
+			return;
+		}
+		if (notification.getNotifier() instanceof Resource) {
+			this.findAll |= notification.getFeatureID(Resource.class) == Resource.RESOURCE__CONTENTS;
+			return;
+		}
+		if (!(notification.getNotifier() instanceof EObject)) {
+			return;
+		}
+
+		EObject changedObject = (EObject) notification.getNotifier();
+		EObject root = EcoreUtil.getRootContainer(changedObject);
+		if (root instanceof Assignments || root instanceof Allocation || root instanceof ResourceEnvironment || root instanceof PCMDataDictionary) {
+			this.evaluateAll = true;
+			return;
+		}
+
+		for (EObject current = changedObject; current != null; current = current.eContainer()) {
+			if (this.touchedElements.containsKey(current)) {
+				this.changedElements.add(current);
+				this.changedScenarios.addAll(this.touchedElements.get(current));
+				return;
+			}
+		}
+		for (EObject current = changedObject; current != null; current = current.eContainer()) {
+			if (current instanceof ResourceDemandingBehaviour || current instanceof ScenarioBehaviour) {
+				if (this.touchedContainers.containsKey(current)) {
+					this.changedScenarios.addAll(this.touchedContainers.get(current));
+					return;
+				}
+				if (current != changedObject) {
+					// Behaviour is not reached by any sequence
+					return;
+				}
+				break;
+			}
+		}
+		if (this.touchedContainers.containsKey(changedObject)) {
+			this.changedScenarios.addAll(this.touchedContainers.get(changedObject));
+			return;
+		}
+		this.findAll = true;
+	}
+
+	/**
+	 * Determines whether the given element has been changed since the last update
+	 * @param key Key of the element
+	 * @return Returns true, if the element or one of its assembly contexts has been changed. Otherwise, the method returns false
+	 */
+	private boolean isChanged(PCMElementKey key) {
+		return this.changedElements.contains(key.element()) || key.context().stream().anyMatch(this.changedElements::contains);
+	}
+
+	/**
+	 * Indexes the elements and assembly contexts of the sequences of each usage scenario and all their containers
+	 */
+	private void indexTouchedElements() {
+		this.touchedElements.clear();
+		this.touchedContainers.clear();
+		for (Map.Entry<UsageScenario, ScenarioResult> result : this.results.entrySet()) {
+			Set<EObject> visitedElements = new HashSet<>();
+			for (ActionSequence sequence : result.getValue().sequences()) {
+				for (AbstractActionSequenceElement<?> element : sequence.getElements()) {
+					if (!(element instanceof AbstractPCMActionSequenceElement<?>)) {
+						continue;
+					}
+					AbstractPCMActionSequenceElement<?> pcmElement = (AbstractPCMActionSequenceElement<?>) element;
+					this.indexTouchedElement(pcmElement.getElement(), result.getKey(), visitedElements);
+					pcmElement.getContext().forEach(it -> this.indexTouchedElement(it, result.getKey(), visitedElements));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Indexes an element touched by a sequence of a usage scenario and its containers
+	 * @param element Element that is touched by a sequence of the usage scenario
+	 * @param usageScenario Usage scenario of the sequence
+	 * @param visitedElements Elements that have already been indexed for the usage scenario
+	 */
+	private void indexTouchedElement(EObject element, UsageScenario usageScenario, Set<EObject> visitedElements) {
+		if (!visitedElements.add(element)) {
+			return;
+		}
+		this.touchedElements.computeIfAbsent(element, it -> new HashSet<>()).add(usageScenario);
+		for (EObject container = element.eContainer(); container != null; container = container.eContainer()) {
+			this.touchedContainers.computeIfAbsent(container, it -> new HashSet<>()).add(usageScenario);
+		}
+	}
+
+	/**
+	 * Sequences of a usage scenario
+	 * @param sequences Unevaluated sequences of the usage scenario
+	 * @param evaluatedSequences Evaluated sequences of the usage scenario
+	 */
+	private record ScenarioResult(List<ActionSequence> sequences, List<ActionSequence> evaluatedSequences) {
+	}
+}
@@ -0,0 +1,96 @@
+package org.dataflowanalysis.analysis.pcm;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.dataflowanalysis.analysis.execution.ModelDescriptor;
+import org.dataflowanalysis.analysis.utils.ResourceUtils;
+import org.eclipse.core.runtime.Plugin;
+import org.eclipse.emf.common.util.URI;
+
+/**
+ * Description of a PCM model of a batch, whose analysis uses the standalone environment of a shared session
+ */
+public class PCMModelDescriptor implements ModelDescriptor {
+	private static final long MEMORY_PER_BYTE = 32;
+	private static final Set<String> MODEL_FILE_EXTENSIONS = Set.of("usagemodel", "allocation", "system", "repository", "resourceenvironment", 
+			"nodecharacteristics", "pddc");
+	
+	private final PCMAnalysisSession session;
+	private final String name;
+	private final String modelProjectName;
+	private final Class<? extends Plugin> modelProjectActivator;
+	private final String usageModelPath;
+	private final String allocationModelPath;
+	private final String nodeCharacteristicsPath;
+	
+	/**
+	 * Creates a new description of a PCM model
+	 * @param session Session, whose standalone environment is used by the analysis of the model
+	 * @param name Name of the model
+	 * @param modelProjectName Name of the modelling project
+	 * @param modelProjectActivator Plugin activator of the modelling project
+	 * @param usageModelPath Relative path to the usage model
+	 * @param allocationModelPath Relative path to the allocation model
+	 * @param nodeCharacteristicsPath Relative path to the node characteristics model
+	 */
+	public PCMModelDescriptor(PCMAnalysisSession session, String name, String modelProjectName, Class<? extends Plugin> modelProjectActivator, 
+			String usageModelPath, String allocationModelPath, String nodeCharacteristicsPath) {
+		this.session = session;
+		this.name = name;
+		this.modelProjectName = modelProjectName;
+		this.modelProjectActivator = modelProjectActivator;
+		this.usageModelPath = usageModelPath;
+		this.allocationModelPath = allocationModelPath;
+		this.nodeCharacteristicsPath = nodeCharacteristicsPath;
+	}
+
+	@Override
+	public String getName() {
+		return this.name;
+	}
+
+	/**
+	 * Creates a new analysis of the model and registers the modelling project in the session, so that the models of the project can be resolved
+	 * @return Returns the created analysis
+	 */
+	@Override
+	public PCMDataFlowConfidentialityAnalysis createAnalysis() {
+		this.session.registerModelProject(Optional.of(this.modelProjectActivator), this.modelProjectName);
+		return this.session.newAnalysis()
+				.modelProjectName(this.modelProjectName)
+				.usePluginActivator(this.modelProjectActivator)
+				.useUsageModel(this.usageModelPath)
+				.useAllocationModel(this.allocationModelPath)
+				.useNodeCharacteristicsModel(this.nodeCharacteristicsPath)
+				.build();
+	}
+
+	/**
+	 * Estimates the memory of the model from the size of all PCM model files in the folders of its usage, allocation and node characteristics models.
+	 * This includes the repository, system and resource environment models referenced by the root models.
+	 * If several models share a folder, the estimate is conservative.
+	 * If the folders cannot be listed, only the root models are considered
+	 * @return Returns the estimated memory in bytes
+	 */
+	@Override
+	public long estimateMemory() {
+		List<URI> modelURIs = Stream.of(this.usageModelPath, this.allocationModelPath, this.nodeCharacteristicsPath)
+				.filter(it -> it != null && !it.isEmpty())
+				.map(it -> ResourceUtils.createRelativePluginURI(it, this.modelProjectName))
+				.toList();
+		long length = modelURIs.stream()
+				.map(it -> it.trimSegments(1).appendSegment(""))
+				.distinct()
+				.mapToLong(it -> ResourceUtils.getFolderLength(it, MODEL_FILE_EXTENSIONS))
+				.sum();
+		if (length == 0) {
+			length = modelURIs.stream()
+					.mapToLong(ResourceUtils::getLength)
+					.sum();
+		}
+		return MEMORY_PER_BYTE * length;
+	}
+}
@@ -6,10 +6,10 @@ import java.util.Objects;
 
 import org.apache.log4j.Logger;
 import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
-import org.dataflowanalysis.analysis.core.CharacteristicValue;
 import org.dataflowanalysis.analysis.core.DataCharacteristicsCalculator;
 import org.dataflowanalysis.analysis.core.DataCharacteristicsCalculatorFactory;
 import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.LabelSet;
 import org.dataflowanalysis.analysis.core.NodeCharacteristicsCalculator;
 import org.dataflowanalysis.pcm.extension.model.confidentiality.ConfidentialityVariableCharacterisation;
 import org.palladiosimulator.pcm.core.composition.AssemblyContext;
@@ -39,7 +39,7 @@ public abstract class AbstractPCMActionSequenceElement<T extends Entity> extends
      * @param dataFlowVariables DataFlow variables, which should be present for the action sequence element
      * @param nodeCharacteristics Node characteristics, which should be present for the action sequence element
      */
-    public AbstractPCMActionSequenceElement(AbstractPCMActionSequenceElement<T> oldElement, List<DataFlowVariable> dataFlowVariables, List<DataFlowVariable> outgoingDataFlowVariables, List<CharacteristicValue> nodeCharacteristics) {
+    public AbstractPCMActionSequenceElement(AbstractPCMActionSequenceElement<T> oldElement, List<DataFlowVariable> dataFlowVariables, List<DataFlowVariable> outgoingDataFlowVariables, LabelSet nodeCharacteristics) {
     	super(dataFlowVariables, outgoingDataFlowVariables, nodeCharacteristics);
     	this.element = oldElement.getElement();
     	this.context = oldElement.getContext();
@@ -48,9 +48,9 @@ public abstract class AbstractPCMActionSequenceElement<T extends Entity> extends
     /**
      * Calculate the node characteristics for the sequence element with the given analysis data
      * @param analysisData Analysis data containing the node characteristics calculator
-     * @return Returns a list of node characteristics that are applied to the sequence element
+     * @return Returns a label set of node characteristics that are applied to the sequence element
      */
-    protected List<CharacteristicValue> getNodeCharacteristics(NodeCharacteristicsCalculator nodeCharacteristicsCalculator) {
+    protected LabelSet getNodeCharacteristics(NodeCharacteristicsCalculator nodeCharacteristicsCalculator) {
     	return nodeCharacteristicsCalculator.getNodeCharacteristics(this.element, this.context);
     }
     
@@ -60,7 +60,7 @@ public abstract class AbstractPCMActionSequenceElement<T extends Entity> extends
      * @return Returns a list of data characteristics that are applied to the sequence element
      */
     protected List<DataFlowVariable> getDataFlowVariables(DataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory, 
-    		List<CharacteristicValue> nodeCharacteristics, List<ConfidentialityVariableCharacterisation> variableCharacterisations, List<DataFlowVariable> oldDataFlowVariables) {
+    		LabelSet nodeCharacteristics, List<ConfidentialityVariableCharacterisation> variableCharacterisations, List<DataFlowVariable> oldDataFlowVariables) {
     	DataCharacteristicsCalculator dataCharacteristicsCalculator = dataCharacteristicsCalculatorFactory.createNodeCalculator(oldDataFlowVariables, nodeCharacteristics);
     	variableCharacterisations.forEach(dataCharacteristicsCalculator::evaluate);
     	return dataCharacteristicsCalculator.getCalculatedCharacteristics();
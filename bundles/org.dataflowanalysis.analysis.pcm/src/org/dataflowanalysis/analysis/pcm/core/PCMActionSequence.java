@@ -5,7 +5,6 @@ import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
 import org.dataflowanalysis.analysis.core.ActionSequence;
@@ -49,14 +48,12 @@ public class PCMActionSequence extends ActionSequence {
     }
     
     /**
-     * Creates a copy of the given action sequence and appends the given
-     * @param sequence Action sequence that should be copied
+     * Creates a new action sequence that shares the elements of the given sequence and appends the given elements
+     * @param sequence Action sequence that should be extended
      * @param newElements Elements in the new sequence
      */
     public PCMActionSequence(ActionSequence sequence, AbstractActionSequenceElement<?>... newElements) {
-        super(Stream.concat(sequence.getElements()
-            .stream(), Stream.of(newElements))
-            .toList());
+        super(sequence, newElements);
     }
 
 	@Override
@@ -64,31 +61,53 @@ public class PCMActionSequence extends ActionSequence {
     		DataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory) {
         var iterator = super.getElements()
             .iterator();
-        Deque<List<DataFlowVariable>> variableContexts = new ArrayDeque<>();
-        variableContexts.push(new ArrayList<>());
+        Deque<List<DataFlowVariable>> variableContexts = createVariableContexts();
         
         List<AbstractActionSequenceElement<?>> evaluatedElements = new ArrayList<>();
 
         while (iterator.hasNext()) {
             AbstractActionSequenceElement<?> nextElement = iterator.next();
-            
-            prepareCall(variableContexts, nextElement);
-            
-            AbstractActionSequenceElement<?> evaluatedElement = nextElement.evaluateDataFlow(variableContexts.peek(), nodeCharacteristicsCalculator, dataCharacteristicsCalculatorFactory);
-            evaluatedElements.add(evaluatedElement);
-            
-            cleanupCall(variableContexts, evaluatedElement);
+            evaluatedElements.add(evaluateElement(variableContexts, nextElement, nodeCharacteristicsCalculator, dataCharacteristicsCalculatorFactory));
         }
 
         return new PCMActionSequence(evaluatedElements);
     }
 	
+	/**
+	 * Creates the initial stack of variable contexts for the evaluation of a sequence
+	 * @return Returns a stack of variable contexts containing one empty context
+	 */
+	static Deque<List<DataFlowVariable>> createVariableContexts() {
+		Deque<List<DataFlowVariable>> variableContexts = new ArrayDeque<>();
+        variableContexts.push(new ArrayList<>());
+        return variableContexts;
+	}
+	
+	/**
+	 * Evaluates the given element with the variable context at the top of the stack and updates the stack of variable contexts afterwards.
+	 * The variable contexts in the stack are never modified, therefore a shallow copy of the stack is sufficient to fork the evaluation
+	 * @param variableContexts Stack of variable contexts
+	 * @param nextElement Next element that will be evaluated
+	 * @param nodeCharacteristicsCalculator Calculator used to calculate the node characteristics of the element
+	 * @param dataCharacteristicsCalculatorFactory Calculators used to calculate the data characteristics of elements
+	 * @return Returns the evaluated element
+	 */
+	static AbstractActionSequenceElement<?> evaluateElement(Deque<List<DataFlowVariable>> variableContexts, AbstractActionSequenceElement<?> nextElement, 
+			NodeCharacteristicsCalculator nodeCharacteristicsCalculator, DataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory) {
+		prepareCall(variableContexts, nextElement);
+        
+        AbstractActionSequenceElement<?> evaluatedElement = nextElement.evaluateDataFlow(variableContexts.peek(), nodeCharacteristicsCalculator, dataCharacteristicsCalculatorFactory);
+        
+        cleanupCall(variableContexts, evaluatedElement);
+        return evaluatedElement;
+	}
+	
 	/**
 	 * Prepares the stack of variable contexts to contain the correct entry at the top, by updating elements, if the next element is returning
 	 * @param variableContexts Stack of variable contexts
 	 * @param nextElement Next element that will be evaluated
 	 */
-	private void prepareCall(Deque<List<DataFlowVariable>> variableContexts, AbstractActionSequenceElement<?> nextElement) {
+	private static void prepareCall(Deque<List<DataFlowVariable>> variableContexts, AbstractActionSequenceElement<?> nextElement) {
 		if (nextElement instanceof SEFFActionSequenceElement<?> && ((SEFFActionSequenceElement<?>) nextElement).getElement() instanceof StartAction) {
 			SEFFActionSequenceElement<?> startElement = (SEFFActionSequenceElement<?>) nextElement;
 			List<String> parameter = startElement.getParameter().stream()
@@ -113,12 +132,22 @@ public class PCMActionSequence extends ActionSequence {
         }
 	}
 	
+	/**
+	 * Updates the stack of variable contexts for an element that has already been evaluated, without evaluating the element again
+	 * @param variableContexts Stack of variable contexts
+	 * @param evaluatedElement Element that has been evaluated with the same stack of variable contexts before
+	 */
+	static void replayElement(Deque<List<DataFlowVariable>> variableContexts, AbstractActionSequenceElement<?> evaluatedElement) {
+		prepareCall(variableContexts, evaluatedElement);
+		cleanupCall(variableContexts, evaluatedElement);
+	}
+	
 	/**
 	 * Prepares the stack of variable contexts to contain the correct entry at the top, after a node has been evaluated.
 	 * @param variableContexts Stack of variable contexts
 	 * @param evaluatedElement Element that has been evaluated
 	 */
-	private void cleanupCall(Deque<List<DataFlowVariable>> variableContexts, 
+	private static void cleanupCall(Deque<List<DataFlowVariable>> variableContexts, 
 			AbstractActionSequenceElement<?> evaluatedElement) {
 		if (evaluatedElement instanceof CallReturnBehavior && ((CallReturnBehavior) evaluatedElement).isCalling()) {
         	List<DataFlowVariable> callingDataFlowVariables = new ArrayList<>(evaluatedElement.getAllOutgoingDataFlowVariables());
@@ -1,39 +1,95 @@
 package org.dataflowanalysis.analysis.pcm.core;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.apache.log4j.Logger;
 import org.dataflowanalysis.analysis.core.ActionSequenceFinder;
+import org.dataflowanalysis.analysis.execution.AnalysisExecutor;
+import org.dataflowanalysis.analysis.pcm.core.finder.PCMFinderStep;
 import org.dataflowanalysis.analysis.pcm.core.finder.PCMUserFinderUtils;
 import org.dataflowanalysis.analysis.pcm.utils.PCMQueryUtils;
+import org.dataflowanalysis.analysis.pcm.utils.SEFFResolutionCache;
 import org.palladiosimulator.pcm.usagemodel.Start;
 import org.palladiosimulator.pcm.usagemodel.UsageModel;
+import org.palladiosimulator.pcm.usagemodel.UsageScenario;
 
 public class PCMActionSequenceFinder implements ActionSequenceFinder {
     private final Logger logger = Logger.getLogger(PCMActionSequenceFinder.class);
 
     private final UsageModel usageModel;
+    private final AnalysisExecutor executor;
+    private final SEFFResolutionCache resolutionCache;
 
     public PCMActionSequenceFinder(UsageModel usageModel) {
+        this(usageModel, AnalysisExecutor.sequential());
+    }
+
+    /**
+     * Creates a new sequence finder, that explores usage scenarios and branches with the given executor.
+     * The model must be fully resolved, as it is read concurrently
+     * @param usageModel Usage model in which sequences are found
+     * @param executor Executor that explores independent alternatives in {@link #findAllSequences()}
+     */
+    public PCMActionSequenceFinder(UsageModel usageModel, AnalysisExecutor executor) {
+        this(usageModel, executor, new SEFFResolutionCache());
+    }
+
+    /**
+     * Creates a new sequence finder, that explores usage scenarios and branches with the given executor and resolves called SEFFs with the given cache.
+     * The model must be fully resolved, as it is read concurrently
+     * @param usageModel Usage model in which sequences are found
+     * @param executor Executor that explores independent alternatives in {@link #findAllSequences()}
+     * @param resolutionCache Cache of the resolved SEFFs of the usage model, which may be shared by several finders of the same analysis
+     */
+    public PCMActionSequenceFinder(UsageModel usageModel, AnalysisExecutor executor, SEFFResolutionCache resolutionCache) {
         this.usageModel = usageModel;
+        this.executor = executor;
+        this.resolutionCache = resolutionCache;
     }
 
     @Override
     public List<PCMActionSequence> findAllSequences() {
-    	List<PCMActionSequence> sequences = findSequencesForUsageModel(usageModel);
+    	List<PCMActionSequence> sequences = PCMFinderStep.collect(() -> this.findInitialStep(this.usageModel), this.executor);
         logger.info(String.format("Found %d action %s.", sequences.size(),
                 sequences.size() == 1 ? "sequence" : "sequences"));
         return sequences;
     }
 
-    private List<PCMActionSequence> findSequencesForUsageModel(UsageModel usageModel) {
+    /**
+     * Finds all sequences of a single usage scenario of the usage model
+     * @param usageScenario Usage scenario in which sequences are found
+     * @return Returns the sequences of the usage scenario in the order they are found by {@link #findAllSequences()}
+     */
+    public List<PCMActionSequence> findAllSequences(UsageScenario usageScenario) {
+        Optional<Start> startAction = PCMQueryUtils.getStartActionOfScenarioBehavior(usageScenario.getScenarioBehaviour_UsageScenario());
+        if (startAction.isEmpty()) {
+            return List.of();
+        }
+        return PCMFinderStep.collect(() -> PCMUserFinderUtils.findSequencesForUserAction(startAction.get(), new PCMActionSequence(), this.resolutionCache),
+                this.executor);
+    }
+
+    @Override
+    public Stream<PCMActionSequence> findSequences() {
+        return PCMFinderStep.stream(() -> this.findInitialStep(this.usageModel));
+    }
+
+    /**
+     * Creates the initial step of the finder, that forks the search into the usage scenarios of the usage model
+     * @param usageModel Usage model in which sequences are found
+     * @return Returns the initial finder step
+     */
+    private PCMFinderStep findInitialStep(UsageModel usageModel) {
         PCMActionSequence initialList = new PCMActionSequence();
         List<Start> startActions = PCMQueryUtils.findStartActionsForUsageModel(usageModel);
 
-        return startActions.stream()
-	        .map(it -> PCMUserFinderUtils.findSequencesForUserAction(it, initialList))
-	        .flatMap(List::stream)
+        List<Supplier<PCMFinderStep>> continuations = startActions.stream()
+	        .<Supplier<PCMFinderStep>>map(it -> () -> PCMUserFinderUtils.findSequencesForUserAction(it, initialList, this.resolutionCache))
 	        .toList();
+        return PCMFinderStep.fork(continuations);
     }
 
 }
@@ -0,0 +1,160 @@
+package org.dataflowanalysis.analysis.pcm.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.dataflowanalysis.analysis.core.LabelUniverse;
+import org.dataflowanalysis.analysis.pcm.core.PCMCompiledCharacterisation.CompiledTerm;
+import org.dataflowanalysis.pcm.extension.dictionary.characterized.DataDictionaryCharacterized.EnumCharacteristicType;
+import org.dataflowanalysis.pcm.extension.dictionary.characterized.DataDictionaryCharacterized.Literal;
+import org.dataflowanalysis.pcm.extension.dictionary.characterized.DataDictionaryCharacterized.expressions.And;
+import org.dataflowanalysis.pcm.extension.dictionary.characterized.DataDictionaryCharacterized.expressions.False;
+import org.dataflowanalysis.pcm.extension.dictionary.characterized.DataDictionaryCharacterized.expressions.Or;
+import org.dataflowanalysis.pcm.extension.dictionary.characterized.DataDictionaryCharacterized.expressions.Term;
+import org.dataflowanalysis.pcm.extension.dictionary.characterized.DataDictionaryCharacterized.expressions.True;
+import org.dataflowanalysis.pcm.extension.model.confidentiality.ConfidentialityVariableCharacterisation;
+import org.dataflowanalysis.pcm.extension.model.confidentiality.expression.LhsEnumCharacteristicReference;
+import org.dataflowanalysis.pcm.extension.model.confidentiality.expression.NamedEnumCharacteristicReference;
+
+/**
+ * Compiles variable characterisations into evaluators, that can be applied to data flow variables without interpreting the term tree.
+ * Compiled characterisations are cached per characterisation instance and are built on first use
+ */
+public class PCMCharacterisationCompiler {
+    private static final CompiledTerm TRUE = (slots, label) -> true;
+    private static final CompiledTerm FALSE = (slots, label) -> false;
+
+    private final LabelUniverse labelUniverse;
+    private final Map<ConfidentialityVariableCharacterisation, PCMCompiledCharacterisation> compiledCharacterisations;
+
+    /**
+     * Creates a new compiler for characterisations, which resolves characteristic values in the given label universe
+     * @param labelUniverse Label universe of the analysis
+     */
+    public PCMCharacterisationCompiler(LabelUniverse labelUniverse) {
+        this.labelUniverse = labelUniverse;
+        this.compiledCharacterisations = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Returns the compiled form of the given variable characterisation. The characterisation is compiled, if it has not been compiled before
+     * @param variableCharacterisation Variable characterisation that should be compiled
+     * @return Returns the compiled variable characterisation
+     */
+    public PCMCompiledCharacterisation compile(ConfidentialityVariableCharacterisation variableCharacterisation) {
+        return this.compiledCharacterisations.computeIfAbsent(variableCharacterisation, this::compileCharacterisation);
+    }
+
+    /**
+     * Removes all compiled characterisations, so that changed characterisations are compiled again
+     */
+    public void invalidate() {
+        this.compiledCharacterisations.clear();
+    }
+
+    /**
+     * Compiles the given variable characterisation
+     * @param variableCharacterisation Variable characterisation that should be compiled
+     * @return Returns the compiled variable characterisation
+     */
+    private PCMCompiledCharacterisation compileCharacterisation(ConfidentialityVariableCharacterisation variableCharacterisation) {
+        var leftHandSide = (LhsEnumCharacteristicReference) variableCharacterisation.getLhs();
+        EnumCharacteristicType characteristicType = (EnumCharacteristicType) leftHandSide.getCharacteristicType();
+        Literal characteristicValue = leftHandSide.getLiteral();
+        String variableName = variableCharacterisation.getVariableUsage_VariableCharacterisation()
+            .getNamedReference__VariableUsage()
+            .getReferenceName();
+
+        List<String> slotNames = new ArrayList<>();
+        CompiledTerm rightHandSide = this.compileTerm(variableCharacterisation.getRhs(), slotNames);
+
+        String modifiedTypeName = characteristicType == null ? null : characteristicType.getName();
+        OptionalInt modifiedCharacteristic = characteristicValue == null ? OptionalInt.empty()
+                : OptionalInt.of(this.labelUniverse.getId(new PCMCharacteristicValue(characteristicType, characteristicValue)));
+        return new PCMCompiledCharacterisation(this.labelUniverse, variableName, modifiedTypeName, modifiedCharacteristic,
+                slotNames.toArray(String[]::new), rightHandSide, rightHandSide == TRUE, rightHandSide == FALSE);
+    }
+
+    /**
+     * Compiles a term (e.g. Right Hand Side) of a variable characterisation
+     * @param term Term that should be compiled
+     * @param slotNames Names of the variables referenced by the compiled term. New references are added to the list
+     * @return Returns the compiled term
+     */
+    private CompiledTerm compileTerm(Term term, List<String> slotNames) {
+        if (term instanceof True) {
+            return TRUE;
+        } else if (term instanceof False) {
+            return FALSE;
+        } else if (term instanceof NamedEnumCharacteristicReference) {
+            return this.compileNamedReference((NamedEnumCharacteristicReference) term, slotNames);
+        } else if (term instanceof And andTerm) {
+            CompiledTerm left = this.compileTerm(andTerm.getLeft(), slotNames);
+            CompiledTerm right = this.compileTerm(andTerm.getRight(), slotNames);
+            if (left == FALSE || right == FALSE) {
+                return FALSE;
+            } else if (left == TRUE) {
+                return right;
+            } else if (right == TRUE) {
+                return left;
+            }
+            return (slots, label) -> left.evaluate(slots, label) && right.evaluate(slots, label);
+        } else if (term instanceof Or orTerm) {
+            CompiledTerm left = this.compileTerm(orTerm.getLeft(), slotNames);
+            CompiledTerm right = this.compileTerm(orTerm.getRight(), slotNames);
+            if (left == TRUE || right == TRUE) {
+                return TRUE;
+            } else if (left == FALSE) {
+                return right;
+            } else if (right == FALSE) {
+                return left;
+            }
+            return (slots, label) -> left.evaluate(slots, label) || right.evaluate(slots, label);
+        } else {
+            throw new IllegalArgumentException("Unknown type: " + term.getClass()
+                .getName());
+        }
+    }
+
+    /**
+     * Compiles a named reference to a characteristic of a variable.
+     * The referenced variable is resolved to a slot and fully specified characteristic values are resolved to their label id
+     * @param characteristicReference Right hand side with a reference to a characteristic
+     * @param slotNames Names of the variables referenced by the compiled term. New references are added to the list
+     * @return Returns the compiled named reference
+     */
+    private CompiledTerm compileNamedReference(NamedEnumCharacteristicReference characteristicReference, List<String> slotNames) {
+        String variableName = characteristicReference.getNamedReference()
+            .getReferenceName();
+        int slot = slotNames.indexOf(variableName);
+        if (slot == -1) {
+            slot = slotNames.size();
+            slotNames.add(variableName);
+        }
+        final int variableSlot = slot;
+        EnumCharacteristicType characteristicType = (EnumCharacteristicType) characteristicReference.getCharacteristicType();
+        Literal literal = characteristicReference.getLiteral();
+
+        if (characteristicType == null && literal == null) {
+            return (slots, label) -> slots[variableSlot] != null && slots[variableSlot].contains(label);
+        } else if (characteristicType != null && literal != null) {
+            int referencedLabel = this.labelUniverse.getId(new PCMCharacteristicValue(characteristicType, literal));
+            return (slots, label) -> slots[variableSlot] != null && slots[variableSlot].contains(referencedLabel);
+        } else if (characteristicType != null) {
+            String typeName = characteristicType.getName();
+            return (slots, label) -> slots[variableSlot] != null && this.labelUniverse.findId(typeName, this.labelUniverse.getCharacteristicValue(label)
+                .getValueName())
+                .stream()
+                .anyMatch(slots[variableSlot]::contains);
+        } else {
+            String valueName = literal.getName();
+            return (slots, label) -> slots[variableSlot] != null && this.labelUniverse.findId(this.labelUniverse.getCharacteristicValue(label)
+                .getTypeName(), valueName)
+                .stream()
+                .anyMatch(slots[variableSlot]::contains);
+        }
+    }
+}
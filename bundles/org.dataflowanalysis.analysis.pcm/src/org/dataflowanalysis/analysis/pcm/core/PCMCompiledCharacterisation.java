@@ -0,0 +1,112 @@
+package org.dataflowanalysis.analysis.pcm.core;
+
+import java.util.Map;
+import java.util.OptionalInt;
+
+import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.LabelSet;
+import org.dataflowanalysis.analysis.core.LabelUniverse;
+
+/**
+ * Compiled form of a variable characterisation, that is created by the {@link PCMCharacterisationCompiler}.
+ * Variables referenced by the right hand side are resolved into slots once per application,
+ * and the right hand side is evaluated for each modified label id without interpreting the term tree
+ */
+public final class PCMCompiledCharacterisation {
+    private final LabelUniverse labelUniverse;
+    private final String variableName;
+    private final String modifiedTypeName;
+    private final OptionalInt modifiedCharacteristic;
+    private final String[] slotNames;
+    private final CompiledTerm rightHandSide;
+    private final boolean alwaysTrue;
+    private final boolean alwaysFalse;
+
+    /**
+     * Creates a new compiled variable characterisation
+     * @param labelUniverse Label universe of the analysis
+     * @param variableName Name of the variable that is characterised
+     * @param modifiedTypeName Name of the characteristic type that is modified. May be null to allow a wildcard
+     * @param modifiedCharacteristic Id of the characteristic value that is modified. May be empty to allow a wildcard
+     * @param slotNames Names of the variables referenced by the right hand side
+     * @param rightHandSide Compiled right hand side of the characterisation
+     * @param alwaysTrue Indicates whether the right hand side always evaluates to true
+     * @param alwaysFalse Indicates whether the right hand side always evaluates to false
+     */
+    PCMCompiledCharacterisation(LabelUniverse labelUniverse, String variableName, String modifiedTypeName, OptionalInt modifiedCharacteristic,
+            String[] slotNames, CompiledTerm rightHandSide, boolean alwaysTrue, boolean alwaysFalse) {
+        this.labelUniverse = labelUniverse;
+        this.variableName = variableName;
+        this.modifiedTypeName = modifiedTypeName;
+        this.modifiedCharacteristic = modifiedCharacteristic;
+        this.slotNames = slotNames;
+        this.rightHandSide = rightHandSide;
+        this.alwaysTrue = alwaysTrue;
+        this.alwaysFalse = alwaysFalse;
+    }
+
+    /**
+     * Returns the name of the variable that is characterised
+     * @return Name of the characterised variable
+     */
+    public String getVariableName() {
+        return this.variableName;
+    }
+
+    /**
+     * Applies the characterisation to the given variables
+     * @param variables Currently available data flow variables by their name
+     * @return Returns the characterised variable with the updated characteristics
+     */
+    public DataFlowVariable apply(Map<String, DataFlowVariable> variables) {
+        DataFlowVariable existingVariable = variables.get(this.variableName);
+        LabelSet existingCharacteristics = existingVariable == null ? LabelSet.empty(this.labelUniverse) : existingVariable.labels();
+        LabelSet modifiedCharacteristics = this.calculateModifiedCharacteristics();
+
+        LabelSet setCharacteristics;
+        if (this.alwaysTrue) {
+            setCharacteristics = modifiedCharacteristics;
+        } else if (this.alwaysFalse) {
+            setCharacteristics = LabelSet.empty(this.labelUniverse);
+        } else {
+            LabelSet[] slots = new LabelSet[this.slotNames.length];
+            for (int i = 0; i < this.slotNames.length; i++) {
+                DataFlowVariable variable = variables.get(this.slotNames[i]);
+                slots[i] = variable == null ? null : variable.labels();
+            }
+            setCharacteristics = modifiedCharacteristics.filter(id -> this.rightHandSide.evaluate(slots, id));
+        }
+        LabelSet computedCharacteristics = existingCharacteristics.difference(modifiedCharacteristics)
+            .union(setCharacteristics);
+        return new DataFlowVariable(this.variableName, computedCharacteristics);
+    }
+
+    /**
+     * Calculates the set of modified characteristics with the characteristic type and value of the left hand side
+     * @return Returns the set of all characteristics that are modified by the characterisation
+     */
+    private LabelSet calculateModifiedCharacteristics() {
+        if (this.modifiedCharacteristic.isPresent()) {
+            return LabelSet.empty(this.labelUniverse)
+                .with(this.modifiedCharacteristic.getAsInt());
+        } else if (this.modifiedTypeName != null) {
+            return this.labelUniverse.getLabelsOfType(this.modifiedTypeName);
+        } else {
+            return this.labelUniverse.getAllLabels();
+        }
+    }
+
+    /**
+     * Compiled term of a right hand side, that is evaluated for a single label id
+     */
+    @FunctionalInterface
+    interface CompiledTerm {
+        /**
+         * Evaluates the term for the given label id
+         * @param slots Characteristics of the referenced variables. A slot is null, if the variable does not exist
+         * @param label Id of the characteristic value that is modified
+         * @return Returns, whether the characteristic value should be set
+         */
+        boolean evaluate(LabelSet[] slots, int label);
+    }
+}
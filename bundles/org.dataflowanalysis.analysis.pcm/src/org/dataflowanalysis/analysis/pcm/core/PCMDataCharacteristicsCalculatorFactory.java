@@ -2,21 +2,21 @@ package org.dataflowanalysis.analysis.pcm.core;
 
 import java.util.List;
 
-import org.dataflowanalysis.analysis.core.CharacteristicValue;
 import org.dataflowanalysis.analysis.core.DataCharacteristicsCalculator;
 import org.dataflowanalysis.analysis.core.DataCharacteristicsCalculatorFactory;
 import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.LabelSet;
 import org.dataflowanalysis.analysis.resource.ResourceProvider;
 
 public class PCMDataCharacteristicsCalculatorFactory implements DataCharacteristicsCalculatorFactory {
-	private final ResourceProvider resourceLoader;
+	private final PCMCharacterisationCompiler characterisationCompiler;
 	
 	/** 
 	 * Creates a new instance of the data characteristics calculator factory
 	 * @param resourceLoader Resource loader the characteristics calculators should use
 	 */
 	public PCMDataCharacteristicsCalculatorFactory(ResourceProvider resourceLoader) {
-		this.resourceLoader = resourceLoader;
+		this.characterisationCompiler = new PCMCharacterisationCompiler(resourceLoader.getLabelUniverse());
 	}
 
 	/**
@@ -27,8 +27,13 @@ public class PCMDataCharacteristicsCalculatorFactory implements DataCharacterist
      */
 	@Override
 	public DataCharacteristicsCalculator createNodeCalculator(List<DataFlowVariable> initialVariables,
-			List<CharacteristicValue> nodeCharacteristics) {
-		return new PCMDataCharacteristicsCalculator(initialVariables, nodeCharacteristics, this.resourceLoader);
+			LabelSet nodeCharacteristics) {
+		return new PCMDataCharacteristicsCalculator(initialVariables, nodeCharacteristics, this.characterisationCompiler);
+	}
+	
+	@Override
+	public void invalidate() {
+		this.characterisationCompiler.invalidate();
 	}
 
 }
@@ -0,0 +1,32 @@
+package org.dataflowanalysis.analysis.pcm.core;
+
+import java.util.List;
+
+import org.dataflowanalysis.analysis.pcm.core.seff.SEFFActionSequenceElement;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.core.entity.Entity;
+import org.palladiosimulator.pcm.repository.Parameter;
+
+/**
+ * Identifies an element of a sequence independently of the instance of the element and of whether it has been evaluated.
+ * Two elements with equal keys are evaluated equally, if their incoming data flow variables are equal
+ * @param element Underlying Palladio element
+ * @param context Stack of assembly contexts of the element
+ * @param calling Indicates whether the element is a calling element
+ * @param parameter Names of the parameters available to the element
+ */
+public record PCMElementKey(Entity element, List<AssemblyContext> context, boolean calling, List<String> parameter) {
+    /**
+     * Creates the key of the given element
+     * @param element Element of a sequence
+     * @return Returns the key of the element
+     */
+    public static PCMElementKey of(AbstractPCMActionSequenceElement<?> element) {
+        boolean calling = element instanceof CallReturnBehavior && ((CallReturnBehavior) element).isCalling();
+        List<String> parameter = element instanceof SEFFActionSequenceElement<?> ? ((SEFFActionSequenceElement<?>) element).getParameter()
+            .stream()
+            .map(Parameter::getParameterName)
+            .toList() : List.of();
+        return new PCMElementKey(element.getElement(), List.copyOf(element.getContext()), calling, parameter);
+    }
+}
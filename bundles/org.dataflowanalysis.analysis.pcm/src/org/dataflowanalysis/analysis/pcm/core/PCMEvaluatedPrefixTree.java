@@ -0,0 +1,91 @@
+package org.dataflowanalysis.analysis.pcm.core;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.core.DataCharacteristicsCalculatorFactory;
+import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.NodeCharacteristicsCalculator;
+
+/**
+ * Prefix tree of previously evaluated action sequences, that is used to evaluate sequences again after the models have changed.
+ * Elements of the tree are identified by their {@link PCMElementKey}, so that sequences found again can be matched against the tree.
+ * The evaluated elements of the longest common prefix, that contains no changed element, are reused
+ */
+public class PCMEvaluatedPrefixTree {
+    private final TreeNode root;
+
+    /**
+     * Creates a new prefix tree containing the given evaluated sequences
+     * @param evaluatedSequences Evaluated action sequences that are inserted into the tree
+     */
+    public PCMEvaluatedPrefixTree(List<? extends ActionSequence> evaluatedSequences) {
+        this.root = new TreeNode(null);
+        for (ActionSequence evaluatedSequence : evaluatedSequences) {
+            TreeNode current = this.root;
+            for (AbstractActionSequenceElement<?> evaluatedElement : evaluatedSequence.getElements()) {
+                if (!(evaluatedElement instanceof AbstractPCMActionSequenceElement<?>)) {
+                    break;
+                }
+                PCMElementKey key = PCMElementKey.of((AbstractPCMActionSequenceElement<?>) evaluatedElement);
+                current = current.children.computeIfAbsent(key, it -> new TreeNode(evaluatedElement));
+            }
+        }
+    }
+
+    /**
+     * Evaluates the data flow of the given sequence.
+     * The evaluated elements of the longest prefix of the sequence, that is contained in the tree and contains no changed element, are reused.
+     * The remaining elements are evaluated
+     * @param sequence Unevaluated action sequence
+     * @param changed Condition that determines whether an element has changed since the sequences in the tree were evaluated
+     * @param nodeCharacteristicsCalculator Calculator used to calculate the node characteristics of the element
+     * @param dataCharacteristicsCalculatorFactory Calculators used to calculate the data characteristics of elements
+     * @return Returns the evaluated action sequence
+     */
+    public PCMActionSequence evaluateDataFlow(ActionSequence sequence, Predicate<PCMElementKey> changed,
+            NodeCharacteristicsCalculator nodeCharacteristicsCalculator, DataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory) {
+        List<AbstractActionSequenceElement<?>> elements = sequence.getElements();
+        List<AbstractActionSequenceElement<?>> evaluatedElements = new ArrayList<>(elements.size());
+        Deque<List<DataFlowVariable>> variableContexts = PCMActionSequence.createVariableContexts();
+
+        TreeNode current = this.root;
+        int index = 0;
+        while (index < elements.size() && elements.get(index) instanceof AbstractPCMActionSequenceElement<?>) {
+            PCMElementKey key = PCMElementKey.of((AbstractPCMActionSequenceElement<?>) elements.get(index));
+            TreeNode child = current.children.get(key);
+            if (child == null || changed.test(key)) {
+                break;
+            }
+            PCMActionSequence.replayElement(variableContexts, child.evaluatedElement);
+            evaluatedElements.add(child.evaluatedElement);
+            current = child;
+            index++;
+        }
+
+        for (; index < elements.size(); index++) {
+            evaluatedElements.add(PCMActionSequence.evaluateElement(variableContexts, elements.get(index), nodeCharacteristicsCalculator,
+                    dataCharacteristicsCalculatorFactory));
+        }
+        return new PCMActionSequence(evaluatedElements);
+    }
+
+    /**
+     * Node of the prefix tree, that holds one evaluated element of a sequence
+     */
+    private static class TreeNode {
+        private final AbstractActionSequenceElement<?> evaluatedElement;
+        private final Map<PCMElementKey, TreeNode> children;
+
+        public TreeNode(AbstractActionSequenceElement<?> evaluatedElement) {
+            this.evaluatedElement = evaluatedElement;
+            this.children = new HashMap<>();
+        }
+    }
+}
@@ -1,15 +1,11 @@
 package org.dataflowanalysis.analysis.pcm.core;
 
-import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
-import org.apache.log4j.Logger;
-import org.dataflowanalysis.analysis.core.CharacteristicValue;
+import org.dataflowanalysis.analysis.core.LabelSet;
 import org.dataflowanalysis.analysis.core.NodeCharacteristicsCalculator;
-import org.dataflowanalysis.analysis.pcm.utils.PCMQueryUtils;
 import org.dataflowanalysis.analysis.resource.ResourceProvider;
 import org.dataflowanalysis.pcm.extension.model.confidentiality.characteristics.EnumCharacteristic;
 import org.dataflowanalysis.pcm.extension.dictionary.characterized.DataDictionaryCharacterized.Literal;
@@ -39,8 +35,8 @@ import org.palladiosimulator.pcm.usagemodel.UsageScenario;
 import org.palladiosimulator.pcm.usagemodel.UsagemodelPackage;
 
 public class PCMNodeCharacteristicsCalculator implements NodeCharacteristicsCalculator {
-	private final Logger logger = Logger.getLogger(PCMNodeCharacteristicsCalculator.class);
     private final ResourceProvider resourceLoader;
+    private volatile PCMNodeCharacteristicsTable table;
     
     /**
      * Creates a new node characteristic calculator with the given node
@@ -51,120 +47,41 @@ public class PCMNodeCharacteristicsCalculator implements NodeCharacteristicsCalc
     }
 
 	@Override
-	public List<CharacteristicValue> getNodeCharacteristics(Entity node, Deque<AssemblyContext> context) {
-		Assignments assignments = this.resolveAssignments();
-		List<AbstractAssignee> assignees;
+	public LabelSet getNodeCharacteristics(Entity node, Deque<AssemblyContext> context) {
+		PCMNodeCharacteristicsTable table = this.getTable();
 		if (node instanceof AbstractUserAction) {
-			assignees = this.getUsage(node, assignments);
+			return table.getUsageCharacteristics(node);
 		} else if (node instanceof AbstractAction) {
-			assignees = this.getSEFF(assignments, context);
+			return table.getSEFFCharacteristics(context);
 		} else {
 			throw new IllegalArgumentException("Unknown assignee:" + node.toString());
 		}
-		List<EnumCharacteristic> enumCharacteristics = assignees.stream()
-			.flatMap(it -> it.getCharacteristics().stream())
-			.collect(Collectors.toList());		
-		
-		return enumCharacteristics.stream()
-				.flatMap(it -> it.getValues().stream().map(val -> new PCMCharacteristicValue(it.getType(), val)))
-				.collect(Collectors.toList());
-	}
-	
-	/**
-	 * Gets the assignees of a usage node
-	 * @param assignments Resolved assignment container
-	 * @return List of resolved assignees matching the node
-	 */
-	private List<AbstractAssignee> getUsage(Entity node, Assignments assignments) {
-		UsageScenario usageScenario = PCMQueryUtils.findParentOfType(node, UsageScenario.class, false).get();
-		return assignments.getAssignee().stream()
-			.filter(UsageAssignee.class::isInstance)
-			.map(UsageAssignee.class::cast)
-			.filter(it -> it.getUsagescenario().equals(usageScenario))
-			.collect(Collectors.toList());
-	}
-	
-	/**
-	 * Gets the assignees of a SEFF node
-	 * @param assignments Resolved assignment container
-	 * @param context Context of the SEFF node
-	 * @return List of resolved assignees matching the node
-	 */
-	private List<AbstractAssignee> getSEFF(Assignments assignments, Deque<AssemblyContext> context) {
-		List<AbstractAssignee> resolvedAssignees = new ArrayList<>();
-		var allocations = this.resourceLoader.lookupToplevelElement(AllocationPackage.eINSTANCE.getAllocation()).stream()
-    			.filter(Allocation.class::isInstance)
-    			.map(Allocation.class::cast)
-    			.collect(Collectors.toList());
-    	
-    	Optional<Allocation> allocation = allocations.stream()
-    			.filter(it -> it.getAllocationContexts_Allocation().stream()
-    							.map(alloc -> alloc.getAssemblyContext_AllocationContext())
-    							.anyMatch(context.getFirst()::equals))
-    			.findFirst();
-    	
-    	if (allocation.isEmpty()) {
-    		logger.error("Could not find fitting allocation for assembly context of SEFF Node");
-    		throw new IllegalStateException();
-    	}
-    	
-    	var allocationContexts = allocation.get().getAllocationContexts_Allocation();
-    	allocationContexts.stream()
-    		.filter(it -> context.contains(it.getAssemblyContext_AllocationContext()))
-    		.forEach(it -> {
-    			resolvedAssignees.addAll(getAllocation(assignments, it.getAssemblyContext_AllocationContext()));
-    			resolvedAssignees.addAll(getResource(assignments, it.getResourceContainer_AllocationContext()));
-    			if (it.getAssemblyContext_AllocationContext().getEncapsulatedComponent__AssemblyContext() instanceof CompositeComponent) {
-    				resolvedAssignees.addAll(getComposite(assignments, context, (CompositeComponent) it.getAssemblyContext_AllocationContext().getEncapsulatedComponent__AssemblyContext()));
-    			}
-    		});
-    	return resolvedAssignees;
-	}
-	
-	/**
-	 * Gets the assembly assignees of a aSEFF node
-	 * @param assignments Resolved assignment container
-	 * @param assemblyContext Given assembly context
-	 * @return List of resolved assignees matching the node
-	 */
-	private List<AbstractAssignee> getAllocation(Assignments assignments, AssemblyContext assemblyContext) {
-		return assignments.getAssignee().stream()
-				.filter(AssemblyAssignee.class::isInstance)
-				.map(AssemblyAssignee.class::cast)
-				.filter(it -> it.getAssemblycontext().equals(assemblyContext))
-				.collect(Collectors.toList());
-	}
-	
-	/**
-	 * Gets the resource assignees of a SEFF node
-	 * @param assignments Resolved assignment container
-	 * @param resourceContainer Given resource container
-	 * @return List of resolved assignees matching the node
-	 */
-	private List<AbstractAssignee> getResource(Assignments assignments, ResourceContainer resourceContainer) {
-		return assignments.getAssignee().stream()
-				.filter(ResourceAssignee.class::isInstance)
-				.map(ResourceAssignee.class::cast)
-				.filter(it -> it.getResourcecontainer().equals(resourceContainer))
-				.collect(Collectors.toList());
 	}
 	
 	/**
-	 * Gets the contained assembly assignees of a SEFF node in a composite component
-	 * @param assignments Resolved assignment container
-	 * @param context Context of the node
-	 * @param compositeComponent Given composite component
-	 * @return Returns the list of all contained assignees of a SEFF node inside a given composite component
+	 * Returns the lookup tables of the node characteristics model. The tables are compiled on first use
+	 * @return Compiled lookup tables of the node characteristics model
 	 */
-	private List<AbstractAssignee> getComposite(Assignments assignments, Deque<AssemblyContext> context, CompositeComponent compositeComponent) {
-		List<AbstractAssignee> evaluatedAssignees = new ArrayList<>();
-		List<AssemblyContext> assemblyContexts = compositeComponent.getAssemblyContexts__ComposedStructure();
-		for (AssemblyContext assemblyContext : assemblyContexts) {
-			if (context.contains(assemblyContext)) {
-				evaluatedAssignees.addAll(this.getAllocation(assignments, assemblyContext));
+	private PCMNodeCharacteristicsTable getTable() {
+		PCMNodeCharacteristicsTable table = this.table;
+		if (table != null) {
+			return table;
+		}
+		synchronized (this) {
+			if (this.table == null) {
+				List<Allocation> allocations = this.resourceLoader.lookupToplevelElement(AllocationPackage.eINSTANCE.getAllocation()).stream()
+		    			.filter(Allocation.class::isInstance)
+		    			.map(Allocation.class::cast)
+		    			.collect(Collectors.toList());
+				this.table = new PCMNodeCharacteristicsTable(this.resolveAssignments(), allocations, this.resourceLoader.getLabelUniverse());
 			}
+			return this.table;
 		}
-		return evaluatedAssignees;
+	}
+
+	@Override
+	public void invalidate() {
+		this.table = null;
 	}
 
 	/**
@@ -213,7 +130,7 @@ public class PCMNodeCharacteristicsCalculator implements NodeCharacteristicsCalc
 	 * @return Returns true, if the usage scenario could be found in the resources of the analysis. Otherwise, the method returns false.
 	 */
 	private boolean presentInUsageModel(UsageScenario usageScenario) {
-		List<UsageModel> usageModel = this.resourceLoader.lookupToplevelElement(UsagemodelPackage.eINSTANCE.getUsageModel()).parallelStream()
+		List<UsageModel> usageModel = this.resourceLoader.lookupToplevelElement(UsagemodelPackage.eINSTANCE.getUsageModel()).stream()
 				.filter(UsageModel.class::isInstance)
 				.map(UsageModel.class::cast)
 				.collect(Collectors.toList());
@@ -228,7 +145,7 @@ public class PCMNodeCharacteristicsCalculator implements NodeCharacteristicsCalc
 	 */
 	private boolean presentInResource(ResourceContainer resourceContainer) {
 		List<ResourceEnvironment> resourceEnvironments = 
-				this.resourceLoader.lookupToplevelElement(ResourceenvironmentPackage.eINSTANCE.getResourceEnvironment()).parallelStream()
+				this.resourceLoader.lookupToplevelElement(ResourceenvironmentPackage.eINSTANCE.getResourceEnvironment()).stream()
 				.filter(ResourceEnvironment.class::isInstance)
 				.map(ResourceEnvironment.class::cast)
 				.collect(Collectors.toList());
@@ -242,7 +159,7 @@ public class PCMNodeCharacteristicsCalculator implements NodeCharacteristicsCalc
 	 * @return Returns true, if the model object could be found in the resources of the analysis. Otherwise, the method returns false.
 	 */
 	private boolean presentInAssembly(AssemblyContext assemblyContext) {
-		List<System> systems = this.resourceLoader.lookupToplevelElement(SystemPackage.eINSTANCE.getSystem()).parallelStream()
+		List<System> systems = this.resourceLoader.lookupToplevelElement(SystemPackage.eINSTANCE.getSystem()).stream()
 				.filter(System.class::isInstance)
 				.map(System.class::cast)
 				.collect(Collectors.toList());
@@ -256,11 +173,11 @@ public class PCMNodeCharacteristicsCalculator implements NodeCharacteristicsCalc
 	 * @return Returns true, if the model object could be found in the resources of the analysis. Otherwise, the method returns false.
 	 */
 	private boolean presentInComposite(AssemblyContext assemblyContext) {
-		List<Repository> repositories = this.resourceLoader.lookupToplevelElement(RepositoryPackage.eINSTANCE.getRepository()).parallelStream()
+		List<Repository> repositories = this.resourceLoader.lookupToplevelElement(RepositoryPackage.eINSTANCE.getRepository()).stream()
 				.filter(Repository.class::isInstance)
 				.map(Repository.class::cast)
 				.collect(Collectors.toList());
-		List<CompositeComponent> compositeCompontents = repositories.parallelStream()
+		List<CompositeComponent> compositeCompontents = repositories.stream()
 				.flatMap(it -> it.getComponents__Repository().stream())
 				.filter(CompositeComponent.class::isInstance)
 				.map(CompositeComponent.class::cast)
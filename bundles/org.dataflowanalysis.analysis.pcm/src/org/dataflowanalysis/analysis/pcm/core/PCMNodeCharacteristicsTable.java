@@ -0,0 +1,144 @@
+package org.dataflowanalysis.analysis.pcm.core;
+
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.apache.log4j.Logger;
+import org.dataflowanalysis.analysis.core.LabelSet;
+import org.dataflowanalysis.analysis.core.LabelUniverse;
+import org.dataflowanalysis.analysis.pcm.utils.PCMQueryUtils;
+import org.dataflowanalysis.pcm.extension.model.confidentiality.characteristics.EnumCharacteristic;
+import org.dataflowanalysis.pcm.extension.nodecharacteristics.nodecharacteristics.AbstractAssignee;
+import org.dataflowanalysis.pcm.extension.nodecharacteristics.nodecharacteristics.AssemblyAssignee;
+import org.dataflowanalysis.pcm.extension.nodecharacteristics.nodecharacteristics.Assignments;
+import org.dataflowanalysis.pcm.extension.nodecharacteristics.nodecharacteristics.ResourceAssignee;
+import org.dataflowanalysis.pcm.extension.nodecharacteristics.nodecharacteristics.UsageAssignee;
+import org.palladiosimulator.pcm.allocation.Allocation;
+import org.palladiosimulator.pcm.allocation.AllocationContext;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.core.entity.Entity;
+import org.palladiosimulator.pcm.repository.CompositeComponent;
+import org.palladiosimulator.pcm.resourceenvironment.ResourceContainer;
+import org.palladiosimulator.pcm.usagemodel.UsageScenario;
+
+/**
+ * Lookup tables compiled once from the node characteristics model.
+ * The tables map usage scenarios, assembly contexts and resource containers to their assigned characteristic values.
+ * Resolved node characteristics are memoized per user action and per assembly context path of SEFF actions
+ */
+class PCMNodeCharacteristicsTable {
+	private final Logger logger = Logger.getLogger(PCMNodeCharacteristicsTable.class);
+	private final LabelSet emptyLabels;
+	private final Map<UsageScenario, LabelSet> usageLabels;
+	private final Map<AssemblyContext, LabelSet> assemblyLabels;
+	private final Map<ResourceContainer, LabelSet> resourceLabels;
+	private final Map<AssemblyContext, Allocation> allocationsByAssemblyContext;
+	private final Map<Entity, LabelSet> userActionLabels;
+	private final Map<List<AssemblyContext>, LabelSet> seffLabels;
+
+	/**
+	 * Compiles the given assignments and allocations into lookup tables
+	 * @param assignments Assignment container of the node characteristics model
+	 * @param allocations Loaded allocation models
+	 * @param labelUniverse Label universe used to create the label sets
+	 */
+	public PCMNodeCharacteristicsTable(Assignments assignments, List<Allocation> allocations, LabelUniverse labelUniverse) {
+		this.emptyLabels = LabelSet.empty(labelUniverse);
+		this.usageLabels = new HashMap<>();
+		this.assemblyLabels = new HashMap<>();
+		this.resourceLabels = new HashMap<>();
+		this.allocationsByAssemblyContext = new HashMap<>();
+		this.userActionLabels = new ConcurrentHashMap<>();
+		this.seffLabels = new ConcurrentHashMap<>();
+
+		for (AbstractAssignee assignee : assignments.getAssignee()) {
+			LabelSet labels = this.toLabelSet(assignee.getCharacteristics(), labelUniverse);
+			if (assignee instanceof UsageAssignee usageAssignee) {
+				this.usageLabels.merge(usageAssignee.getUsagescenario(), labels, LabelSet::union);
+			} else if (assignee instanceof AssemblyAssignee assemblyAssignee) {
+				this.assemblyLabels.merge(assemblyAssignee.getAssemblycontext(), labels, LabelSet::union);
+			} else if (assignee instanceof ResourceAssignee resourceAssignee) {
+				this.resourceLabels.merge(resourceAssignee.getResourcecontainer(), labels, LabelSet::union);
+			}
+		}
+		for (Allocation allocation : allocations) {
+			for (AllocationContext allocationContext : allocation.getAllocationContexts_Allocation()) {
+				this.allocationsByAssemblyContext.putIfAbsent(allocationContext.getAssemblyContext_AllocationContext(), allocation);
+			}
+		}
+	}
+
+	/**
+	 * Returns the node characteristics of a user action, which are assigned to its usage scenario
+	 * @param node User action of which the node characteristics are returned
+	 * @return Returns the label set of node characteristics of the user action
+	 */
+	public LabelSet getUsageCharacteristics(Entity node) {
+		return this.userActionLabels.computeIfAbsent(node, it -> {
+			UsageScenario usageScenario = PCMQueryUtils.findParentOfType(it, UsageScenario.class, false).get();
+			return this.usageLabels.getOrDefault(usageScenario, this.emptyLabels);
+		});
+	}
+
+	/**
+	 * Returns the node characteristics of a SEFF action with the given assembly context path
+	 * @param context Assembly context path of the SEFF action
+	 * @return Returns the label set of node characteristics of the SEFF action
+	 */
+	public LabelSet getSEFFCharacteristics(Deque<AssemblyContext> context) {
+		List<AssemblyContext> contextPath = List.copyOf(context);
+		LabelSet labels = this.seffLabels.get(contextPath);
+		if (labels == null) {
+			labels = this.resolveSEFFCharacteristics(context);
+			this.seffLabels.putIfAbsent(contextPath, labels);
+		}
+		return labels;
+	}
+
+	/**
+	 * Resolves the node characteristics of a SEFF action with the given assembly context path using the lookup tables
+	 * @param context Assembly context path of the SEFF action
+	 * @return Returns the label set of node characteristics of the SEFF action
+	 */
+	private LabelSet resolveSEFFCharacteristics(Deque<AssemblyContext> context) {
+		Allocation allocation = this.allocationsByAssemblyContext.get(context.getFirst());
+		if (allocation == null) {
+			logger.error("Could not find fitting allocation for assembly context of SEFF Node");
+			throw new IllegalStateException();
+		}
+
+		LabelSet labels = this.emptyLabels;
+		for (AllocationContext allocationContext : allocation.getAllocationContexts_Allocation()) {
+			AssemblyContext assemblyContext = allocationContext.getAssemblyContext_AllocationContext();
+			if (!context.contains(assemblyContext)) {
+				continue;
+			}
+			labels = labels.union(this.assemblyLabels.getOrDefault(assemblyContext, this.emptyLabels))
+				.union(this.resourceLabels.getOrDefault(allocationContext.getResourceContainer_AllocationContext(), this.emptyLabels));
+			if (assemblyContext.getEncapsulatedComponent__AssemblyContext() instanceof CompositeComponent compositeComponent) {
+				for (AssemblyContext containedContext : compositeComponent.getAssemblyContexts__ComposedStructure()) {
+					if (context.contains(containedContext)) {
+						labels = labels.union(this.assemblyLabels.getOrDefault(containedContext, this.emptyLabels));
+					}
+				}
+			}
+		}
+		return labels;
+	}
+
+	/**
+	 * Converts the given enum characteristics into a label set
+	 * @param characteristics Enum characteristics that are converted
+	 * @param labelUniverse Label universe used to create the label set
+	 * @return Returns the label set containing all values of the enum characteristics
+	 */
+	private LabelSet toLabelSet(List<EnumCharacteristic> characteristics, LabelUniverse labelUniverse) {
+		return labelUniverse.toLabelSet(characteristics.stream()
+			.flatMap(it -> it.getValues().stream().map(val -> new PCMCharacteristicValue(it.getType(), val)))
+			.collect(Collectors.toList()));
+	}
+}
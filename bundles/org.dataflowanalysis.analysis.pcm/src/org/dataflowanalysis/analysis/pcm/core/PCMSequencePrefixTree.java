@@ -0,0 +1,198 @@
+package org.dataflowanalysis.analysis.pcm.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.core.DataCharacteristicsCalculatorFactory;
+import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.NodeCharacteristicsCalculator;
+import org.dataflowanalysis.analysis.core.PersistentElementList;
+import org.dataflowanalysis.analysis.execution.AnalysisExecutor;
+
+/**
+ * Prefix tree of action sequences, that is used to evaluate the data flow of sequences with shared prefixes.
+ * Sequences found by the {@link PCMActionSequenceFinder} share the element instances of their common prefix.
+ * Each node of the tree corresponds to one of these element instances and is evaluated exactly once.
+ * The stack of variable contexts is only copied at nodes with more than one child
+ */
+public class PCMSequencePrefixTree {
+    private static final int SUBTREES_PER_WORKER = 4;
+
+    private final TreeNode root;
+    private final int sequenceCount;
+
+    /**
+     * Creates a new prefix tree containing the given sequences
+     * @param sequences Action sequences that are inserted into the tree
+     */
+    public PCMSequencePrefixTree(List<? extends ActionSequence> sequences) {
+        this.root = new TreeNode(null);
+        this.sequenceCount = sequences.size();
+        for (int index = 0; index < sequences.size(); index++) {
+            TreeNode current = this.root;
+            for (AbstractActionSequenceElement<?> element : sequences.get(index).getElements()) {
+                current = current.getOrCreateChild(element);
+            }
+            current.sequenceIndices.add(index);
+        }
+    }
+
+    /**
+     * Evaluates the data flow of all sequences in the tree in the calling thread
+     * @param nodeCharacteristicsCalculator Calculator used to calculate the node characteristics of the element
+     * @param dataCharacteristicsCalculatorFactory Calculators used to calculate the data characteristics of elements
+     * @return Returns the evaluated sequences in the order they were inserted into the tree
+     */
+    public List<ActionSequence> evaluateDataFlow(NodeCharacteristicsCalculator nodeCharacteristicsCalculator,
+            DataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory) {
+        return this.evaluateDataFlow(nodeCharacteristicsCalculator, dataCharacteristicsCalculatorFactory, AnalysisExecutor.sequential());
+    }
+
+    /**
+     * Evaluates the data flow of all sequences in the tree.
+     * The upper levels of the tree are evaluated in the calling thread until there are enough independent subtrees,
+     * which are then evaluated by the given executor
+     * @param nodeCharacteristicsCalculator Calculator used to calculate the node characteristics of the element
+     * @param dataCharacteristicsCalculatorFactory Calculators used to calculate the data characteristics of elements
+     * @param executor Executor that evaluates the independent subtrees
+     * @return Returns the evaluated sequences in the order they were inserted into the tree
+     */
+    public List<ActionSequence> evaluateDataFlow(NodeCharacteristicsCalculator nodeCharacteristicsCalculator,
+            DataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory, AnalysisExecutor executor) {
+        ActionSequence[] evaluatedSequences = new ActionSequence[this.sequenceCount];
+        PersistentElementList<AbstractActionSequenceElement<?>> emptyPath = PersistentElementList.empty();
+        this.storeSequences(this.root, emptyPath, evaluatedSequences);
+
+        Deque<PendingNode> subtrees = new ArrayDeque<>(this.getPendingChildren(this.root, emptyPath, PCMActionSequence.createVariableContexts()));
+        int targetSubtrees = executor.getParallelism() == 1 ? 1 : executor.getParallelism() * SUBTREES_PER_WORKER;
+        while (!subtrees.isEmpty() && subtrees.size() < targetSubtrees) {
+            subtrees.addAll(this.evaluateChain(subtrees.poll(), evaluatedSequences, nodeCharacteristicsCalculator,
+                    dataCharacteristicsCalculatorFactory));
+        }
+        executor.map(List.copyOf(subtrees), subtree -> {
+            this.evaluateSubtree(subtree, evaluatedSequences, nodeCharacteristicsCalculator, dataCharacteristicsCalculatorFactory);
+            return subtree;
+        });
+        return List.of(evaluatedSequences);
+    }
+
+    /**
+     * Evaluates the given node and all its descendants in the calling thread
+     * @param subtree Pending root node of the subtree
+     * @param evaluatedSequences Array in which the evaluated sequences are stored
+     * @param nodeCharacteristicsCalculator Calculator used to calculate the node characteristics of the element
+     * @param dataCharacteristicsCalculatorFactory Calculators used to calculate the data characteristics of elements
+     */
+    private void evaluateSubtree(PendingNode subtree, ActionSequence[] evaluatedSequences,
+            NodeCharacteristicsCalculator nodeCharacteristicsCalculator, DataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory) {
+        Deque<PendingNode> pendingNodes = new ArrayDeque<>();
+        pendingNodes.push(subtree);
+        while (!pendingNodes.isEmpty()) {
+            this.evaluateChain(pendingNodes.pop(), evaluatedSequences, nodeCharacteristicsCalculator, dataCharacteristicsCalculatorFactory)
+                .forEach(pendingNodes::push);
+        }
+    }
+
+    /**
+     * Evaluates the given node and the chain of nodes with a single child following it with the same stack of variable contexts
+     * @param pendingNode Pending node of the tree that is evaluated. The stack of variable contexts is owned by this call
+     * @param evaluatedSequences Array in which the evaluated sequences are stored
+     * @param nodeCharacteristicsCalculator Calculator used to calculate the node characteristics of the element
+     * @param dataCharacteristicsCalculatorFactory Calculators used to calculate the data characteristics of elements
+     * @return Returns the pending children of the last node of the chain
+     */
+    private List<PendingNode> evaluateChain(PendingNode pendingNode, ActionSequence[] evaluatedSequences,
+            NodeCharacteristicsCalculator nodeCharacteristicsCalculator, DataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory) {
+        TreeNode current = pendingNode.node();
+        Deque<List<DataFlowVariable>> variableContexts = pendingNode.variableContexts();
+        PersistentElementList<AbstractActionSequenceElement<?>> evaluatedPath = pendingNode.evaluatedPrefix();
+        while (true) {
+            AbstractActionSequenceElement<?> evaluatedElement = PCMActionSequence.evaluateElement(variableContexts, current.element,
+                    nodeCharacteristicsCalculator, dataCharacteristicsCalculatorFactory);
+            evaluatedPath = evaluatedPath.append(evaluatedElement);
+            this.storeSequences(current, evaluatedPath, evaluatedSequences);
+            if (current.children.size() != 1) {
+                break;
+            }
+            current = current.children.get(0);
+        }
+        return this.getPendingChildren(current, evaluatedPath, variableContexts);
+    }
+
+    /**
+     * Creates the pending children of an evaluated node with a separate copy of the stack of variable contexts for each child
+     * @param node Node of the tree that has been evaluated
+     * @param evaluatedPath Evaluated elements of the path to the node
+     * @param variableContexts Stack of variable contexts after evaluating the node
+     * @return Returns the pending children of the node
+     */
+    private List<PendingNode> getPendingChildren(TreeNode node, PersistentElementList<AbstractActionSequenceElement<?>> evaluatedPath,
+            Deque<List<DataFlowVariable>> variableContexts) {
+        List<PendingNode> pendingChildren = new ArrayList<>(node.children.size());
+        for (TreeNode child : node.children) {
+            pendingChildren.add(new PendingNode(child, evaluatedPath, new ArrayDeque<>(variableContexts)));
+        }
+        return pendingChildren;
+    }
+
+    /**
+     * Stores the evaluated sequences that end at the given node
+     * @param node Node of the tree that has been evaluated
+     * @param evaluatedPath Evaluated elements of the path to the node
+     * @param evaluatedSequences Array in which the evaluated sequences are stored
+     */
+    private void storeSequences(TreeNode node, PersistentElementList<AbstractActionSequenceElement<?>> evaluatedPath,
+            ActionSequence[] evaluatedSequences) {
+        if (node.sequenceIndices.isEmpty()) {
+            return;
+        }
+        PCMActionSequence evaluatedSequence = new PCMActionSequence(evaluatedPath);
+        node.sequenceIndices.forEach(index -> evaluatedSequences[index] = evaluatedSequence);
+    }
+
+    /**
+     * Node of the tree, whose parent has been evaluated
+     * @param node Node of the tree that is not yet evaluated
+     * @param evaluatedPrefix Evaluated elements of the path to the parent of the node
+     * @param variableContexts Stack of variable contexts after evaluating the parent of the node
+     */
+    private record PendingNode(TreeNode node, PersistentElementList<AbstractActionSequenceElement<?>> evaluatedPrefix,
+            Deque<List<DataFlowVariable>> variableContexts) {
+    }
+
+    /**
+     * Node of the prefix tree, that holds one element of a sequence
+     */
+    private static class TreeNode {
+        private final AbstractActionSequenceElement<?> element;
+        private final List<TreeNode> children;
+        private final Map<AbstractActionSequenceElement<?>, TreeNode> childrenByElement;
+        private final List<Integer> sequenceIndices;
+
+        public TreeNode(AbstractActionSequenceElement<?> element) {
+            this.element = element;
+            this.children = new ArrayList<>();
+            this.childrenByElement = new IdentityHashMap<>();
+            this.sequenceIndices = new ArrayList<>();
+        }
+
+        /**
+         * Returns the child of the node holding the given element instance, or creates it if it does not exist
+         * @param element Element instance of the child
+         * @return Returns the child node holding the element
+         */
+        public TreeNode getOrCreateChild(AbstractActionSequenceElement<?> element) {
+            return this.childrenByElement.computeIfAbsent(element, it -> {
+                TreeNode child = new TreeNode(it);
+                this.children.add(child);
+                return child;
+            });
+        }
+    }
+}
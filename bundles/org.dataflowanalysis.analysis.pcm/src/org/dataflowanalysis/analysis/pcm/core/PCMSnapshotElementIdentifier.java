@@ -0,0 +1,38 @@
+package org.dataflowanalysis.analysis.pcm.core;
+
+import java.util.List;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.snapshot.SnapshotElementIdentifier;
+import org.palladiosimulator.pcm.core.entity.Entity;
+
+/**
+ * Identifies PCM elements in snapshots by the id of their Palladio element and the ids of their stack of assembly contexts
+ */
+public class PCMSnapshotElementIdentifier implements SnapshotElementIdentifier {
+
+    @Override
+    public String getElementId(AbstractActionSequenceElement<?> element) {
+        return this.getPCMElement(element).getElement().getId();
+    }
+
+    @Override
+    public List<String> getContextIds(AbstractActionSequenceElement<?> element) {
+        return this.getPCMElement(element).getContext().stream()
+            .map(Entity::getId)
+            .toList();
+    }
+
+    /**
+     * Casts the given element to a PCM element
+     * @param element Element of a PCM sequence
+     * @return Returns the PCM element
+     * @throws IllegalArgumentException if the element is not a PCM element
+     */
+    private AbstractPCMActionSequenceElement<?> getPCMElement(AbstractActionSequenceElement<?> element) {
+        if (!(element instanceof AbstractPCMActionSequenceElement<?>)) {
+            throw new IllegalArgumentException("Unexpected action sequence element that is not a PCM element: " + element);
+        }
+        return (AbstractPCMActionSequenceElement<?>) element;
+    }
+}
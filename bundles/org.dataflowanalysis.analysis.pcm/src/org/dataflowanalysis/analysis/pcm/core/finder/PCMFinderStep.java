@@ -0,0 +1,226 @@
+package org.dataflowanalysis.analysis.pcm.core.finder;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.dataflowanalysis.analysis.execution.AnalysisExecutor;
+import org.dataflowanalysis.analysis.pcm.core.PCMActionSequence;
+
+/**
+ * Result of a single step of the PCM sequence finder.
+ * A step either completes a sequence or forks the search into several continuations, e.g. at branches.
+ * Continuations are only evaluated when the next sequence is requested, so that sequences are found lazily and depth-first
+ */
+public final class PCMFinderStep {
+    private static final PCMFinderStep NONE = new PCMFinderStep(null, List.of());
+    private static final int TASKS_PER_WORKER = 4;
+    private static final int MAX_SPLIT_DEPTH = 16;
+
+    private final PCMActionSequence sequence;
+    private final List<Supplier<PCMFinderStep>> continuations;
+
+    private PCMFinderStep(PCMActionSequence sequence, List<Supplier<PCMFinderStep>> continuations) {
+        this.sequence = sequence;
+        this.continuations = continuations;
+    }
+
+    /**
+     * Creates a step that completes the given sequence
+     * @param sequence Sequence that has been found completely
+     * @return Returns a finder step for the completed sequence
+     */
+    public static PCMFinderStep of(PCMActionSequence sequence) {
+        return new PCMFinderStep(sequence, List.of());
+    }
+
+    /**
+     * Creates a step that continues the search with each of the given continuations in order
+     * @param continuations Continuations of the search
+     * @return Returns a finder step that forks the search
+     */
+    public static PCMFinderStep fork(List<Supplier<PCMFinderStep>> continuations) {
+        return new PCMFinderStep(null, List.copyOf(continuations));
+    }
+
+    /**
+     * Returns a step that does neither complete a sequence nor continue the search
+     * @return Returns an empty finder step
+     */
+    public static PCMFinderStep none() {
+        return NONE;
+    }
+
+    /**
+     * Creates a lazy stream of all sequences found, starting with the given step.
+     * Pending continuations are kept on a stack, therefore the memory required is bounded by depth and branching of the paths
+     * and not by the number of found sequences
+     * @param initialStep Initial step of the finder
+     * @return Returns a sequential, ordered stream of all found sequences
+     */
+    public static Stream<PCMActionSequence> stream(Supplier<PCMFinderStep> initialStep) {
+        return StreamSupport.stream(new FinderSpliterator(initialStep), false);
+    }
+
+    /**
+     * Finds all sequences starting with the given step, exploring independent alternatives in parallel.
+     * If the executor is backed by a fork-join pool, each fork, e.g. of usage scenarios and branches, is explored by a recursive task that forks
+     * a subtask for each continuation. Below {@link #MAX_SPLIT_DEPTH} nested forks, a task explores its continuations sequentially.
+     * Other executors cannot run forking tasks, therefore the first levels of forks are expanded in the calling thread
+     * until there are enough tasks for the executor and each task is explored sequentially by the executor
+     * @param initialStep Initial step of the finder
+     * @param executor Executor that explores the tasks
+     * @return Returns all found sequences in the same order as {@link #stream(Supplier)}
+     */
+    public static List<PCMActionSequence> collect(Supplier<PCMFinderStep> initialStep, AnalysisExecutor executor) {
+        if (executor.getParallelism() == 1) {
+            return stream(initialStep).toList();
+        }
+        Optional<ForkJoinPool> pool = executor.getForkJoinPool();
+        if (pool.isPresent()) {
+            return pool.get()
+                .invoke(new FinderTask(initialStep, MAX_SPLIT_DEPTH));
+        }
+        return collectSplit(initialStep, executor);
+    }
+
+    /**
+     * Finds all sequences starting with the given step by expanding the first levels of forks in the calling thread
+     * and exploring the remaining depth of each continuation sequentially with the executor
+     * @param initialStep Initial step of the finder
+     * @param executor Executor that explores the continuations
+     * @return Returns all found sequences in the same order as {@link #stream(Supplier)}
+     */
+    private static List<PCMActionSequence> collectSplit(Supplier<PCMFinderStep> initialStep, AnalysisExecutor executor) {
+        int targetTasks = executor.getParallelism() * TASKS_PER_WORKER;
+        List<SplitTask> tasks = List.of(new SplitTask(null, initialStep));
+        boolean pendingTasks = true;
+        for (int depth = 0; pendingTasks && depth < MAX_SPLIT_DEPTH && tasks.size() < targetTasks; depth++) {
+            List<SplitTask> expandedTasks = new ArrayList<>();
+            pendingTasks = false;
+            for (SplitTask task : tasks) {
+                if (task.sequence() != null) {
+                    expandedTasks.add(task);
+                    continue;
+                }
+                PCMFinderStep step = task.continuation().get();
+                if (step.sequence != null) {
+                    expandedTasks.add(new SplitTask(step.sequence, null));
+                }
+                for (Supplier<PCMFinderStep> continuation : step.continuations) {
+                    expandedTasks.add(new SplitTask(null, continuation));
+                    pendingTasks = true;
+                }
+            }
+            tasks = expandedTasks;
+        }
+
+        List<List<PCMActionSequence>> sequencesOfTasks = executor.map(tasks, task -> task.sequence() != null 
+                ? List.of(task.sequence()) 
+                : stream(task.continuation()).toList());
+        List<PCMActionSequence> sequences = new ArrayList<>();
+        sequencesOfTasks.forEach(sequences::addAll);
+        return sequences;
+    }
+
+    /**
+     * Task of the split exploration, that either holds a found sequence or a continuation that has not been explored
+     * @param sequence Found sequence, or null if the task is pending
+     * @param continuation Continuation of the search, or null if the task holds a sequence
+     */
+    private record SplitTask(PCMActionSequence sequence, Supplier<PCMFinderStep> continuation) {
+    }
+
+    /**
+     * Recursive task that explores a continuation and forks a subtask for each of its continuations,
+     * until the remaining depth is exhausted and the continuations are explored sequentially
+     */
+    private static class FinderTask extends RecursiveTask<List<PCMActionSequence>> {
+        private static final long serialVersionUID = 1L;
+
+        private final transient Supplier<PCMFinderStep> continuation;
+        private final int remainingDepth;
+
+        /**
+         * Creates a new task exploring the given continuation
+         * @param continuation Continuation of the search
+         * @param remainingDepth Number of nested forks, that may still be explored by subtasks
+         */
+        public FinderTask(Supplier<PCMFinderStep> continuation, int remainingDepth) {
+            this.continuation = continuation;
+            this.remainingDepth = remainingDepth;
+        }
+
+        @Override
+        protected List<PCMActionSequence> compute() {
+            if (this.remainingDepth == 0) {
+                return stream(this.continuation).toList();
+            }
+            PCMFinderStep step = this.continuation.get();
+            while (step.sequence == null && step.continuations.size() == 1) {
+                step = step.continuations.get(0)
+                    .get();
+            }
+            if (step.sequence != null) {
+                return List.of(step.sequence);
+            }
+
+            List<FinderTask> subtasks = step.continuations.stream()
+                .map(it -> new FinderTask(it, this.remainingDepth - 1))
+                .toList();
+            if (subtasks.isEmpty()) {
+                return List.of();
+            }
+            for (int i = subtasks.size() - 1; i > 0; i--) {
+                subtasks.get(i)
+                    .fork();
+            }
+            List<PCMActionSequence> sequences = new ArrayList<>(subtasks.get(0)
+                .compute());
+            for (int i = 1; i < subtasks.size(); i++) {
+                sequences.addAll(subtasks.get(i)
+                    .join());
+            }
+            return sequences;
+        }
+    }
+
+    /**
+     * Spliterator that evaluates the continuations of finder steps depth-first
+     */
+    private static class FinderSpliterator extends Spliterators.AbstractSpliterator<PCMActionSequence> {
+        private final Deque<Supplier<PCMFinderStep>> pendingSteps;
+
+        public FinderSpliterator(Supplier<PCMFinderStep> initialStep) {
+            super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+            this.pendingSteps = new ArrayDeque<>();
+            this.pendingSteps.push(initialStep);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super PCMActionSequence> action) {
+            while (!this.pendingSteps.isEmpty()) {
+                PCMFinderStep step = this.pendingSteps.pop()
+                    .get();
+                if (step.sequence != null) {
+                    action.accept(step.sequence);
+                    return true;
+                }
+                for (int i = step.continuations.size() - 1; i >= 0; i--) {
+                    this.pendingSteps.push(step.continuations.get(i));
+                }
+            }
+            return false;
+        }
+    }
+}
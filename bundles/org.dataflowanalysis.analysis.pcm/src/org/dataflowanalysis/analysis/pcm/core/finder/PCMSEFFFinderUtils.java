@@ -2,6 +2,7 @@ package org.dataflowanalysis.analysis.pcm.core.finder;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.apache.log4j.Logger;
 import org.dataflowanalysis.analysis.pcm.core.AbstractPCMActionSequenceElement;
@@ -25,7 +26,7 @@ import org.palladiosimulator.pcm.seff.StopAction;
 public class PCMSEFFFinderUtils {
 	private static final Logger logger = Logger.getLogger(PCMSEFFFinderUtils.class);
 	
-	public static List<PCMActionSequence> findSequencesForSEFFAction(AbstractAction currentAction, SEFFFinderContext context,
+	public static PCMFinderStep findSequencesForSEFFAction(AbstractAction currentAction, SEFFFinderContext context,
             PCMActionSequence previousSequence) {
 
         if (currentAction instanceof StartAction) {
@@ -51,13 +52,13 @@ public class PCMSEFFFinderUtils {
         }
     }
 
-    private static List<PCMActionSequence> findSequencesForSEFFStartAction(StartAction currentAction, SEFFFinderContext context, PCMActionSequence previousSequence) {
+    private static PCMFinderStep findSequencesForSEFFStartAction(StartAction currentAction, SEFFFinderContext context, PCMActionSequence previousSequence) {
     	var startElement = new SEFFActionSequenceElement<StartAction>(currentAction, context.getContext(), context.getParameter());
         var currentSequence = new PCMActionSequence(previousSequence, startElement);
         return findSequencesForSEFFAction(currentAction.getSuccessor_AbstractAction(), context, currentSequence);
     }
 
-    private static List<PCMActionSequence> findSequencesForSEFFStopAction(StopAction currentAction, SEFFFinderContext context, PCMActionSequence previousSequence) {
+    private static PCMFinderStep findSequencesForSEFFStopAction(StopAction currentAction, SEFFFinderContext context, PCMActionSequence previousSequence) {
     	var stopElement = new SEFFActionSequenceElement<StopAction>(currentAction, context.getContext(), context.getParameter());
         var currentSequence = new PCMActionSequence(previousSequence, stopElement);
     	
@@ -73,7 +74,7 @@ public class PCMSEFFFinderUtils {
         }
     }
 
-    private static List<PCMActionSequence> findSequencesForSEFFExternalCallAction(ExternalCallAction currentAction, SEFFFinderContext context,
+    private static PCMFinderStep findSequencesForSEFFExternalCallAction(ExternalCallAction currentAction, SEFFFinderContext context,
             PCMActionSequence previousSequence) {
 
         var callingEntity = new CallingSEFFActionSequenceElement(currentAction, context.getContext(), context.getParameter(), true);
@@ -81,10 +82,10 @@ public class PCMSEFFFinderUtils {
 
         OperationRequiredRole calledRole = currentAction.getRole_ExternalService();
         OperationSignature calledSignature = currentAction.getCalledService_ExternalService();
-        Optional<SEFFWithContext> calledSEFF = PCMQueryUtils.findCalledSEFF(calledRole, calledSignature, context.getContext());
+        Optional<SEFFWithContext> calledSEFF = PCMQueryUtils.findCalledSEFF(calledRole, calledSignature, context.getContext(), context.getResolutionCache());
 
         if (calledSEFF.isEmpty()) {
-            return List.of(previousSequence);
+            return PCMFinderStep.of(previousSequence);
         } else {
             Optional<StartAction> SEFFStartAction = PCMQueryUtils.getFirstStartActionInActionList(calledSEFF.get()
                 .seff()
@@ -103,7 +104,7 @@ public class PCMSEFFFinderUtils {
 
     }
 
-    private static List<PCMActionSequence> findSequencesForSEFFSetVariableAction(SetVariableAction currentAction,
+    private static PCMFinderStep findSequencesForSEFFSetVariableAction(SetVariableAction currentAction,
             SEFFFinderContext context,
             PCMActionSequence previousSequence) {
 
@@ -114,22 +115,25 @@ public class PCMSEFFFinderUtils {
                 currentActionSequence);
     }
 
-    private static List<PCMActionSequence> findSequencesForSEFFBranchAction(BranchAction currentAction,
+    private static PCMFinderStep findSequencesForSEFFBranchAction(BranchAction currentAction,
             SEFFFinderContext context,
             PCMActionSequence previousSequence) {
 
-        return currentAction.getBranches_Branch()
+        List<Supplier<PCMFinderStep>> continuations = currentAction.getBranches_Branch()
             .stream()
             .map(AbstractBranchTransition::getBranchBehaviour_BranchTransition)
             .map(ResourceDemandingBehaviour::getSteps_Behaviour)
             .map(PCMQueryUtils::getFirstStartActionInActionList)
             .flatMap(Optional::stream)
-            .map(it -> findSequencesForSEFFAction(it, new SEFFFinderContext(context), previousSequence))
-            .flatMap(List::stream)
+            .<Supplier<PCMFinderStep>>map(it -> {
+            	SEFFFinderContext branchContext = new SEFFFinderContext(context);
+            	return () -> findSequencesForSEFFAction(it, branchContext, previousSequence);
+            })
             .toList();
+        return PCMFinderStep.fork(continuations);
     }
 
-    private static List<PCMActionSequence> findSequencesForSEFFActionReturning(ExternalCallAction currentAction,
+    private static PCMFinderStep findSequencesForSEFFActionReturning(ExternalCallAction currentAction,
             SEFFFinderContext context,
             PCMActionSequence previousSequence) {
         PCMActionSequence currentActionSequence = new PCMActionSequence(previousSequence,
@@ -138,7 +142,7 @@ public class PCMSEFFFinderUtils {
                 currentActionSequence);
     }
 
-    public static List<PCMActionSequence> returnToCaller(AbstractPCMActionSequenceElement<?> caller,
+    public static PCMFinderStep returnToCaller(AbstractPCMActionSequenceElement<?> caller,
             SEFFFinderContext context, PCMActionSequence previousSequence) {
 
         if (caller instanceof CallingUserActionSequenceElement) {
@@ -154,16 +158,16 @@ public class PCMSEFFFinderUtils {
         }
     }
 
-    private static List<PCMActionSequence> returnToUserCaller(CallingUserActionSequenceElement caller,
+    private static PCMFinderStep returnToUserCaller(CallingUserActionSequenceElement caller,
             SEFFFinderContext context, PCMActionSequence previousSequence) {
         if (!context.getCallers().isEmpty()) {
             throw new IllegalStateException("Illegal state in action sequence finder.");
         } else {
-            return PCMUserFinderUtils.findSequencesForUserActionReturning(caller.getElement(), previousSequence);
+            return PCMUserFinderUtils.findSequencesForUserActionReturning(caller.getElement(), previousSequence, context.getResolutionCache());
         }
     }
 
-    private static List<PCMActionSequence> returnToSEFFCaller(CallingSEFFActionSequenceElement caller,
+    private static PCMFinderStep returnToSEFFCaller(CallingSEFFActionSequenceElement caller,
             SEFFFinderContext context, PCMActionSequence previousSequence) {
     	context.updateSEFFContext(caller.getContext());
         return findSequencesForSEFFActionReturning(caller.getElement(), context, previousSequence);
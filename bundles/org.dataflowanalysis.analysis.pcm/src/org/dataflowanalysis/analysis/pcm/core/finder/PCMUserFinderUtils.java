@@ -1,10 +1,10 @@
 package org.dataflowanalysis.analysis.pcm.core.finder;
 
 import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.apache.log4j.Logger;
 import org.dataflowanalysis.analysis.pcm.core.AbstractPCMActionSequenceElement;
@@ -12,6 +12,7 @@ import org.dataflowanalysis.analysis.pcm.core.PCMActionSequence;
 import org.dataflowanalysis.analysis.pcm.core.user.CallingUserActionSequenceElement;
 import org.dataflowanalysis.analysis.pcm.core.user.UserActionSequenceElement;
 import org.dataflowanalysis.analysis.pcm.utils.PCMQueryUtils;
+import org.dataflowanalysis.analysis.pcm.utils.SEFFResolutionCache;
 import org.dataflowanalysis.analysis.pcm.utils.SEFFWithContext;
 import org.palladiosimulator.pcm.repository.OperationProvidedRole;
 import org.palladiosimulator.pcm.repository.OperationSignature;
@@ -30,71 +31,74 @@ public class PCMUserFinderUtils {
 		// Utility class
 	}
 	
-	public static List<PCMActionSequence> findSequencesForUserAction(AbstractUserAction currentAction, PCMActionSequence previousSequence) {
+	public static PCMFinderStep findSequencesForUserAction(AbstractUserAction currentAction, PCMActionSequence previousSequence, 
+			SEFFResolutionCache resolutionCache) {
         if (currentAction instanceof Start) {
-            return findSequencesForUserStartAction((Start) currentAction, previousSequence);
+            return findSequencesForUserStartAction((Start) currentAction, previousSequence, resolutionCache);
 
         } else if (currentAction instanceof Stop) {
-            return findSequencesForUserStopAction((Stop) currentAction, previousSequence);
+            return findSequencesForUserStopAction((Stop) currentAction, previousSequence, resolutionCache);
 
         } else if (currentAction instanceof Branch) {
-            return findSequencesForUserBranchAction((Branch) currentAction, previousSequence);
+            return findSequencesForUserBranchAction((Branch) currentAction, previousSequence, resolutionCache);
 
         } else if (currentAction instanceof EntryLevelSystemCall) {
-            return findSequencesForEntryLevelSystemCall((EntryLevelSystemCall) currentAction, previousSequence);
+            return findSequencesForEntryLevelSystemCall((EntryLevelSystemCall) currentAction, previousSequence, resolutionCache);
 
         } else {
         	// default case: skip action and continue with successor
         	logger.info(String.format("Action %s has unsupported type of %s and is skipped.", 
         			currentAction.getId(), currentAction.getClass().getName()));
-        	return findSequencesForUserAction(currentAction.getSuccessor(), previousSequence);
+        	return findSequencesForUserAction(currentAction.getSuccessor(), previousSequence, resolutionCache);
         }
     }
 
-    private static List<PCMActionSequence> findSequencesForUserStartAction(Start currentAction,
-            PCMActionSequence previousSequence) {
+    private static PCMFinderStep findSequencesForUserStartAction(Start currentAction,
+            PCMActionSequence previousSequence, SEFFResolutionCache resolutionCache) {
     	var startElement = new UserActionSequenceElement<Start>(currentAction);
         var currentSequence = new PCMActionSequence(previousSequence, startElement);
-        return findSequencesForUserAction(currentAction.getSuccessor(), currentSequence);
+        return findSequencesForUserAction(currentAction.getSuccessor(), currentSequence, resolutionCache);
     }
 
-    private static List<PCMActionSequence> findSequencesForUserStopAction(Stop currentAction,
-            PCMActionSequence previousSequence) {
+    private static PCMFinderStep findSequencesForUserStopAction(Stop currentAction,
+            PCMActionSequence previousSequence, SEFFResolutionCache resolutionCache) {
     	var stopElement = new UserActionSequenceElement<Stop>(currentAction);
         var currentSequence = new PCMActionSequence(previousSequence, stopElement);
     	
         Optional<AbstractUserAction> parentAction = PCMQueryUtils.findParentOfType(currentAction,
                 AbstractUserAction.class, false);
         if (parentAction.isEmpty()) {
-            return List.of(currentSequence);
+            return PCMFinderStep.of(currentSequence);
         } else {
             return findSequencesForUserAction(parentAction.get()
-                .getSuccessor(), currentSequence);
+                .getSuccessor(), currentSequence, resolutionCache);
         }
     }
 
-    private static List<PCMActionSequence> findSequencesForUserBranchAction(Branch currentAction, PCMActionSequence previousSequence) {
-        return currentAction.getBranchTransitions_Branch()
+    private static PCMFinderStep findSequencesForUserBranchAction(Branch currentAction, PCMActionSequence previousSequence, 
+    		SEFFResolutionCache resolutionCache) {
+        List<Supplier<PCMFinderStep>> continuations = currentAction.getBranchTransitions_Branch()
             .stream()
             .map(BranchTransition::getBranchedBehaviour_BranchTransition)
             .map(PCMQueryUtils::getStartActionOfScenarioBehavior)
             .flatMap(Optional::stream)
-            .map(it -> findSequencesForUserAction(it, previousSequence))
-            .flatMap(List::stream)
+            .<Supplier<PCMFinderStep>>map(it -> () -> findSequencesForUserAction(it, previousSequence, resolutionCache))
             .toList();
+        return PCMFinderStep.fork(continuations);
     }
 
-    private static List<PCMActionSequence> findSequencesForEntryLevelSystemCall(EntryLevelSystemCall currentAction, PCMActionSequence previousSequence) {
+    private static PCMFinderStep findSequencesForEntryLevelSystemCall(EntryLevelSystemCall currentAction, PCMActionSequence previousSequence, 
+    		SEFFResolutionCache resolutionCache) {
         var callingEntity = new CallingUserActionSequenceElement(currentAction, true);
         PCMActionSequence currentActionSequence = new PCMActionSequence(previousSequence, callingEntity);
 
         OperationProvidedRole calledRole = currentAction.getProvidedRole_EntryLevelSystemCall();
         OperationSignature calledSignature = currentAction.getOperationSignature__EntryLevelSystemCall();
         Optional<SEFFWithContext> calledSEFF = PCMQueryUtils.findCalledSEFF(calledRole, calledSignature,
-                new ArrayDeque<>());
+                new ArrayDeque<>(), resolutionCache);
 
         if (calledSEFF.isEmpty()) {
-            return new ArrayList<PCMActionSequence>();
+            return PCMFinderStep.none();
         } else {
             Optional<StartAction> SEFFStartAction = PCMQueryUtils.getFirstStartActionInActionList(calledSEFF.get()
                 .seff()
@@ -106,15 +110,17 @@ public class PCMUserFinderUtils {
                 Deque<AbstractPCMActionSequenceElement<?>> callers = new ArrayDeque<>();
                 callers.add(callingEntity);
 
-                SEFFFinderContext finderContext = new SEFFFinderContext(calledSEFF.get().context(), callers, calledSignature.getParameters__OperationSignature());
+                SEFFFinderContext finderContext = new SEFFFinderContext(calledSEFF.get().context(), callers, calledSignature.getParameters__OperationSignature(), 
+                		resolutionCache);
                 return PCMSEFFFinderUtils.findSequencesForSEFFAction(SEFFStartAction.get(), finderContext ,currentActionSequence);
             }
         }
     }
 
-    public static List<PCMActionSequence> findSequencesForUserActionReturning(EntryLevelSystemCall currentAction, PCMActionSequence previousSequence) {
+    public static PCMFinderStep findSequencesForUserActionReturning(EntryLevelSystemCall currentAction, PCMActionSequence previousSequence, 
+    		SEFFResolutionCache resolutionCache) {
         PCMActionSequence currentActionSequence = new PCMActionSequence(previousSequence,
                 new CallingUserActionSequenceElement(currentAction, false));
-        return findSequencesForUserAction(currentAction.getSuccessor(), currentActionSequence);
+        return findSequencesForUserAction(currentAction.getSuccessor(), currentActionSequence, resolutionCache);
     }
 }
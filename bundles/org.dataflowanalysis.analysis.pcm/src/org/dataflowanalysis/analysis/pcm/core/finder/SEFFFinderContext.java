@@ -8,6 +8,7 @@ import java.util.List;
 import org.dataflowanalysis.analysis.pcm.core.user.CallingUserActionSequenceElement;
 import org.dataflowanalysis.analysis.pcm.core.AbstractPCMActionSequenceElement;
 import org.dataflowanalysis.analysis.pcm.core.seff.CallingSEFFActionSequenceElement;
+import org.dataflowanalysis.analysis.pcm.utils.SEFFResolutionCache;
 import org.palladiosimulator.pcm.core.composition.AssemblyContext;
 import org.palladiosimulator.pcm.repository.Parameter;
 
@@ -15,6 +16,7 @@ public class SEFFFinderContext {
     private Deque<AssemblyContext> context;
     private Deque<AbstractPCMActionSequenceElement<?>> callers;
     private List<Parameter> parameter;
+    private final SEFFResolutionCache resolutionCache;
     
     /**
      * Initializes a new SEFF Finder context with the given assembly context, Collection of callers, List of available parameter, and all discovered data stores
@@ -22,11 +24,14 @@ public class SEFFFinderContext {
      * @param callers List of callers that called the SEFF element
      * @param parameter List of parameters present at the SEFF element
      * @param dataStores List of data stores that were discovered while finding sequences
+     * @param resolutionCache Cache of the resolved SEFFs, that is used to resolve calls
      */
-    public SEFFFinderContext(Deque<AssemblyContext> context, Deque<AbstractPCMActionSequenceElement<?>> callers, List<Parameter> parameter) {
+    public SEFFFinderContext(Deque<AssemblyContext> context, Deque<AbstractPCMActionSequenceElement<?>> callers, List<Parameter> parameter, 
+    		SEFFResolutionCache resolutionCache) {
     	this.context = context;
     	this.callers = callers;
     	this.parameter = parameter;
+    	this.resolutionCache = resolutionCache;
 	}
     
     /**
@@ -37,6 +42,7 @@ public class SEFFFinderContext {
     	this.context = new ArrayDeque<>(context.getContext());
     	this.callers = new ArrayDeque<>(context.getCallers());
     	this.parameter = new ArrayList<>(context.getParameter());
+    	this.resolutionCache = context.getResolutionCache();
     }
     
     /**
@@ -107,4 +113,12 @@ public class SEFFFinderContext {
     public List<Parameter> getParameter() {
 		return parameter;
 	}
+    
+    /**
+     * Returns the cache of the resolved SEFFs, that is used to resolve calls
+     * @return Returns the resolution cache of the finder
+     */
+    public SEFFResolutionCache getResolutionCache() {
+    	return resolutionCache;
+    }
 }
@@ -7,9 +7,9 @@ import java.util.Optional;
 
 import org.apache.log4j.Logger;
 import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
-import org.dataflowanalysis.analysis.core.CharacteristicValue;
 import org.dataflowanalysis.analysis.core.DataCharacteristicsCalculatorFactory;
 import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.LabelSet;
 import org.dataflowanalysis.analysis.core.NodeCharacteristicsCalculator;
 import org.dataflowanalysis.analysis.pcm.core.AbstractPCMActionSequenceElement;
 import org.dataflowanalysis.analysis.pcm.utils.PCMQueryUtils;
@@ -46,7 +46,7 @@ public class SEFFActionSequenceElement<T extends AbstractAction> extends Abstrac
      * @param dataFlowVariables Updated dataflow variables
      * @param nodeCharacteristics Updated node characteristics
      */
-    public SEFFActionSequenceElement(SEFFActionSequenceElement<T> oldElement, List<DataFlowVariable> dataFlowVariables, List<DataFlowVariable> outgoingDataFlowVariables ,List<CharacteristicValue> nodeCharacteristics) {
+    public SEFFActionSequenceElement(SEFFActionSequenceElement<T> oldElement, List<DataFlowVariable> dataFlowVariables, List<DataFlowVariable> outgoingDataFlowVariables ,LabelSet nodeCharacteristics) {
         super(oldElement, dataFlowVariables, outgoingDataFlowVariables, nodeCharacteristics);
         this.parameter = oldElement.getParameter();
     }
@@ -54,7 +54,7 @@ public class SEFFActionSequenceElement<T extends AbstractAction> extends Abstrac
     @Override
     public AbstractActionSequenceElement<T> evaluateDataFlow(List<DataFlowVariable> incomingDataFlowVariables, 
     		NodeCharacteristicsCalculator nodeCharacteristicsCalculator, DataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory) {
-    	List<CharacteristicValue> nodeCharacteristics = super.getNodeCharacteristics(nodeCharacteristicsCalculator);
+    	LabelSet nodeCharacteristics = super.getNodeCharacteristics(nodeCharacteristicsCalculator);
     	
         if (this.getElement() instanceof StartAction || this.getElement() instanceof StopAction) {
         	return new SEFFActionSequenceElement<T>(this, new ArrayList<>(incomingDataFlowVariables), new ArrayList<>(incomingDataFlowVariables), nodeCharacteristics);
@@ -1,11 +1,9 @@
 package org.dataflowanalysis.analysis.pcm.resource;
 
-import java.util.ArrayList;
 import java.util.List;
 
 import org.eclipse.emf.common.util.URI;
-import org.eclipse.emf.ecore.resource.Resource;
-import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.eclipse.emf.ecore.EObject;
 import org.palladiosimulator.pcm.allocation.Allocation;
 import org.palladiosimulator.pcm.usagemodel.UsageModel;
 
@@ -30,14 +28,10 @@ public class PCMURIResourceProvider extends PCMResourceProvider {
 
 	@Override
 	public void loadRequiredResources() {
-		this.usageModel = (UsageModel) this.loadModelContent(usageModelURI);
-		this.allocation = (Allocation) this.loadModelContent(allocationModelURI);
-		this.loadModelContent(this.nodeCharacteristicURI);
-		List<Resource> loadedResources = null;
-		do {
-			loadedResources = new ArrayList<>(this.resources.getResources());
-			loadedResources.forEach(it->EcoreUtil.resolveAll(it));
-		} while (loadedResources.size() != this.resources.getResources().size());
+		List<EObject> contents = this.loadModelContents(List.of(usageModelURI, allocationModelURI, nodeCharacteristicURI));
+		this.usageModel = (UsageModel) contents.get(0);
+		this.allocation = (Allocation) contents.get(1);
+		this.resolveAllResources();
 	}
 
 	@Override
@@ -1,26 +1,17 @@
 package org.dataflowanalysis.analysis.pcm.utils;
 
-import java.util.ArrayDeque;
 import java.util.Deque;
 import java.util.List;
 import java.util.Optional;
 
 import org.apache.log4j.Logger;
 import org.eclipse.emf.ecore.EObject;
-import org.palladiosimulator.pcm.core.composition.AssemblyConnector;
 import org.palladiosimulator.pcm.core.composition.AssemblyContext;
-import org.palladiosimulator.pcm.core.composition.ComposedStructure;
-import org.palladiosimulator.pcm.core.composition.ProvidedDelegationConnector;
-import org.palladiosimulator.pcm.core.composition.RequiredDelegationConnector;
-import org.palladiosimulator.pcm.core.entity.InterfaceProvidingEntity;
-import org.palladiosimulator.pcm.repository.BasicComponent;
-import org.palladiosimulator.pcm.repository.OperationProvidedRole;
 import org.palladiosimulator.pcm.repository.OperationSignature;
 import org.palladiosimulator.pcm.repository.ProvidedRole;
 import org.palladiosimulator.pcm.repository.RequiredRole;
 import org.palladiosimulator.pcm.repository.Signature;
 import org.palladiosimulator.pcm.seff.AbstractAction;
-import org.palladiosimulator.pcm.seff.ResourceDemandingSEFF;
 import org.palladiosimulator.pcm.seff.StartAction;
 import org.palladiosimulator.pcm.usagemodel.ScenarioBehaviour;
 import org.palladiosimulator.pcm.usagemodel.Start;
@@ -113,53 +104,25 @@ public class PCMQueryUtils {
      * @param context
      *            The stack of assembly contexts that identifies the point from which the call shall
      *            be resolved. The list starts with the most outer assembly context.
-     * @return A tuple of the resolved SEFF and the assembly context stack.
+     * @return A tuple of the resolved SEFF and the assembly context stack. The resolution is not memoized
      */
     public static Optional<SEFFWithContext> findCalledSEFF(ProvidedRole providedRole, Signature calledSignature,
             Deque<AssemblyContext> context) {
+        return findCalledSEFF(providedRole, calledSignature, context, new SEFFResolutionCache());
+    }
 
-        Deque<AssemblyContext> newContexts = new ArrayDeque<>(context);
-        ProvidedRole role = providedRole;
-        InterfaceProvidingEntity providingComponent = role.getProvidingEntity_ProvidedRole();
-
-        while (providingComponent instanceof ComposedStructure) {
-            Optional<ProvidedDelegationConnector> connector = findProvidedDelegationConnector(
-                    (ComposedStructure) providingComponent, role);
-
-            if (connector.isEmpty()) {
-                throw new IllegalStateException("Unable to find provided delegation connector.");
-            } else {
-	                AssemblyContext assemblyContext = connector.get()
-	                    .getAssemblyContext_ProvidedDelegationConnector();
-	                newContexts.add(assemblyContext);
-	
-	                role = connector.get()
-	                    .getInnerProvidedRole_ProvidedDelegationConnector();
-	                providingComponent = role.getProvidingEntity_ProvidedRole();
-            	
-            }
-        }
-
-        if (providingComponent instanceof BasicComponent) {
-            BasicComponent component = (BasicComponent) providingComponent;
-
-            Optional<ResourceDemandingSEFF> SEFF = component.getServiceEffectSpecifications__BasicComponent()
-                .stream()
-                .filter(ResourceDemandingSEFF.class::isInstance)
-                .map(ResourceDemandingSEFF.class::cast)
-                .filter(it -> it.getDescribedService__SEFF()
-                    .equals(calledSignature))
-                .findFirst();
-
-            if (SEFF.isEmpty()) {
-                throw new IllegalStateException("Unable to find called seff.");
-            } else {
-                return Optional.of(new SEFFWithContext(SEFF.get(), newContexts));
-            }
-
-        } else {
-            throw new IllegalStateException("Unable to find called seff.");
-        }
+    /**
+     * Finds a called SEFF and the corresponding stack of assembly contexts like {@link #findCalledSEFF(ProvidedRole, Signature, Deque)}.
+     * The resolution is memoized in the given resolution cache
+     * @param providedRole The provided role that points to the identifying component
+     * @param calledSignature The signature that the SEFF describes
+     * @param context The stack of assembly contexts that identifies the point from which the call shall be resolved
+     * @param resolutionCache Cache of the resolved SEFFs of the analysed models
+     * @return A tuple of the resolved SEFF and the assembly context stack
+     */
+    public static Optional<SEFFWithContext> findCalledSEFF(ProvidedRole providedRole, Signature calledSignature,
+            Deque<AssemblyContext> context, SEFFResolutionCache resolutionCache) {
+        return resolutionCache.findCalledSEFF(providedRole, calledSignature, context);
     }
 
     /**
@@ -175,65 +138,24 @@ public class PCMQueryUtils {
      * @param context
      *            The stack of assembly contexts that identifies the point from which the call shall
      *            be resolved. The list starts with the most outer assembly context.
-     * @return A tuple of the resolved SEFF and the assembly context stack.
+     * @return A tuple of the resolved SEFF and the assembly context stack. The resolution is not memoized
      */
     public static Optional<SEFFWithContext> findCalledSEFF(RequiredRole requiredRole,
             OperationSignature calledSignature, Deque<AssemblyContext> context) {
-
-        ComposedStructure composedStructure = context.getLast()
-            .getParentStructure__AssemblyContext();
-        Deque<AssemblyContext> newContexts = new ArrayDeque<>(context);
-
-        // test if there is an assembly connector satisfying the required role
-        Optional<AssemblyConnector> assemblyConnector = composedStructure.getConnectors__ComposedStructure()
-            .stream()
-            .filter(AssemblyConnector.class::isInstance)
-            .map(AssemblyConnector.class::cast)
-            .filter(it -> it.getRequiredRole_AssemblyConnector()
-                .equals(requiredRole))
-            .filter(it -> it.getRequiringAssemblyContext_AssemblyConnector()
-                .equals(newContexts.getLast()))
-            .findFirst();
-
-        if (assemblyConnector.isPresent()) {
-            newContexts.remove(newContexts.getLast());
-            AssemblyContext newAssemblyContext = assemblyConnector.get()
-                .getProvidingAssemblyContext_AssemblyConnector();
-            OperationProvidedRole providedRole = assemblyConnector.get()
-                .getProvidedRole_AssemblyConnector();
-            newContexts.add(newAssemblyContext);
-            return findCalledSEFF(providedRole, calledSignature, newContexts);
-        } else {
-
-            // go to the parent composed structure to satisfy the required role
-            Optional<RequiredRole> outerRequiredRole = composedStructure.getConnectors__ComposedStructure()
-                .stream()
-                .filter(RequiredDelegationConnector.class::isInstance)
-                .map(RequiredDelegationConnector.class::cast)
-                .filter(it -> it.getInnerRequiredRole_RequiredDelegationConnector()
-                    .equals(requiredRole))
-                .map(it -> it.getOuterRequiredRole_RequiredDelegationConnector())
-                .map(RequiredRole.class::cast)
-                .findFirst();
-
-            if (outerRequiredRole.isEmpty()) {
-                throw new IllegalStateException("Unable to retrieve outer required role.");
-            } else {
-                newContexts.remove(newContexts.getLast());
-                return findCalledSEFF(outerRequiredRole.get(), calledSignature, newContexts);
-            }
-        }
+        return findCalledSEFF(requiredRole, calledSignature, context, new SEFFResolutionCache());
     }
 
-    private static Optional<ProvidedDelegationConnector> findProvidedDelegationConnector(ComposedStructure component,
-            ProvidedRole outerRole) {
-        return component.getConnectors__ComposedStructure()
-            .stream()
-            .filter(ProvidedDelegationConnector.class::isInstance)
-            .map(ProvidedDelegationConnector.class::cast)
-            .filter(it -> it.getOuterProvidedRole_ProvidedDelegationConnector()
-                .equals(outerRole))
-            .findFirst();
+    /**
+     * Finds a called SEFF and the corresponding stack of assembly contexts like {@link #findCalledSEFF(RequiredRole, OperationSignature, Deque)}.
+     * The resolution is memoized in the given resolution cache
+     * @param requiredRole The required role that points to the required component
+     * @param calledSignature The signature that the SEFF describes
+     * @param context The stack of assembly contexts that identifies the point from which the call shall be resolved
+     * @param resolutionCache Cache of the resolved SEFFs of the analysed models
+     * @return A tuple of the resolved SEFF and the assembly context stack
+     */
+    public static Optional<SEFFWithContext> findCalledSEFF(RequiredRole requiredRole,
+            OperationSignature calledSignature, Deque<AssemblyContext> context, SEFFResolutionCache resolutionCache) {
+        return resolutionCache.findCalledSEFF(requiredRole, calledSignature, context);
     }
-
 }
@@ -0,0 +1,226 @@
+package org.dataflowanalysis.analysis.pcm.utils;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.ecore.EObject;
+import org.palladiosimulator.pcm.core.composition.AssemblyConnector;
+import org.palladiosimulator.pcm.core.composition.AssemblyContext;
+import org.palladiosimulator.pcm.core.composition.ComposedStructure;
+import org.palladiosimulator.pcm.core.composition.Connector;
+import org.palladiosimulator.pcm.core.composition.ProvidedDelegationConnector;
+import org.palladiosimulator.pcm.core.composition.RequiredDelegationConnector;
+import org.palladiosimulator.pcm.core.entity.InterfaceProvidingEntity;
+import org.palladiosimulator.pcm.repository.BasicComponent;
+import org.palladiosimulator.pcm.repository.OperationProvidedRole;
+import org.palladiosimulator.pcm.repository.OperationSignature;
+import org.palladiosimulator.pcm.repository.ProvidedRole;
+import org.palladiosimulator.pcm.repository.RequiredRole;
+import org.palladiosimulator.pcm.repository.Signature;
+import org.palladiosimulator.pcm.seff.ResourceDemandingSEFF;
+
+/**
+ * Thread-safe cache of the resolution of called SEFFs, which is owned by a single analysis and shared by its sequence finders.
+ * Resolved SEFFs are memoized by the role, the signature and the stack of assembly contexts of the call.
+ * Connectors of composed structures are indexed by their roles once per composed structure.
+ * The cache does not observe the models and must be invalidated with {@link #invalidate()} after the models have been changed
+ */
+public final class SEFFResolutionCache {
+    private final Map<ResolutionKey, Optional<SEFFWithContext>> resolvedSEFFs;
+    private final Map<ComposedStructure, ConnectorIndex> connectorIndices;
+
+    /**
+     * Creates a new empty resolution cache
+     */
+    public SEFFResolutionCache() {
+        this.resolvedSEFFs = new ConcurrentHashMap<>();
+        this.connectorIndices = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Removes all memoized resolutions and connector indices
+     */
+    public void invalidate() {
+        this.resolvedSEFFs.clear();
+        this.connectorIndices.clear();
+    }
+
+    /**
+     * Returns the number of memoized resolutions
+     * @return Number of memoized resolutions
+     */
+    public int size() {
+        return this.resolvedSEFFs.size();
+    }
+
+    /**
+     * Finds the SEFF called by the given provided role and the corresponding stack of assembly contexts.
+     * See {@link PCMQueryUtils#findCalledSEFF(ProvidedRole, Signature, Deque)}
+     * @param providedRole The provided role that points to the identifying component
+     * @param calledSignature The signature that the SEFF describes
+     * @param context The stack of assembly contexts that identifies the point from which the call shall be resolved
+     * @return A tuple of the resolved SEFF and the assembly context stack, whose stack is owned by the caller
+     */
+    public Optional<SEFFWithContext> findCalledSEFF(ProvidedRole providedRole, Signature calledSignature, Deque<AssemblyContext> context) {
+        ResolutionKey key = new ResolutionKey(providedRole, calledSignature, List.copyOf(context));
+        Optional<SEFFWithContext> resolvedSEFF = this.resolvedSEFFs.get(key);
+        if (resolvedSEFF == null) {
+            resolvedSEFF = this.resolveProvidedRole(providedRole, calledSignature, context);
+            this.resolvedSEFFs.putIfAbsent(key, resolvedSEFF);
+        }
+        return copyOf(resolvedSEFF);
+    }
+
+    /**
+     * Finds the SEFF called by the given required role and the corresponding stack of assembly contexts.
+     * See {@link PCMQueryUtils#findCalledSEFF(RequiredRole, OperationSignature, Deque)}
+     * @param requiredRole The required role that points to the required component
+     * @param calledSignature The signature that the SEFF describes
+     * @param context The stack of assembly contexts that identifies the point from which the call shall be resolved
+     * @return A tuple of the resolved SEFF and the assembly context stack, whose stack is owned by the caller
+     */
+    public Optional<SEFFWithContext> findCalledSEFF(RequiredRole requiredRole, OperationSignature calledSignature, Deque<AssemblyContext> context) {
+        ResolutionKey key = new ResolutionKey(requiredRole, calledSignature, List.copyOf(context));
+        Optional<SEFFWithContext> resolvedSEFF = this.resolvedSEFFs.get(key);
+        if (resolvedSEFF == null) {
+            resolvedSEFF = this.resolveRequiredRole(requiredRole, calledSignature, context);
+            this.resolvedSEFFs.putIfAbsent(key, resolvedSEFF);
+        }
+        return copyOf(resolvedSEFF);
+    }
+
+    /**
+     * Resolves the SEFF called by a provided role by following the provided delegation connectors of composed structures
+     * @param providedRole The provided role that points to the identifying component
+     * @param calledSignature The signature that the SEFF describes
+     * @param context The stack of assembly contexts that identifies the point from which the call shall be resolved
+     * @return A tuple of the resolved SEFF and the assembly context stack
+     */
+    private Optional<SEFFWithContext> resolveProvidedRole(ProvidedRole providedRole, Signature calledSignature, Deque<AssemblyContext> context) {
+        Deque<AssemblyContext> newContexts = new ArrayDeque<>(context);
+        ProvidedRole role = providedRole;
+        InterfaceProvidingEntity providingComponent = role.getProvidingEntity_ProvidedRole();
+
+        while (providingComponent instanceof ComposedStructure) {
+            ProvidedDelegationConnector connector = this.getConnectorIndex((ComposedStructure) providingComponent).providedDelegationConnectors
+                .get(role);
+            if (connector == null) {
+                throw new IllegalStateException("Unable to find provided delegation connector.");
+            }
+            newContexts.add(connector.getAssemblyContext_ProvidedDelegationConnector());
+            role = connector.getInnerProvidedRole_ProvidedDelegationConnector();
+            providingComponent = role.getProvidingEntity_ProvidedRole();
+        }
+
+        if (providingComponent instanceof BasicComponent) {
+            BasicComponent component = (BasicComponent) providingComponent;
+
+            Optional<ResourceDemandingSEFF> SEFF = component.getServiceEffectSpecifications__BasicComponent()
+                .stream()
+                .filter(ResourceDemandingSEFF.class::isInstance)
+                .map(ResourceDemandingSEFF.class::cast)
+                .filter(it -> it.getDescribedService__SEFF()
+                    .equals(calledSignature))
+                .findFirst();
+
+            if (SEFF.isEmpty()) {
+                throw new IllegalStateException("Unable to find called seff.");
+            }
+            return Optional.of(new SEFFWithContext(SEFF.get(), newContexts));
+        } else {
+            throw new IllegalStateException("Unable to find called seff.");
+        }
+    }
+
+    /**
+     * Resolves the SEFF called by a required role by following assembly connectors or required delegation connectors
+     * @param requiredRole The required role that points to the required component
+     * @param calledSignature The signature that the SEFF describes
+     * @param context The stack of assembly contexts that identifies the point from which the call shall be resolved
+     * @return A tuple of the resolved SEFF and the assembly context stack
+     */
+    private Optional<SEFFWithContext> resolveRequiredRole(RequiredRole requiredRole, OperationSignature calledSignature, Deque<AssemblyContext> context) {
+        ConnectorIndex connectorIndex = this.getConnectorIndex(context.getLast()
+            .getParentStructure__AssemblyContext());
+        Deque<AssemblyContext> newContexts = new ArrayDeque<>(context);
+
+        AssemblyConnector assemblyConnector = connectorIndex.assemblyConnectors.getOrDefault(requiredRole, Map.of())
+            .get(newContexts.getLast());
+        if (assemblyConnector != null) {
+            newContexts.remove(newContexts.getLast());
+            newContexts.add(assemblyConnector.getProvidingAssemblyContext_AssemblyConnector());
+            OperationProvidedRole providedRole = assemblyConnector.getProvidedRole_AssemblyConnector();
+            return this.findCalledSEFF(providedRole, calledSignature, newContexts);
+        }
+
+        RequiredRole outerRequiredRole = connectorIndex.outerRequiredRoles.get(requiredRole);
+        if (outerRequiredRole == null) {
+            throw new IllegalStateException("Unable to retrieve outer required role.");
+        }
+        newContexts.remove(newContexts.getLast());
+        return this.findCalledSEFF(outerRequiredRole, calledSignature, newContexts);
+    }
+
+    /**
+     * Returns the connector index of the given composed structure, which is built on first use
+     * @param composedStructure Composed structure of which the connectors are indexed
+     * @return Returns the connector index of the composed structure
+     */
+    private ConnectorIndex getConnectorIndex(ComposedStructure composedStructure) {
+        return this.connectorIndices.computeIfAbsent(composedStructure, ConnectorIndex::new);
+    }
+
+    /**
+     * Copies the stack of assembly contexts of a memoized resolution, so that callers may not modify the memoized stack
+     * @param resolvedSEFF Memoized resolution
+     * @return Returns a copy of the memoized resolution
+     */
+    private static Optional<SEFFWithContext> copyOf(Optional<SEFFWithContext> resolvedSEFF) {
+        return resolvedSEFF.map(it -> new SEFFWithContext(it.seff(), new ArrayDeque<>(it.context())));
+    }
+
+    /**
+     * Key of a memoized resolution
+     * @param role Role through which the SEFF is called
+     * @param calledSignature The signature that the SEFF describes
+     * @param context Stack of assembly contexts from which the call is resolved
+     */
+    private record ResolutionKey(EObject role, Signature calledSignature, List<AssemblyContext> context) {
+    }
+
+    /**
+     * Index of the connectors of a composed structure by the roles they are looked up with.
+     * If several connectors match the same role, the first connector of the composed structure is indexed
+     */
+    private static class ConnectorIndex {
+        private final Map<RequiredRole, Map<AssemblyContext, AssemblyConnector>> assemblyConnectors;
+        private final Map<RequiredRole, RequiredRole> outerRequiredRoles;
+        private final Map<ProvidedRole, ProvidedDelegationConnector> providedDelegationConnectors;
+
+        public ConnectorIndex(ComposedStructure composedStructure) {
+            this.assemblyConnectors = new HashMap<>();
+            this.outerRequiredRoles = new HashMap<>();
+            this.providedDelegationConnectors = new HashMap<>();
+            for (Connector connector : composedStructure.getConnectors__ComposedStructure()) {
+                if (connector instanceof AssemblyConnector) {
+                    AssemblyConnector assemblyConnector = (AssemblyConnector) connector;
+                    this.assemblyConnectors.computeIfAbsent(assemblyConnector.getRequiredRole_AssemblyConnector(), it -> new HashMap<>())
+                        .putIfAbsent(assemblyConnector.getRequiringAssemblyContext_AssemblyConnector(), assemblyConnector);
+                } else if (connector instanceof RequiredDelegationConnector) {
+                    RequiredDelegationConnector delegationConnector = (RequiredDelegationConnector) connector;
+                    this.outerRequiredRoles.putIfAbsent(delegationConnector.getInnerRequiredRole_RequiredDelegationConnector(),
+                            delegationConnector.getOuterRequiredRole_RequiredDelegationConnector());
+                } else if (connector instanceof ProvidedDelegationConnector) {
+                    ProvidedDelegationConnector delegationConnector = (ProvidedDelegationConnector) connector;
+                    this.providedDelegationConnectors.putIfAbsent(delegationConnector.getOuterProvidedRole_ProvidedDelegationConnector(),
+                            delegationConnector);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.dataflowanalysis.analysis;
+
+import java.util.HashSet;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apache.log4j.Logger;
+import org.eclipse.core.runtime.Plugin;
+
+/**
+ * Session that performs the global initialization of the standalone environment of an analysis once.
+ * Initializing the environment mutates global registries, e.g. of resource factories and platform URIs, and should not be repeated for every analysis.
+ * A session is thread-safe and may be shared by many analyses, each of which loads its models into its own resource set
+ */
+public abstract class AnalysisSession {
+	private final Logger logger = Logger.getLogger(AnalysisSession.class);
+
+	private final Set<String> registeredModelProjects;
+	private boolean initialized;
+
+	public AnalysisSession() {
+		this.registeredModelProjects = new HashSet<>();
+	}
+
+	/**
+	 * Initializes the standalone environment of the analysis, if it has not been initialized by the session before
+	 * @throws IllegalStateException if the standalone environment could not be initialized
+	 */
+	public synchronized void initialize() {
+		if (this.initialized) {
+			return;
+		}
+		this.initializeEnvironment();
+		this.initialized = true;
+		logger.info("Successfully initialized the analysis session.");
+	}
+
+	/**
+	 * Initializes the standalone environment, if necessary, and registers the given modelling project, if it has not been registered by the session before
+	 * @param modelProjectActivator Optional plugin activator of the modelling project
+	 * @param modelProjectName Name of the modelling project
+	 * @throws IllegalStateException if the standalone environment could not be initialized or the project could not be registered
+	 */
+	public synchronized void registerModelProject(Optional<Class<? extends Plugin>> modelProjectActivator, String modelProjectName) {
+		this.initialize();
+		if (modelProjectActivator.isEmpty() || this.registeredModelProjects.contains(modelProjectName)) {
+			return;
+		}
+		this.registerProject(modelProjectActivator.get(), modelProjectName);
+		this.registeredModelProjects.add(modelProjectName);
+	}
+
+	/**
+	 * Indicates whether the standalone environment has been initialized by the session
+	 * @return Returns true, if the environment has been initialized. Otherwise, the method returns false
+	 */
+	public synchronized boolean isInitialized() {
+		return this.initialized;
+	}
+
+	/**
+	 * Initializes the global state of the standalone environment of the analysis. Is called at most once per session
+	 * @throws IllegalStateException if the standalone environment could not be initialized
+	 */
+	protected abstract void initializeEnvironment();
+
+	/**
+	 * Registers the URI of a modelling project in the standalone environment. Is called at most once per project and session
+	 * @param modelProjectActivator Plugin activator of the modelling project
+	 * @param modelProjectName Name of the modelling project
+	 * @throws IllegalStateException if the project could not be registered
+	 */
+	protected abstract void registerProject(Class<? extends Plugin> modelProjectActivator, String modelProjectName);
+}
@@ -1,8 +1,11 @@
 package org.dataflowanalysis.analysis;
 
+import java.nio.file.Path;
 import java.util.Optional;
 
 import org.apache.log4j.Logger;
+import org.dataflowanalysis.analysis.execution.AnalysisExecutor;
+import org.dataflowanalysis.analysis.resource.ModelCache;
 import org.eclipse.core.runtime.Plugin;
 
 public abstract class DataFlowAnalysisBuilder {
@@ -11,9 +14,15 @@ public abstract class DataFlowAnalysisBuilder {
 	protected boolean standalone;
 	protected String modelProjectName;
 	protected Optional<Class<? extends Plugin>> pluginActivator;
+	protected Optional<AnalysisExecutor> executor;
+	protected Optional<AnalysisExecutor> loadingExecutor;
+	protected Optional<ModelCache> modelCache;
 
 	public DataFlowAnalysisBuilder() {
 		this.pluginActivator = Optional.empty();
+		this.executor = Optional.empty();
+		this.loadingExecutor = Optional.empty();
+		this.modelCache = Optional.empty();
 	}	
 	
 	/**
@@ -43,6 +52,39 @@ public abstract class DataFlowAnalysisBuilder {
 		return this;
 	}
 	
+	/**
+	 * Sets the executor that runs the phases of the analysis.
+	 * If no executor is set, each analysis uses its default execution backend
+	 * @param executor Executor of the analysis, e.g. {@link AnalysisExecutor#forkJoinPool(int)}
+	 * @return Builder of the analysis
+	 */
+	public DataFlowAnalysisBuilder useExecutor(AnalysisExecutor executor) {
+		this.executor = Optional.ofNullable(executor);
+		return this;
+	}
+	
+	/**
+	 * Sets the executor that parses independent model files while the analysis is initialized.
+	 * If no loading executor is set, model files are parsed sequentially, regardless of the executor of the analysis
+	 * @param loadingExecutor Executor that parses model files
+	 * @return Builder of the analysis
+	 */
+	public DataFlowAnalysisBuilder useLoadingExecutor(AnalysisExecutor loadingExecutor) {
+		this.loadingExecutor = Optional.ofNullable(loadingExecutor);
+		return this;
+	}
+	
+	/**
+	 * Sets the directory of the model cache of the analysis.
+	 * Unchanged models are loaded from the cache in the EMF binary format instead of parsing their source files
+	 * @param cacheDirectory Directory of the model cache
+	 * @return Builder of the analysis
+	 */
+	public DataFlowAnalysisBuilder useModelCache(Path cacheDirectory) {
+		this.modelCache = Optional.of(new ModelCache(cacheDirectory));
+		return this;
+	}
+	
 	/**
 	 * Validates the stored data
 	 */
@@ -2,10 +2,14 @@ package org.dataflowanalysis.analysis;
 
 import java.util.List;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.apache.log4j.Level;
 import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
 import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.execution.AnalysisExecutor;
+import org.dataflowanalysis.analysis.query.ConstraintQuery;
+import org.dataflowanalysis.analysis.query.ViolationMatrix;
 
 public interface DataFlowConfidentialityAnalysis {
 	public static final String PLUGIN_PATH = "org.dataflowanalysis.analysis";
@@ -14,10 +18,39 @@ public interface DataFlowConfidentialityAnalysis {
 
     public List<ActionSequence> findAllSequences();
 
+    /**
+     * Lazily finds all action sequences of the analysis.
+     * In contrast to {@link #findAllSequences()}, sequences are only found when they are consumed by the stream
+     * @return Returns a lazy stream of all action sequences
+     */
+    public default Stream<ActionSequence> findSequences() {
+    	return this.findAllSequences().stream();
+    }
+
     public List<ActionSequence> evaluateDataFlows(List<ActionSequence> sequences);
 
+    /**
+     * Evaluates the data flow of a single action sequence.
+     * May be used together with {@link #findSequences()} to evaluate sequences as they are found
+     * @param sequence Action sequence that should be evaluated
+     * @return Returns the evaluated action sequence
+     */
+    public default ActionSequence evaluateDataFlow(ActionSequence sequence) {
+    	return this.evaluateDataFlows(List.of(sequence)).get(0);
+    }
+
     public List<AbstractActionSequenceElement<?>> queryDataFlow(ActionSequence sequence,
             Predicate<? super AbstractActionSequenceElement<?>> condition);
+
+    /**
+     * Checks all constraints of the given query over the given sequences in a single pass over their elements
+     * @param sequences Evaluated action sequences
+     * @param query Query containing the named constraints
+     * @return Returns the violations of all constraints
+     */
+    public default ViolationMatrix queryDataFlows(List<ActionSequence> sequences, ConstraintQuery query) {
+    	return query.evaluate(sequences, AnalysisExecutor.sequential());
+    }
     
     public void setLoggerLevel(Level level);
 }
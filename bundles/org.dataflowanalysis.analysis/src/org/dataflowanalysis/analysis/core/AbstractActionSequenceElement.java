@@ -11,7 +11,7 @@ public abstract class AbstractActionSequenceElement<T extends EObject> {
 
     private final Optional<List<DataFlowVariable>> dataFlowVariables;
     private final Optional<List<DataFlowVariable>> outgoingDataFlowVariables;
-    private final Optional<List<CharacteristicValue>> nodeCharacteristics;
+    private final Optional<LabelSet> nodeCharacteristics;
 
     /**
      * Constructs a new action sequence element with empty dataflow variables and node characteristics
@@ -25,12 +25,12 @@ public abstract class AbstractActionSequenceElement<T extends EObject> {
     /**
      * Creates a new action sequence element with updated dataflow variables and node characteristics
      * @param dataFlowVariables List of updated dataflow variables
-     * @param nodeCharacteristics List of updated node characteristics
+     * @param nodeCharacteristics Label set of updated node characteristics
      */
-    public AbstractActionSequenceElement(List<DataFlowVariable> dataFlowVariables, List<DataFlowVariable> outgoingDataFlowVariables, List<CharacteristicValue> nodeCharacteristics) {
+    public AbstractActionSequenceElement(List<DataFlowVariable> dataFlowVariables, List<DataFlowVariable> outgoingDataFlowVariables, LabelSet nodeCharacteristics) {
         this.dataFlowVariables = Optional.of(List.copyOf(dataFlowVariables));
         this.outgoingDataFlowVariables = Optional.of(List.copyOf(outgoingDataFlowVariables));
-        this.nodeCharacteristics = Optional.of(List.copyOf(nodeCharacteristics));
+        this.nodeCharacteristics = Optional.of(nodeCharacteristics);
     }
 
     /**
@@ -50,8 +50,7 @@ public abstract class AbstractActionSequenceElement<T extends EObject> {
      * @return Returns a list of all characteristic literals matching the characteristic type
      */
     public List<String> getNodeCharacteristicNamesWithType(String name) {
-    	return this.getAllNodeCharacteristics().stream()
-		.filter(cv -> cv.getTypeName().equals(name))
+    	return this.getNodeCharacteristicLabels().ofType(name).getCharacteristicValues().stream()
 		.map(cv -> cv.getValueName())
 		.collect(Collectors.toList());
     }
@@ -64,8 +63,7 @@ public abstract class AbstractActionSequenceElement<T extends EObject> {
      * @return Returns a list of all characteristic literals matching the characteristic type
      */
     public List<String> getNodeCharacteristicIdsWithType(String name) {
-    	return this.getAllNodeCharacteristics().stream()
-		.filter(cv -> cv.getTypeName().equals(name))
+    	return this.getNodeCharacteristicLabels().ofType(name).getCharacteristicValues().stream()
 		.map(cv -> cv.getValueId())
 		.collect(Collectors.toList());
     }
@@ -81,10 +79,8 @@ public abstract class AbstractActionSequenceElement<T extends EObject> {
     	List<List<String>> dfCharIds = new ArrayList<>();
     	for(DataFlowVariable df : this.getAllDataFlowVariables()) {
     		List<String> charValueIds = new ArrayList<>();
-    		for(CharacteristicValue charValue : df.getAllCharacteristics()) {
-    			if(charValue.getTypeName().equals(type)) {
-    				charValueIds.add(charValue.getValueId());
-    			}
+    		for(CharacteristicValue charValue : df.labels().ofType(type).getCharacteristicValues()) {
+    			charValueIds.add(charValue.getValueId());
     		}
     		dfCharIds.add(charValueIds);
     	}
@@ -103,10 +99,8 @@ public abstract class AbstractActionSequenceElement<T extends EObject> {
     	List<List<String>> dfCharIds = new ArrayList<>();
     	for(DataFlowVariable df : this.getAllDataFlowVariables()) {
     		List<String> charValueIds = new ArrayList<>();
-    		for(CharacteristicValue charValue : df.getAllCharacteristics()) {
-    			if(charValue.getTypeName().equals(type)) {
-    				charValueIds.add(charValue.getValueName());
-    			}
+    		for(CharacteristicValue charValue : df.labels().ofType(type).getCharacteristicValues()) {
+    			charValueIds.add(charValue.getValueName());
     		}
     		dfCharIds.add(charValueIds);
     	}
@@ -131,10 +125,19 @@ public abstract class AbstractActionSequenceElement<T extends EObject> {
     }
     
     /**
-     * Returns a list of all present node characteristics for the action sequence element
+     * Returns a list of all present node characteristics for the action sequence element.
+     * Each characteristic is contained once, ordered by its id in the label universe
      * @return List of present node characteristics
      */
     public List<CharacteristicValue> getAllNodeCharacteristics() {
+    	return this.getNodeCharacteristicLabels().getCharacteristicValues();
+    }
+
+    /**
+     * Returns the label set of all present node characteristics for the action sequence element
+     * @return Label set of present node characteristics
+     */
+    public LabelSet getNodeCharacteristicLabels() {
     	return this.nodeCharacteristics.orElseThrow(IllegalStateException::new);
     }
 
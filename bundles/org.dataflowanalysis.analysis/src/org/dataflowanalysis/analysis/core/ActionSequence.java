@@ -10,8 +10,19 @@ public abstract class ActionSequence {
 	 * @param elements List of elements in the sequence
 	 */
 	public ActionSequence(List<AbstractActionSequenceElement<?>> elements) {
-        this.elements = List.copyOf(elements);
+        this.elements = PersistentElementList.copyOf(elements);
     }
+	
+	/**
+	 * Create a new action sequence that extends the given sequence with the given elements.
+	 * The elements of the given sequence are shared with the new sequence and are not copied
+	 * @param sequence Action sequence that is extended
+	 * @param newElements Elements that are appended to the sequence
+	 */
+	public ActionSequence(ActionSequence sequence, AbstractActionSequenceElement<?>... newElements) {
+		this.elements = PersistentElementList.<AbstractActionSequenceElement<?>>copyOf(sequence.getElements())
+				.appendAll(newElements);
+	}
     
 	/**
 	 * Evaluate the data flow of the action sequence with the given analysis data
@@ -1,6 +1,7 @@
 package org.dataflowanalysis.analysis.core;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ActionSequenceFinder {
 
@@ -10,4 +11,11 @@ public interface ActionSequenceFinder {
 	 */
     public List<? extends ActionSequence> findAllSequences();
 
+    /**
+     * Lazily finds all sequences provided by the (otherwise) provided Resources.
+     * Sequences are found depth-first when they are consumed, so that consumed sequences can be reclaimed by the garbage collector
+     * @return Returns a lazy stream of action sequences that were found by the finder
+     */
+    public Stream<? extends ActionSequence> findSequences();
+
 }
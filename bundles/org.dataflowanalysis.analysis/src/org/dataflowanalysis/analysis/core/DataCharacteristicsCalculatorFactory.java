@@ -10,5 +10,11 @@ public interface DataCharacteristicsCalculatorFactory {
      * @param nodeCharacteristics Node characteristics applied to the node
      */
 	public DataCharacteristicsCalculator createNodeCalculator(List<DataFlowVariable> initialVariables, 
-    		List<CharacteristicValue> nodeCharacteristics);
+    		LabelSet nodeCharacteristics);
+	
+	/**
+	 * Discards all information the calculators have derived from the loaded models, so that changes to the models are considered
+	 */
+	public default void invalidate() {
+	}
 }
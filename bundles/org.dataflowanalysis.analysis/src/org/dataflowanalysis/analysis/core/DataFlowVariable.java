@@ -1,27 +1,41 @@
 package org.dataflowanalysis.analysis.core;
 
 import java.util.List;
-import java.util.stream.Stream;
 
-public record DataFlowVariable(String variableName, List<CharacteristicValue> characteristics) {
+public record DataFlowVariable(String variableName, LabelSet labels) {
 
+    /**
+     * Creates a new data flow variable without characteristics over the shared default label universe
+     * @param variableName Name of the variable
+     * @see LabelUniverse#getDefault()
+     */
     public DataFlowVariable(String variableName) {
-        this(variableName, List.of());
+        this(variableName, LabelUniverse.getDefault());
+    }
+
+    public DataFlowVariable(String variableName, LabelUniverse universe) {
+        this(variableName, LabelSet.empty(universe));
     }
 
     public DataFlowVariable addCharacteristic(CharacteristicValue characteristic) {
-        List<CharacteristicValue> newCharacteristics = Stream
-            .concat(characteristics.stream(), Stream.of(characteristic))
-            .toList();
-        return new DataFlowVariable(variableName, newCharacteristics);
+        return new DataFlowVariable(variableName, labels.with(characteristic));
     }
 
     public boolean hasCharacteristic(CharacteristicValue characteristic) {
-        return this.characteristics.contains(characteristic);
+        return this.labels.contains(characteristic);
+    }
+
+    /**
+     * Returns the characteristics of the variable.
+     * Each characteristic is contained once, ordered by its id in the label universe instead of the order the characteristics were added in
+     * @return Returns a list of the characteristics of the variable
+     */
+    public List<CharacteristicValue> characteristics() {
+        return this.labels.getCharacteristicValues();
     }
 
     public List<CharacteristicValue> getAllCharacteristics() {
-        return this.characteristics;
+        return this.characteristics();
     }
 
 }
@@ -0,0 +1,248 @@
+package org.dataflowanalysis.analysis.core;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Immutable set of characteristic values over a {@link LabelUniverse}.
+ * The set is backed by a bitset of label ids, so that membership, union and intersection are word-wide operations
+ */
+public final class LabelSet {
+    private final LabelUniverse universe;
+    private final BitSet labels;
+
+    /**
+     * Creates a new label set with the given bitset. The bitset is owned by the label set and must not be modified afterwards
+     * @param universe Label universe the ids of the set belong to
+     * @param labels Bitset of label ids contained in the set
+     */
+    LabelSet(LabelUniverse universe, BitSet labels) {
+        this.universe = Objects.requireNonNull(universe);
+        this.labels = labels;
+    }
+
+    /**
+     * Creates an empty label set over the given universe
+     * @param universe Label universe of the set
+     * @return Returns an empty label set
+     */
+    public static LabelSet empty(LabelUniverse universe) {
+        return new LabelSet(universe, new BitSet());
+    }
+
+    /**
+     * Returns the label universe of the set
+     * @return Label universe the ids of the set belong to
+     */
+    public LabelUniverse getUniverse() {
+        return this.universe;
+    }
+
+    /**
+     * Determines whether the label with the given id is contained in the set
+     * @param id Id of the label
+     * @return Returns true, if the label is contained in the set. Otherwise, the method returns false
+     */
+    public boolean contains(int id) {
+        return this.labels.get(id);
+    }
+
+    /**
+     * Determines whether the given characteristic value is contained in the set
+     * @param characteristicValue Characteristic value that is searched
+     * @return Returns true, if the characteristic value is contained in the set. Otherwise, the method returns false
+     */
+    public boolean contains(CharacteristicValue characteristicValue) {
+        return this.universe.findId(characteristicValue)
+                .stream()
+                .anyMatch(this.labels::get);
+    }
+
+    /**
+     * Returns a new label set that additionally contains the label with the given id
+     * @param id Id of the added label
+     * @return Returns the updated label set
+     */
+    public LabelSet with(int id) {
+        if (this.labels.get(id)) {
+            return this;
+        }
+        BitSet newLabels = (BitSet) this.labels.clone();
+        newLabels.set(id);
+        return new LabelSet(this.universe, newLabels);
+    }
+
+    /**
+     * Returns a new label set that additionally contains the given characteristic value
+     * @param characteristicValue Added characteristic value
+     * @return Returns the updated label set
+     */
+    public LabelSet with(CharacteristicValue characteristicValue) {
+        return this.with(this.universe.getId(characteristicValue));
+    }
+
+    /**
+     * Returns a new label set that does not contain the label with the given id
+     * @param id Id of the removed label
+     * @return Returns the updated label set
+     */
+    public LabelSet without(int id) {
+        if (!this.labels.get(id)) {
+            return this;
+        }
+        BitSet newLabels = (BitSet) this.labels.clone();
+        newLabels.clear(id);
+        return new LabelSet(this.universe, newLabels);
+    }
+
+    /**
+     * Calculates the union of this and the given label set
+     * @param other Other label set
+     * @return Returns a label set containing the labels of both sets
+     */
+    public LabelSet union(LabelSet other) {
+        if (other.isEmpty()) {
+            return this;
+        }
+        BitSet newLabels = (BitSet) this.labels.clone();
+        newLabels.or(other.labels);
+        return new LabelSet(this.universe, newLabels);
+    }
+
+    /**
+     * Calculates the intersection of this and the given label set
+     * @param other Other label set
+     * @return Returns a label set containing the labels present in both sets
+     */
+    public LabelSet intersection(LabelSet other) {
+        BitSet newLabels = (BitSet) this.labels.clone();
+        newLabels.and(other.labels);
+        return new LabelSet(this.universe, newLabels);
+    }
+
+    /**
+     * Calculates the difference of this and the given label set
+     * @param other Label set that should be removed
+     * @return Returns a label set containing the labels of this set, that are not contained in the other set
+     */
+    public LabelSet difference(LabelSet other) {
+        BitSet newLabels = (BitSet) this.labels.clone();
+        newLabels.andNot(other.labels);
+        return new LabelSet(this.universe, newLabels);
+    }
+
+    /**
+     * Returns the subset of labels whose id satisfies the given predicate
+     * @param predicate Predicate that is tested for each label id
+     * @return Returns a label set containing the labels satisfying the predicate
+     */
+    public LabelSet filter(IntPredicate predicate) {
+        BitSet newLabels = new BitSet();
+        for (int id = this.labels.nextSetBit(0); id >= 0; id = this.labels.nextSetBit(id + 1)) {
+            if (predicate.test(id)) {
+                newLabels.set(id);
+            }
+        }
+        return new LabelSet(this.universe, newLabels);
+    }
+
+    /**
+     * Determines whether this and the given label set share at least one label
+     * @param other Other label set
+     * @return Returns true, if both sets share a label. Otherwise, the method returns false
+     */
+    public boolean intersects(LabelSet other) {
+        return this.labels.intersects(other.labels);
+    }
+
+    /**
+     * Determines whether all labels of the given set are contained in this set
+     * @param other Other label set
+     * @return Returns true, if the other set is a subset of this set. Otherwise, the method returns false
+     */
+    public boolean containsAll(LabelSet other) {
+        BitSet remaining = (BitSet) other.labels.clone();
+        remaining.andNot(this.labels);
+        return remaining.isEmpty();
+    }
+
+    /**
+     * Returns the subset of labels that belong to the characteristic type with the given name
+     * @param typeName Name of the characteristic type
+     * @return Returns a label set containing only labels of the given characteristic type
+     */
+    public LabelSet ofType(String typeName) {
+        BitSet typeMask = this.universe.getTypeMask(typeName);
+        if (typeMask == null || !this.labels.intersects(typeMask)) {
+            return LabelSet.empty(this.universe);
+        }
+        BitSet newLabels = (BitSet) this.labels.clone();
+        newLabels.and(typeMask);
+        return new LabelSet(this.universe, newLabels);
+    }
+
+    /**
+     * Returns whether the label set is empty
+     * @return Returns true, if the label set contains no labels. Otherwise, the method returns false
+     */
+    public boolean isEmpty() {
+        return this.labels.isEmpty();
+    }
+
+    /**
+     * Returns the number of labels in the set
+     * @return Number of labels in the set
+     */
+    public int size() {
+        return this.labels.cardinality();
+    }
+
+    /**
+     * Returns the ids of all labels in the set in ascending order
+     * @return Stream of label ids
+     */
+    public IntStream ids() {
+        return this.labels.stream();
+    }
+
+    /**
+     * Returns the characteristic values of all labels in the set, ordered by their id
+     * @return Returns a list of all contained characteristic values
+     */
+    public List<CharacteristicValue> getCharacteristicValues() {
+        List<CharacteristicValue> characteristicValues = new ArrayList<>(this.labels.cardinality());
+        for (int id = this.labels.nextSetBit(0); id >= 0; id = this.labels.nextSetBit(id + 1)) {
+            characteristicValues.add(this.universe.getCharacteristicValue(id));
+        }
+        return characteristicValues;
+    }
+
+    @Override
+    public int hashCode() {
+        return this.labels.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj)
+            return true;
+        if (obj == null)
+            return false;
+        if (getClass() != obj.getClass())
+            return false;
+        LabelSet other = (LabelSet) obj;
+        return this.universe == other.universe && this.labels.equals(other.labels);
+    }
+
+    @Override
+    public String toString() {
+        return this.getCharacteristicValues().stream()
+                .map(it -> String.format("%s.%s", it.getTypeName(), it.getValueName()))
+                .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
@@ -0,0 +1,183 @@
+package org.dataflowanalysis.analysis.core;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The label universe assigns every characteristic value (i.e. pair of characteristic type and literal) a dense integer id.
+ * Labels are identified by the name of their characteristic type and the name of their literal.
+ * <p>
+ * The universe should be filled once, after the data dictionaries of an analysis have been loaded.
+ * Characteristic values that were not registered beforehand are registered on first use.
+ * Sets of characteristic values over the universe are represented by {@link LabelSet}s
+ */
+public class LabelUniverse {
+    private static final LabelUniverse DEFAULT_UNIVERSE = new LabelUniverse();
+
+    private final Map<CharacteristicValue, Integer> valueIds;
+    private final Map<LabelKey, Integer> nameIds;
+    private final List<CharacteristicValue> values;
+    private final Map<String, BitSet> typeMasks;
+    private volatile BitSet allLabels;
+
+    /**
+     * Creates a new empty label universe
+     */
+    public LabelUniverse() {
+        this.valueIds = new ConcurrentHashMap<>();
+        this.nameIds = new ConcurrentHashMap<>();
+        this.values = new CopyOnWriteArrayList<>();
+        this.typeMasks = new ConcurrentHashMap<>();
+        this.allLabels = new BitSet();
+    }
+
+    /**
+     * Returns the label universe shared by all labels, that are created without the label universe of an analysis.
+     * Label sets of different universes cannot be combined, therefore labels of an analysis should use the universe of its resource provider
+     * @return Returns the shared default label universe
+     */
+    public static LabelUniverse getDefault() {
+        return DEFAULT_UNIVERSE;
+    }
+
+    /**
+     * Registers the given characteristic value in the universe.
+     * If a characteristic value with the same type and literal name is already registered, its id is returned
+     * @param characteristicValue Characteristic value that should be registered
+     * @return Returns the id of the characteristic value
+     */
+    public synchronized int register(CharacteristicValue characteristicValue) {
+        Integer existingId = this.valueIds.get(characteristicValue);
+        if (existingId != null) {
+            return existingId;
+        }
+        LabelKey key = new LabelKey(characteristicValue.getTypeName(), characteristicValue.getValueName());
+        Integer id = this.nameIds.get(key);
+        if (id == null) {
+            id = this.values.size();
+            this.values.add(characteristicValue);
+            this.nameIds.put(key, id);
+
+            BitSet typeMask = (BitSet) this.typeMasks.getOrDefault(key.typeName(), new BitSet()).clone();
+            typeMask.set(id);
+            this.typeMasks.put(key.typeName(), typeMask);
+
+            BitSet newAllLabels = (BitSet) this.allLabels.clone();
+            newAllLabels.set(id);
+            this.allLabels = newAllLabels;
+        }
+        this.valueIds.put(characteristicValue, id);
+        return id;
+    }
+
+    /**
+     * Registers all given characteristic values in the universe in the order they are given
+     * @param characteristicValues Characteristic values that should be registered
+     */
+    public void registerAll(Collection<? extends CharacteristicValue> characteristicValues) {
+        characteristicValues.forEach(this::register);
+    }
+
+    /**
+     * Returns the id of the given characteristic value. Unknown characteristic values are registered
+     * @param characteristicValue Characteristic value of which the id should be returned
+     * @return Returns the id of the characteristic value
+     */
+    public int getId(CharacteristicValue characteristicValue) {
+        Integer id = this.valueIds.get(characteristicValue);
+        if (id != null) {
+            return id;
+        }
+        return this.register(characteristicValue);
+    }
+
+    /**
+     * Finds the id of a given characteristic value without registering it
+     * @param characteristicValue Characteristic value that should be looked up
+     * @return Returns the id of the characteristic value, if it is registered. Otherwise, an empty optional is returned
+     */
+    public OptionalInt findId(CharacteristicValue characteristicValue) {
+        Integer id = this.valueIds.get(characteristicValue);
+        if (id != null) {
+            return OptionalInt.of(id);
+        }
+        return this.findId(characteristicValue.getTypeName(), characteristicValue.getValueName());
+    }
+
+    /**
+     * Finds the id of the characteristic value with the given characteristic type and literal name
+     * @param typeName Name of the characteristic type
+     * @param valueName Name of the characteristic literal
+     * @return Returns the id of the characteristic value, if it is registered. Otherwise, an empty optional is returned
+     */
+    public OptionalInt findId(String typeName, String valueName) {
+        Integer id = this.nameIds.get(new LabelKey(typeName, valueName));
+        return id == null ? OptionalInt.empty() : OptionalInt.of(id);
+    }
+
+    /**
+     * Returns the characteristic value that is registered with the given id
+     * @param id Id of the characteristic value
+     * @return Returns the characteristic value with the given id
+     */
+    public CharacteristicValue getCharacteristicValue(int id) {
+        return this.values.get(id);
+    }
+
+    /**
+     * Returns the number of characteristic values registered in the universe
+     * @return Number of registered characteristic values
+     */
+    public int size() {
+        return this.values.size();
+    }
+
+    /**
+     * Creates a label set containing the given characteristic values
+     * @param characteristicValues Characteristic values that should be contained in the label set
+     * @return Returns a label set containing the given characteristic values
+     */
+    public LabelSet toLabelSet(Collection<? extends CharacteristicValue> characteristicValues) {
+        BitSet labels = new BitSet();
+        characteristicValues.forEach(it -> labels.set(this.getId(it)));
+        return new LabelSet(this, labels);
+    }
+
+    /**
+     * Returns the set of all labels that belong to the characteristic type with the given name
+     * @param typeName Name of the characteristic type
+     * @return Returns a label set containing every registered literal of the characteristic type
+     */
+    public LabelSet getLabelsOfType(String typeName) {
+        BitSet typeMask = this.typeMasks.get(typeName);
+        if (typeMask == null) {
+            return LabelSet.empty(this);
+        }
+        return new LabelSet(this, typeMask);
+    }
+
+    /**
+     * Returns the set of all labels that are registered in the universe
+     * @return Returns a label set containing every registered characteristic value
+     */
+    public LabelSet getAllLabels() {
+        return new LabelSet(this, this.allLabels);
+    }
+
+    /**
+     * Returns the internal mask of a characteristic type. The returned bitset must not be modified
+     * @param typeName Name of the characteristic type
+     * @return Returns the mask of all ids belonging to the characteristic type, or null if the type is unknown
+     */
+    BitSet getTypeMask(String typeName) {
+        return this.typeMasks.get(typeName);
+    }
+
+    private record LabelKey(String typeName, String valueName) {
+    }
+}
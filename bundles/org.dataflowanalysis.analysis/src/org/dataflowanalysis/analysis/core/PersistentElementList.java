@@ -0,0 +1,149 @@
+package org.dataflowanalysis.analysis.core;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * Immutable list that is represented by a pointer to its parent list and the last element.
+ * Appending an element creates a new list in constant time, that shares all previous elements with its parent.
+ * Therefore, lists created from the same prefix share the prefix structurally.
+ * <p>
+ * Random access materializes the elements of the list once. The materialized array is cached for further accesses
+ * @param <E> Type of the elements in the list
+ */
+public final class PersistentElementList<E> extends AbstractList<E> implements RandomAccess {
+    @SuppressWarnings("rawtypes")
+    private static final PersistentElementList EMPTY = new PersistentElementList<>(null, null, 0);
+
+    private final PersistentElementList<E> parent;
+    private final E element;
+    private final int size;
+    private volatile Object[] materialized;
+
+    private PersistentElementList(PersistentElementList<E> parent, E element, int size) {
+        this.parent = parent;
+        this.element = element;
+        this.size = size;
+        this.materialized = size == 0 ? new Object[0] : null;
+    }
+
+    /**
+     * Returns the empty persistent list
+     * @param <E> Type of the elements in the list
+     * @return Returns a persistent list without any elements
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentElementList<E> empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Creates a persistent list containing the given elements. If the given list is already persistent, it is returned
+     * @param <E> Type of the elements in the list
+     * @param elements Elements that should be contained in the list
+     * @return Returns a persistent list with the given elements
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentElementList<E> copyOf(List<? extends E> elements) {
+        if (elements instanceof PersistentElementList<?>) {
+            return (PersistentElementList<E>) elements;
+        }
+        PersistentElementList<E> list = empty();
+        for (E element : elements) {
+            list = list.append(element);
+        }
+        return list;
+    }
+
+    /**
+     * Creates a new list that contains all elements of this list followed by the given element.
+     * This list is not modified and the elements are shared with the new list
+     * @param element Element that is appended
+     * @return Returns the extended list
+     */
+    public PersistentElementList<E> append(E element) {
+        return new PersistentElementList<>(this, Objects.requireNonNull(element), this.size + 1);
+    }
+
+    /**
+     * Creates a new list that contains all elements of this list followed by the given elements
+     * @param elements Elements that are appended in the given order
+     * @return Returns the extended list
+     */
+    @SafeVarargs
+    public final PersistentElementList<E> appendAll(E... elements) {
+        PersistentElementList<E> list = this;
+        for (E element : elements) {
+            list = list.append(element);
+        }
+        return list;
+    }
+
+    /**
+     * Returns the list without its last element
+     * @return Returns the parent list of which this list was created, or null if this list is empty
+     */
+    public PersistentElementList<E> getParent() {
+        return this.parent;
+    }
+
+    /**
+     * Returns the last element of the list
+     * @return Last element of the list
+     * @throws NoSuchElementException if the list is empty
+     */
+    public E getLast() {
+        if (this.size == 0) {
+            throw new NoSuchElementException();
+        }
+        return this.element;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E get(int index) {
+        Objects.checkIndex(index, this.size);
+        if (index == this.size - 1) {
+            return this.element;
+        }
+        return (E) this.materialize()[index];
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Object[] toArray() {
+        return Arrays.copyOf(this.materialize(), this.size);
+    }
+
+    /**
+     * Materializes the elements of the list into an array. The array is reused by the list and must not be modified
+     * @return Returns an array with all elements of the list
+     */
+    private Object[] materialize() {
+        Object[] result = this.materialized;
+        if (result != null) {
+            return result;
+        }
+        result = new Object[this.size];
+        PersistentElementList<E> current = this;
+        while (current.size > 0) {
+            Object[] cached = current.materialized;
+            if (cached != null) {
+                System.arraycopy(cached, 0, result, 0, current.size);
+                break;
+            }
+            result[current.size - 1] = current.element;
+            current = current.parent;
+        }
+        this.materialized = result;
+        return result;
+    }
+}
@@ -0,0 +1,122 @@
+package org.dataflowanalysis.analysis.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Execution backend of the phases of an analysis.
+ * Executors process lists of independent work items and always return the results in the order of the given items.
+ * Executors must not be invoked from within a work item that is processed by the same executor
+ */
+public interface AnalysisExecutor {
+    /**
+     * Returns the number of work items that the executor processes at the same time
+     * @return Parallelism of the executor
+     */
+    public int getParallelism();
+
+    /**
+     * Applies the given function to all elements
+     * @param <T> Type of the elements
+     * @param <R> Type of the results
+     * @param elements Elements to which the function is applied
+     * @param function Function that is applied to each element. May be called concurrently from multiple threads
+     * @return Returns the results of the function in the order of the elements
+     */
+    public <T, R> List<R> map(List<T> elements, Function<? super T, ? extends R> function);
+
+    /**
+     * Filters the given elements with the given predicate
+     * @param <T> Type of the elements
+     * @param elements Elements that are filtered
+     * @param predicate Predicate that is tested for each element. May be called concurrently from multiple threads
+     * @return Returns all elements matching the predicate in the order of the elements
+     */
+    public default <T> List<T> filter(List<T> elements, Predicate<? super T> predicate) {
+        List<Boolean> matches = this.map(elements, predicate::test);
+        List<T> result = new ArrayList<>();
+        for (int i = 0; i < elements.size(); i++) {
+            if (matches.get(i)) {
+                result.add(elements.get(i));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the fork-join pool processing the work items, if the executor is backed by one.
+     * Recursive work, that forks while it is processed, may be submitted to the pool directly
+     * @return Returns the fork-join pool of the executor, or an empty optional, if the executor does not use a fork-join pool
+     */
+    public default Optional<ForkJoinPool> getForkJoinPool() {
+        return Optional.empty();
+    }
+
+    /**
+     * Releases the threads owned by the executor. Executors wrapping a caller-supplied executor service leave the service running
+     */
+    public default void shutdown() {
+    }
+
+    /**
+     * Returns an executor, that processes all work items in the calling thread
+     * @return Returns a sequential executor
+     */
+    public static AnalysisExecutor sequential() {
+        return SequentialAnalysisExecutor.INSTANCE;
+    }
+
+    /**
+     * Returns an executor, that processes work items in the JVM-wide common fork-join pool
+     * @return Returns an executor using the common pool
+     */
+    public static AnalysisExecutor commonPool() {
+        return new ForkJoinAnalysisExecutor(ForkJoinPool.commonPool(), false);
+    }
+
+    /**
+     * Creates an executor, that processes work items in a dedicated fork-join pool with the given parallelism
+     * @param parallelism Number of worker threads of the pool. Must be positive
+     * @return Returns an executor owning a dedicated fork-join pool
+     */
+    public static AnalysisExecutor forkJoinPool(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism of an executor must be positive");
+        }
+        return new ForkJoinAnalysisExecutor(new ForkJoinPool(parallelism), true);
+    }
+
+    /**
+     * Creates an executor, that processes work items in a dedicated pool with a fixed number of daemon threads
+     * @param threads Number of threads of the pool. Must be positive
+     * @return Returns an executor owning a fixed thread pool
+     */
+    public static AnalysisExecutor fixedThreadPool(int threads) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("The parallelism of an executor must be positive");
+        }
+        return new ExecutorServiceAnalysisExecutor(ExecutorServiceAnalysisExecutor.createFixedThreadPool(threads), threads, true);
+    }
+
+    /**
+     * Creates an executor, that processes work items in the given caller-supplied executor service.
+     * The executor service is not shut down by the analysis
+     * @param executorService Executor service that processes the work items
+     * @return Returns an executor using the given executor service
+     */
+    public static AnalysisExecutor of(ExecutorService executorService) {
+        if (executorService instanceof ForkJoinPool) {
+            return new ForkJoinAnalysisExecutor((ForkJoinPool) executorService, false);
+        }
+        int parallelism = executorService instanceof ThreadPoolExecutor
+                ? ((ThreadPoolExecutor) executorService).getMaximumPoolSize()
+                : Runtime.getRuntime().availableProcessors();
+        return new ExecutorServiceAnalysisExecutor(executorService, parallelism, false);
+    }
+}
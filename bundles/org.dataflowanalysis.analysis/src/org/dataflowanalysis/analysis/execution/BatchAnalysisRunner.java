@@ -0,0 +1,167 @@
+package org.dataflowanalysis.analysis.execution;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.apache.log4j.Logger;
+import org.dataflowanalysis.analysis.DataFlowConfidentialityAnalysis;
+
+/**
+ * Analyzes a batch of models concurrently.
+ * At most the given number of models are analyzed at the same time, and a model is only admitted, if its estimated memory fits into the memory limit
+ * together with the models that are currently analyzed. Models are taken up in the order of the batch and admitted in the order, in which they are taken up.
+ * The result of each model is passed to a sink as soon as the model has been analyzed, so that results of a large batch need not be kept in memory
+ */
+public class BatchAnalysisRunner {
+    private static final long DEFAULT_MODEL_MEMORY = 64L << 20;
+    private static final int MEMORY_UNIT = 1 << 10;
+
+    private final Logger logger = Logger.getLogger(BatchAnalysisRunner.class);
+    private final Object sinkLock = new Object();
+    private final int maxConcurrentModels;
+    private final long memoryLimit;
+
+    /**
+     * Creates a new runner, that analyzes the given number of models concurrently within half of the maximum heap size
+     * @param maxConcurrentModels Maximum number of models that are analyzed at the same time
+     */
+    public BatchAnalysisRunner(int maxConcurrentModels) {
+        this(maxConcurrentModels, Runtime.getRuntime().maxMemory() / 2);
+    }
+
+    /**
+     * Creates a new runner with the given limits
+     * @param maxConcurrentModels Maximum number of models that are analyzed at the same time
+     * @param memoryLimit Maximum estimated memory in bytes of the models that are analyzed at the same time.
+     * A model whose estimate exceeds the limit is analyzed alone
+     */
+    public BatchAnalysisRunner(int maxConcurrentModels, long memoryLimit) {
+        if (maxConcurrentModels < 1) {
+            throw new IllegalArgumentException("At least one model must be analyzed at the same time");
+        }
+        if (memoryLimit < MEMORY_UNIT) {
+            throw new IllegalArgumentException("The memory limit must be at least " + MEMORY_UNIT + " bytes");
+        }
+        this.maxConcurrentModels = maxConcurrentModels;
+        this.memoryLimit = memoryLimit;
+    }
+
+    /**
+     * Analyzes the given models and passes the result of each model to the sink.
+     * Each model is analyzed by initializing a new analysis of the model and applying the given task to it.
+     * A model that fails with an exception or an error is reported as a failed result and does not affect the other models of the batch.
+     * This includes a {@link StackOverflowError}, e.g. caused by a deeply nested model.
+     * Other virtual machine errors, like an {@link OutOfMemoryError}, are not recoverable and abort the batch
+     * @param <R> Type of the results of the task
+     * @param models Models of the batch
+     * @param task Task that is applied to the initialized analysis of each model. May be called concurrently from multiple threads
+     * @param sink Sink that receives the result of each model in the order in which the models are finished. The sink is never called concurrently
+     * @throws InterruptedException if the calling thread is interrupted while the batch is analyzed. Models that have not finished are cancelled
+     * @throws VirtualMachineError if the analysis of a model fails with an unrecoverable error. Models that have not finished are cancelled
+     */
+    public <R> void run(List<? extends ModelDescriptor> models, Function<? super DataFlowConfidentialityAnalysis, ? extends R> task,
+            Consumer<? super BatchResult<R>> sink) throws InterruptedException {
+        int memoryPermits = (int) Math.min(this.memoryLimit / MEMORY_UNIT, Integer.MAX_VALUE);
+        Semaphore memory = new Semaphore(memoryPermits, true);
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(this.maxConcurrentModels, Math.max(models.size(), 1)));
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (ModelDescriptor model : models) {
+                futures.add(executorService.submit(() -> {
+                    BatchResult<R> result = this.analyze(model, task, memory, memoryPermits);
+                    synchronized (this.sinkLock) {
+                        sink.accept(result);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            logger.info(String.format("Analyzed batch of %d models.", models.size()));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof VirtualMachineError error) {
+                throw error;
+            }
+            throw new IllegalStateException("Unable to analyze the batch", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Creates an analysis of the given model, waits until the model is admitted, initializes the analysis and applies the task to it
+     * @param model Analyzed model
+     * @param task Task that is applied to the analysis
+     * @param memory Memory permits of the batch
+     * @param memoryPermits Total number of memory permits
+     * @return Returns the result of the model
+     * @throws InterruptedException if the thread is interrupted while waiting for the model to be admitted
+     */
+    private <R> BatchResult<R> analyze(ModelDescriptor model, Function<? super DataFlowConfidentialityAnalysis, ? extends R> task, Semaphore memory,
+            int memoryPermits) throws InterruptedException {
+        long start = System.nanoTime();
+        DataFlowConfidentialityAnalysis analysis;
+        try {
+            analysis = model.createAnalysis();
+        } catch (RuntimeException | Error e) {
+            return this.reportFailure(model, e, start);
+        }
+        int permits = this.getMemoryPermits(model, memoryPermits);
+        memory.acquire(permits);
+        try {
+            start = System.nanoTime();
+            analysis.initializeAnalysis();
+            R result = task.apply(analysis);
+            return BatchResult.success(model, result, Duration.ofNanos(System.nanoTime() - start));
+        } catch (RuntimeException | Error e) {
+            return this.reportFailure(model, e, start);
+        } finally {
+            memory.release(permits);
+        }
+    }
+
+    /**
+     * Logs the failure of the given model and creates its failed result
+     * @param model Model, whose analysis failed
+     * @param failure Exception or error that caused the analysis to fail
+     * @param start Time in nanoseconds, at which the analysis was started
+     * @return Returns the failed result of the model
+     * @throws VirtualMachineError if the failure is a virtual machine error other than a stack overflow, which cannot be recovered from
+     */
+    private <R> BatchResult<R> reportFailure(ModelDescriptor model, Throwable failure, long start) {
+        if (failure instanceof VirtualMachineError error && !(failure instanceof StackOverflowError)) {
+            throw error;
+        }
+        logger.warn(String.format("Unable to analyze model %s.", model.getName()), failure);
+        return BatchResult.failure(model, failure, Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * Returns the number of memory permits, that are required to admit the given model
+     * @param model Model of the batch
+     * @param memoryPermits Total number of memory permits
+     * @return Returns the number of permits, which is at least one and at most the total number of permits
+     */
+    private int getMemoryPermits(ModelDescriptor model, int memoryPermits) {
+        long estimate;
+        try {
+            estimate = model.estimateMemory();
+        } catch (RuntimeException e) {
+            logger.debug(String.format("Unable to estimate the memory of model %s.", model.getName()), e);
+            estimate = 0;
+        }
+        if (estimate <= 0) {
+            estimate = DEFAULT_MODEL_MEMORY;
+        }
+        return (int) Math.max(1, Math.min(estimate / MEMORY_UNIT, memoryPermits));
+    }
+}
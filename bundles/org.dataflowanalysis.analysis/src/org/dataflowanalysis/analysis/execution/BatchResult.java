@@ -0,0 +1,43 @@
+package org.dataflowanalysis.analysis.execution;
+
+import java.time.Duration;
+
+/**
+ * Result of the analysis of a single model of a batch
+ * @param <R> Type of the result of the analysis
+ * @param model Analyzed model
+ * @param result Result of the analysis or null, if the analysis failed
+ * @param failure Exception or error that caused the analysis to fail or null, if the analysis succeeded
+ * @param duration Time spent on initializing and running the analysis
+ */
+public record BatchResult<R>(ModelDescriptor model, R result, Throwable failure, Duration duration) {
+    /**
+     * Creates the result of a successful analysis
+     * @param model Analyzed model
+     * @param result Result of the analysis
+     * @param duration Time spent on the analysis
+     * @return Returns the result of the model
+     */
+    public static <R> BatchResult<R> success(ModelDescriptor model, R result, Duration duration) {
+        return new BatchResult<>(model, result, null, duration);
+    }
+
+    /**
+     * Creates the result of a failed analysis
+     * @param model Analyzed model
+     * @param failure Exception or error that caused the analysis to fail
+     * @param duration Time spent on the analysis until it failed
+     * @return Returns the result of the model
+     */
+    public static <R> BatchResult<R> failure(ModelDescriptor model, Throwable failure, Duration duration) {
+        return new BatchResult<>(model, null, failure, duration);
+    }
+
+    /**
+     * Indicates whether the model has been analyzed successfully
+     * @return Returns true, if the analysis succeeded. Otherwise, the method returns false
+     */
+    public boolean isSuccessful() {
+        return this.failure == null;
+    }
+}
@@ -0,0 +1,95 @@
+package org.dataflowanalysis.analysis.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Executor that splits the work items into contiguous chunks, which are processed as tasks of an executor service.
+ * The results of the chunks are joined in the order of the chunks
+ */
+final class ExecutorServiceAnalysisExecutor implements AnalysisExecutor {
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    private final ExecutorService executorService;
+    private final int parallelism;
+    private final boolean ownsExecutorService;
+
+    /**
+     * Creates a new executor using the given executor service
+     * @param executorService Executor service that processes the chunks
+     * @param parallelism Number of threads of the executor service
+     * @param ownsExecutorService Indicates whether the executor service is shut down together with the executor
+     */
+    ExecutorServiceAnalysisExecutor(ExecutorService executorService, int parallelism, boolean ownsExecutorService) {
+        this.executorService = executorService;
+        this.parallelism = Math.max(1, parallelism);
+        this.ownsExecutorService = ownsExecutorService;
+    }
+
+    /**
+     * Creates a fixed thread pool of daemon threads, so that an analysis that is not shut down does not keep the JVM alive
+     * @param threads Number of threads of the pool
+     * @return Returns the created thread pool
+     */
+    static ExecutorService createFixedThreadPool(int threads) {
+        int poolNumber = POOL_COUNT.incrementAndGet();
+        AtomicInteger threadCount = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "analysis-pool-" + poolNumber + "-thread-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public int getParallelism() {
+        return this.parallelism;
+    }
+
+    @Override
+    public <T, R> List<R> map(List<T> elements, Function<? super T, ? extends R> function) {
+        int chunkCount = Math.min(elements.size(), this.parallelism * CHUNKS_PER_THREAD);
+        if (chunkCount <= 1) {
+            return SequentialAnalysisExecutor.INSTANCE.map(elements, function);
+        }
+        List<Callable<List<R>>> chunks = new ArrayList<>(chunkCount);
+        for (int chunk = 0; chunk < chunkCount; chunk++) {
+            List<T> chunkElements = elements.subList(chunk * elements.size() / chunkCount, (chunk + 1) * elements.size() / chunkCount);
+            chunks.add(() -> SequentialAnalysisExecutor.INSTANCE.map(chunkElements, function));
+        }
+
+        List<R> results = new ArrayList<>(elements.size());
+        try {
+            for (Future<List<R>> future : this.executorService.invokeAll(chunks)) {
+                results.addAll(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the analysis executor", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException("Work item of the analysis executor failed", e.getCause());
+        }
+        return results;
+    }
+
+    @Override
+    public void shutdown() {
+        if (this.ownsExecutorService) {
+            this.executorService.shutdown();
+        }
+    }
+}
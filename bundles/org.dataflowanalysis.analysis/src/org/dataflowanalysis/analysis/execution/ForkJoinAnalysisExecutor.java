@@ -0,0 +1,53 @@
+package org.dataflowanalysis.analysis.execution;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * Executor that processes work items with a parallel stream inside a fork-join pool.
+ * Parallel streams started from a task of a fork-join pool are processed by the workers of that pool instead of the common pool
+ */
+final class ForkJoinAnalysisExecutor implements AnalysisExecutor {
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+
+    /**
+     * Creates a new executor using the given pool
+     * @param pool Fork-join pool that processes the work items
+     * @param ownsPool Indicates whether the pool is shut down together with the executor
+     */
+    ForkJoinAnalysisExecutor(ForkJoinPool pool, boolean ownsPool) {
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+    }
+
+    @Override
+    public int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    @Override
+    public <T, R> List<R> map(List<T> elements, Function<? super T, ? extends R> function) {
+        if (elements.size() <= 1) {
+            return SequentialAnalysisExecutor.INSTANCE.map(elements, function);
+        }
+        return this.pool.submit(() -> elements.parallelStream()
+                .<R>map(function)
+                .toList())
+            .join();
+    }
+
+    @Override
+    public Optional<ForkJoinPool> getForkJoinPool() {
+        return Optional.of(this.pool);
+    }
+
+    @Override
+    public void shutdown() {
+        if (this.ownsPool) {
+            this.pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package org.dataflowanalysis.analysis.execution;
+
+import org.dataflowanalysis.analysis.DataFlowConfidentialityAnalysis;
+
+/**
+ * Description of a model that is analyzed by a {@link BatchAnalysisRunner}
+ */
+public interface ModelDescriptor {
+    /**
+     * Returns the name of the model, that identifies the model in the results of a batch
+     * @return Name of the model
+     */
+    public String getName();
+
+    /**
+     * Creates a new analysis of the model, that has not been initialized yet.
+     * Any registration required to resolve the files of the model is performed here
+     * @return Returns the created analysis
+     */
+    public DataFlowConfidentialityAnalysis createAnalysis();
+
+    /**
+     * Estimates the heap memory, that is required while the model is analyzed.
+     * The estimate is used to admit models to a batch, so that the models being analyzed at the same time fit into the memory limit of the batch.
+     * The method is called after {@link #createAnalysis()} and before the analysis is initialized
+     * @return Returns the estimated memory in bytes or zero, if no estimate is available
+     */
+    public default long estimateMemory() {
+        return 0;
+    }
+}
@@ -0,0 +1,29 @@
+package org.dataflowanalysis.analysis.execution;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Executor that processes all work items in the calling thread
+ */
+final class SequentialAnalysisExecutor implements AnalysisExecutor {
+    static final SequentialAnalysisExecutor INSTANCE = new SequentialAnalysisExecutor();
+
+    private SequentialAnalysisExecutor() {
+    }
+
+    @Override
+    public int getParallelism() {
+        return 1;
+    }
+
+    @Override
+    public <T, R> List<R> map(List<T> elements, Function<? super T, ? extends R> function) {
+        List<R> results = new ArrayList<>(elements.size());
+        for (T element : elements) {
+            results.add(function.apply(element));
+        }
+        return results;
+    }
+}
@@ -0,0 +1,68 @@
+package org.dataflowanalysis.analysis.query;
+
+import java.util.function.Predicate;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.LabelSet;
+
+/**
+ * Constraint of the constraint language, that has been compiled by a {@link ConstraintCompiler}.
+ * The constraint is satisfied by elements violating it and only operates on label ids resolved at compile time.
+ * Compiled constraints are immutable and may be tested concurrently
+ */
+public final class CompiledConstraint implements Predicate<ElementView> {
+    private final String source;
+    private final Condition condition;
+
+    /**
+     * Creates a new compiled constraint
+     * @param source Source of the constraint
+     * @param condition Compiled condition of the constraint
+     */
+    CompiledConstraint(String source, Condition condition) {
+        this.source = source;
+        this.condition = condition;
+    }
+
+    /**
+     * Returns the source of the constraint
+     * @return Source the constraint has been compiled from
+     */
+    public String getSource() {
+        return this.source;
+    }
+
+    @Override
+    public boolean test(ElementView view) {
+        return this.condition.test(view, null);
+    }
+
+    /**
+     * Tests the constraint against the given element
+     * @param element Evaluated element of an action sequence
+     * @return Returns true, if the element violates the constraint. Otherwise, the method returns false
+     */
+    public boolean testElement(AbstractActionSequenceElement<?> element) {
+        return this.test(new ElementView(element));
+    }
+
+    @Override
+    public String toString() {
+        return this.source;
+    }
+
+    /**
+     * Compiled condition of the constraint language
+     */
+    @FunctionalInterface
+    interface Condition {
+        /**
+         * Tests the condition against an element
+         * @param view Shared view of the element
+         * @param dataLabels Data labels referenced by data selectors. Within a quantifier, these are the labels of a single variable.
+         * Otherwise, the parameter is null and data selectors reference the labels of all incoming variables
+         * @return Returns true, if the condition is satisfied. Otherwise, the method returns false
+         */
+        boolean test(ElementView view, LabelSet dataLabels);
+    }
+}
@@ -0,0 +1,464 @@
+package org.dataflowanalysis.analysis.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+
+import org.dataflowanalysis.analysis.core.LabelSet;
+import org.dataflowanalysis.analysis.core.LabelUniverse;
+import org.dataflowanalysis.analysis.query.CompiledConstraint.Condition;
+
+/**
+ * Compiles constraints of a small declarative constraint language against the characteristic types and literals of a {@link LabelUniverse}.
+ * Types and literals are resolved once at compile time, so that compiled constraints only operate on label ids.
+ * The universe should therefore contain the labels of all loaded data dictionaries, i.e. the analysis should be initialized beforehand.
+ * <p>
+ * A constraint is satisfied by elements violating it and has the following grammar:
+ * <pre>
+ * constraint := conjunction ('||' conjunction)*
+ * conjunction := unary ('&amp;&amp;' unary)*
+ * unary := '!' unary | '(' constraint ')' | ('any' | 'all') '(' constraint ')' | relation
+ * relation := selector 'empty' | selector operator operand
+ * selector := ('node' | 'data') '.' name
+ * operator := 'contains' | 'intersects' | 'disjoint' | 'subset' | 'equals'
+ * operand := '{' [name (',' name)*] '}' | selector
+ * name := identifier | '"' text '"'
+ * </pre>
+ * A selector references the labels of one characteristic type of the node or of the incoming data of an element.
+ * Outside of a quantifier, the data of an element are the labels of all incoming data flow variables.
+ * The quantifiers {@code any} and {@code all} test their constraint for each incoming data flow variable separately.
+ * Labels of different characteristic types are related by the names of their literals.
+ * For example, {@code any(!(data.GrantedRoles empty) && data.GrantedRoles disjoint node.AssignedRoles)} is violated by elements, that
+ * receive a variable whose granted roles do not include any role assigned to the element
+ */
+public class ConstraintCompiler {
+    private final LabelUniverse universe;
+
+    /**
+     * Creates a new compiler resolving types and literals in the given universe
+     * @param universe Label universe of the analysis
+     */
+    public ConstraintCompiler(LabelUniverse universe) {
+        this.universe = universe;
+    }
+
+    /**
+     * Compiles the given constraint
+     * @param source Source of the constraint
+     * @return Returns the compiled constraint
+     * @throws IllegalArgumentException if the constraint is malformed or references unknown characteristic types or literals
+     */
+    public CompiledConstraint compile(String source) {
+        Parser parser = new Parser(source);
+        Condition condition = parser.parseConstraint();
+        parser.expectEnd();
+        return new CompiledConstraint(source.strip(), condition);
+    }
+
+    /**
+     * Compiles a policy into a query. Each line of the policy contains a named constraint of the form {@code name: constraint}.
+     * Empty lines and lines starting with {@code #} are ignored
+     * @param policy Source of the policy
+     * @return Returns a query containing the compiled constraints of the policy
+     * @throws IllegalArgumentException if a line or a constraint of the policy is malformed
+     */
+    public ConstraintQuery compilePolicy(String policy) {
+        ConstraintQuery query = new ConstraintQuery();
+        String[] lines = policy.split("\\R");
+        for (int lineIndex = 0; lineIndex < lines.length; lineIndex++) {
+            String line = lines[lineIndex].strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            int separatorIndex = line.indexOf(':');
+            if (separatorIndex <= 0) {
+                throw new IllegalArgumentException(String.format("Line %d of policy is not of the form <name>: <constraint>", lineIndex + 1));
+            }
+            query.addConstraint(line.substring(0, separatorIndex).strip(), this.compile(line.substring(separatorIndex + 1)));
+        }
+        return query;
+    }
+
+    /**
+     * Compiles a relation between a selector and a constant set of labels of the selected characteristic type
+     * @param selector Selector of the relation
+     * @param operator Operator of the relation
+     * @param operand Constant set of labels
+     * @return Returns the compiled relation
+     */
+    private Condition compileRelation(Selector selector, String operator, LabelSet operand) {
+        LabelSet outside = selector.mask().difference(operand);
+        return switch (operator) {
+            case "contains" -> (view, dataLabels) -> selector.labels(view, dataLabels).containsAll(operand);
+            case "intersects" -> (view, dataLabels) -> selector.labels(view, dataLabels).intersects(operand);
+            case "disjoint" -> (view, dataLabels) -> !selector.labels(view, dataLabels).intersects(operand);
+            case "subset" -> (view, dataLabels) -> !selector.labels(view, dataLabels).intersects(outside);
+            case "equals" -> (view, dataLabels) -> {
+                LabelSet labels = selector.labels(view, dataLabels);
+                return labels.containsAll(operand) && !labels.intersects(outside);
+            };
+            default -> throw new IllegalStateException("Unknown operator " + operator);
+        };
+    }
+
+    /**
+     * Compiles a relation between two selectors. The labels of both selectors are related by the names of their literals
+     * @param selector Left selector of the relation
+     * @param operator Operator of the relation
+     * @param operand Right selector of the relation
+     * @return Returns the compiled relation
+     */
+    private Condition compileRelation(Selector selector, String operator, Selector operand) {
+        Map<String, Integer> literalNames = new HashMap<>();
+        int[] leftNames = this.createNameIndex(selector.mask(), literalNames);
+        int[] rightNames = this.createNameIndex(operand.mask(), literalNames);
+        return switch (operator) {
+            case "contains" -> (view, dataLabels) -> isSubset(toNames(operand.labels(view, dataLabels), rightNames),
+                    toNames(selector.labels(view, dataLabels), leftNames));
+            case "intersects" -> (view, dataLabels) -> toNames(selector.labels(view, dataLabels), leftNames)
+                .intersects(toNames(operand.labels(view, dataLabels), rightNames));
+            case "disjoint" -> (view, dataLabels) -> !toNames(selector.labels(view, dataLabels), leftNames)
+                .intersects(toNames(operand.labels(view, dataLabels), rightNames));
+            case "subset" -> (view, dataLabels) -> isSubset(toNames(selector.labels(view, dataLabels), leftNames),
+                    toNames(operand.labels(view, dataLabels), rightNames));
+            case "equals" -> (view, dataLabels) -> toNames(selector.labels(view, dataLabels), leftNames)
+                .equals(toNames(operand.labels(view, dataLabels), rightNames));
+            default -> throw new IllegalStateException("Unknown operator " + operator);
+        };
+    }
+
+    /**
+     * Creates an index from the label ids of a characteristic type to indices of their literal names
+     * @param mask Labels of the characteristic type
+     * @param literalNames Indices of literal names, that is extended by the literal names of the characteristic type
+     * @return Returns an array containing the index of the literal name for each label id of the type, and -1 for all other label ids
+     */
+    private int[] createNameIndex(LabelSet mask, Map<String, Integer> literalNames) {
+        int[] nameIndex = new int[this.universe.size()];
+        Arrays.fill(nameIndex, -1);
+        mask.ids()
+            .filter(id -> id < nameIndex.length)
+            .forEach(id -> nameIndex[id] = literalNames.computeIfAbsent(this.universe.getCharacteristicValue(id)
+                .getValueName(), it -> literalNames.size()));
+        return nameIndex;
+    }
+
+    /**
+     * Maps the given labels to the indices of their literal names
+     * @param labels Labels that are mapped
+     * @param nameIndex Index of the literal names of a characteristic type
+     * @return Returns the indices of the literal names of all labels belonging to the characteristic type of the index
+     */
+    private static BitSet toNames(LabelSet labels, int[] nameIndex) {
+        BitSet names = new BitSet();
+        labels.ids()
+            .filter(id -> id < nameIndex.length && nameIndex[id] >= 0)
+            .forEach(id -> names.set(nameIndex[id]));
+        return names;
+    }
+
+    /**
+     * Determines whether the first set is a subset of the second set
+     * @param subset Possible subset
+     * @param superset Possible superset
+     * @return Returns true, if all bits of the first set are also set in the second set. Otherwise, the method returns false
+     */
+    private static boolean isSubset(BitSet subset, BitSet superset) {
+        BitSet remaining = (BitSet) subset.clone();
+        remaining.andNot(superset);
+        return remaining.isEmpty();
+    }
+
+    /**
+     * Recursive descent parser of a single constraint, that compiles the constraint while parsing
+     */
+    private class Parser {
+        private static final List<String> OPERATORS = List.of("contains", "intersects", "disjoint", "subset", "equals");
+
+        private final String source;
+        private final List<Token> tokens;
+        private int index;
+
+        /**
+         * Creates a new parser of the given constraint
+         * @param source Source of the constraint
+         */
+        Parser(String source) {
+            this.source = source;
+            this.tokens = this.tokenize(source);
+            this.index = 0;
+        }
+
+        /**
+         * Parses a disjunction of conjunctions
+         * @return Returns the compiled disjunction
+         */
+        Condition parseConstraint() {
+            Condition condition = this.parseConjunction();
+            while (this.accept("||")) {
+                Condition left = condition;
+                Condition right = this.parseConjunction();
+                condition = (view, dataLabels) -> left.test(view, dataLabels) || right.test(view, dataLabels);
+            }
+            return condition;
+        }
+
+        /**
+         * Ensures that the whole constraint has been parsed
+         */
+        void expectEnd() {
+            Token token = this.tokens.get(this.index);
+            if (token.type() != TokenType.END) {
+                throw this.error(token, "Unexpected '" + token.text() + "'");
+            }
+        }
+
+        /**
+         * Parses a conjunction of unary constraints
+         * @return Returns the compiled conjunction
+         */
+        private Condition parseConjunction() {
+            Condition condition = this.parseUnary();
+            while (this.accept("&&")) {
+                Condition left = condition;
+                Condition right = this.parseUnary();
+                condition = (view, dataLabels) -> left.test(view, dataLabels) && right.test(view, dataLabels);
+            }
+            return condition;
+        }
+
+        /**
+         * Parses a negation, a parenthesized constraint, a quantifier or a relation
+         * @return Returns the compiled constraint
+         */
+        private Condition parseUnary() {
+            if (this.accept("!")) {
+                Condition condition = this.parseUnary();
+                return (view, dataLabels) -> !condition.test(view, dataLabels);
+            }
+            if (this.accept("(")) {
+                Condition condition = this.parseConstraint();
+                this.expect(")");
+                return condition;
+            }
+            Token token = this.tokens.get(this.index);
+            if (token.type() == TokenType.NAME && (token.text().equals("any") || token.text().equals("all"))) {
+                this.index++;
+                this.expect("(");
+                Condition condition = this.parseConstraint();
+                this.expect(")");
+                if (token.text().equals("any")) {
+                    return (view, dataLabels) -> view.getElement().getAllDataFlowVariables().stream()
+                        .anyMatch(it -> condition.test(view, it.labels()));
+                }
+                return (view, dataLabels) -> view.getElement().getAllDataFlowVariables().stream()
+                    .allMatch(it -> condition.test(view, it.labels()));
+            }
+            return this.parseRelation();
+        }
+
+        /**
+         * Parses a relation of a selector
+         * @return Returns the compiled relation
+         */
+        private Condition parseRelation() {
+            Selector selector = this.parseSelector();
+            Token operator = this.next();
+            if (operator.type() == TokenType.NAME && operator.text().equals("empty")) {
+                return (view, dataLabels) -> !selector.labels(view, dataLabels).intersects(selector.mask());
+            }
+            if (operator.type() != TokenType.NAME || !OPERATORS.contains(operator.text())) {
+                throw this.error(operator, "Expected operator instead of '" + operator.text() + "'");
+            }
+            if (this.tokens.get(this.index).is("{")) {
+                return compileRelation(selector, operator.text(), this.parseLiterals(selector));
+            }
+            return compileRelation(selector, operator.text(), this.parseSelector());
+        }
+
+        /**
+         * Parses a selector and resolves its characteristic type
+         * @return Returns the parsed selector
+         */
+        private Selector parseSelector() {
+            Token source = this.next();
+            if (source.type() != TokenType.NAME || !(source.text().equals("node") || source.text().equals("data"))) {
+                throw this.error(source, "Expected node or data selector instead of '" + source.text() + "'");
+            }
+            this.expect(".");
+            Token type = this.expectName();
+            LabelSet mask = universe.getLabelsOfType(type.text());
+            if (mask.isEmpty()) {
+                throw this.error(type, "Unknown characteristic type " + type.text());
+            }
+            return new Selector(source.text().equals("node"), type.text(), mask);
+        }
+
+        /**
+         * Parses a set of literals and resolves them as labels of the characteristic type of the given selector
+         * @param selector Selector the literals are related to
+         * @return Returns the set of resolved labels
+         */
+        private LabelSet parseLiterals(Selector selector) {
+            this.expect("{");
+            LabelSet labels = LabelSet.empty(universe);
+            if (this.accept("}")) {
+                return labels;
+            }
+            do {
+                Token literal = this.expectName();
+                OptionalInt id = universe.findId(selector.typeName(), literal.text());
+                if (id.isEmpty()) {
+                    throw this.error(literal, "Unknown literal " + literal.text() + " of characteristic type " + selector.typeName());
+                }
+                labels = labels.with(id.getAsInt());
+            } while (this.accept(","));
+            this.expect("}");
+            return labels;
+        }
+
+        /**
+         * Consumes the next token, if it is the given symbol
+         * @param symbol Expected symbol
+         * @return Returns true, if the symbol has been consumed. Otherwise, the method returns false
+         */
+        private boolean accept(String symbol) {
+            if (this.tokens.get(this.index).is(symbol)) {
+                this.index++;
+                return true;
+            }
+            return false;
+        }
+
+        /**
+         * Consumes the next token, which must be the given symbol
+         * @param symbol Expected symbol
+         */
+        private void expect(String symbol) {
+            Token token = this.next();
+            if (!token.is(symbol)) {
+                throw this.error(token, "Expected '" + symbol + "' instead of '" + token.text() + "'");
+            }
+        }
+
+        /**
+         * Consumes the next token, which must be an identifier or a quoted name
+         * @return Returns the consumed token
+         */
+        private Token expectName() {
+            Token token = this.next();
+            if (token.type() != TokenType.NAME && token.type() != TokenType.STRING) {
+                throw this.error(token, "Expected name instead of '" + token.text() + "'");
+            }
+            return token;
+        }
+
+        /**
+         * Consumes the next token
+         * @return Returns the consumed token
+         */
+        private Token next() {
+            Token token = this.tokens.get(this.index);
+            if (token.type() != TokenType.END) {
+                this.index++;
+            }
+            return token;
+        }
+
+        /**
+         * Creates an exception describing an error at the given token
+         * @param token Token at which the error occurred
+         * @param message Description of the error
+         * @return Returns the exception that should be thrown
+         */
+        private IllegalArgumentException error(Token token, String message) {
+            return new IllegalArgumentException(String.format("%s at position %d of constraint \"%s\"", message, token.position(), this.source));
+        }
+
+        /**
+         * Splits the given constraint into tokens
+         * @param source Source of the constraint
+         * @return Returns the tokens of the constraint, ending with an end token
+         */
+        private List<Token> tokenize(String source) {
+            List<Token> tokens = new ArrayList<>();
+            int position = 0;
+            while (position < source.length()) {
+                char character = source.charAt(position);
+                if (Character.isWhitespace(character)) {
+                    position++;
+                } else if (character == '"') {
+                    int end = source.indexOf('"', position + 1);
+                    if (end < 0) {
+                        throw new IllegalArgumentException(String.format("Unterminated name at position %d of constraint \"%s\"", position, source));
+                    }
+                    tokens.add(new Token(TokenType.STRING, source.substring(position + 1, end), position));
+                    position = end + 1;
+                } else if (source.startsWith("&&", position) || source.startsWith("||", position)) {
+                    tokens.add(new Token(TokenType.SYMBOL, source.substring(position, position + 2), position));
+                    position += 2;
+                } else if ("(){},.!".indexOf(character) >= 0) {
+                    tokens.add(new Token(TokenType.SYMBOL, String.valueOf(character), position));
+                    position++;
+                } else if (Character.isLetterOrDigit(character) || character == '_') {
+                    int end = position;
+                    while (end < source.length() && (Character.isLetterOrDigit(source.charAt(end)) || source.charAt(end) == '_' || source.charAt(end) == '-')) {
+                        end++;
+                    }
+                    tokens.add(new Token(TokenType.NAME, source.substring(position, end), position));
+                    position = end;
+                } else {
+                    throw new IllegalArgumentException(String.format("Unexpected character '%c' at position %d of constraint \"%s\"", character, position, source));
+                }
+            }
+            tokens.add(new Token(TokenType.END, "", source.length()));
+            return tokens;
+        }
+    }
+
+    /**
+     * Selector of the labels of one characteristic type of the node or the data of an element
+     * @param node Indicates whether the node labels or the data labels are selected
+     * @param typeName Name of the characteristic type
+     * @param mask All labels of the characteristic type
+     */
+    private record Selector(boolean node, String typeName, LabelSet mask) {
+        /**
+         * Returns the labels the selector refers to. The labels are not restricted to the characteristic type of the selector
+         * @param view Shared view of the element
+         * @param dataLabels Labels of the current data flow variable, or null if the labels of all incoming variables are selected
+         * @return Returns the node labels or the data labels
+         */
+        LabelSet labels(ElementView view, LabelSet dataLabels) {
+            if (this.node) {
+                return view.getNodeLabels();
+            }
+            return dataLabels == null ? view.getDataLabels() : dataLabels;
+        }
+    }
+
+    /**
+     * Token of a constraint
+     * @param type Type of the token
+     * @param text Text of the token. Quoted names do not include the quotes
+     * @param position Position of the token in the constraint
+     */
+    private record Token(TokenType type, String text, int position) {
+        /**
+         * Determines whether the token is the given symbol
+         * @param symbol Symbol
+         * @return Returns true, if the token is the symbol. Otherwise, the method returns false
+         */
+        boolean is(String symbol) {
+            return this.type == TokenType.SYMBOL && this.text.equals(symbol);
+        }
+    }
+
+    private enum TokenType {
+        NAME, STRING, SYMBOL, END
+    }
+}
@@ -0,0 +1,112 @@
+package org.dataflowanalysis.analysis.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.execution.AnalysisExecutor;
+
+/**
+ * Query that checks a set of named constraints over evaluated action sequences in a single pass.
+ * Each element is visited once and all constraints are tested against a shared {@link ElementView} of the element.
+ * A constraint is violated by an element, if its condition is satisfied by the element, 
+ * similar to the condition of {@link org.dataflowanalysis.analysis.DataFlowConfidentialityAnalysis#queryDataFlow}
+ */
+public class ConstraintQuery {
+    private final List<String> constraintNames;
+    private final List<Predicate<? super ElementView>> constraints;
+
+    /**
+     * Creates a new query without any constraints
+     */
+    public ConstraintQuery() {
+        this.constraintNames = new ArrayList<>();
+        this.constraints = new ArrayList<>();
+    }
+
+    /**
+     * Adds a constraint to the query, whose condition is tested against the shared view of each element
+     * @param name Unique name of the constraint
+     * @param condition Condition that is satisfied by elements violating the constraint. May be called concurrently from multiple threads
+     * @return Returns the query
+     */
+    public ConstraintQuery addConstraint(String name, Predicate<? super ElementView> condition) {
+        if (this.constraintNames.contains(name)) {
+            throw new IllegalArgumentException("Query already contains a constraint named " + name);
+        }
+        this.constraintNames.add(name);
+        this.constraints.add(condition);
+        return this;
+    }
+
+    /**
+     * Adds a constraint to the query, whose condition is tested against each element directly
+     * @param name Unique name of the constraint
+     * @param condition Condition that is satisfied by elements violating the constraint. May be called concurrently from multiple threads
+     * @return Returns the query
+     */
+    public ConstraintQuery addElementConstraint(String name, Predicate<? super AbstractActionSequenceElement<?>> condition) {
+        return this.addConstraint(name, it -> condition.test(it.getElement()));
+    }
+
+    /**
+     * Returns the names of the constraints of the query
+     * @return Names of the constraints in the order they were added
+     */
+    public List<String> getConstraintNames() {
+        return List.copyOf(this.constraintNames);
+    }
+
+    /**
+     * Checks all constraints of the query over the given sequences in the calling thread
+     * @param sequences Evaluated action sequences
+     * @return Returns the violations of all constraints
+     */
+    public ViolationMatrix evaluate(List<? extends ActionSequence> sequences) {
+        return this.evaluate(sequences, AnalysisExecutor.sequential());
+    }
+
+    /**
+     * Checks all constraints of the query over the given sequences. The sequences are checked in parallel by the given executor
+     * @param sequences Evaluated action sequences
+     * @param executor Executor that checks the sequences
+     * @return Returns the violations of all constraints
+     */
+    public ViolationMatrix evaluate(List<? extends ActionSequence> sequences, AnalysisExecutor executor) {
+        List<ActionSequence> evaluatedSequences = List.copyOf(sequences);
+        List<Predicate<? super ElementView>> constraints = List.copyOf(this.constraints);
+        List<Integer> sequenceIndices = IntStream.range(0, evaluatedSequences.size()).boxed().toList();
+        List<int[]> violations = executor.map(sequenceIndices, it -> this.evaluateSequence(evaluatedSequences.get(it), constraints));
+        return new ViolationMatrix(this.getConstraintNames(), evaluatedSequences, violations);
+    }
+
+    /**
+     * Checks all constraints over the elements of a single sequence
+     * @param sequence Evaluated action sequence
+     * @param constraints Constraints of the query
+     * @return Returns the violations of the sequence as pairs of element index and constraint index, ordered by element
+     */
+    private int[] evaluateSequence(ActionSequence sequence, List<Predicate<? super ElementView>> constraints) {
+        int[] violations = new int[0];
+        int size = 0;
+        List<AbstractActionSequenceElement<?>> elements = sequence.getElements();
+        for (int elementIndex = 0; elementIndex < elements.size(); elementIndex++) {
+            ElementView view = new ElementView(elements.get(elementIndex));
+            for (int constraintIndex = 0; constraintIndex < constraints.size(); constraintIndex++) {
+                if (!constraints.get(constraintIndex).test(view)) {
+                    continue;
+                }
+                if (size == violations.length) {
+                    violations = Arrays.copyOf(violations, Math.max(8, violations.length * 2));
+                }
+                violations[size++] = elementIndex;
+                violations[size++] = constraintIndex;
+            }
+        }
+        return Arrays.copyOf(violations, size);
+    }
+}
@@ -0,0 +1,147 @@
+package org.dataflowanalysis.analysis.query;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.CharacteristicValue;
+import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.LabelSet;
+
+/**
+ * View on the characteristics of an evaluated element, that is shared by all constraints of a {@link ConstraintQuery}.
+ * The characteristics are extracted from the element on first use and reused by every following constraint.
+ * As the extracted lists are shared, they are unmodifiable. A view is only used by a single thread and is not thread-safe
+ */
+public final class ElementView {
+    private final AbstractActionSequenceElement<?> element;
+    private LabelSet dataLabels;
+    private List<String> nodeCharacteristicNames;
+    private List<String> dataCharacteristicNames;
+    private final Map<String, List<String>> nodeCharacteristicNamesByType;
+    private final Map<String, List<String>> nodeCharacteristicIdsByType;
+    private final Map<String, List<List<String>>> dataCharacteristicNamesByType;
+    private final Map<String, List<List<String>>> dataCharacteristicIdsByType;
+
+    /**
+     * Creates a new view on the given evaluated element
+     * @param element Evaluated element of an action sequence
+     */
+    public ElementView(AbstractActionSequenceElement<?> element) {
+        this.element = element;
+        this.nodeCharacteristicNamesByType = new HashMap<>();
+        this.nodeCharacteristicIdsByType = new HashMap<>();
+        this.dataCharacteristicNamesByType = new HashMap<>();
+        this.dataCharacteristicIdsByType = new HashMap<>();
+    }
+
+    /**
+     * Returns the element of the view
+     * @return Evaluated element of an action sequence
+     */
+    public AbstractActionSequenceElement<?> getElement() {
+        return this.element;
+    }
+
+    /**
+     * Returns the node characteristics of the element
+     * @return Label set of the node characteristics
+     */
+    public LabelSet getNodeLabels() {
+        return this.element.getNodeCharacteristicLabels();
+    }
+
+    /**
+     * Returns the characteristics of all incoming data flow variables of the element
+     * @return Label set containing the characteristics of all incoming data flow variables
+     */
+    public LabelSet getDataLabels() {
+        if (this.dataLabels == null) {
+            LabelSet labels = LabelSet.empty(this.getNodeLabels().getUniverse());
+            for (DataFlowVariable dataFlowVariable : this.element.getAllDataFlowVariables()) {
+                labels = labels.union(dataFlowVariable.labels());
+            }
+            this.dataLabels = labels;
+        }
+        return this.dataLabels;
+    }
+
+    /**
+     * Returns the literal names of all node characteristics of the element
+     * @return List of literal names of the node characteristics
+     */
+    public List<String> getNodeCharacteristicNames() {
+        if (this.nodeCharacteristicNames == null) {
+            this.nodeCharacteristicNames = this.getNodeLabels().getCharacteristicValues().stream()
+                .map(CharacteristicValue::getValueName)
+                .toList();
+        }
+        return this.nodeCharacteristicNames;
+    }
+
+    /**
+     * Returns the literal names of the characteristics of all incoming data flow variables of the element
+     * @return List of literal names of the data characteristics
+     */
+    public List<String> getDataCharacteristicNames() {
+        if (this.dataCharacteristicNames == null) {
+            this.dataCharacteristicNames = this.element.getAllDataFlowVariables().stream()
+                .flatMap(it -> it.characteristics().stream())
+                .map(CharacteristicValue::getValueName)
+                .toList();
+        }
+        return this.dataCharacteristicNames;
+    }
+
+    /**
+     * Returns the literal names of the node characteristics with the given type.
+     * See {@link AbstractActionSequenceElement#getNodeCharacteristicNamesWithType(String)}
+     * @param type Name of the characteristic type
+     * @return List of literal names of the node characteristics with the given type
+     */
+    public List<String> getNodeCharacteristicNamesWithType(String type) {
+        return this.nodeCharacteristicNamesByType.computeIfAbsent(type, it -> List.copyOf(this.element.getNodeCharacteristicNamesWithType(it)));
+    }
+
+    /**
+     * Returns the literal ids of the node characteristics with the given type.
+     * See {@link AbstractActionSequenceElement#getNodeCharacteristicIdsWithType(String)}
+     * @param type Name of the characteristic type
+     * @return List of literal ids of the node characteristics with the given type
+     */
+    public List<String> getNodeCharacteristicIdsWithType(String type) {
+        return this.nodeCharacteristicIdsByType.computeIfAbsent(type, it -> List.copyOf(this.element.getNodeCharacteristicIdsWithType(it)));
+    }
+
+    /**
+     * Returns the literal names of the characteristics with the given type for each incoming data flow variable.
+     * See {@link AbstractActionSequenceElement#getDataFlowCharacteristicNamesWithType(String)}
+     * @param type Name of the characteristic type
+     * @return List containing the literal names of the characteristics with the given type for each data flow variable
+     */
+    public List<List<String>> getDataFlowCharacteristicNamesWithType(String type) {
+        return this.dataCharacteristicNamesByType.computeIfAbsent(type, it -> this.copyOf(this.element.getDataFlowCharacteristicNamesWithType(it)));
+    }
+
+    /**
+     * Returns the literal ids of the characteristics with the given type for each incoming data flow variable.
+     * See {@link AbstractActionSequenceElement#getDataFlowCharacteristicIdsWithType(String)}
+     * @param type Name of the characteristic type
+     * @return List containing the literal ids of the characteristics with the given type for each data flow variable
+     */
+    public List<List<String>> getDataFlowCharacteristicIdsWithType(String type) {
+        return this.dataCharacteristicIdsByType.computeIfAbsent(type, it -> this.copyOf(this.element.getDataFlowCharacteristicIdsWithType(it)));
+    }
+
+    /**
+     * Returns an unmodifiable copy of the given nested list
+     * @param lists Lists of characteristics of each data flow variable
+     * @return Unmodifiable copy of the lists
+     */
+    private List<List<String>> copyOf(List<List<String>> lists) {
+        return lists.stream()
+            .<List<String>>map(List::copyOf)
+            .toList();
+    }
+}
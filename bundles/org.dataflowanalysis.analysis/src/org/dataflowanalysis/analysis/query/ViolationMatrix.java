@@ -0,0 +1,163 @@
+package org.dataflowanalysis.analysis.query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+
+/**
+ * Result of a {@link ConstraintQuery}, that stores each violation as a triple of constraint, sequence and element index.
+ * Violations are ordered by sequence, element and constraint
+ */
+public final class ViolationMatrix {
+    private final List<String> constraintNames;
+    private final Map<String, Integer> constraintIndices;
+    private final List<ActionSequence> sequences;
+    private final int[] sequenceOffsets;
+    private final int[] elementIndices;
+    private final int[] constraintIndicesOfViolations;
+
+    /**
+     * Creates a new violation matrix
+     * @param constraintNames Names of the constraints of the query
+     * @param sequences Evaluated action sequences that have been checked
+     * @param violations Violations of each sequence as pairs of element index and constraint index
+     */
+    ViolationMatrix(List<String> constraintNames, List<ActionSequence> sequences, List<int[]> violations) {
+        this.constraintNames = constraintNames;
+        this.constraintIndices = IntStream.range(0, constraintNames.size()).boxed()
+            .collect(Collectors.toUnmodifiableMap(constraintNames::get, it -> it));
+        this.sequences = sequences;
+        this.sequenceOffsets = new int[sequences.size() + 1];
+        for (int sequenceIndex = 0; sequenceIndex < sequences.size(); sequenceIndex++) {
+            this.sequenceOffsets[sequenceIndex + 1] = this.sequenceOffsets[sequenceIndex] + violations.get(sequenceIndex).length / 2;
+        }
+        this.elementIndices = new int[this.sequenceOffsets[sequences.size()]];
+        this.constraintIndicesOfViolations = new int[this.elementIndices.length];
+        for (int sequenceIndex = 0; sequenceIndex < sequences.size(); sequenceIndex++) {
+            int[] sequenceViolations = violations.get(sequenceIndex);
+            for (int i = 0; i < sequenceViolations.length / 2; i++) {
+                this.elementIndices[this.sequenceOffsets[sequenceIndex] + i] = sequenceViolations[2 * i];
+                this.constraintIndicesOfViolations[this.sequenceOffsets[sequenceIndex] + i] = sequenceViolations[2 * i + 1];
+            }
+        }
+    }
+
+    /**
+     * Returns the names of the constraints that have been checked
+     * @return Names of the constraints in the order they were added to the query
+     */
+    public List<String> getConstraintNames() {
+        return this.constraintNames;
+    }
+
+    /**
+     * Returns the sequences that have been checked
+     * @return Evaluated action sequences in the order they were passed to the query
+     */
+    public List<ActionSequence> getSequences() {
+        return this.sequences;
+    }
+
+    /**
+     * Returns the total number of violations of all constraints
+     * @return Number of violations
+     */
+    public int size() {
+        return this.elementIndices.length;
+    }
+
+    /**
+     * Determines whether the given constraint is violated by any element
+     * @param constraintName Name of the constraint
+     * @return Returns true, if the constraint is violated. Otherwise, the method returns false
+     */
+    public boolean isViolated(String constraintName) {
+        int constraintIndex = this.getConstraintIndex(constraintName);
+        return IntStream.of(this.constraintIndicesOfViolations).anyMatch(it -> it == constraintIndex);
+    }
+
+    /**
+     * Returns all violations of all constraints
+     * @return List of all violations
+     */
+    public List<Violation> getViolations() {
+        return this.collectViolations(0, this.size(), it -> true);
+    }
+
+    /**
+     * Returns all violations of the given constraint
+     * @param constraintName Name of the constraint
+     * @return List of violations of the constraint
+     */
+    public List<Violation> getViolations(String constraintName) {
+        int constraintIndex = this.getConstraintIndex(constraintName);
+        return this.collectViolations(0, this.size(), it -> it == constraintIndex);
+    }
+
+    /**
+     * Returns the elements of a sequence that violate the given constraint.
+     * The result is equal to the result of querying the sequence with the condition of the constraint
+     * @param constraintName Name of the constraint
+     * @param sequenceIndex Index of the sequence
+     * @return List of elements of the sequence violating the constraint
+     */
+    public List<AbstractActionSequenceElement<?>> getViolatingElements(String constraintName, int sequenceIndex) {
+        int constraintIndex = this.getConstraintIndex(constraintName);
+        return this.collectViolations(this.sequenceOffsets[sequenceIndex], this.sequenceOffsets[sequenceIndex + 1], it -> it == constraintIndex)
+            .stream()
+            .<AbstractActionSequenceElement<?>>map(Violation::element)
+            .toList();
+    }
+
+    /**
+     * Collects the violations in the given range, whose constraint index matches the given condition
+     * @param from Index of the first violation
+     * @param to Index after the last violation
+     * @param constraintCondition Condition on the constraint index of a violation
+     * @return List of matching violations
+     */
+    private List<Violation> collectViolations(int from, int to, IntPredicate constraintCondition) {
+        List<Violation> violations = new ArrayList<>();
+        int sequenceIndex = 0;
+        for (int i = from; i < to; i++) {
+            if (!constraintCondition.test(this.constraintIndicesOfViolations[i])) {
+                continue;
+            }
+            while (this.sequenceOffsets[sequenceIndex + 1] <= i) {
+                sequenceIndex++;
+            }
+            AbstractActionSequenceElement<?> element = this.sequences.get(sequenceIndex).getElements().get(this.elementIndices[i]);
+            violations.add(new Violation(this.constraintNames.get(this.constraintIndicesOfViolations[i]), sequenceIndex, this.elementIndices[i], element));
+        }
+        return violations;
+    }
+
+    /**
+     * Returns the index of the constraint with the given name
+     * @param constraintName Name of the constraint
+     * @return Index of the constraint
+     */
+    private int getConstraintIndex(String constraintName) {
+        Integer constraintIndex = this.constraintIndices.get(constraintName);
+        if (constraintIndex == null) {
+            throw new IllegalArgumentException("Unknown constraint " + constraintName);
+        }
+        return constraintIndex;
+    }
+
+    /**
+     * Violation of a constraint by an element of a sequence
+     * @param constraintName Name of the violated constraint
+     * @param sequenceIndex Index of the sequence
+     * @param elementIndex Index of the element in the sequence
+     * @param element Element violating the constraint
+     */
+    public record Violation(String constraintName, int sequenceIndex, int elementIndex, AbstractActionSequenceElement<?> element) {
+    }
+}
@@ -0,0 +1,167 @@
+package org.dataflowanalysis.analysis.resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+
+import org.apache.log4j.Logger;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+
+/**
+ * On-disk cache of loaded model resources in the EMF binary resource format.
+ * Each cached resource is keyed by the hash of the URI and the content of its source file, so that a changed source file is never served from the cache.
+ * Thus, only resources whose contents are determined by their source file alone may be cached, e.g. XMI resources, whose references to other resources are stored as proxies.
+ * Lazily linked resources, e.g. data dictionaries in the Xtext format, are not cached, as their contents also depend on the resources they are linked against.
+ * Outdated entries are not removed, as they are never matched again. Entries that cannot be read should be removed with {@link #remove(String)}.
+ * The cache may be used concurrently, as long as each resource is loaded or stored by one thread
+ */
+public class ModelCache {
+    private static final String FORMAT_VERSION = "1";
+    private static final String FILE_EXTENSION = ".bin";
+
+    private final Logger logger = Logger.getLogger(ModelCache.class);
+    private final Path directory;
+
+    /**
+     * Creates a new cache storing the resources in the given directory. The directory is created, when the first resource is stored
+     * @param directory Directory of the cache
+     */
+    public ModelCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Computes the key of the model with the given URI from the content of its source file
+     * @param modelURI URI of the model
+     * @param resourceSet Resource set, whose URI converter is used to read the source file
+     * @return Returns the key of the model
+     * @throws IOException if the source file cannot be read
+     */
+    public String computeKey(URI modelURI, ResourceSet resourceSet) throws IOException {
+        MessageDigest digest = this.createDigest();
+        digest.update(FORMAT_VERSION.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(modelURI.toString().getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        try (InputStream inputStream = resourceSet.getURIConverter().createInputStream(modelURI)) {
+            byte[] buffer = new byte[8192];
+            for (int read = inputStream.read(buffer); read >= 0; read = inputStream.read(buffer)) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Indicates whether a resource with the given key is cached
+     * @param key Key of the model
+     * @return Returns true, if the resource is cached. Otherwise, the method returns false
+     */
+    public boolean contains(String key) {
+        return Files.isRegularFile(this.getPath(key));
+    }
+
+    /**
+     * Creates a resource with the given URI, whose contents are loaded from the cache by {@link #load(Resource, String)}.
+     * The resource resolves fragments by the ids of its elements like the source resource
+     * @param modelURI URI of the model
+     * @return Returns a new resource in the binary resource format
+     */
+    public Resource createResource(URI modelURI) {
+        BinaryResourceImpl resource = new BinaryResourceImpl(modelURI);
+        resource.setIntrinsicIDToEObjectMap(new HashMap<>());
+        return resource;
+    }
+
+    /**
+     * Loads the contents of the cached resource with the given key into the given resource
+     * @param resource Resource created by {@link #createResource(URI)}
+     * @param key Key of the model
+     * @throws IOException if the cached resource cannot be read
+     */
+    public void load(Resource resource, String key) throws IOException {
+        try (InputStream inputStream = Files.newInputStream(this.getPath(key))) {
+            resource.load(inputStream, this.getOptions(resource));
+        }
+    }
+
+    /**
+     * Stores the given loaded resource with the given key in the cache.
+     * The resource is written into a temporary file first, so that a concurrent reader never reads a partially written resource
+     * @param resource Loaded resource
+     * @param key Key of the model
+     * @throws IOException if the resource cannot be written
+     */
+    public void store(Resource resource, String key) throws IOException {
+        Files.createDirectories(this.directory);
+        Path temporaryFile = Files.createTempFile(this.directory, key, ".tmp");
+        try {
+            try (OutputStream outputStream = Files.newOutputStream(temporaryFile)) {
+                BinaryResourceImpl.EObjectOutputStream objectOutputStream = new BinaryResourceImpl.EObjectOutputStream(outputStream,
+                        this.getOptions(resource));
+                objectOutputStream.saveResource(resource);
+                objectOutputStream.flush();
+            }
+            Files.move(temporaryFile, this.getPath(key), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.debug(String.format("Stored model %s in the model cache.", resource.getURI()));
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+    }
+
+    /**
+     * Removes the cached resource with the given key, e.g. because it cannot be read anymore
+     * @param key Key of the model
+     * @throws IOException if the cached resource cannot be deleted
+     */
+    public void remove(String key) throws IOException {
+        Files.deleteIfExists(this.getPath(key));
+        logger.debug(String.format("Removed model with key %s from the model cache.", key));
+    }
+
+    /**
+     * Returns the path of the cached resource with the given key
+     * @param key Key of the model
+     * @return Path of the cached resource
+     */
+    private Path getPath(String key) {
+        return this.directory.resolve(key + FILE_EXTENSION);
+    }
+
+    /**
+     * Returns the options for reading and writing a resource in the binary resource format
+     * @param resource Resource that is read or written
+     * @return Options of the binary resource format
+     */
+    private Map<Object, Object> getOptions(Resource resource) {
+        Map<Object, Object> options = new HashMap<>();
+        if (resource.getResourceSet() != null) {
+            options.putAll(resource.getResourceSet().getLoadOptions());
+        }
+        return options;
+    }
+
+    /**
+     * Creates the digest computing the keys of the models
+     * @return Returns a SHA-256 message digest
+     */
+    private MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported by the runtime", e);
+        }
+    }
+}
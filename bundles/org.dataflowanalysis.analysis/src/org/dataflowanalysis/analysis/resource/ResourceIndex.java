@@ -0,0 +1,71 @@
+package org.dataflowanalysis.analysis.resource;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.emf.common.util.TreeIterator;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.palladiosimulator.pcm.core.entity.Entity;
+
+/**
+ * Immutable index of the contents of a set of resources.
+ * The index maps the ids of all contained entities to the entity and caches the top level elements of each requested type.
+ * It does not observe the resources, therefore it must be discarded by its owner after the contents have changed
+ */
+class ResourceIndex {
+    private final Map<String, EObject> elementsById;
+    private final List<EObject> toplevelElements;
+    private final Map<EClass, List<EObject>> toplevelElementsByType;
+
+    /**
+     * Creates a new index of the given resources by traversing their contents once
+     * @param resources Resources that should be indexed
+     */
+    public ResourceIndex(Collection<Resource> resources) {
+        this.elementsById = new HashMap<>();
+        this.toplevelElements = new ArrayList<>();
+        this.toplevelElementsByType = new ConcurrentHashMap<>();
+
+        for (Resource resource : resources) {
+            if (resource == null) {
+                continue;
+            }
+            this.toplevelElements.addAll(resource.getContents());
+            TreeIterator<EObject> iterator = resource.getAllContents();
+            while (iterator.hasNext()) {
+                EObject element = iterator.next();
+                if (element instanceof Entity entity && entity.getId() != null) {
+                    this.elementsById.putIfAbsent(entity.getId(), element);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed element with the given id
+     * @param id Id of the element
+     * @return Returns the element with the given id, if it exists in the indexed resources
+     */
+    public Optional<EObject> getElementWithId(String id) {
+        return Optional.ofNullable(this.elementsById.get(id));
+    }
+
+    /**
+     * Returns all top level elements of the indexed resources that are of the given type.
+     * The result is computed once per type and cached afterwards
+     * @param targetType Type of the top level elements
+     * @return Returns an unmodifiable list of top level elements with the given type
+     */
+    public List<EObject> getToplevelElements(EClass targetType) {
+        return this.toplevelElementsByType.computeIfAbsent(targetType, type -> this.toplevelElements.stream()
+            .filter(it -> type.isSuperTypeOf(it.eClass()))
+            .toList());
+    }
+}
@@ -1,26 +1,63 @@
 package org.dataflowanalysis.analysis.resource;
 
+import java.io.IOException;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Deque;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import org.apache.log4j.Logger;
+import org.dataflowanalysis.analysis.core.LabelUniverse;
+import org.dataflowanalysis.analysis.execution.AnalysisExecutor;
+import org.eclipse.emf.common.notify.Adapter;
+import org.eclipse.emf.common.notify.Notification;
+import org.eclipse.emf.common.notify.impl.AdapterImpl;
 import org.eclipse.emf.common.util.URI;
 import org.eclipse.emf.ecore.EClass;
 import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.InternalEObject;
 import org.eclipse.emf.ecore.resource.Resource;
 import org.eclipse.emf.ecore.resource.ResourceSet;
 import org.eclipse.emf.ecore.resource.impl.ResourceSetImpl;
+import org.eclipse.emf.ecore.util.EContentAdapter;
 import org.eclipse.emf.ecore.util.EcoreUtil;
-import org.palladiosimulator.pcm.core.entity.Entity;
+import org.eclipse.emf.ecore.util.InternalEList;
+import org.eclipse.emf.ecore.xmi.XMLResource;
 
 public abstract class ResourceProvider {
+	private final Logger logger = Logger.getLogger(ResourceProvider.class);
+	
 	protected ResourceSet resources = new ResourceSetImpl();
+	protected final LabelUniverse labelUniverse = new LabelUniverse();
+	private final Adapter indexInvalidationAdapter = new IndexInvalidationAdapter();
+	private final Adapter modelChangeAdapter = new ModelChangeAdapter();
+	private final List<Consumer<Notification>> modelChangeListeners = new CopyOnWriteArrayList<>();
+	private volatile ResourceIndex resourceIndex;
+	private AnalysisExecutor loadingExecutor = AnalysisExecutor.sequential();
+	private ModelCache modelCache;
+	private final Map<Resource, String> uncachedResources = new LinkedHashMap<>();
+	
+	/**
+	 * Creates a new resource provider, that keeps an index of the contents of its resources
+	 */
+	protected ResourceProvider() {
+		this.resources.eAdapters().add(this.indexInvalidationAdapter);
+	}
 	
 	/**
 	 * Loads the required resources
@@ -34,23 +71,21 @@ public abstract class ResourceProvider {
 	public abstract boolean sufficientResourcesLoaded();
 
 	/**
-	 * Looks up an ECore element with the given class type
+	 * Returns the label universe of the loaded models that assigns every characteristic value an integer id
+	 * @return Returns the label universe used by the analysis
+	 */
+	public LabelUniverse getLabelUniverse() {
+		return this.labelUniverse;
+	}
+
+	/**
+	 * Looks up an ECore element with the given class type.
+	 * The lookup uses the index of the resource provider, see {@link #invalidateIndex()} for the changes that are detected automatically
 	 * @param id  Id of the objects that the lookup should return
 	 * @return Returns the object with the given id
 	 */
 	public Optional<EObject> lookupElementWithId(String id) {
-		for (Resource resource : this.getResources()) {
-			Optional<EObject> result = this.findInResource(it -> {
-				if (it instanceof Entity) {
-					return ((Entity) it).getId().equals(id);
-				}
-				return false;
-			}, resource);
-            if (result.isPresent()) {
-            	return result;
-            }
-        }
-		return Optional.empty();
+		return this.getResourceIndex().getElementWithId(id);
 	}
 
 	/**
@@ -84,14 +119,86 @@ public abstract class ResourceProvider {
 	 * @param targetType Target type of the lookup
 	 * @return Returns a list of objects that are of the target type
 	 */
+	@SuppressWarnings("unchecked")
 	public <T extends EObject> List<T> lookupToplevelElement(EClass targetType) {
-		ArrayList<T> result = new ArrayList<T>();
-        for (Resource resource : this.resources.getResources()) {
-            if (this.isTargetInResource(targetType, resource)) {
-                result.addAll(EcoreUtil.<T> getObjectsByType(resource.getContents(), targetType));
-            }
-        }
-        return result;
+		return new ArrayList<>((List<T>) this.getResourceIndex().getToplevelElements(targetType));
+	}
+	
+	/**
+	 * Registers a listener that is notified about every change of the loaded resources and their contents.
+	 * The contents of the resources are only observed while at least one listener is registered
+	 * @param listener Listener that is notified about changes
+	 */
+	public synchronized void addModelChangeListener(Consumer<Notification> listener) {
+		this.modelChangeListeners.add(listener);
+		if (!this.resources.eAdapters().contains(this.modelChangeAdapter)) {
+			this.resources.eAdapters().add(this.modelChangeAdapter);
+		}
+	}
+	
+	/**
+	 * Removes a listener registered with {@link #addModelChangeListener(Consumer)}
+	 * @param listener Listener that should no longer be notified
+	 */
+	public synchronized void removeModelChangeListener(Consumer<Notification> listener) {
+		this.modelChangeListeners.remove(listener);
+		if (this.modelChangeListeners.isEmpty()) {
+			this.resources.eAdapters().remove(this.modelChangeAdapter);
+		}
+	}
+	
+	/**
+	 * Sets the executor that parses independent model files while loading the required resources. By default, model files are parsed sequentially.
+	 * Only resources in the XML or binary resource format are parsed concurrently
+	 * @param loadingExecutor Executor that parses model files
+	 */
+	public void setLoadingExecutor(AnalysisExecutor loadingExecutor) {
+		this.loadingExecutor = loadingExecutor;
+	}
+	
+	/**
+	 * Sets the cache, from which unchanged models are loaded instead of parsing their source files.
+	 * Models that are parsed from their source files are stored in the cache, once all resources have been resolved
+	 * @param modelCache Model cache or null, if no model cache should be used
+	 */
+	public void setModelCache(ModelCache modelCache) {
+		this.modelCache = modelCache;
+	}
+	
+	/**
+	 * Discards the index of the loaded resources, so that it is built again on the next lookup.
+	 * The index is invalidated automatically, when resources are added, removed, loaded or unloaded, or when the top level contents of a resource change.
+	 * Changes below the top level, e.g. a changed id or an added nested element, are only detected while a model change listener is registered,
+	 * as observing all contents is expensive for large models. Otherwise, callers that change nested elements must invalidate the index
+	 */
+	public void invalidateIndex() {
+		this.resourceIndex = null;
+	}
+	
+	/**
+	 * Builds the index of the loaded resources, if it is not up to date.
+	 * Should be called after the required resources have been loaded, so that following lookups do not need to build the index
+	 */
+	public void buildIndex() {
+		this.getResourceIndex();
+	}
+	
+	/**
+	 * Returns the index of the loaded resources. 
+	 * The index is built on first use and after the resources or their contents have been changed
+	 * @return Returns an up to date index of the loaded resources
+	 */
+	private ResourceIndex getResourceIndex() {
+		ResourceIndex index = this.resourceIndex;
+		if (index != null) {
+			return index;
+		}
+		synchronized (this) {
+			if (this.resourceIndex == null) {
+				this.resourceIndex = new ResourceIndex(this.getResources());
+			}
+			return this.resourceIndex;
+		}
 	}
 	
 	
@@ -101,16 +208,268 @@ public abstract class ResourceProvider {
 	 * @return ECore object that is saved in the resource with the given URI
 	 */
 	protected EObject loadModelContent(URI modelURI) {
-		Resource resource = resources.getResource(modelURI, true);
-		if (resource == null) {
-			throw new IllegalArgumentException(String.format("Model with URI %s could not be loaded", modelURI));
-		} else if (resource.getContents().isEmpty()) {
-			throw new IllegalArgumentException(String.format("Model with URI %s is empty", modelURI));
+		return this.loadModelContents(List.of(modelURI)).get(0);
+	}
+	
+	/**
+	 * Loads the model contents with the given URIs. The model files are parsed concurrently by the loading executor
+	 * @param modelURIs URIs of the models that should be loaded
+	 * @return ECore objects that are saved in the resources with the given URIs in the order of the URIs
+	 */
+	protected List<EObject> loadModelContents(List<URI> modelURIs) {
+		this.parseResources(modelURIs);
+		List<EObject> contents = new ArrayList<>();
+		for (URI modelURI : modelURIs) {
+			Resource resource = resources.getResource(modelURI, true);
+			if (resource == null) {
+				throw new IllegalArgumentException(String.format("Model with URI %s could not be loaded", modelURI));
+			} else if (resource.getContents().isEmpty()) {
+				throw new IllegalArgumentException(String.format("Model with URI %s is empty", modelURI));
+			}
+			contents.add(resource.getContents().get(0));
+		}
+		return contents;
+	}
+	
+	/**
+	 * Resolves all cross references of the loaded resources, including the references of resources that are loaded while resolving.
+	 * Resources are resolved from a worklist, so that each resource is resolved exactly once.
+	 * Before a round of newly loaded resources is resolved, the model files they reference are parsed concurrently by the loading executor.
+	 * Afterwards, resources parsed from their source files are stored in the model cache, if it is set
+	 */
+	protected void resolveAllResources() {
+		int resolvedResources = 0;
+		int rounds = 0;
+		while (resolvedResources < this.resources.getResources().size()) {
+			List<Resource> worklist = new ArrayList<>(this.resources.getResources()
+					.subList(resolvedResources, this.resources.getResources().size()));
+			resolvedResources += worklist.size();
+			this.parseResources(this.collectReferencedURIs(worklist));
+			worklist.forEach(EcoreUtil::resolveAll);
+			rounds++;
+		}
+		logger.debug(String.format("Resolved %d resources in %d rounds.", resolvedResources, rounds));
+		if (this.modelCache != null) {
+			this.storeUncachedResources();
+		}
+	}
+	
+	/**
+	 * Collects the URIs of all resources, that are referenced by proxies in the given resources and have not been loaded yet.
+	 * The references are inspected without resolving them
+	 * @param resources Resources whose references are collected
+	 * @return Returns the normalized URIs of the referenced resources
+	 */
+	private List<URI> collectReferencedURIs(List<Resource> resources) {
+		Set<URI> referencedURIs = new LinkedHashSet<>();
+		for (Resource resource : resources) {
+			for (Iterator<EObject> contents = resource.getAllContents(); contents.hasNext();) {
+				Iterator<?> references = ((InternalEList<?>) contents.next().eCrossReferences()).basicIterator();
+				while (references.hasNext()) {
+					Object reference = references.next();
+					if (reference instanceof InternalEObject referencedObject && referencedObject.eIsProxy()) {
+						referencedURIs.add(this.resources.getURIConverter().normalize(referencedObject.eProxyURI().trimFragment()));
+					}
+				}
+			}
+		}
+		return referencedURIs.stream()
+				.filter(it -> !it.isEmpty())
+				.filter(it -> this.resources.getResource(it, false) == null)
+				.filter(it -> this.resources.getPackageRegistry().getEPackage(it.toString()) == null
+						&& EPackage.Registry.INSTANCE.getEPackage(it.toString()) == null)
+				.toList();
+	}
+	
+	/**
+	 * Parses the model files with the given URIs, that have not been loaded yet.
+	 * Resources in the XML or binary resource format are parsed concurrently by the loading executor, each in a temporary resource set,
+	 * as neither the resource set nor its URI converter and package registry are thread-safe. 
+	 * Afterwards, they are moved into the resource set in the order of the URIs.
+	 * Other resources, e.g. Xtext resources that are linked lazily against their resource set, are parsed sequentially in the resource set.
+	 * If a model cache is set, XML resources whose source file has not changed are loaded from the cache instead.
+	 * Other resources are never cached, as their contents depend on the resources they are linked against, which are not part of the cache key.
+	 * Model files that cannot be parsed are removed again, so that they are handled when they are demanded by the resource set
+	 * @param modelURIs URIs of the model files
+	 */
+	private void parseResources(List<URI> modelURIs) {
+		List<Resource> newResources = modelURIs.stream()
+				.distinct()
+				.filter(it -> this.resources.getResource(it, false) == null)
+				.map(this::createDetachedResource)
+				.filter(Objects::nonNull)
+				.toList();
+		if (newResources.isEmpty()) {
+			return;
+		}
+		List<String> cacheKeys = this.modelCache == null ? Collections.<String>nCopies(newResources.size(), null) : 
+			this.loadingExecutor.map(newResources, this::computeCacheKey);
+		
+		List<PendingResource> pendingResources = new ArrayList<>();
+		for (int i = 0; i < newResources.size(); i++) {
+			String cacheKey = cacheKeys.get(i);
+			if (cacheKey != null && this.modelCache.contains(cacheKey)) {
+				pendingResources.add(new PendingResource(this.modelCache.createResource(newResources.get(i).getURI()), cacheKey, true));
+			} else {
+				pendingResources.add(new PendingResource(newResources.get(i), cacheKey, false));
+			}
+		}
+		
+		List<PendingResource> concurrentResources = pendingResources.stream()
+				.filter(PendingResource::concurrent)
+				.toList();
+		concurrentResources.forEach(it -> this.createTemporaryResourceSet().getResources().add(it.resource()));
+		List<Boolean> parsed = this.loadingExecutor.map(concurrentResources, this::parseResource);
+		
+		int concurrentIndex = 0;
+		for (PendingResource pendingResource : pendingResources) {
+			boolean success;
+			if (pendingResource.concurrent()) {
+				success = parsed.get(concurrentIndex++);
+				if (success) {
+					this.resources.getResources().add(pendingResource.resource());
+				}
+			} else {
+				success = this.parseResourceSequentially(pendingResource);
+			}
+			if (!success && pendingResource.cached()) {
+				this.discardCacheEntry(pendingResource.cacheKey());
+				pendingResource = new PendingResource(this.createDetachedResource(pendingResource.resource().getURI()), pendingResource.cacheKey(), false);
+				success = this.parseResourceSequentially(pendingResource);
+			}
+			if (success && !pendingResource.cached() && pendingResource.cacheKey() != null) {
+				this.uncachedResources.put(pendingResource.resource(), pendingResource.cacheKey());
+			}
+		}
+		long cachedResources = pendingResources.stream().filter(PendingResource::cached).count();
+		if (cachedResources > 0) {
+			logger.debug(String.format("Loaded %d of %d models from the model cache.", cachedResources, pendingResources.size()));
+		}
+	}
+	
+	/**
+	 * Parses the given resource in the resource set of the provider. The resource is removed again, if it cannot be parsed
+	 * @param pendingResource Resource that should be parsed
+	 * @return Returns true, if the resource could be parsed. Otherwise, the method returns false
+	 */
+	private boolean parseResourceSequentially(PendingResource pendingResource) {
+		this.resources.getResources().add(pendingResource.resource());
+		boolean success = this.parseResource(pendingResource);
+		if (!success) {
+			this.resources.getResources().remove(pendingResource.resource());
+		}
+		return success;
+	}
+	
+	/**
+	 * Removes the cached resource with the given key from the model cache, after it could not be loaded.
+	 * The resource is stored again, once it has been parsed from its source file
+	 * @param cacheKey Key of the cached resource
+	 */
+	private void discardCacheEntry(String cacheKey) {
+		try {
+			this.modelCache.remove(cacheKey);
+		} catch (IOException e) {
+			logger.warn(String.format("Unable to remove the unreadable model with key %s from the model cache", cacheKey), e);
+		}
+	}
+	
+	/**
+	 * Creates a resource with the given URI with the resource factory of the resource set, without adding it to the resource set
+	 * @param modelURI URI of the model
+	 * @return Returns the created resource or null, if no resource factory is registered for the URI
+	 */
+	private Resource createDetachedResource(URI modelURI) {
+		Resource.Factory factory = this.resources.getResourceFactoryRegistry().getFactory(modelURI);
+		return factory == null ? null : factory.createResource(modelURI);
+	}
+	
+	/**
+	 * Creates a temporary resource set, in which a single resource is parsed.
+	 * The resource set uses the load options, URI mappings and packages of the resource set of the provider
+	 * @return Returns a new temporary resource set
+	 */
+	private ResourceSet createTemporaryResourceSet() {
+		ResourceSet resourceSet = new ResourceSetImpl();
+		resourceSet.getLoadOptions().putAll(this.resources.getLoadOptions());
+		resourceSet.getURIConverter().getURIMap().putAll(this.resources.getURIConverter().getURIMap());
+		resourceSet.getPackageRegistry().putAll(this.resources.getPackageRegistry());
+		return resourceSet;
+	}
+	
+	/**
+	 * Parses the given resource from its source file or loads it from the model cache
+	 * @param pendingResource Resource that should be parsed
+	 * @return Returns true, if the resource could be parsed. Otherwise, the method returns false
+	 */
+	private boolean parseResource(PendingResource pendingResource) {
+		try {
+			if (pendingResource.cached()) {
+				this.modelCache.load(pendingResource.resource(), pendingResource.cacheKey());
+			} else {
+				pendingResource.resource().load(pendingResource.resource().getResourceSet().getLoadOptions());
+			}
+			return true;
+		} catch (IOException | RuntimeException e) {
+			logger.debug(String.format("Unable to parse model with URI %s in advance", pendingResource.resource().getURI()), e);
+			return false;
 		}
-		return resource.getContents().get(0);
 	}
-
 	
+	/**
+	 * Computes the cache key of the given resource, if it may be cached.
+	 * Only XML resources are cached, as the contents of other resources, e.g. lazily linked Xtext resources, depend on the resources they are linked against.
+	 * The key would have to cover the source files of all linked resources, which are only known after linking.
+	 * Thus, data dictionaries in the Xtext format, e.g. <code>.pddc</code> files, are always parsed from their source files
+	 * @param resource Created resource, that has not been loaded yet
+	 * @return Returns the cache key of the resource or null, if the resource may not be cached or its source file cannot be read
+	 */
+	private String computeCacheKey(Resource resource) {
+		if (!(resource instanceof XMLResource)) {
+			return null;
+		}
+		try {
+			return this.modelCache.computeKey(resource.getURI(), this.resources);
+		} catch (IOException | RuntimeException e) {
+			logger.debug(String.format("Unable to compute the cache key of model with URI %s", resource.getURI()), e);
+			return null;
+		}
+	}
+	
+	/**
+	 * Stores the resources that have been parsed from their source files in the model cache.
+	 * Resources are stored once all resources have been loaded and resolved. Resources that have been removed from the resource set in the meantime are skipped
+	 */
+	private void storeUncachedResources() {
+		for (Map.Entry<Resource, String> entry : this.uncachedResources.entrySet()) {
+			if (entry.getKey().getResourceSet() != this.resources) {
+				continue;
+			}
+			try {
+				this.modelCache.store(entry.getKey(), entry.getValue());
+			} catch (IOException | RuntimeException e) {
+				logger.warn(String.format("Unable to store model with URI %s in the model cache", entry.getKey().getURI()), e);
+			}
+		}
+		this.uncachedResources.clear();
+	}
+	
+	/**
+	 * Resource that is parsed from its source file or loaded from the model cache
+	 * @param resource Created resource
+	 * @param cacheKey Cache key of the model or null, if no model cache is used
+	 * @param cached Indicates whether the resource is loaded from the model cache
+	 */
+	private record PendingResource(Resource resource, String cacheKey, boolean cached) {
+		/**
+		 * Indicates whether the resource can be parsed concurrently to other resources in a temporary resource set
+		 * @return Returns true, if the resource is in the XML or binary resource format. Otherwise, the method returns false
+		 */
+		boolean concurrent() {
+			return this.cached || this.resource instanceof XMLResource;
+		}
+	}
+
 	/**
 	 * Finds an element that fulfills the given condition in a given resource
 	 * @param condition Condition the element should fulfill
@@ -145,20 +504,60 @@ public abstract class ResourceProvider {
 	
 	
 	/**
-	 * Determines whether a ECore type is present in the resource
-	 * @param targetType ECore type that should be searched
-	 * @param resource Resource that should be searched
-	 * @return Returns true, if one element with the target type could be found in the resource.
-	 * Otherwise, the method returns false
-	 */
-	private boolean isTargetInResource(EClass targetType, Resource resource) {
-        if (resource != null) {
-            for (EObject c : resource.getContents()) {
-                if (targetType.isSuperTypeOf(c.eClass())) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
+	 * Adapter that observes all contents of the resources and notifies the model change listeners about changes.
+	 * As elements may be added anywhere in the contents, the index of the resource provider is invalidated as well
+	 */
+	private class ModelChangeAdapter extends EContentAdapter {
+		@Override
+		public void notifyChanged(Notification notification) {
+			super.notifyChanged(notification);
+			if (notification.isTouch()) {
+				return;
+			}
+			resourceIndex = null;
+			modelChangeListeners.forEach(it -> it.accept(notification));
+		}
+	}
+	
+	/**
+	 * Adapter that invalidates the index of the resource provider, when resources are added, removed, loaded or unloaded,
+	 * or when the top level contents of a resource change
+	 */
+	private class IndexInvalidationAdapter extends AdapterImpl {
+		@Override
+		public void notifyChanged(Notification notification) {
+			if (notification.isTouch()) {
+				return;
+			}
+			if (notification.getNotifier() instanceof ResourceSet
+					&& notification.getFeatureID(ResourceSet.class) == ResourceSet.RESOURCE_SET__RESOURCES) {
+				this.updateObservedResources(notification);
+			}
+			resourceIndex = null;
+		}
+
+		/**
+		 * Observes added resources and stops observing removed resources
+		 * @param notification Notification about the changed resources of the resource set
+		 */
+		private void updateObservedResources(Notification notification) {
+			switch (notification.getEventType()) {
+				case Notification.ADD -> this.observe((Resource) notification.getNewValue());
+				case Notification.ADD_MANY -> ((Collection<?>) notification.getNewValue()).forEach(it -> this.observe((Resource) it));
+				case Notification.REMOVE -> ((Resource) notification.getOldValue()).eAdapters().remove(this);
+				case Notification.REMOVE_MANY -> ((Collection<?>) notification.getOldValue()).forEach(it -> ((Resource) it).eAdapters().remove(this));
+				default -> {}
+			}
+		}
+
+		/**
+		 * Observes the given resource, if it is not already observed
+		 * @param resource Resource that should be observed
+		 */
+		private void observe(Resource resource) {
+			if (resource != null && !resource.eAdapters().contains(this)) {
+				resource.eAdapters().add(this);
+			}
+		}
+	}
 }
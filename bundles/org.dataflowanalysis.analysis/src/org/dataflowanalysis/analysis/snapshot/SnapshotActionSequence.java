@@ -0,0 +1,77 @@
+package org.dataflowanalysis.analysis.snapshot;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.core.DataCharacteristicsCalculatorFactory;
+import org.dataflowanalysis.analysis.core.NodeCharacteristicsCalculator;
+
+/**
+ * Evaluated action sequence read from a snapshot. Its elements are materialized from the snapshot once on first access
+ */
+public class SnapshotActionSequence extends ActionSequence {
+    private final int index;
+
+    /**
+     * Creates a new sequence, whose elements are read lazily from the given snapshot
+     * @param reader Reader of the snapshot
+     * @param index Index of the sequence in the snapshot
+     * @param size Number of elements of the sequence
+     */
+    SnapshotActionSequence(SnapshotReader reader, int index, int size) {
+        super(List.of());
+        this.index = index;
+        this.elements = new LazyElementList(reader, index, size);
+    }
+
+    /**
+     * Sequences read from a snapshot have already been evaluated
+     * @return Returns the sequence itself
+     */
+    @Override
+    public ActionSequence evaluateDataFlow(NodeCharacteristicsCalculator nodeCharacteristicsCalculator,
+            DataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory) {
+        return this;
+    }
+
+    /**
+     * Returns the index of the sequence in the snapshot
+     * @return Index of the sequence
+     */
+    public int getIndex() {
+        return this.index;
+    }
+
+    /**
+     * Immutable list of the elements of a sequence, that materializes each element once on first access
+     */
+    private static class LazyElementList extends AbstractList<AbstractActionSequenceElement<?>> implements RandomAccess {
+        private final SnapshotReader reader;
+        private final int sequenceIndex;
+        private final AbstractActionSequenceElement<?>[] elements;
+
+        LazyElementList(SnapshotReader reader, int sequenceIndex, int size) {
+            this.reader = reader;
+            this.sequenceIndex = sequenceIndex;
+            this.elements = new AbstractActionSequenceElement<?>[size];
+        }
+
+        @Override
+        public AbstractActionSequenceElement<?> get(int index) {
+            AbstractActionSequenceElement<?> element = this.elements[index];
+            if (element == null) {
+                element = this.reader.readElement(this.sequenceIndex, index);
+                this.elements[index] = element;
+            }
+            return element;
+        }
+
+        @Override
+        public int size() {
+            return this.elements.length;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.dataflowanalysis.analysis.snapshot;
+
+import java.util.List;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.DataCharacteristicsCalculatorFactory;
+import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.LabelSet;
+import org.dataflowanalysis.analysis.core.NodeCharacteristicsCalculator;
+import org.eclipse.emf.ecore.EObject;
+
+/**
+ * Evaluated action sequence element read from a snapshot.
+ * Instead of a model element, the element contains the identifiers of its model element and context
+ */
+public class SnapshotActionSequenceElement extends AbstractActionSequenceElement<EObject> {
+    private final String elementId;
+    private final List<String> contextIds;
+    private final String description;
+
+    /**
+     * Creates a new evaluated element read from a snapshot
+     * @param elementId Id of the model element
+     * @param contextIds Ids of the context of the model element
+     * @param description Description of the element at the time the snapshot was written
+     * @param dataFlowVariables Incoming data flow variables of the element
+     * @param outgoingDataFlowVariables Outgoing data flow variables of the element
+     * @param nodeCharacteristics Node characteristics of the element
+     */
+    public SnapshotActionSequenceElement(String elementId, List<String> contextIds, String description, List<DataFlowVariable> dataFlowVariables,
+            List<DataFlowVariable> outgoingDataFlowVariables, LabelSet nodeCharacteristics) {
+        super(dataFlowVariables, outgoingDataFlowVariables, nodeCharacteristics);
+        this.elementId = elementId;
+        this.contextIds = List.copyOf(contextIds);
+        this.description = description;
+    }
+
+    /**
+     * Elements read from a snapshot have already been evaluated and cannot be evaluated again, as they do not reference any model
+     */
+    @Override
+    public AbstractActionSequenceElement<EObject> evaluateDataFlow(List<DataFlowVariable> variables,
+            NodeCharacteristicsCalculator nodeCharacteristicsCalculator, DataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory) {
+        throw new IllegalStateException("Elements read from a snapshot cannot be evaluated again");
+    }
+
+    /**
+     * Returns the id of the model element of the element
+     * @return Id of the model element
+     */
+    public String getElementId() {
+        return this.elementId;
+    }
+
+    /**
+     * Returns the ids of the context of the model element
+     * @return Ids of the context of the model element
+     */
+    public List<String> getContextIds() {
+        return this.contextIds;
+    }
+
+    @Override
+    public String toString() {
+        return this.description;
+    }
+}
@@ -0,0 +1,27 @@
+package org.dataflowanalysis.analysis.snapshot;
+
+import org.dataflowanalysis.analysis.core.CharacteristicValue;
+
+/**
+ * Characteristic value read from a snapshot, that only contains the names and the id of the characteristic instead of references to the dictionaries
+ * @param typeName Name of the characteristic type
+ * @param valueName Name of the characteristic literal
+ * @param valueId Id of the characteristic literal
+ */
+public record SnapshotCharacteristicValue(String typeName, String valueName, String valueId) implements CharacteristicValue {
+
+    @Override
+    public String getTypeName() {
+        return this.typeName;
+    }
+
+    @Override
+    public String getValueName() {
+        return this.valueName;
+    }
+
+    @Override
+    public String getValueId() {
+        return this.valueId;
+    }
+}
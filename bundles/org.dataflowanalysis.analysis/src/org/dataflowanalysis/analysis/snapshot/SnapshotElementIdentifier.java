@@ -0,0 +1,27 @@
+package org.dataflowanalysis.analysis.snapshot;
+
+import java.util.List;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+
+/**
+ * Identifies the model elements of action sequence elements, when they are stored in a snapshot.
+ * Snapshots do not contain references to models, but only the identifiers returned by the identifier
+ */
+public interface SnapshotElementIdentifier {
+    /**
+     * Returns the id of the model element of the given action sequence element
+     * @param element Action sequence element
+     * @return Id of the model element
+     */
+    public String getElementId(AbstractActionSequenceElement<?> element);
+
+    /**
+     * Returns the ids of the context the model element of the given action sequence element is used in, e.g. a stack of assembly contexts
+     * @param element Action sequence element
+     * @return Ids of the context of the model element. By default, the context is empty
+     */
+    public default List<String> getContextIds(AbstractActionSequenceElement<?> element) {
+        return List.of();
+    }
+}
@@ -0,0 +1,38 @@
+package org.dataflowanalysis.analysis.snapshot;
+
+/**
+ * Constants of the binary snapshot format of evaluated action sequences.
+ * <p>
+ * A snapshot starts with a header consisting of {@link #MAGIC} and {@link #VERSION}, followed by the records of all sequences.
+ * Each sequence record contains the number of its elements, the offsets of the element records relative to the sequence record and the element records.
+ * An element record contains the string ids of the model element, its description and its context, followed by the label ids of its node characteristics
+ * and the name string ids and label ids of its incoming and outgoing data flow variables.
+ * The records are followed by the string table, the label table and the sequence index.
+ * The snapshot ends with a trailer of {@link #TRAILER_SIZE} bytes containing the offsets of the tables and {@link #MAGIC}.
+ * All numbers are stored in big-endian byte order
+ */
+final class SnapshotFormat {
+    /**
+     * Magic number at the beginning and the end of each snapshot
+     */
+    static final int MAGIC = 0x44464153;
+
+    /**
+     * Version of the snapshot format
+     */
+    static final int VERSION = 1;
+
+    /**
+     * Size of the header of a snapshot in bytes
+     */
+    static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    /**
+     * Size of the trailer of a snapshot in bytes
+     */
+    static final int TRAILER_SIZE = 3 * Long.BYTES + Integer.BYTES;
+
+    private SnapshotFormat() {
+        throw new IllegalStateException("Utility classes should not be instanciated");
+    }
+}
@@ -0,0 +1,271 @@
+package org.dataflowanalysis.analysis.snapshot;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.LabelSet;
+import org.dataflowanalysis.analysis.core.LabelUniverse;
+
+/**
+ * Reads evaluated action sequences from a binary snapshot written by a {@link SnapshotWriter}.
+ * The snapshot is memory-mapped and only the tables and the sequence index are read on opening.
+ * Sequences and their elements are materialized lazily when they are accessed.
+ * The labels of the snapshot are registered in a new {@link LabelUniverse} of the reader, so that queries can be run without loading the models.
+ * The reader may be used concurrently
+ */
+public class SnapshotReader implements Closeable {
+    private static final long WINDOW_SIZE = 1L << 29;
+
+    private final FileChannel channel;
+    private final long size;
+    private final ByteBuffer[] windows;
+    private final long[] stringOffsets;
+    private final String[] strings;
+    private final LabelUniverse universe;
+    private final int[] universeIds;
+    private final long[] sequenceOffsets;
+    private final int[] sequenceLengths;
+
+    /**
+     * Opens the snapshot at the given path and reads its tables
+     * @param path Path of the snapshot
+     * @throws IOException if the snapshot cannot be read
+     * @throws IllegalStateException if the file is not a snapshot of a supported version
+     */
+    public SnapshotReader(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            this.size = this.channel.size();
+            this.windows = new ByteBuffer[(int) (this.size / WINDOW_SIZE) + 1];
+            if (this.size < SnapshotFormat.HEADER_SIZE + SnapshotFormat.TRAILER_SIZE) {
+                throw new IllegalStateException("File is too small to be a snapshot: " + path);
+            }
+            ByteBuffer header = this.map(0, SnapshotFormat.HEADER_SIZE);
+            ByteBuffer trailer = this.map(this.size - SnapshotFormat.TRAILER_SIZE, SnapshotFormat.TRAILER_SIZE);
+            if (header.getInt(0) != SnapshotFormat.MAGIC || trailer.getInt(3 * Long.BYTES) != SnapshotFormat.MAGIC) {
+                throw new IllegalStateException("File is not a snapshot: " + path);
+            }
+            if (header.getInt(Integer.BYTES) != SnapshotFormat.VERSION) {
+                throw new IllegalStateException("Unsupported snapshot version " + header.getInt(Integer.BYTES) + " of " + path);
+            }
+            long stringTableOffset = trailer.getLong(0);
+            long labelTableOffset = trailer.getLong(Long.BYTES);
+            long sequenceIndexOffset = trailer.getLong(2 * Long.BYTES);
+
+            ByteBuffer stringTable = this.map(stringTableOffset, labelTableOffset - stringTableOffset);
+            this.stringOffsets = new long[stringTable.getInt(0)];
+            this.strings = new String[this.stringOffsets.length];
+            int stringPosition = Integer.BYTES;
+            for (int i = 0; i < this.stringOffsets.length; i++) {
+                this.stringOffsets[i] = stringTableOffset + stringPosition;
+                stringPosition += Integer.BYTES + stringTable.getInt(stringPosition);
+            }
+
+            ByteBuffer labelTable = this.map(labelTableOffset, sequenceIndexOffset - labelTableOffset);
+            this.universe = new LabelUniverse();
+            this.universeIds = new int[labelTable.getInt(0)];
+            for (int i = 0; i < this.universeIds.length; i++) {
+                int labelPosition = Integer.BYTES + 3 * Integer.BYTES * i;
+                this.universeIds[i] = this.universe.register(new SnapshotCharacteristicValue(this.getString(labelTable.getInt(labelPosition)),
+                        this.getString(labelTable.getInt(labelPosition + Integer.BYTES)),
+                        this.getString(labelTable.getInt(labelPosition + 2 * Integer.BYTES))));
+            }
+
+            ByteBuffer sequenceIndex = this.map(sequenceIndexOffset, this.size - SnapshotFormat.TRAILER_SIZE - sequenceIndexOffset);
+            this.sequenceOffsets = new long[sequenceIndex.getInt(0)];
+            this.sequenceLengths = new int[this.sequenceOffsets.length];
+            for (int i = 0; i < this.sequenceOffsets.length; i++) {
+                int indexPosition = Integer.BYTES + (Long.BYTES + Integer.BYTES) * i;
+                this.sequenceOffsets[i] = sequenceIndex.getLong(indexPosition);
+                this.sequenceLengths[i] = sequenceIndex.getInt(indexPosition + Long.BYTES);
+            }
+        } catch (IOException | RuntimeException e) {
+            this.channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the number of sequences in the snapshot
+     * @return Number of sequences
+     */
+    public int size() {
+        return this.sequenceOffsets.length;
+    }
+
+    /**
+     * Returns the sequence with the given index. The elements of the sequence are materialized when they are accessed
+     * @param index Index of the sequence in the snapshot
+     * @return Returns the evaluated action sequence
+     */
+    public SnapshotActionSequence getSequence(int index) {
+        return new SnapshotActionSequence(this, index, this.getSequenceRecord(index).getInt(0));
+    }
+
+    /**
+     * Returns all sequences of the snapshot. Sequences are materialized when they are accessed
+     * @return Returns a list view of all evaluated action sequences of the snapshot
+     */
+    public List<SnapshotActionSequence> getSequences() {
+        return new AbstractList<>() {
+            @Override
+            public SnapshotActionSequence get(int index) {
+                return SnapshotReader.this.getSequence(index);
+            }
+
+            @Override
+            public int size() {
+                return SnapshotReader.this.size();
+            }
+        };
+    }
+
+    /**
+     * Returns the label universe, in which the labels of the snapshot are registered
+     * @return Label universe of the snapshot
+     */
+    public LabelUniverse getLabelUniverse() {
+        return this.universe;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.channel.close();
+    }
+
+    /**
+     * Materializes an element of a sequence
+     * @param sequenceIndex Index of the sequence in the snapshot
+     * @param elementIndex Index of the element in the sequence
+     * @return Returns the evaluated element
+     */
+    SnapshotActionSequenceElement readElement(int sequenceIndex, int elementIndex) {
+        ByteBuffer record = this.getSequenceRecord(sequenceIndex);
+        int position = record.getInt(Integer.BYTES * (elementIndex + 1));
+
+        String elementId = this.getString(record.getInt(position));
+        String description = this.getString(record.getInt(position + Integer.BYTES));
+        int contextSize = record.getInt(position + 2 * Integer.BYTES);
+        position += 3 * Integer.BYTES;
+        List<String> contextIds = new ArrayList<>(contextSize);
+        for (int i = 0; i < contextSize; i++, position += Integer.BYTES) {
+            contextIds.add(this.getString(record.getInt(position)));
+        }
+
+        LabelSet nodeCharacteristics = this.readLabels(record, position);
+        position += Integer.BYTES * (nodeCharacteristics.size() + 1);
+        List<DataFlowVariable> dataFlowVariables = new ArrayList<>();
+        position = this.readVariables(record, position, dataFlowVariables);
+        List<DataFlowVariable> outgoingDataFlowVariables = new ArrayList<>();
+        this.readVariables(record, position, outgoingDataFlowVariables);
+        return new SnapshotActionSequenceElement(elementId, contextIds, description, dataFlowVariables, outgoingDataFlowVariables, nodeCharacteristics);
+    }
+
+    /**
+     * Reads the data flow variables at the given position of a sequence record
+     * @param record Sequence record
+     * @param position Position of the variables in the record
+     * @param variables List the read variables are added to
+     * @return Returns the position after the variables
+     */
+    private int readVariables(ByteBuffer record, int position, List<DataFlowVariable> variables) {
+        int variableCount = record.getInt(position);
+        position += Integer.BYTES;
+        for (int i = 0; i < variableCount; i++) {
+            String variableName = this.getString(record.getInt(position));
+            LabelSet labels = this.readLabels(record, position + Integer.BYTES);
+            variables.add(new DataFlowVariable(variableName, labels));
+            position += Integer.BYTES * (labels.size() + 2);
+        }
+        return position;
+    }
+
+    /**
+     * Reads the labels at the given position of a sequence record
+     * @param record Sequence record
+     * @param position Position of the labels in the record
+     * @return Returns a label set of the universe of the reader
+     */
+    private LabelSet readLabels(ByteBuffer record, int position) {
+        int labelCount = record.getInt(position);
+        LabelSet labels = LabelSet.empty(this.universe);
+        for (int i = 1; i <= labelCount; i++) {
+            labels = labels.with(this.universeIds[record.getInt(position + Integer.BYTES * i)]);
+        }
+        return labels;
+    }
+
+    /**
+     * Returns the string with the given id. Strings are decoded once on first access
+     * @param id Id of the string in the string table
+     * @return Returns the decoded string
+     */
+    private String getString(int id) {
+        String string = this.strings[id];
+        if (string == null) {
+            ByteBuffer buffer = this.map(this.stringOffsets[id], Integer.BYTES);
+            int length = buffer.getInt(0);
+            byte[] bytes = new byte[length];
+            this.map(this.stringOffsets[id] + Integer.BYTES, length).get(0, bytes);
+            string = new String(bytes, StandardCharsets.UTF_8);
+            this.strings[id] = string;
+        }
+        return string;
+    }
+
+    /**
+     * Returns the record of the sequence with the given index
+     * @param index Index of the sequence
+     * @return Returns a buffer beginning at the sequence record
+     */
+    private ByteBuffer getSequenceRecord(int index) {
+        return this.map(this.sequenceOffsets[index], this.sequenceLengths[index]);
+    }
+
+    /**
+     * Returns a read-only buffer of the given region of the snapshot. Only absolute accesses may be used on the buffer.
+     * Regions are served from overlapping windows of twice the window size, which are mapped on first use, or are mapped separately, if they are larger than a window
+     * @param offset Offset of the region in the file
+     * @param length Length of the region
+     * @return Returns a buffer beginning at the offset
+     */
+    private ByteBuffer map(long offset, long length) {
+        try {
+            if (length > WINDOW_SIZE) {
+                if (length > Integer.MAX_VALUE) {
+                    throw new IllegalStateException("Snapshot region exceeds the maximum size of a mapped buffer");
+                }
+                return this.channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            }
+            int windowIndex = (int) (offset / WINDOW_SIZE);
+            ByteBuffer window = this.getWindow(windowIndex);
+            return window.slice((int) (offset - windowIndex * WINDOW_SIZE), (int) length);
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to map the snapshot", e);
+        }
+    }
+
+    /**
+     * Returns the window with the given index, which covers two window sizes beginning at the index
+     * @param windowIndex Index of the window
+     * @return Returns the mapped window
+     * @throws IOException if the window cannot be mapped
+     */
+    private synchronized ByteBuffer getWindow(int windowIndex) throws IOException {
+        if (this.windows[windowIndex] == null) {
+            long windowOffset = windowIndex * WINDOW_SIZE;
+            this.windows[windowIndex] = this.channel.map(FileChannel.MapMode.READ_ONLY, windowOffset,
+                    Math.min(2 * WINDOW_SIZE, this.size - windowOffset));
+        }
+        return this.windows[windowIndex];
+    }
+}
@@ -0,0 +1,250 @@
+package org.dataflowanalysis.analysis.snapshot;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+import org.apache.log4j.Logger;
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.core.CharacteristicValue;
+import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.LabelSet;
+
+/**
+ * Writes evaluated action sequences into a binary snapshot, that can be read by a {@link SnapshotReader} without loading the models.
+ * Sequences are written one after another, so that sequences can be written while they are found and evaluated.
+ * All strings and characteristic values are interned and stored once in the tables at the end of the snapshot, which are written on {@link #close()}
+ */
+public class SnapshotWriter implements Closeable {
+    private final Logger logger = Logger.getLogger(SnapshotWriter.class);
+
+    private final SnapshotElementIdentifier identifier;
+    private final OutputStream outputStream;
+    private final Map<String, Integer> stringIds;
+    private final List<String> strings;
+    private final Map<SnapshotCharacteristicValue, Integer> labelIds;
+    private final List<SnapshotCharacteristicValue> labels;
+    private final List<Long> sequenceOffsets;
+    private final List<Integer> sequenceLengths;
+    private long position;
+    private boolean closed;
+
+    /**
+     * Creates a new snapshot at the given path. An existing file at the path is overwritten
+     * @param path Path of the snapshot
+     * @param identifier Identifier of the model elements of the written elements
+     * @throws IOException if the snapshot cannot be created
+     */
+    public SnapshotWriter(Path path, SnapshotElementIdentifier identifier) throws IOException {
+        this.identifier = identifier;
+        this.outputStream = new BufferedOutputStream(Files.newOutputStream(path));
+        this.stringIds = new HashMap<>();
+        this.strings = new ArrayList<>();
+        this.labelIds = new HashMap<>();
+        this.labels = new ArrayList<>();
+        this.sequenceOffsets = new ArrayList<>();
+        this.sequenceLengths = new ArrayList<>();
+
+        ByteArrayOutputStream header = new ByteArrayOutputStream(SnapshotFormat.HEADER_SIZE);
+        DataOutputStream headerOutput = new DataOutputStream(header);
+        headerOutput.writeInt(SnapshotFormat.MAGIC);
+        headerOutput.writeInt(SnapshotFormat.VERSION);
+        this.writeBytes(header);
+    }
+
+    /**
+     * Writes the given evaluated sequences into a new snapshot at the given path
+     * @param path Path of the snapshot
+     * @param sequences Evaluated action sequences
+     * @param identifier Identifier of the model elements of the sequences
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(Path path, List<? extends ActionSequence> sequences, SnapshotElementIdentifier identifier) throws IOException {
+        try (SnapshotWriter writer = new SnapshotWriter(path, identifier)) {
+            for (ActionSequence sequence : sequences) {
+                writer.write(sequence);
+            }
+        }
+    }
+
+    /**
+     * Appends the given evaluated sequence to the snapshot
+     * @param sequence Evaluated action sequence
+     * @throws IOException if the sequence cannot be written
+     * @throws IllegalStateException if the writer has already been closed
+     */
+    public void write(ActionSequence sequence) throws IOException {
+        if (this.closed) {
+            throw new IllegalStateException("Snapshot writer has already been closed");
+        }
+        List<AbstractActionSequenceElement<?>> elements = sequence.getElements();
+        ByteArrayOutputStream elementRecords = new ByteArrayOutputStream();
+        DataOutputStream elementOutput = new DataOutputStream(elementRecords);
+        int[] elementOffsets = new int[elements.size()];
+        int recordHeaderSize = Integer.BYTES * (elements.size() + 1);
+        for (int i = 0; i < elements.size(); i++) {
+            elementOffsets[i] = recordHeaderSize + elementOutput.size();
+            this.writeElement(elements.get(i), elementOutput);
+        }
+
+        ByteArrayOutputStream sequenceRecord = new ByteArrayOutputStream(recordHeaderSize + elementRecords.size());
+        DataOutputStream sequenceOutput = new DataOutputStream(sequenceRecord);
+        sequenceOutput.writeInt(elements.size());
+        for (int elementOffset : elementOffsets) {
+            sequenceOutput.writeInt(elementOffset);
+        }
+        elementRecords.writeTo(sequenceOutput);
+
+        this.sequenceOffsets.add(this.position);
+        this.sequenceLengths.add(sequenceRecord.size());
+        this.writeBytes(sequenceRecord);
+    }
+
+    /**
+     * Writes the string table, the label table, the sequence index and the trailer and closes the snapshot
+     * @throws IOException if the tables cannot be written
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed) {
+            return;
+        }
+        this.closed = true;
+        try {
+            long stringTableOffset = this.position;
+            ByteArrayOutputStream stringTable = new ByteArrayOutputStream();
+            DataOutputStream stringOutput = new DataOutputStream(stringTable);
+            stringOutput.writeInt(this.strings.size());
+            for (String string : this.strings) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                stringOutput.writeInt(bytes.length);
+                stringOutput.write(bytes);
+            }
+            this.writeBytes(stringTable);
+
+            long labelTableOffset = this.position;
+            ByteArrayOutputStream labelTable = new ByteArrayOutputStream();
+            DataOutputStream labelOutput = new DataOutputStream(labelTable);
+            labelOutput.writeInt(this.labels.size());
+            for (SnapshotCharacteristicValue label : this.labels) {
+                labelOutput.writeInt(this.stringIds.get(label.typeName()));
+                labelOutput.writeInt(this.stringIds.get(label.valueName()));
+                labelOutput.writeInt(this.stringIds.get(label.valueId()));
+            }
+            this.writeBytes(labelTable);
+
+            long sequenceIndexOffset = this.position;
+            ByteArrayOutputStream sequenceIndex = new ByteArrayOutputStream();
+            DataOutputStream indexOutput = new DataOutputStream(sequenceIndex);
+            indexOutput.writeInt(this.sequenceOffsets.size());
+            for (int i = 0; i < this.sequenceOffsets.size(); i++) {
+                indexOutput.writeLong(this.sequenceOffsets.get(i));
+                indexOutput.writeInt(this.sequenceLengths.get(i));
+            }
+            indexOutput.writeLong(stringTableOffset);
+            indexOutput.writeLong(labelTableOffset);
+            indexOutput.writeLong(sequenceIndexOffset);
+            indexOutput.writeInt(SnapshotFormat.MAGIC);
+            this.writeBytes(sequenceIndex);
+            logger.info(String.format("Wrote snapshot of %d sequences with %d strings and %d labels.", this.sequenceOffsets.size(),
+                    this.strings.size(), this.labels.size()));
+        } finally {
+            this.outputStream.close();
+        }
+    }
+
+    /**
+     * Writes the record of an element
+     * @param element Evaluated element
+     * @param output Output the record is written to
+     * @throws IOException if the record cannot be written
+     */
+    private void writeElement(AbstractActionSequenceElement<?> element, DataOutputStream output) throws IOException {
+        output.writeInt(this.internString(this.identifier.getElementId(element)));
+        output.writeInt(this.internString(element.toString()));
+        List<String> contextIds = this.identifier.getContextIds(element);
+        output.writeInt(contextIds.size());
+        for (String contextId : contextIds) {
+            output.writeInt(this.internString(contextId));
+        }
+        this.writeLabels(element.getNodeCharacteristicLabels(), output);
+        this.writeVariables(element.getAllDataFlowVariables(), output);
+        this.writeVariables(element.getAllOutgoingDataFlowVariables(), output);
+    }
+
+    /**
+     * Writes the names and labels of data flow variables
+     * @param variables Data flow variables
+     * @param output Output the variables are written to
+     * @throws IOException if the variables cannot be written
+     */
+    private void writeVariables(List<DataFlowVariable> variables, DataOutputStream output) throws IOException {
+        output.writeInt(variables.size());
+        for (DataFlowVariable variable : variables) {
+            output.writeInt(this.internString(variable.variableName()));
+            this.writeLabels(variable.labels(), output);
+        }
+    }
+
+    /**
+     * Writes the interned ids of the labels of a label set
+     * @param labelSet Label set
+     * @param output Output the labels are written to
+     * @throws IOException if the labels cannot be written
+     */
+    private void writeLabels(LabelSet labelSet, DataOutputStream output) throws IOException {
+        output.writeInt(labelSet.size());
+        PrimitiveIterator.OfInt ids = labelSet.ids().iterator();
+        while (ids.hasNext()) {
+            CharacteristicValue value = labelSet.getUniverse().getCharacteristicValue(ids.nextInt());
+            SnapshotCharacteristicValue label = new SnapshotCharacteristicValue(this.strings.get(this.internString(value.getTypeName())),
+                    this.strings.get(this.internString(value.getValueName())), this.strings.get(this.internString(value.getValueId())));
+            Integer labelId = this.labelIds.get(label);
+            if (labelId == null) {
+                labelId = this.labels.size();
+                this.labels.add(label);
+                this.labelIds.put(label, labelId);
+            }
+            output.writeInt(labelId);
+        }
+    }
+
+    /**
+     * Interns the given string
+     * @param string String that is interned. Null is interned as the empty string
+     * @return Returns the id of the string in the string table
+     */
+    private int internString(String string) {
+        String value = Objects.requireNonNullElse(string, "");
+        Integer id = this.stringIds.get(value);
+        if (id == null) {
+            id = this.strings.size();
+            this.strings.add(value);
+            this.stringIds.put(value, id);
+        }
+        return id;
+    }
+
+    /**
+     * Writes the given bytes to the snapshot
+     * @param bytes Buffered bytes
+     * @throws IOException if the bytes cannot be written
+     */
+    private void writeBytes(ByteArrayOutputStream bytes) throws IOException {
+        bytes.writeTo(this.outputStream);
+        this.position += bytes.size();
+    }
+}
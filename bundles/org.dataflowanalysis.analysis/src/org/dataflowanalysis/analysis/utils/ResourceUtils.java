@@ -1,8 +1,16 @@
 package org.dataflowanalysis.analysis.utils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.resource.URIConverter;
 
 public class ResourceUtils {
     private ResourceUtils() {
@@ -20,6 +28,42 @@ public class ResourceUtils {
         return URI.createPlatformPluginURI(path, false);
     }
     
+    /**
+     * Returns the length of the file with the given uri
+     * @param uri URI of the file
+     * @return Returns the length of the file in bytes or zero, if the length cannot be determined
+     */
+    public static long getLength(URI uri) {
+        Map<String, ?> attributes = URIConverter.INSTANCE.getAttributes(uri,
+                Map.of(URIConverter.OPTION_REQUESTED_ATTRIBUTES, Set.of(URIConverter.ATTRIBUTE_LENGTH)));
+        Object length = attributes.get(URIConverter.ATTRIBUTE_LENGTH);
+        if (length instanceof Long fileLength) {
+            return fileLength;
+        }
+        return 0;
+    }
 
-    
+    /**
+     * Returns the total length of the files in the given folder, whose file extension is one of the given extensions.
+     * Subfolders are not included
+     * @param folderURI URI of the folder
+     * @param fileExtensions File extensions of the included files
+     * @return Returns the total length of the files in bytes or zero, if the folder cannot be listed
+     */
+    public static long getFolderLength(URI folderURI, Set<String> fileExtensions) {
+        URI normalizedURI = URIConverter.INSTANCE.normalize(folderURI);
+        if (!normalizedURI.isFile()) {
+            return 0;
+        }
+        try (Stream<Path> files = Files.list(Paths.get(normalizedURI.toFileString()))) {
+            return files.filter(Files::isRegularFile)
+                .filter(it -> fileExtensions.contains(URI.createFileURI(it.toString())
+                    .fileExtension()))
+                .mapToLong(it -> it.toFile()
+                    .length())
+                .sum();
+        } catch (IOException | UncheckedIOException e) {
+            return 0;
+        }
+    }
 }
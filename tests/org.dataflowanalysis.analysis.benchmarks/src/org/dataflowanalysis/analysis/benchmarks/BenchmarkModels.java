@@ -0,0 +1,68 @@
+package org.dataflowanalysis.analysis.benchmarks;
+
+import java.nio.file.Paths;
+
+import org.dataflowanalysis.analysis.dfd.DFDConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.dfd.DFDDataFlowAnalysisBuilder;
+import org.dataflowanalysis.analysis.execution.AnalysisExecutor;
+import org.dataflowanalysis.analysis.pcm.PCMDataFlowConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.pcm.PCMDataFlowConfidentialityAnalysisBuilder;
+import org.dataflowanalysis.analysis.testmodels.Activator;
+
+/**
+ * Creates the analyses of the models in the test model project, that are measured by the benchmarks.
+ * All analyses run sequentially, so that the benchmarks measure the analysis itself and not the scheduling of an executor
+ */
+public final class BenchmarkModels {
+    public static final String TEST_MODEL_PROJECT_NAME = "org.dataflowanalysis.analysis.testmodels";
+
+    private BenchmarkModels() {
+    }
+
+    /**
+     * Creates and initializes an analysis of the PCM model with the given name
+     * @param modelName Name of the model folder in the test model project
+     * @return Returns the initialized analysis
+     * @throws IllegalStateException if the analysis could not be initialized
+     */
+    public static PCMDataFlowConfidentialityAnalysis createPCMAnalysis(String modelName) {
+        String fileName = modelName.equals("TravelPlanner") ? "travelPlanner" : "default";
+        PCMDataFlowConfidentialityAnalysis analysis = new PCMDataFlowConfidentialityAnalysisBuilder().standalone()
+            .modelProjectName(TEST_MODEL_PROJECT_NAME)
+            .usePluginActivator(Activator.class)
+            .useUsageModel(Paths.get("models", modelName, fileName + ".usagemodel")
+                .toString())
+            .useAllocationModel(Paths.get("models", modelName, fileName + ".allocation")
+                .toString())
+            .useNodeCharacteristicsModel(Paths.get("models", modelName, fileName + ".nodecharacteristics")
+                .toString())
+            .useExecutor(AnalysisExecutor.sequential())
+            .build();
+        if (!analysis.initializeAnalysis()) {
+            throw new IllegalStateException("Unable to initialize the analysis of the model " + modelName);
+        }
+        return analysis;
+    }
+
+    /**
+     * Creates and initializes an analysis of the data flow diagram with the given name in the DFD test models
+     * @param modelName Name of the data flow diagram and data dictionary files
+     * @return Returns the initialized analysis
+     * @throws IllegalStateException if the analysis could not be initialized
+     */
+    public static DFDConfidentialityAnalysis createDFDAnalysis(String modelName) {
+        DFDConfidentialityAnalysis analysis = new DFDDataFlowAnalysisBuilder().standalone()
+            .modelProjectName(TEST_MODEL_PROJECT_NAME)
+            .usePluginActivator(Activator.class)
+            .useDataFlowDiagram(Paths.get("models", "DFDTestModels", modelName + ".dataflowdiagram")
+                .toString())
+            .useDataDictionary(Paths.get("models", "DFDTestModels", modelName + ".datadictionary")
+                .toString())
+            .useExecutor(AnalysisExecutor.sequential())
+            .build();
+        if (!analysis.initializeAnalysis()) {
+            throw new IllegalStateException("Unable to initialize the analysis of the model " + modelName);
+        }
+        return analysis;
+    }
+}
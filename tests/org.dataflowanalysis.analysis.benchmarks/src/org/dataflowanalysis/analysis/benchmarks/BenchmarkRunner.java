@@ -0,0 +1,35 @@
+package org.dataflowanalysis.analysis.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the benchmarks of the analysis and reports the throughput together with the allocation rate measured by the GC profiler.
+ * <p>
+ * The optional first argument is a regular expression selecting the benchmarks to run, e.g. {@code PCMAnalysisBenchmark.evaluateDataFlow}.
+ * The optional second argument is the file, to which the results are written in the JSON format.
+ * The benchmarks are registered in {@code META-INF/BenchmarkList}, which is generated by the JMH annotation processor during compilation
+ */
+public final class BenchmarkRunner {
+    private static final String BENCHMARK_LIST = "/META-INF/BenchmarkList";
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        if (BenchmarkRunner.class.getResource(BENCHMARK_LIST) == null) {
+            throw new IllegalStateException("Missing " + BENCHMARK_LIST + ", enable the JMH annotation processor when compiling the benchmarks");
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().include(args.length > 0 ? args[0] : BenchmarkRunner.class.getPackageName() + ".*Benchmark")
+            .addProfiler(GCProfiler.class);
+        if (args.length > 1) {
+            options.resultFormat(ResultFormatType.JSON)
+                .result(args[1]);
+        }
+        new Runner(options.build()).run();
+    }
+}
@@ -0,0 +1,106 @@
+package org.dataflowanalysis.analysis.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.dfd.DFDConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.dfd.core.DFDActionSequence;
+import org.dataflowanalysis.analysis.dfd.core.DFDActionSequenceFinder;
+import org.dataflowanalysis.analysis.dfd.core.DFDBehaviourCompiler;
+import org.dataflowanalysis.analysis.dfd.core.DFDCharacteristicsCalculator;
+import org.dataflowanalysis.analysis.dfd.core.DFDGraphIndex;
+import org.dataflowanalysis.analysis.dfd.resource.DFDResourceProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the hot paths of the DFD analysis: finding the action sequences, propagating the labels along them and querying the evaluated sequences.
+ * The models are loaded once per trial, so that each benchmark only measures the method under test.
+ * The behaviour compiler memoizes the compiled behaviours, therefore it is created for each invocation, so that the benchmarks do not only measure cache hits
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DFDAnalysisBenchmark {
+
+    /**
+     * Loaded data flow diagram and the inputs of the benchmarks, which are derived from the sequences of the diagram
+     */
+    @State(Scope.Benchmark)
+    public static class ModelState {
+        @Param({"minimal", "onlineShop"})
+        public String modelName;
+
+        DFDConfidentialityAnalysis analysis;
+        DFDResourceProvider resourceProvider;
+        DFDGraphIndex graphIndex;
+        List<ActionSequence> sequences;
+        List<ActionSequence> evaluatedSequences;
+
+        @Setup(Level.Trial)
+        public void loadModel() {
+            this.analysis = BenchmarkModels.createDFDAnalysis(this.modelName);
+            this.resourceProvider = this.analysis.getResourceProvider();
+            this.graphIndex = new DFDGraphIndex(this.resourceProvider.getDataFlowDiagram(), this.resourceProvider.getLabelUniverse());
+            this.sequences = DFDActionSequenceFinder.findAllSequencesInDFD(this.resourceProvider.getDataFlowDiagram(),
+                    this.resourceProvider.getDataDictionary(), this.resourceProvider.getLabelUniverse());
+            this.evaluatedSequences = this.analysis.evaluateDataFlows(this.sequences);
+        }
+    }
+
+    /**
+     * Behaviour compiler without compiled behaviours, which is created for each invocation of a benchmark
+     */
+    @State(Scope.Thread)
+    public static class CompilerState {
+        DFDBehaviourCompiler behaviourCompiler;
+
+        @Setup(Level.Invocation)
+        public void createCompiler(ModelState modelState) {
+            this.behaviourCompiler = new DFDBehaviourCompiler(modelState.resourceProvider.getLabelUniverse());
+        }
+    }
+
+    @Benchmark
+    public List<ActionSequence> findAllSequencesInDFD(ModelState state) {
+        return DFDActionSequenceFinder.findAllSequencesInDFD(state.resourceProvider.getDataFlowDiagram(), state.resourceProvider.getDataDictionary(),
+                state.resourceProvider.getLabelUniverse());
+    }
+
+    @Benchmark
+    public void fillDataFlowVariables(ModelState state, CompilerState compiler, Blackhole blackhole) {
+        for (ActionSequence sequence : state.sequences) {
+            blackhole.consume(DFDCharacteristicsCalculator.fillDataFlowVariables((DFDActionSequence) sequence, compiler.behaviourCompiler,
+                    state.graphIndex));
+        }
+    }
+
+    @Benchmark
+    public void queryDataFlow(ModelState state, Blackhole blackhole) {
+        Predicate<AbstractActionSequenceElement<?>> condition = element -> !element.getAllNodeCharacteristics()
+            .isEmpty()
+                && element.getAllDataFlowVariables()
+                    .stream()
+                    .anyMatch(variable -> !variable.getAllCharacteristics()
+                        .isEmpty());
+        for (ActionSequence sequence : state.evaluatedSequences) {
+            blackhole.consume(state.analysis.queryDataFlow(sequence, condition));
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package org.dataflowanalysis.analysis.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.LabelSet;
+import org.dataflowanalysis.analysis.pcm.PCMDataFlowConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.pcm.core.AbstractPCMActionSequenceElement;
+import org.dataflowanalysis.analysis.pcm.core.PCMActionSequence;
+import org.dataflowanalysis.analysis.pcm.core.PCMActionSequenceFinder;
+import org.dataflowanalysis.analysis.pcm.core.PCMCharacterisationCompiler;
+import org.dataflowanalysis.analysis.pcm.core.PCMDataCharacteristicsCalculator;
+import org.dataflowanalysis.analysis.pcm.core.PCMDataCharacteristicsCalculatorFactory;
+import org.dataflowanalysis.analysis.pcm.core.PCMNodeCharacteristicsCalculator;
+import org.dataflowanalysis.analysis.pcm.resource.PCMResourceProvider;
+import org.dataflowanalysis.pcm.extension.model.confidentiality.ConfidentialityVariableCharacterisation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks of the hot paths of the PCM analysis: finding the action sequences, evaluating them and querying the evaluated sequences.
+ * The models are loaded once per trial, so that each benchmark only measures the method under test.
+ * The calculators and compilers memoize their results, therefore they are created for each invocation, so that the benchmarks do not only measure cache hits
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PCMAnalysisBenchmark {
+
+    /**
+     * Loaded model and the inputs of the benchmarks, which are derived from the sequences of the model
+     */
+    @State(Scope.Benchmark)
+    public static class ModelState {
+        @Param({"TravelPlanner", "InternationalOnlineShop", "BranchingOnlineShop"})
+        public String modelName;
+
+        PCMDataFlowConfidentialityAnalysis analysis;
+        PCMResourceProvider resourceProvider;
+        List<PCMActionSequence> sequences;
+        List<ActionSequence> evaluatedSequences;
+        List<AbstractPCMActionSequenceElement<?>> elements;
+        List<CharacterisationInput> characterisationInputs;
+
+        @Setup(Level.Trial)
+        public void loadModel() {
+            this.analysis = BenchmarkModels.createPCMAnalysis(this.modelName);
+            this.resourceProvider = (PCMResourceProvider) this.analysis.getResourceProvider();
+            this.sequences = new PCMActionSequenceFinder(this.resourceProvider.getUsageModel()).findAllSequences();
+            this.evaluatedSequences = this.analysis.evaluateDataFlows(new ArrayList<>(this.sequences));
+
+            this.elements = new ArrayList<>();
+            this.characterisationInputs = new ArrayList<>();
+            for (ActionSequence sequence : this.evaluatedSequences) {
+                for (AbstractActionSequenceElement<?> element : sequence.getElements()) {
+                    AbstractPCMActionSequenceElement<?> pcmElement = (AbstractPCMActionSequenceElement<?>) element;
+                    this.elements.add(pcmElement);
+                    List<ConfidentialityVariableCharacterisation> characterisations = new ArrayList<>();
+                    pcmElement.getElement()
+                        .eAllContents()
+                        .forEachRemaining(it -> {
+                            if (it instanceof ConfidentialityVariableCharacterisation characterisation) {
+                                characterisations.add(characterisation);
+                            }
+                        });
+                    if (!characterisations.isEmpty()) {
+                        this.characterisationInputs.add(new CharacterisationInput(pcmElement.getAllDataFlowVariables(),
+                                pcmElement.getNodeCharacteristicLabels(), characterisations));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Calculators and compilers without memoized results, which are created for each invocation of a benchmark
+     */
+    @State(Scope.Thread)
+    public static class CalculatorState {
+        PCMNodeCharacteristicsCalculator nodeCharacteristicsCalculator;
+        PCMDataCharacteristicsCalculatorFactory dataCharacteristicsCalculatorFactory;
+        PCMCharacterisationCompiler characterisationCompiler;
+
+        @Setup(Level.Invocation)
+        public void createCalculators(ModelState modelState) {
+            this.nodeCharacteristicsCalculator = new PCMNodeCharacteristicsCalculator(modelState.resourceProvider);
+            this.dataCharacteristicsCalculatorFactory = new PCMDataCharacteristicsCalculatorFactory(modelState.resourceProvider);
+            this.characterisationCompiler = new PCMCharacterisationCompiler(modelState.resourceProvider.getLabelUniverse());
+        }
+    }
+
+    /**
+     * Input of the evaluation of the variable characterisations of one element
+     * @param incomingVariables Data flow variables flowing into the element
+     * @param nodeCharacteristics Node characteristics of the element
+     * @param characterisations Variable characterisations of the element
+     */
+    record CharacterisationInput(List<DataFlowVariable> incomingVariables, LabelSet nodeCharacteristics,
+            List<ConfidentialityVariableCharacterisation> characterisations) {
+    }
+
+    @Benchmark
+    public List<PCMActionSequence> findAllSequences(ModelState state) {
+        return new PCMActionSequenceFinder(state.resourceProvider.getUsageModel()).findAllSequences();
+    }
+
+    @Benchmark
+    public void evaluateDataFlow(ModelState state, CalculatorState calculators, Blackhole blackhole) {
+        for (PCMActionSequence sequence : state.sequences) {
+            blackhole.consume(sequence.evaluateDataFlow(calculators.nodeCharacteristicsCalculator, calculators.dataCharacteristicsCalculatorFactory));
+        }
+    }
+
+    @Benchmark
+    public void getNodeCharacteristics(ModelState state, CalculatorState calculators, Blackhole blackhole) {
+        for (AbstractPCMActionSequenceElement<?> element : state.elements) {
+            blackhole.consume(calculators.nodeCharacteristicsCalculator.getNodeCharacteristics(element.getElement(), element.getContext()));
+        }
+    }
+
+    @Benchmark
+    public void evaluateVariableCharacterisations(ModelState state, CalculatorState calculators, Blackhole blackhole) {
+        for (CharacterisationInput input : state.characterisationInputs) {
+            PCMDataCharacteristicsCalculator calculator = new PCMDataCharacteristicsCalculator(input.incomingVariables(),
+                    input.nodeCharacteristics(), calculators.characterisationCompiler);
+            for (ConfidentialityVariableCharacterisation characterisation : input.characterisations()) {
+                calculator.evaluate(characterisation);
+            }
+            blackhole.consume(calculator.getCalculatedCharacteristics());
+        }
+    }
+
+    @Benchmark
+    public void queryDataFlow(ModelState state, Blackhole blackhole) {
+        Predicate<AbstractActionSequenceElement<?>> condition = element -> !element.getAllNodeCharacteristics()
+            .isEmpty()
+                && element.getAllDataFlowVariables()
+                    .stream()
+                    .anyMatch(variable -> !variable.getAllCharacteristics()
+                        .isEmpty());
+        for (ActionSequence sequence : state.evaluatedSequences) {
+            blackhole.consume(state.analysis.queryDataFlow(sequence, condition));
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package org.dataflowanalysis.analysis.tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.dataflowanalysis.analysis.pcm.PCMAnalysisSession;
+import org.dataflowanalysis.analysis.pcm.PCMDataFlowConfidentialityAnalysis;
+import org.junit.jupiter.api.Test;
+
+public class AnalysisSessionTest extends BaseTest {
+
+    /**
+     * Tests whether analyses of a shared session can be initialized concurrently and find the same sequences as a separately initialized analysis
+     * <p>
+     * Fails if an analysis of the session cannot be initialized, shares its resources with another analysis or finds different sequences
+     */
+    @Test
+    public void concurrentSessionAnalysesTest() throws InterruptedException, ExecutionException {
+        PCMAnalysisSession session = new PCMAnalysisSession();
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            Callable<PCMDataFlowConfidentialityAnalysis> task = () -> this.createSessionAnalysis(session);
+            List<Future<PCMDataFlowConfidentialityAnalysis>> futures = executorService.invokeAll(Collections.nCopies(4, task));
+            int expectedSequences = travelPlannerAnalysis.findAllSequences()
+                .size();
+            for (int i = 0; i < futures.size(); i++) {
+                PCMDataFlowConfidentialityAnalysis analysis = futures.get(i)
+                    .get();
+                assertEquals(expectedSequences, analysis.evaluateDataFlows(analysis.findAllSequences())
+                    .size());
+                for (int j = 0; j < i; j++) {
+                    assertNotSame(futures.get(j)
+                        .get()
+                        .getResourceProvider()
+                        .getResources()
+                        .iterator()
+                        .next()
+                        .getResourceSet(),
+                            analysis.getResourceProvider()
+                                .getResources()
+                                .iterator()
+                                .next()
+                                .getResourceSet());
+                }
+            }
+            assertTrue(session.isInitialized());
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
+    /**
+     * Tests whether analyses without a session share the default session
+     * <p>
+     * Fails if the default session differs between calls or has not been initialized by an analysis without a session
+     */
+    @Test
+    public void defaultSessionTest() {
+        PCMDataFlowConfidentialityAnalysis analysis = this.createTravelPlannerAnalysisBuilder()
+            .build();
+        analysis.initializeAnalysis();
+
+        assertSame(PCMAnalysisSession.getDefault(), PCMAnalysisSession.getDefault());
+        assertTrue(PCMAnalysisSession.getDefault()
+            .isInitialized());
+    }
+
+    /**
+     * Creates and initializes an analysis of the travel planner model from the given session
+     * @param session Shared session
+     * @return Returns the initialized analysis
+     */
+    private PCMDataFlowConfidentialityAnalysis createSessionAnalysis(PCMAnalysisSession session) {
+        PCMDataFlowConfidentialityAnalysis analysis = this.createTravelPlannerAnalysisBuilder()
+            .useSession(session)
+            .build();
+        analysis.initializeAnalysis();
+        return analysis;
+    }
+}
@@ -49,15 +49,36 @@ public class BaseTest {
     }
     
     protected DataFlowConfidentialityAnalysis initializeAnalysis(Path usagePath, Path allocationPath, Path nodePath) {
-    	DataFlowConfidentialityAnalysis analysis = new PCMDataFlowConfidentialityAnalysisBuilder()
+    	DataFlowConfidentialityAnalysis analysis = this.createAnalysisBuilder(usagePath, allocationPath, nodePath)
+    			.build();
+    	analysis.initializeAnalysis();
+    	return analysis;
+    }
+    
+    /**
+     * Returns a builder of an analysis of the travel planner model, that may be configured further by a test
+     * @return Returns a preconfigured builder of the analysis
+     */
+    protected PCMDataFlowConfidentialityAnalysisBuilder createTravelPlannerAnalysisBuilder() {
+        return this.createAnalysisBuilder(Paths.get("models", "TravelPlanner", "travelPlanner.usagemodel"), 
+        		Paths.get("models", "TravelPlanner", "travelPlanner.allocation"), 
+        		Paths.get("models", "TravelPlanner", "travelPlanner.nodecharacteristics"));
+    }
+    
+    /**
+     * Returns a builder of an analysis of the given models in the test model project
+     * @param usagePath Path to the usage model
+     * @param allocationPath Path to the allocation model
+     * @param nodePath Path to the node characteristics model
+     * @return Returns a preconfigured builder of the analysis
+     */
+    protected PCMDataFlowConfidentialityAnalysisBuilder createAnalysisBuilder(Path usagePath, Path allocationPath, Path nodePath) {
+    	return new PCMDataFlowConfidentialityAnalysisBuilder()
         		.standalone()
         		.modelProjectName(TEST_MODEL_PROJECT_NAME)
     			.usePluginActivator(Activator.class)
     			.useUsageModel(usagePath.toString())
     			.useAllocationModel(allocationPath.toString())
-    			.useNodeCharacteristicsModel(nodePath.toString())
-    			.build();
-    	analysis.initializeAnalysis();
-    	return analysis;
+    			.useNodeCharacteristicsModel(nodePath.toString());
     }
 }
@@ -0,0 +1,115 @@
+package org.dataflowanalysis.analysis.tests.constraint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.dataflowanalysis.analysis.DataFlowConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.pcm.PCMDataFlowConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.query.CompiledConstraint;
+import org.dataflowanalysis.analysis.query.ConstraintCompiler;
+import org.dataflowanalysis.analysis.query.ViolationMatrix;
+import org.junit.jupiter.api.Test;
+
+public class ConstraintLanguageTest extends ConstraintTest {
+
+    /**
+     * Indicates whether an element violates the constraint of the travel planner model
+     * @param node Element of the action sequence
+     * @return Returns true, if the constraint is violated. Otherwise, the method returns false.
+     */
+    private boolean travelPlannerCondition(AbstractActionSequenceElement<?> node) {
+        List<String> assignedRoles = node.getNodeCharacteristicIdsWithType("AssignedRoles");
+        return node.getDataFlowCharacteristicIdsWithType("GrantedRoles").stream()
+                .anyMatch(it -> !it.isEmpty() && it.stream().noneMatch(assignedRoles::contains));
+    }
+
+    /**
+     * Indicates whether an element violates the constraint of the international online shop model
+     * @param node Element of the action sequence
+     * @return Returns true, if the constraint is violated. Otherwise, the method returns false.
+     */
+    private boolean internationalOnlineShopCondition(AbstractActionSequenceElement<?> node) {
+        return node.getNodeCharacteristicNamesWithType("ServerLocation").contains("nonEU")
+                && node.getDataFlowCharacteristicNamesWithType("DataSensitivity").stream().anyMatch(it -> it.contains("Personal"));
+    }
+
+    /**
+     * Tests whether compiled constraints find the same violations as the equivalent Java predicates
+     * <p>
+     * Fails if the violating elements of a compiled constraint differ from the elements found by the Java predicate
+     */
+    @Test
+    public void compiledConstraintsMatchPredicatesTest() {
+        CompiledConstraint travelPlannerConstraint = this.createCompiler(travelPlannerAnalysis)
+                .compile("any(!(data.GrantedRoles empty) && data.GrantedRoles disjoint node.AssignedRoles)");
+        this.assertSameViolations(travelPlannerAnalysis, travelPlannerConstraint, this::travelPlannerCondition);
+
+        CompiledConstraint internationalOnlineShopConstraint = this.createCompiler(internationalOnlineShopAnalysis)
+                .compile("node.ServerLocation contains {nonEU} && data.DataSensitivity intersects {Personal}");
+        this.assertSameViolations(internationalOnlineShopAnalysis, internationalOnlineShopConstraint, this::internationalOnlineShopCondition);
+    }
+
+    /**
+     * Tests whether a policy is compiled into a query and whether unknown types and literals are rejected at compile time
+     * <p>
+     * Fails if the query of the policy does not contain the named constraints, if the nonEU constraint is not violated by the elements found by the Java predicate,
+     * if a constraint is violated that no element can violate or if an invalid constraint is compiled
+     */
+    @Test
+    public void compilePolicyTest() {
+        ConstraintCompiler compiler = this.createCompiler(internationalOnlineShopAnalysis);
+        String policy = """
+                # Personal data must not be processed outside of the EU
+                nonEU: node.ServerLocation intersects {nonEU} && any(data.DataSensitivity contains {Personal})
+                none: node.ServerLocation empty && !(node.ServerLocation empty)
+                # Each server is located either in or outside of the EU
+                bothLocations: node.ServerLocation contains {EU} && node.ServerLocation contains {nonEU}
+                """;
+        List<ActionSequence> sequences = internationalOnlineShopAnalysis.evaluateDataFlows(internationalOnlineShopAnalysis.findAllSequences());
+        ViolationMatrix violations = internationalOnlineShopAnalysis.queryDataFlows(sequences, compiler.compilePolicy(policy));
+        assertEquals(List.of("nonEU", "none", "bothLocations"), violations.getConstraintNames());
+        assertTrue(violations.isViolated("nonEU"));
+        for (int i = 0; i < sequences.size(); i++) {
+            assertEquals(internationalOnlineShopAnalysis.queryDataFlow(sequences.get(i), this::internationalOnlineShopCondition),
+                    violations.getViolatingElements("nonEU", i));
+        }
+        assertFalse(violations.isViolated("none"));
+        assertFalse(violations.isViolated("bothLocations"));
+
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile("node.ServerLocation contains {Mars}"));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile("node.UnknownType empty"));
+        assertThrows(IllegalArgumentException.class, () -> compiler.compile("node.ServerLocation contains {nonEU"));
+    }
+
+    /**
+     * Creates a compiler resolving types and literals in the label universe of the given analysis
+     * @param analysis Initialized PCM analysis
+     * @return Returns a compiler for the analysis
+     */
+    private ConstraintCompiler createCompiler(DataFlowConfidentialityAnalysis analysis) {
+        return new ConstraintCompiler(((PCMDataFlowConfidentialityAnalysis) analysis).getResourceProvider().getLabelUniverse());
+    }
+
+    /**
+     * Asserts that a compiled constraint and a Java predicate are violated by the same elements of each sequence of the analysis
+     * @param analysis Initialized analysis
+     * @param constraint Compiled constraint
+     * @param condition Equivalent Java predicate
+     */
+    private void assertSameViolations(DataFlowConfidentialityAnalysis analysis, CompiledConstraint constraint,
+            Predicate<AbstractActionSequenceElement<?>> condition) {
+        List<ActionSequence> sequences = analysis.evaluateDataFlows(analysis.findAllSequences());
+        for (ActionSequence sequence : sequences) {
+            List<AbstractActionSequenceElement<?>> expectedViolations = analysis.queryDataFlow(sequence, condition);
+            printViolation(expectedViolations);
+            assertEquals(expectedViolations, analysis.queryDataFlow(sequence, constraint::testElement));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.dataflowanalysis.analysis.tests.constraint;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.query.ConstraintQuery;
+import org.dataflowanalysis.analysis.query.ElementView;
+import org.dataflowanalysis.analysis.query.ViolationMatrix;
+import org.junit.jupiter.api.Test;
+
+public class ConstraintQueryTest extends ConstraintTest {
+
+    /**
+     * Indicates whether an element violates the constraint of the international online shop model
+     * @param view Shared view of an element of an action sequence
+     * @return Returns true, if the constraint is violated. Otherwise, the method returns false.
+     */
+    private boolean internationalOnlineShopCondition(ElementView view) {
+        return view.getNodeCharacteristicNamesWithType("ServerLocation").contains("nonEU")
+                && view.getDataFlowCharacteristicNamesWithType("DataSensitivity").stream().anyMatch(it -> it.contains("Personal"));
+    }
+
+    /**
+     * Tests whether a batch query of several constraints finds the same violations as querying each constraint separately
+     * <p>
+     * Fails if the violating elements of a constraint in a sequence differ from the result of {@code queryDataFlow}
+     */
+    @Test
+    public void batchQueryMatchesSingleQueriesTest() {
+        List<ActionSequence> sequences = internationalOnlineShopAnalysis.evaluateDataFlows(internationalOnlineShopAnalysis.findAllSequences());
+        ConstraintQuery query = new ConstraintQuery()
+                .addConstraint("nonEU", this::internationalOnlineShopCondition)
+                .addElementConstraint("personal", it -> it.getDataFlowCharacteristicNamesWithType("DataSensitivity").stream()
+                        .anyMatch(names -> names.contains("Personal")))
+                .addConstraint("none", it -> false);
+
+        ViolationMatrix violations = internationalOnlineShopAnalysis.queryDataFlows(sequences, query);
+        assertEquals(List.of("nonEU", "personal", "none"), violations.getConstraintNames());
+        assertTrue(violations.isViolated("nonEU"));
+        assertTrue(violations.getViolations("none").isEmpty());
+
+        for (int i = 0; i < sequences.size(); i++) {
+            List<AbstractActionSequenceElement<?>> expectedViolations = internationalOnlineShopAnalysis.queryDataFlow(sequences.get(i),
+                    it -> this.internationalOnlineShopCondition(new ElementView(it)));
+            assertEquals(expectedViolations, violations.getViolatingElements("nonEU", i));
+        }
+        assertEquals(violations.size(), violations.getViolations().size());
+    }
+}
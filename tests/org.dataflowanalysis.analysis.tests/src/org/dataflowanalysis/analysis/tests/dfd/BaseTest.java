@@ -1,6 +1,7 @@
 package org.dataflowanalysis.analysis.tests.dfd;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
@@ -9,6 +10,7 @@ import java.nio.file.Paths;
 import org.dataflowanalysis.analysis.core.ActionSequence;
 import org.dataflowanalysis.analysis.dfd.DFDConfidentialityAnalysis;
 import org.dataflowanalysis.analysis.dfd.DFDDataFlowAnalysisBuilder;
+import org.dataflowanalysis.analysis.dfd.core.DFDActionSequenceElement;
 import org.dataflowanalysis.analysis.testmodels.Activator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -20,16 +22,24 @@ public class BaseTest {
 	
 	@BeforeEach
 	public void initAnalysis() {
-		final var minimalDataFlowDiagramPath = Paths.get("models", "DFDTestModels", "minimal.dataflowdiagram");
-		final var minimalDataDictionaryPath = Paths.get("models", "DFDTestModels", "minimal.datadictionary");
+		this.analysis = createAnalysisBuilder("minimal").build();
+	}
+	
+	/**
+	 * Returns a builder of an analysis of the DFD test model with the given name, that may be configured further by a test
+	 * @param modelName Name of the data flow diagram and data dictionary in the DFD test models
+	 * @return Returns a preconfigured builder of the analysis
+	 */
+	static DFDDataFlowAnalysisBuilder createAnalysisBuilder(String modelName) {
+		final var dataFlowDiagramPath = Paths.get("models", "DFDTestModels", modelName + ".dataflowdiagram");
+		final var dataDictionaryPath = Paths.get("models", "DFDTestModels", modelName + ".datadictionary");
 		
-		this.analysis = new DFDDataFlowAnalysisBuilder()
+		return new DFDDataFlowAnalysisBuilder()
 				.standalone()
 				.modelProjectName(TEST_MODEL_PROJECT_NAME)
 				.usePluginActivator(Activator.class)
-				.useDataFlowDiagram(minimalDataFlowDiagramPath.toString())
-				.useDataDictionary(minimalDataDictionaryPath.toString())
-				.build();
+				.useDataFlowDiagram(dataFlowDiagramPath.toString())
+				.useDataDictionary(dataDictionaryPath.toString());
 	}
 	
 	
@@ -77,4 +87,19 @@ public class BaseTest {
         });
 		assertTrue(results.isEmpty());
 	}
-}
\ No newline at end of file
+	
+	@Test
+	public void sequenceElements_referenceFlowFromPreviousNode() {
+		this.analysis.initializeAnalysis();
+		var sequences = analysis.findAllSequences();
+		
+		for (ActionSequence sequence : sequences) {
+			for (var abstractElement : sequence.getElements().subList(1, sequence.getElements().size())) {
+				DFDActionSequenceElement element = (DFDActionSequenceElement) abstractElement;
+				assertNotNull(element.getFlow());
+				assertEquals(element.getPreviousNode(), element.getFlow().getSourceNode());
+				assertEquals(element.getNode(), element.getFlow().getDestinationNode());
+			}
+		}
+	}
+}
@@ -0,0 +1,74 @@
+package org.dataflowanalysis.analysis.tests.dfd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.dfd.DFDConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.dfd.core.DFDActionSequenceElement;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class CycleUnrollingTest {
+
+	/**
+	 * Tests whether the cycle between the request and retry nodes is unrolled at most the given number of times.
+	 * Each additional traversal of the cycle adds a strand, that is two nodes longer
+	 * <p>
+	 * Fails if the number or the lengths of the strands differ, if a strand does not end at the sink
+	 * or if a node occurs more often than the bound allows
+	 */
+	@ParameterizedTest
+	@ValueSource(ints = {0, 1, 3})
+	public void cycleUnrollingBoundTest(int cycleUnrollingBound) {
+		DFDConfidentialityAnalysis analysis = this.createAnalysis(cycleUnrollingBound);
+		List<ActionSequence> sequences = analysis.findAllSequences();
+
+		List<Integer> expectedLengths = IntStream.rangeClosed(0, cycleUnrollingBound)
+				.mapToObj(it -> 4 + 2 * it)
+				.toList();
+		List<Integer> lengths = sequences.stream()
+				.map(it -> it.getElements().size())
+				.sorted()
+				.toList();
+		assertEquals(expectedLengths, lengths);
+
+		for (ActionSequence sequence : sequences) {
+			List<String> nodeNames = sequence.getElements().stream()
+					.map(it -> ((DFDActionSequenceElement) it).getNode().getEntityName())
+					.toList();
+			assertEquals("source", nodeNames.get(0));
+			assertEquals("sink", nodeNames.get(nodeNames.size() - 1));
+			Map<String, Long> occurrences = nodeNames.stream()
+					.collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+			assertTrue(occurrences.values().stream().allMatch(it -> it <= cycleUnrollingBound + 1));
+		}
+	}
+
+	/**
+	 * Tests whether a negative cycle unrolling bound is rejected
+	 * <p>
+	 * Fails if no exception is thrown when the sequences are found
+	 */
+	@Test
+	public void negativeCycleUnrollingBoundTest() {
+		DFDConfidentialityAnalysis analysis = this.createAnalysis(-1);
+		assertThrows(IllegalArgumentException.class, analysis::findAllSequences);
+	}
+
+	private DFDConfidentialityAnalysis createAnalysis(int cycleUnrollingBound) {
+		DFDConfidentialityAnalysis analysis = BaseTest.createAnalysisBuilder("cycle")
+				.useCycleUnrollingBound(cycleUnrollingBound)
+				.build();
+		analysis.initializeAnalysis();
+		return analysis;
+	}
+}
@@ -0,0 +1,84 @@
+package org.dataflowanalysis.analysis.tests.dfd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.core.LabelSet;
+import org.dataflowanalysis.analysis.dfd.DFDConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.dfd.core.DFDActionSequenceElement;
+import org.dataflowanalysis.analysis.dfd.core.DFDSnapshotElementIdentifier;
+import org.dataflowanalysis.analysis.snapshot.SnapshotActionSequenceElement;
+import org.dataflowanalysis.analysis.snapshot.SnapshotReader;
+import org.dataflowanalysis.analysis.snapshot.SnapshotWriter;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DFDSnapshotTest {
+
+	/**
+	 * Tests whether the sequences of the minimal DFD read from a snapshot reference the same nodes and flows
+	 * and contain the same labels and variables as the written sequences
+	 * <p>
+	 * Fails if an element read from the snapshot differs from the written element
+	 */
+	@Test
+	public void readSnapshotMatchesWrittenSequencesTest(@TempDir Path directory) throws IOException {
+		DFDConfidentialityAnalysis analysis = this.createAnalysis();
+		List<ActionSequence> sequences = analysis.evaluateDataFlows(analysis.findAllSequences());
+		Path path = directory.resolve("minimal.snapshot");
+		SnapshotWriter.write(path, sequences, new DFDSnapshotElementIdentifier());
+
+		try (SnapshotReader reader = new SnapshotReader(path)) {
+			assertEquals(sequences.size(), reader.size());
+			for (int i = 0; i < sequences.size(); i++) {
+				List<AbstractActionSequenceElement<?>> expectedElements = sequences.get(i).getElements();
+				List<AbstractActionSequenceElement<?>> actualElements = reader.getSequence(i).getElements();
+				assertEquals(expectedElements.size(), actualElements.size());
+				for (int j = 0; j < expectedElements.size(); j++) {
+					DFDActionSequenceElement expectedElement = (DFDActionSequenceElement) expectedElements.get(j);
+					SnapshotActionSequenceElement actualElement = (SnapshotActionSequenceElement) actualElements.get(j);
+					assertEquals(expectedElement.toString(), actualElement.toString());
+					assertEquals(expectedElement.getNode().getId(), actualElement.getElementId());
+					List<String> expectedContextIds = expectedElement.getFlow() == null ? List.of() : List.of(expectedElement.getFlow().getId());
+					assertEquals(expectedContextIds, actualElement.getContextIds());
+					assertEquals(this.describe(expectedElement), this.describe(actualElement));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Describes the labels and variables of an element independently of the label universe and the order of label ids
+	 * @param element Evaluated element
+	 * @return Returns a description of the node characteristics and the incoming and outgoing data flow variables of the element
+	 */
+	private List<String> describe(AbstractActionSequenceElement<?> element) {
+		return List.of(this.describe(element.getNodeCharacteristicLabels()),
+				element.getAllDataFlowVariables().stream().map(it -> it.variableName() + this.describe(it.labels())).toList().toString(),
+				element.getAllOutgoingDataFlowVariables().stream().map(it -> it.variableName() + this.describe(it.labels())).toList().toString());
+	}
+
+	/**
+	 * Describes a label set independently of the order of label ids
+	 * @param labels Label set
+	 * @return Returns the sorted names of the labels
+	 */
+	private String describe(LabelSet labels) {
+		return labels.getCharacteristicValues().stream()
+				.map(it -> it.getTypeName() + "." + it.getValueName())
+				.sorted()
+				.toList()
+				.toString();
+	}
+
+	private DFDConfidentialityAnalysis createAnalysis() {
+		DFDConfidentialityAnalysis analysis = BaseTest.createAnalysisBuilder("minimal").build();
+		analysis.initializeAnalysis();
+		return analysis;
+	}
+}
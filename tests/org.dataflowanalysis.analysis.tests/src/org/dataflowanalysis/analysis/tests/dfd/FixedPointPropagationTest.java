@@ -0,0 +1,169 @@
+package org.dataflowanalysis.analysis.tests.dfd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.core.CharacteristicValue;
+import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.LabelSet;
+import org.dataflowanalysis.analysis.dfd.DFDConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.dfd.DFDDataFlowAnalysisBuilder;
+import org.dataflowanalysis.analysis.dfd.core.DFDLabelBounds;
+import org.dataflowanalysis.analysis.dfd.core.DFDLabelPropagation;
+import org.dataflowanalysis.dfd.dataflowdiagram.Flow;
+import org.dataflowanalysis.dfd.dataflowdiagram.Node;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class FixedPointPropagationTest {
+
+	/**
+	 * Tests whether the fixed-point propagation over-approximates the propagation along each action sequence, if all behaviours are monotone
+	 * <p>
+	 * Fails if an element of an action sequence has a label after the propagation along the sequence, that is missing after fixed-point propagation
+	 */
+	@ParameterizedTest
+	@ValueSource(strings = {"minimal", "cycle"})
+	public void fixedPointContainsSequenceLabelsTest(String modelName) {
+		DFDConfidentialityAnalysis sequenceAnalysis = this.createAnalysis(modelName, false);
+		DFDConfidentialityAnalysis fixedPointAnalysis = this.createAnalysis(modelName, true);
+		assertTrue(fixedPointAnalysis.propagateLabels().isMonotone());
+
+		List<ActionSequence> sequenceResults = sequenceAnalysis.evaluateDataFlows(sequenceAnalysis.findAllSequences());
+		List<ActionSequence> fixedPointResults = fixedPointAnalysis.evaluateDataFlows(fixedPointAnalysis.findAllSequences());
+		assertEquals(sequenceResults.size(), fixedPointResults.size());
+
+		for (int i = 0; i < sequenceResults.size(); i++) {
+			List<AbstractActionSequenceElement<?>> sequenceElements = sequenceResults.get(i).getElements();
+			List<AbstractActionSequenceElement<?>> fixedPointElements = fixedPointResults.get(i).getElements();
+			assertEquals(sequenceElements.size(), fixedPointElements.size());
+			for (int j = 0; j < sequenceElements.size(); j++) {
+				assertEquals(sequenceElements.get(j).getAllNodeCharacteristics().size(), fixedPointElements.get(j).getAllNodeCharacteristics().size());
+				for (DataFlowVariable variable : sequenceElements.get(j).getAllDataFlowVariables()) {
+					DataFlowVariable fixedPointVariable = this.findVariable(fixedPointElements.get(j), variable.variableName());
+					assertTrue(fixedPointVariable.labels().containsAll(variable.labels()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests whether the fixed-point propagation over-approximates the propagation along each action sequence, if a behaviour contains a negated term.
+	 * In the branching model, the encrypt node removes the public label from personal data and the encrypted label from other data
+	 * <p>
+	 * Fails if an element of an action sequence has a label after the propagation along the sequence, that is missing after fixed-point propagation
+	 */
+	@Test
+	public void negatedTermsContainSequenceLabelsTest() {
+		DFDConfidentialityAnalysis sequenceAnalysis = this.createAnalysis("branching", false);
+		DFDConfidentialityAnalysis fixedPointAnalysis = this.createAnalysis("branching", true);
+		assertFalse(fixedPointAnalysis.propagateLabels().isMonotone());
+
+		List<ActionSequence> sequenceResults = sequenceAnalysis.evaluateDataFlows(sequenceAnalysis.findAllSequences());
+		List<ActionSequence> fixedPointResults = fixedPointAnalysis.evaluateDataFlows(fixedPointAnalysis.findAllSequences());
+		assertEquals(sequenceResults.size(), fixedPointResults.size());
+
+		for (int i = 0; i < sequenceResults.size(); i++) {
+			List<AbstractActionSequenceElement<?>> sequenceElements = sequenceResults.get(i).getElements();
+			List<AbstractActionSequenceElement<?>> fixedPointElements = fixedPointResults.get(i).getElements();
+			assertEquals(sequenceElements.size(), fixedPointElements.size());
+			for (int j = 0; j < sequenceElements.size(); j++) {
+				for (DataFlowVariable variable : sequenceElements.get(j).getAllDataFlowVariables()) {
+					DataFlowVariable fixedPointVariable = this.findVariable(fixedPointElements.get(j), variable.variableName());
+					assertTrue(fixedPointVariable.labels().containsAll(variable.labels()));
+				}
+			}
+		}
+	}
+
+	/**
+	 * Tests whether a node with a negated term is evaluated separately with the labels of each incoming flow.
+	 * The encrypt node marks personal data of the user as encrypted and other data of the sensor as public.
+	 * The labels of both paths are possible on the flow to the database, but none of them is guaranteed
+	 * <p>
+	 * Fails if the bounds of a flow differ from the labels of the paths reaching it
+	 * or a path reaching the database carries a label, that is not possible or misses a guaranteed label
+	 */
+	@Test
+	public void negatedTermsBoundsTest() {
+		DFDConfidentialityAnalysis fixedPointAnalysis = this.createAnalysis("branching", true);
+		DFDLabelPropagation propagation = fixedPointAnalysis.propagateLabels();
+		DFDLabelBounds userLabels = propagation.getFlowLabelBounds(this.findFlow(fixedPointAnalysis, "user", "encrypt")).orElseThrow();
+		DFDLabelBounds sensorLabels = propagation.getFlowLabelBounds(this.findFlow(fixedPointAnalysis, "sensor", "encrypt")).orElseThrow();
+		DFDLabelBounds databaseLabels = propagation.getFlowLabelBounds(this.findFlow(fixedPointAnalysis, "encrypt", "database")).orElseThrow();
+
+		assertEquals(Set.of("personal"), this.getLabelNames(userLabels.possibleLabels()));
+		assertEquals(Set.of("personal"), this.getLabelNames(userLabels.guaranteedLabels()));
+		assertEquals(Set.of("public"), this.getLabelNames(sensorLabels.possibleLabels()));
+		assertEquals(Set.of("public"), this.getLabelNames(sensorLabels.guaranteedLabels()));
+		assertEquals(Set.of("personal", "encrypted", "public"), this.getLabelNames(databaseLabels.possibleLabels()));
+		assertEquals(Set.of(), this.getLabelNames(databaseLabels.guaranteedLabels()));
+
+		DFDConfidentialityAnalysis sequenceAnalysis = this.createAnalysis("branching", false);
+		List<ActionSequence> sequenceResults = sequenceAnalysis.evaluateDataFlows(sequenceAnalysis.findAllSequences());
+		for (ActionSequence sequence : sequenceResults) {
+			AbstractActionSequenceElement<?> databaseElement = sequence.getElements().get(sequence.getElements().size() - 1);
+			LabelSet labels = this.findVariable(databaseElement, "database").labels();
+			Set<String> labelNames = this.getLabelNames(labels);
+			assertTrue(this.getLabelNames(databaseLabels.possibleLabels()).containsAll(labelNames));
+			assertTrue(labelNames.containsAll(this.getLabelNames(databaseLabels.guaranteedLabels())));
+		}
+	}
+
+	/**
+	 * Tests whether the labels incoming to a node are the union of its possible labels over all paths, if a behaviour contains a negated term
+	 * <p>
+	 * Fails if a label of a path reaching the database is missing or an unexpected label is present
+	 */
+	@Test
+	public void negatedTermsIncomingLabelsTest() {
+		DFDConfidentialityAnalysis fixedPointAnalysis = this.createAnalysis("branching", true);
+		DFDLabelPropagation propagation = fixedPointAnalysis.propagateLabels();
+		Node database = fixedPointAnalysis.getGraphIndex().getNodes().stream()
+				.filter(it -> it.getEntityName().equals("database"))
+				.findAny()
+				.orElseThrow();
+
+		assertEquals(Set.of("personal", "encrypted", "public"), this.getLabelNames(propagation.getIncomingLabels(database)));
+	}
+
+	private Set<String> getLabelNames(LabelSet labels) {
+		return labels.getCharacteristicValues().stream()
+				.map(CharacteristicValue::getValueName)
+				.collect(Collectors.toSet());
+	}
+
+	private Flow findFlow(DFDConfidentialityAnalysis analysis, String sourceName, String destinationName) {
+		return analysis.getGraphIndex().getNodes().stream()
+				.filter(it -> it.getEntityName().equals(sourceName))
+				.flatMap(it -> analysis.getGraphIndex().getOutgoingFlows(it).stream())
+				.filter(it -> it.getDestinationNode().getEntityName().equals(destinationName))
+				.findAny()
+				.orElseThrow();
+	}
+
+	private DataFlowVariable findVariable(AbstractActionSequenceElement<?> element, String variableName) {
+		return element.getAllDataFlowVariables().stream()
+				.filter(it -> it.variableName().equals(variableName))
+				.findAny()
+				.orElseThrow();
+	}
+
+	private DFDConfidentialityAnalysis createAnalysis(String modelName, boolean fixedPointPropagation) {
+		DFDDataFlowAnalysisBuilder builder = BaseTest.createAnalysisBuilder(modelName);
+		if (fixedPointPropagation) {
+			builder.useFixedPointPropagation();
+		}
+		DFDConfidentialityAnalysis analysis = builder.build();
+		analysis.initializeAnalysis();
+		return analysis;
+	}
+}
@@ -0,0 +1,72 @@
+package org.dataflowanalysis.analysis.tests.dfd;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.core.CharacteristicValue;
+import org.dataflowanalysis.analysis.dfd.DFDConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.dfd.core.DFDActionSequenceElement;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FlowAssignmentTest {
+	private DFDConfidentialityAnalysis analysis;
+
+	@BeforeEach
+	public void initAnalysis() {
+		this.analysis = BaseTest.createAnalysisBuilder("branching").build();
+		this.analysis.initializeAnalysis();
+	}
+
+	/**
+	 * Tests whether the assignments of a node are evaluated with the labels of the flow, by which the node was reached in the sequence.
+	 * The encrypt node marks personal data as encrypted and other data as public
+	 * <p>
+	 * Fails if the labels of an element differ from the labels assigned along the flows of its sequence
+	 */
+	@Test
+	public void assignmentsDependOnIncomingFlowTest() {
+		List<ActionSequence> sequences = this.analysis.evaluateDataFlows(this.analysis.findAllSequences());
+		assertEquals(2, sequences.size());
+
+		ActionSequence userSequence = this.findSequenceStartingAt(sequences, "user");
+		assertEquals(Set.of("personal"), this.getIncomingLabelNames(userSequence.getElements().get(1)));
+		assertEquals(Set.of("personal", "encrypted"), this.getIncomingLabelNames(userSequence.getElements().get(2)));
+
+		ActionSequence sensorSequence = this.findSequenceStartingAt(sequences, "sensor");
+		assertEquals(Set.of("public"), this.getIncomingLabelNames(sensorSequence.getElements().get(1)));
+		assertEquals(Set.of("public"), this.getIncomingLabelNames(sensorSequence.getElements().get(2)));
+	}
+
+	/**
+	 * Returns the sequence that starts at the node with the given name
+	 * @param sequences Evaluated sequences
+	 * @param nodeName Name of the first node of the sequence
+	 * @return Returns the sequence starting at the node
+	 */
+	private ActionSequence findSequenceStartingAt(List<ActionSequence> sequences, String nodeName) {
+		return sequences.stream()
+				.filter(it -> ((DFDActionSequenceElement) it.getElements().get(0)).getNode().getEntityName().equals(nodeName))
+				.findAny()
+				.orElseThrow();
+	}
+
+	/**
+	 * Returns the names of the labels, that reach the node of the given element
+	 * @param element Evaluated element
+	 * @return Returns the names of the labels in the data flow variable of the node
+	 */
+	private Set<String> getIncomingLabelNames(AbstractActionSequenceElement<?> element) {
+		String nodeName = ((DFDActionSequenceElement) element).getNode().getEntityName();
+		return element.getAllDataFlowVariables().stream()
+				.filter(it -> it.variableName().equals(nodeName))
+				.flatMap(it -> it.getAllCharacteristics().stream())
+				.map(CharacteristicValue::getValueName)
+				.collect(Collectors.toSet());
+	}
+}
@@ -0,0 +1,75 @@
+package org.dataflowanalysis.analysis.tests.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.dataflowanalysis.analysis.DataFlowConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.execution.AnalysisExecutor;
+import org.dataflowanalysis.analysis.tests.BaseTest;
+import org.junit.jupiter.api.Test;
+
+public class AnalysisExecutorTest extends BaseTest {
+
+    /**
+     * Tests whether all executors return the results of a work list in the order of the work items
+     * <p>
+     * Fails if the results of an executor differ from the results of a sequential execution
+     */
+    @Test
+    public void executorsPreserveOrderTest() {
+        List<Integer> workItems = IntStream.range(0, 1000).boxed().toList();
+        List<Integer> expectedResults = workItems.stream().map(it -> it * 2).toList();
+        List<AnalysisExecutor> executors = List.of(AnalysisExecutor.sequential(), AnalysisExecutor.commonPool(),
+                AnalysisExecutor.forkJoinPool(3), AnalysisExecutor.fixedThreadPool(3));
+        for (AnalysisExecutor executor : executors) {
+            assertEquals(expectedResults, executor.map(workItems, it -> it * 2));
+            assertEquals(workItems.stream().filter(it -> it % 3 == 0).toList(), executor.filter(workItems, it -> it % 3 == 0));
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests whether an analysis running on a dedicated pool propagates the same labels as the analysis running on the common pool
+     * <p>
+     * Fails if an element of a sequence has different data flow variables or node characteristics
+     */
+    @Test
+    public void dedicatedPoolMatchesCommonPoolTest() {
+        AnalysisExecutor executor = AnalysisExecutor.forkJoinPool(2);
+        DataFlowConfidentialityAnalysis dedicatedPoolAnalysis = this.createTravelPlannerAnalysisBuilder()
+                .useExecutor(executor)
+                .build();
+        dedicatedPoolAnalysis.initializeAnalysis();
+
+        List<ActionSequence> expectedSequences = travelPlannerAnalysis.evaluateDataFlows(travelPlannerAnalysis.findAllSequences());
+        List<ActionSequence> actualSequences = dedicatedPoolAnalysis.evaluateDataFlows(dedicatedPoolAnalysis.findAllSequences());
+        executor.shutdown();
+
+        assertEquals(expectedSequences.size(), actualSequences.size());
+        for (int i = 0; i < expectedSequences.size(); i++) {
+            List<AbstractActionSequenceElement<?>> expectedElements = expectedSequences.get(i).getElements();
+            List<AbstractActionSequenceElement<?>> actualElements = actualSequences.get(i).getElements();
+            assertEquals(expectedElements.size(), actualElements.size());
+            for (int j = 0; j < expectedElements.size(); j++) {
+                assertEquals(this.describeVariables(expectedElements.get(j)), this.describeVariables(actualElements.get(j)));
+                assertEquals(expectedElements.get(j).getNodeCharacteristicLabels().toString(), 
+                        actualElements.get(j).getNodeCharacteristicLabels().toString());
+            }
+        }
+    }
+
+    /**
+     * Describes the data flow variables of an element independently of the label universe of the analysis
+     * @param element Element of an action sequence
+     * @return Returns the names and labels of all data flow variables of the element
+     */
+    private List<String> describeVariables(AbstractActionSequenceElement<?> element) {
+        return element.getAllDataFlowVariables().stream()
+                .map(it -> it.variableName() + it.labels())
+                .toList();
+    }
+}
@@ -0,0 +1,169 @@
+package org.dataflowanalysis.analysis.tests.execution;
+
+import static org.dataflowanalysis.analysis.tests.AnalysisUtils.TEST_MODEL_PROJECT_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.dataflowanalysis.analysis.DataFlowConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.execution.BatchAnalysisRunner;
+import org.dataflowanalysis.analysis.execution.BatchResult;
+import org.dataflowanalysis.analysis.execution.ModelDescriptor;
+import org.dataflowanalysis.analysis.pcm.PCMAnalysisSession;
+import org.dataflowanalysis.analysis.pcm.PCMModelDescriptor;
+import org.dataflowanalysis.analysis.testmodels.Activator;
+import org.dataflowanalysis.analysis.tests.BaseTest;
+import org.dataflowanalysis.analysis.utils.ResourceUtils;
+import org.junit.jupiter.api.Test;
+
+public class BatchAnalysisRunnerTest extends BaseTest {
+    private final PCMAnalysisSession session = new PCMAnalysisSession();
+
+    /**
+     * Tests whether a batch reports the same number of sequences for each model as separately initialized analyses and reports failed models
+     * <p>
+     * Fails if the result of a model is missing or differs from the result of the separate analysis
+     */
+    @Test
+    public void batchResultsTest() throws InterruptedException {
+        List<PCMModelDescriptor> models = List.of(this.createDescriptor("BranchingOnlineShop", "default"),
+                this.createDescriptor("InternationalOnlineShop", "default"), this.createDescriptor("TravelPlanner", "travelPlanner"),
+                this.createDescriptor("MissingModel", "missing"));
+        List<BatchResult<Integer>> results = new ArrayList<>();
+        new BatchAnalysisRunner(3).run(models, analysis -> analysis.findAllSequences()
+            .size(), results::add);
+
+        Map<String, BatchResult<Integer>> resultsByName = results.stream()
+            .collect(Collectors.toMap(it -> it.model()
+                .getName(), it -> it));
+        assertEquals(models.size(), resultsByName.size());
+        assertEquals(this.countSequences(onlineShopAnalysis), resultsByName.get("BranchingOnlineShop")
+            .result());
+        assertEquals(this.countSequences(internationalOnlineShopAnalysis), resultsByName.get("InternationalOnlineShop")
+            .result());
+        assertEquals(this.countSequences(travelPlannerAnalysis), resultsByName.get("TravelPlanner")
+            .result());
+        assertFalse(resultsByName.get("MissingModel")
+            .isSuccessful());
+    }
+
+    /**
+     * Tests whether models are analyzed one after another, if the memory limit only admits a single model
+     * <p>
+     * Fails if two models are analyzed at the same time
+     */
+    @Test
+    public void memoryAdmissionTest() throws InterruptedException {
+        List<PCMModelDescriptor> models = List.of(this.createDescriptor("BranchingOnlineShop", "default"),
+                this.createDescriptor("InternationalOnlineShop", "default"), this.createDescriptor("TravelPlanner", "travelPlanner"));
+        AtomicInteger runningModels = new AtomicInteger();
+        AtomicInteger maxRunningModels = new AtomicInteger();
+        List<BatchResult<Integer>> results = new ArrayList<>();
+        new BatchAnalysisRunner(3, 1 << 10).run(models, analysis -> {
+            maxRunningModels.accumulateAndGet(runningModels.incrementAndGet(), Math::max);
+            int sequences = analysis.findAllSequences()
+                .size();
+            runningModels.decrementAndGet();
+            return sequences;
+        }, results::add);
+
+        assertEquals(models.size(), results.size());
+        assertTrue(results.stream()
+            .allMatch(BatchResult::isSuccessful));
+        assertEquals(1, maxRunningModels.get());
+    }
+
+    /**
+     * Tests whether errors thrown while a model is created or analyzed are reported as the failure of the model and do not abort the batch
+     * <p>
+     * Fails if the batch is aborted, the failure of a model is not reported or a model without an error fails
+     */
+    @Test
+    public void errorsReportedPerModelTest() throws InterruptedException {
+        ModelDescriptor failingModel = new ModelDescriptor() {
+            @Override
+            public String getName() {
+                return "FailingModel";
+            }
+
+            @Override
+            public DataFlowConfidentialityAnalysis createAnalysis() {
+                throw new StackOverflowError();
+            }
+        };
+        List<ModelDescriptor> models = List.of(this.createDescriptor("BranchingOnlineShop", "default"), failingModel);
+        List<BatchResult<Integer>> results = new ArrayList<>();
+        new BatchAnalysisRunner(2).run(models, this::countSequences, results::add);
+
+        Map<String, BatchResult<Integer>> resultsByName = results.stream()
+            .collect(Collectors.toMap(it -> it.model()
+                .getName(), it -> it));
+        assertEquals(models.size(), resultsByName.size());
+        assertTrue(resultsByName.get("BranchingOnlineShop")
+            .isSuccessful());
+        assertInstanceOf(StackOverflowError.class, resultsByName.get("FailingModel")
+            .failure());
+
+        List<BatchResult<Integer>> failedResults = new ArrayList<>();
+        new BatchAnalysisRunner(2).run(List.of(this.createDescriptor("BranchingOnlineShop", "default")), analysis -> {
+            throw new AssertionError();
+        }, failedResults::add);
+        assertEquals(1, failedResults.size());
+        assertInstanceOf(AssertionError.class, failedResults.get(0)
+            .failure());
+    }
+
+    /**
+     * Tests whether the memory estimate of a PCM model includes the models referenced by its root models.
+     * The folder of the travel planner only contains the models of the travel planner
+     * <p>
+     * Fails if the estimate is not proportional to the size of all models of the travel planner
+     */
+    @Test
+    public void memoryEstimateIncludesReferencedModelsTest() {
+        PCMModelDescriptor model = this.createDescriptor("TravelPlanner", "travelPlanner");
+        model.createAnalysis();
+        long length = Stream.of("usagemodel", "allocation", "nodecharacteristics", "repository", "system", "resourceenvironment", "pddc")
+            .map(it -> Paths.get("models", "TravelPlanner", "travelPlanner." + it)
+                .toString())
+            .mapToLong(it -> ResourceUtils.getLength(ResourceUtils.createRelativePluginURI(it, TEST_MODEL_PROJECT_NAME)))
+            .sum();
+
+        assertEquals(32 * length, model.estimateMemory());
+    }
+
+    /**
+     * Creates a descriptor of a test model, whose models share the given file name
+     * @param modelName Name of the folder of the model
+     * @param fileName File name of the usage, allocation and node characteristics models
+     * @return Returns the descriptor of the model
+     */
+    private PCMModelDescriptor createDescriptor(String modelName, String fileName) {
+        return new PCMModelDescriptor(this.session, modelName, TEST_MODEL_PROJECT_NAME, Activator.class,
+                Paths.get("models", modelName, fileName + ".usagemodel")
+                    .toString(),
+                Paths.get("models", modelName, fileName + ".allocation")
+                    .toString(),
+                Paths.get("models", modelName, fileName + ".nodecharacteristics")
+                    .toString());
+    }
+
+    /**
+     * Counts the sequences of the given analysis
+     * @param analysis Initialized analysis
+     * @return Returns the number of sequences found by the analysis
+     */
+    private int countSequences(DataFlowConfidentialityAnalysis analysis) {
+        return analysis.findAllSequences()
+            .size();
+    }
+}
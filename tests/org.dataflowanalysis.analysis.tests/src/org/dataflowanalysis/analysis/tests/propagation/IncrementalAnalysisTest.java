@@ -0,0 +1,161 @@
+package org.dataflowanalysis.analysis.tests.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.pcm.PCMDataFlowConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.pcm.PCMIncrementalAnalysis;
+import org.dataflowanalysis.analysis.pcm.core.seff.SEFFActionSequenceElement;
+import org.dataflowanalysis.analysis.pcm.resource.PCMResourceProvider;
+import org.dataflowanalysis.analysis.tests.BaseTest;
+import org.dataflowanalysis.pcm.extension.dictionary.characterized.DataDictionaryCharacterized.Literal;
+import org.dataflowanalysis.pcm.extension.dictionary.characterized.DataDictionaryCharacterized.expressions.ExpressionsFactory;
+import org.dataflowanalysis.pcm.extension.dictionary.characterized.DataDictionaryCharacterized.expressions.True;
+import org.dataflowanalysis.pcm.extension.model.confidentiality.ConfidentialityVariableCharacterisation;
+import org.dataflowanalysis.pcm.extension.model.confidentiality.characteristics.EnumCharacteristic;
+import org.dataflowanalysis.pcm.extension.nodecharacteristics.nodecharacteristics.Assignments;
+import org.dataflowanalysis.pcm.extension.nodecharacteristics.nodecharacteristics.NodeCharacteristicsPackage;
+import org.dataflowanalysis.pcm.extension.nodecharacteristics.nodecharacteristics.UsageAssignee;
+import org.eclipse.emf.ecore.util.EcoreUtil;
+import org.junit.jupiter.api.Test;
+
+public class IncrementalAnalysisTest extends BaseTest {
+
+    /**
+     * Tests whether the incremental analysis returns the same sequences as a full analysis before and after a model element has been changed
+     * <p>
+     * Fails if the changed element is not detected or if the updated sequences differ from the sequences of a full analysis
+     */
+    @Test
+    public void updateMatchesFullAnalysisTest() {
+        PCMDataFlowConfidentialityAnalysis analysis = this.createAnalysis();
+        PCMIncrementalAnalysis incrementalAnalysis = new PCMIncrementalAnalysis(analysis);
+
+        List<ActionSequence> sequences = incrementalAnalysis.initialize();
+        assertEquals(this.describe(analysis.evaluateDataFlows(analysis.findAllSequences())), this.describe(sequences));
+        assertFalse(incrementalAnalysis.hasChanges());
+
+        SEFFActionSequenceElement<?> seffElement = sequences.stream()
+                .flatMap(it -> it.getElements().stream())
+                .filter(SEFFActionSequenceElement.class::isInstance)
+                .map(SEFFActionSequenceElement.class::cast)
+                .findFirst()
+                .orElseThrow();
+        seffElement.getElement().setEntityName(seffElement.getElement().getEntityName() + "Changed");
+        assertTrue(incrementalAnalysis.hasChanges());
+
+        List<ActionSequence> updatedSequences = incrementalAnalysis.update();
+        assertEquals(this.describe(analysis.evaluateDataFlows(analysis.findAllSequences())), this.describe(updatedSequences));
+        assertFalse(incrementalAnalysis.hasChanges());
+        incrementalAnalysis.close();
+    }
+
+    /**
+     * Tests whether the incremental analysis returns the same sequences as a full analysis after a node characteristic of a usage scenario has been changed
+     * <p>
+     * Fails if the change is not detected, does not affect the labels or if the updated sequences differ from the sequences of a full analysis
+     */
+    @Test
+    public void nodeCharacteristicChangeTest() {
+        PCMDataFlowConfidentialityAnalysis analysis = this.createAnalysis();
+        PCMIncrementalAnalysis incrementalAnalysis = new PCMIncrementalAnalysis(analysis);
+        List<String> sequences = this.describe(incrementalAnalysis.initialize());
+
+        Assignments assignments = analysis.getResourceProvider()
+                .<Assignments>lookupToplevelElement(NodeCharacteristicsPackage.eINSTANCE.getAssignments())
+                .get(0);
+        EnumCharacteristic characteristic = assignments.getAssignee().stream()
+                .filter(UsageAssignee.class::isInstance)
+                .flatMap(it -> it.getCharacteristics().stream())
+                .findFirst()
+                .orElseThrow();
+        Literal assignedLiteral = characteristic.getValues().get(0);
+        Literal otherLiteral = characteristic.getType().getType().getLiterals().stream()
+                .filter(it -> it != assignedLiteral)
+                .findFirst()
+                .orElseThrow();
+        characteristic.getValues().set(0, otherLiteral);
+
+        List<String> updatedSequences = this.assertUpdateMatchesFullAnalysis(analysis, incrementalAnalysis);
+        assertNotEquals(sequences, updatedSequences);
+        incrementalAnalysis.close();
+    }
+
+    /**
+     * Tests whether the incremental analysis returns the same sequences as a full analysis after the assignment of a variable characterisation has been changed
+     * <p>
+     * Fails if the change is not detected, does not affect the labels or if the updated sequences differ from the sequences of a full analysis
+     */
+    @Test
+    public void variableCharacterisationChangeTest() {
+        PCMDataFlowConfidentialityAnalysis analysis = this.createAnalysis();
+        PCMIncrementalAnalysis incrementalAnalysis = new PCMIncrementalAnalysis(analysis);
+        List<String> sequences = this.describe(incrementalAnalysis.initialize());
+
+        PCMResourceProvider resourceProvider = (PCMResourceProvider) analysis.getResourceProvider();
+        ConfidentialityVariableCharacterisation characterisation = this.findTrueCharacterisation(resourceProvider);
+        characterisation.setRhs(ExpressionsFactory.eINSTANCE.createFalse());
+
+        List<String> updatedSequences = this.assertUpdateMatchesFullAnalysis(analysis, incrementalAnalysis);
+        assertNotEquals(sequences, updatedSequences);
+        incrementalAnalysis.close();
+    }
+
+    /**
+     * Updates the incremental analysis after a change and compares the result to a full analysis of the changed models
+     * @param analysis Analysis, whose models have been changed
+     * @param incrementalAnalysis Incremental analysis of the analysis
+     * @return Returns the description of the updated sequences
+     */
+    private List<String> assertUpdateMatchesFullAnalysis(PCMDataFlowConfidentialityAnalysis analysis, PCMIncrementalAnalysis incrementalAnalysis) {
+        assertTrue(incrementalAnalysis.hasChanges());
+        List<String> updatedSequences = this.describe(incrementalAnalysis.update());
+        assertFalse(incrementalAnalysis.hasChanges());
+
+        analysis.invalidateModelCaches();
+        assertEquals(this.describe(analysis.evaluateDataFlows(analysis.findAllSequences())), updatedSequences);
+        return updatedSequences;
+    }
+
+    /**
+     * Finds the first variable characterisation of the usage model, that assigns a literal unconditionally
+     * @param resourceProvider Resource provider of the analysis
+     * @return Returns the variable characterisation
+     */
+    private ConfidentialityVariableCharacterisation findTrueCharacterisation(PCMResourceProvider resourceProvider) {
+        for (var contents = EcoreUtil.<Object>getAllContents(resourceProvider.getUsageModel(), true); contents.hasNext();) {
+            if (contents.next() instanceof ConfidentialityVariableCharacterisation characterisation && characterisation.getRhs() instanceof True) {
+                return characterisation;
+            }
+        }
+        throw new IllegalStateException("The usage model does not contain an unconditional variable characterisation");
+    }
+
+    /**
+     * Creates and initializes an analysis of the travel planner model
+     * @return Returns the initialized analysis
+     */
+    private PCMDataFlowConfidentialityAnalysis createAnalysis() {
+        PCMDataFlowConfidentialityAnalysis analysis = this.createTravelPlannerAnalysisBuilder()
+                .build();
+        analysis.initializeAnalysis();
+        return analysis;
+    }
+
+    /**
+     * Describes the elements and labels of sequences independently of the element instances
+     * @param sequences Evaluated sequences
+     * @return Returns a description of each element of each sequence with its data flow variables and node characteristics
+     */
+    private List<String> describe(List<ActionSequence> sequences) {
+        return sequences.stream()
+                .flatMap(it -> it.getElements().stream())
+                .map(it -> it.toString() + it.getAllDataFlowVariables() + it.getAllOutgoingDataFlowVariables() + it.getNodeCharacteristicLabels())
+                .toList();
+    }
+}
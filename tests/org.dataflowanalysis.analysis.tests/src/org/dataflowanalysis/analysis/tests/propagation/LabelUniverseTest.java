@@ -0,0 +1,103 @@
+package org.dataflowanalysis.analysis.tests.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.dataflowanalysis.analysis.core.CharacteristicValue;
+import org.dataflowanalysis.analysis.core.DataFlowVariable;
+import org.dataflowanalysis.analysis.core.LabelSet;
+import org.dataflowanalysis.analysis.core.LabelUniverse;
+import org.dataflowanalysis.analysis.pcm.PCMDataFlowConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.snapshot.SnapshotCharacteristicValue;
+import org.dataflowanalysis.analysis.tests.BaseTest;
+import org.junit.jupiter.api.Test;
+
+public class LabelUniverseTest extends BaseTest {
+
+    /**
+     * Tests whether the label universe contains the characteristic values of the data dictionary after initialization
+     * <p>
+     * Fails if the universe is empty or characteristic values are registered with an inconsistent id
+     */
+    @Test
+    public void labelUniverseRegistrationTest() {
+        LabelUniverse labelUniverse = ((PCMDataFlowConfidentialityAnalysis) travelPlannerAnalysis).getResourceProvider()
+            .getLabelUniverse();
+        assertTrue(labelUniverse.size() > 0);
+
+        for (int id = 0; id < labelUniverse.size(); id++) {
+            CharacteristicValue characteristicValue = labelUniverse.getCharacteristicValue(id);
+            assertEquals(id, labelUniverse.findId(characteristicValue.getTypeName(), characteristicValue.getValueName())
+                .getAsInt());
+            assertTrue(labelUniverse.getLabelsOfType(characteristicValue.getTypeName())
+                .contains(id));
+        }
+        assertEquals(labelUniverse.size(), labelUniverse.getAllLabels()
+            .size());
+    }
+
+    /**
+     * Tests whether propagated data flow variables only contain labels of the label universe of the analysis
+     * <p>
+     * Fails if a data flow variable contains a label that is not registered in the label universe
+     */
+    @Test
+    public void propagatedLabelsTest() {
+        var sequences = onlineShopAnalysis.findAllSequences();
+        var propagationResult = onlineShopAnalysis.evaluateDataFlows(sequences);
+
+        for (var sequence : propagationResult) {
+            for (var element : sequence.getElements()) {
+                for (DataFlowVariable variable : element.getAllDataFlowVariables()) {
+                    LabelSet labels = variable.labels();
+                    assertEquals(labels.size(), variable.characteristics()
+                        .size());
+                    variable.characteristics()
+                        .forEach(it -> assertTrue(variable.hasCharacteristic(it)));
+                    assertTrue(labels.difference(labels.getUniverse()
+                        .getAllLabels())
+                        .isEmpty());
+                }
+            }
+        }
+    }
+
+    /**
+     * Tests whether the characteristics of a data flow variable are deduplicated and ordered by their id in the label universe
+     * instead of the order they were added in
+     * <p>
+     * Fails if a characteristic is contained twice or the characteristics are not ordered by their registration
+     */
+    @Test
+    public void characteristicsOrderTest() {
+        LabelUniverse labelUniverse = new LabelUniverse();
+        CharacteristicValue personal = new SnapshotCharacteristicValue("Sensitivity", "personal", "personal");
+        CharacteristicValue publicValue = new SnapshotCharacteristicValue("Sensitivity", "public", "public");
+        labelUniverse.registerAll(List.of(personal, publicValue));
+
+        DataFlowVariable variable = new DataFlowVariable("variable", labelUniverse).addCharacteristic(publicValue)
+            .addCharacteristic(personal)
+            .addCharacteristic(publicValue);
+        assertEquals(List.of(personal, publicValue), variable.characteristics());
+    }
+
+    /**
+     * Tests whether data flow variables created without a label universe use the shared default universe
+     * <p>
+     * Fails if the variable uses another universe or does not contain an added characteristic
+     */
+    @Test
+    public void defaultUniverseTest() {
+        CharacteristicValue personal = new SnapshotCharacteristicValue("Sensitivity", "personal", "personal");
+        DataFlowVariable variable = new DataFlowVariable("variable");
+        assertSame(LabelUniverse.getDefault(), variable.labels()
+            .getUniverse());
+        assertTrue(variable.characteristics()
+            .isEmpty());
+        assertTrue(variable.addCharacteristic(personal)
+            .hasCharacteristic(personal));
+    }
+}
@@ -0,0 +1,263 @@
+package org.dataflowanalysis.analysis.tests.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.pcm.PCMDataFlowConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.resource.ModelCache;
+import org.dataflowanalysis.analysis.resource.ResourceProvider;
+import org.dataflowanalysis.analysis.tests.BaseTest;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EClass;
+import org.eclipse.emf.ecore.EPackage;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.impl.BinaryResourceImpl;
+import org.eclipse.emf.ecore.xmi.impl.EcoreResourceFactoryImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ModelCacheTest extends BaseTest {
+
+    /**
+     * Tests whether an analysis loading its models from the model cache finds and evaluates the same sequences as an analysis parsing the models
+     * <p>
+     * Fails if no models are stored in or loaded from the cache or if the evaluated sequences differ
+     */
+    @Test
+    public void loadFromModelCacheTest(@TempDir Path cacheDirectory) throws IOException {
+        PCMDataFlowConfidentialityAnalysis coldAnalysis = this.createCachedAnalysis(cacheDirectory);
+        assertFalse(coldAnalysis.getResourceProvider()
+            .getResources()
+            .stream()
+            .anyMatch(BinaryResourceImpl.class::isInstance));
+        try (Stream<Path> cachedFiles = Files.list(cacheDirectory)) {
+            assertTrue(cachedFiles.count() > 0);
+        }
+
+        PCMDataFlowConfidentialityAnalysis cachedAnalysis = this.createCachedAnalysis(cacheDirectory);
+        assertTrue(cachedAnalysis.getResourceProvider()
+            .getResources()
+            .stream()
+            .anyMatch(BinaryResourceImpl.class::isInstance));
+        assertEquals(this.describe(travelPlannerAnalysis.evaluateDataFlows(travelPlannerAnalysis.findAllSequences())),
+                this.describe(cachedAnalysis.evaluateDataFlows(cachedAnalysis.findAllSequences())));
+    }
+
+    /**
+     * Tests whether the lazily linked data dictionary of the travel planner model is never loaded from the model cache,
+     * as its contents depend on the resources it is linked against
+     * <p>
+     * Fails if the data dictionary is loaded from the cache
+     */
+    @Test
+    public void lazilyLinkedResourcesNotCachedTest(@TempDir Path cacheDirectory) {
+        this.createCachedAnalysis(cacheDirectory);
+        PCMDataFlowConfidentialityAnalysis cachedAnalysis = this.createCachedAnalysis(cacheDirectory);
+        List<Resource> dataDictionaries = cachedAnalysis.getResourceProvider()
+            .getResources()
+            .stream()
+            .filter(this::isDataDictionary)
+            .toList();
+        assertFalse(dataDictionaries.isEmpty());
+        assertTrue(dataDictionaries.stream()
+            .noneMatch(BinaryResourceImpl.class::isInstance));
+    }
+
+    /**
+     * Tests whether unreadable entries of the model cache are removed and stored again after the models have been parsed from their source files
+     * <p>
+     * Fails if the analysis cannot be initialized with the corrupted cache, if its results differ or if the entries are not stored again
+     */
+    @Test
+    public void corruptedEntriesReplacedTest(@TempDir Path cacheDirectory) throws IOException {
+        this.createCachedAnalysis(cacheDirectory);
+        List<Path> cachedFiles;
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            cachedFiles = files.toList();
+        }
+        assertFalse(cachedFiles.isEmpty());
+        byte[] corruptedContent = "corrupted".getBytes(StandardCharsets.UTF_8);
+        for (Path cachedFile : cachedFiles) {
+            Files.write(cachedFile, corruptedContent);
+        }
+
+        PCMDataFlowConfidentialityAnalysis recoveredAnalysis = this.createCachedAnalysis(cacheDirectory);
+        assertFalse(recoveredAnalysis.getResourceProvider()
+            .getResources()
+            .stream()
+            .anyMatch(BinaryResourceImpl.class::isInstance));
+        assertEquals(this.describe(travelPlannerAnalysis.evaluateDataFlows(travelPlannerAnalysis.findAllSequences())),
+                this.describe(recoveredAnalysis.evaluateDataFlows(recoveredAnalysis.findAllSequences())));
+        for (Path cachedFile : cachedFiles) {
+            assertTrue(Files.isRegularFile(cachedFile));
+            assertFalse(Arrays.equals(corruptedContent, Files.readAllBytes(cachedFile)));
+        }
+
+        PCMDataFlowConfidentialityAnalysis cachedAnalysis = this.createCachedAnalysis(cacheDirectory);
+        assertTrue(cachedAnalysis.getResourceProvider()
+            .getResources()
+            .stream()
+            .anyMatch(BinaryResourceImpl.class::isInstance));
+    }
+
+    /**
+     * Tests whether a cached model, that references a fragment of another model, sees the current contents of the referenced model,
+     * after the source file of the referenced model has been changed on disk.
+     * The referencing model is loaded from the cache, while the changed model is parsed again from its source file
+     * <p>
+     * Fails if the referencing model is not loaded from the cache, the changed model is loaded from the cache
+     * or the referenced fragment resolves to the outdated contents
+     */
+    @Test
+    public void staleReferencedFragmentTest(@TempDir Path directory) throws IOException {
+        Path cacheDirectory = directory.resolve("cache");
+        Path basePath = directory.resolve("base.ecore");
+        Path derivedPath = directory.resolve("derived.ecore");
+        Files.writeString(basePath, this.createPackage("base", "<eClassifiers xsi:type=\"ecore:EClass\" name=\"Base\"/>"));
+        Files.writeString(derivedPath,
+                this.createPackage("derived", "<eClassifiers xsi:type=\"ecore:EClass\" name=\"Derived\" eSuperTypes=\"base.ecore#//Base\"/>"));
+
+        EcoreResourceProvider coldProvider = new EcoreResourceProvider(derivedPath, cacheDirectory);
+        coldProvider.loadRequiredResources();
+        assertFalse(this.getSuperType(coldProvider)
+            .isAbstract());
+
+        Files.writeString(basePath, this.createPackage("base", "<eClassifiers xsi:type=\"ecore:EClass\" name=\"Base\" abstract=\"true\"/>"));
+        EcoreResourceProvider cachedProvider = new EcoreResourceProvider(derivedPath, cacheDirectory);
+        cachedProvider.loadRequiredResources();
+        assertTrue(this.findResource(cachedProvider, "derived.ecore") instanceof BinaryResourceImpl);
+        assertFalse(this.findResource(cachedProvider, "base.ecore") instanceof BinaryResourceImpl);
+        assertTrue(this.getSuperType(cachedProvider)
+            .isAbstract());
+    }
+
+    /**
+     * Creates the source of an Ecore package with the given name and classifiers
+     * @param name Name of the package
+     * @param classifiers Serialized classifiers of the package
+     * @return Returns the serialized package
+     */
+    private String createPackage(String name, String classifiers) {
+        return "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+                + "<ecore:EPackage xmi:version=\"2.0\" xmlns:xmi=\"http://www.omg.org/XMI\" xmlns:xsi=\"http://www.w3.org/2001/XMLSchema-instance\" "
+                + "xmlns:ecore=\"http://www.eclipse.org/emf/2002/Ecore\" name=\"" + name + "\" nsURI=\"http://example.org/" + name + "\" nsPrefix=\"" + name + "\">\n"
+                + "  " + classifiers + "\n"
+                + "</ecore:EPackage>\n";
+    }
+
+    /**
+     * Finds the loaded resource with the given file name
+     * @param resourceProvider Resource provider, that has loaded the resource
+     * @param fileName File name of the resource
+     * @return Returns the loaded resource
+     */
+    private Resource findResource(EcoreResourceProvider resourceProvider, String fileName) {
+        return resourceProvider.getResources()
+            .stream()
+            .filter(it -> fileName.equals(it.getURI()
+                .lastSegment()))
+            .findAny()
+            .orElseThrow();
+    }
+
+    /**
+     * Returns the resolved super type of the derived class loaded by the given provider
+     * @param resourceProvider Resource provider, that has loaded the derived package
+     * @return Returns the super type of the derived class
+     */
+    private EClass getSuperType(EcoreResourceProvider resourceProvider) {
+        EClass derivedClass = (EClass) resourceProvider.getDerivedPackage()
+            .getEClassifier("Derived");
+        return derivedClass.getESuperTypes()
+            .get(0);
+    }
+
+    /**
+     * Indicates whether the given resource is a data dictionary, which is linked lazily
+     * @param resource Loaded resource
+     * @return Returns true, if the resource is a data dictionary. Otherwise, the method returns false
+     */
+    private boolean isDataDictionary(Resource resource) {
+        return "pddc".equals(resource.getURI()
+            .fileExtension());
+    }
+
+    /**
+     * Creates and initializes an analysis of the travel planner model using the model cache in the given directory
+     * @param cacheDirectory Directory of the model cache
+     * @return Returns the initialized analysis
+     */
+    private PCMDataFlowConfidentialityAnalysis createCachedAnalysis(Path cacheDirectory) {
+        PCMDataFlowConfidentialityAnalysis analysis = this.createTravelPlannerAnalysisBuilder()
+            .useModelCache(cacheDirectory)
+            .build();
+        analysis.initializeAnalysis();
+        return analysis;
+    }
+
+    /**
+     * Describes the elements of the given sequences and their labels independently of the label universe
+     * @param sequences Evaluated action sequences
+     * @return Returns a description of each element of each sequence
+     */
+    private List<List<String>> describe(List<ActionSequence> sequences) {
+        return sequences.stream()
+            .map(sequence -> sequence.getElements()
+                .stream()
+                .map(it -> it.toString() + it.getNodeCharacteristicNamesWithType("AssignedRoles")
+                        + it.getDataFlowCharacteristicNamesWithType("GrantedRoles"))
+                .toList())
+            .toList();
+    }
+
+    /**
+     * Resource provider, that loads an Ecore package from the file system using the model cache in the given directory
+     */
+    private static class EcoreResourceProvider extends ResourceProvider {
+        private final URI modelURI;
+        private EPackage derivedPackage;
+
+        /**
+         * Creates a new resource provider loading the package at the given path
+         * @param modelPath Path to the Ecore package
+         * @param cacheDirectory Directory of the model cache
+         */
+        public EcoreResourceProvider(Path modelPath, Path cacheDirectory) {
+            this.modelURI = URI.createFileURI(modelPath.toAbsolutePath()
+                .toString());
+            this.resources.getResourceFactoryRegistry()
+                .getExtensionToFactoryMap()
+                .put("ecore", new EcoreResourceFactoryImpl());
+            this.setModelCache(new ModelCache(cacheDirectory));
+        }
+
+        @Override
+        public void loadRequiredResources() {
+            this.derivedPackage = (EPackage) this.loadModelContent(this.modelURI);
+            this.resolveAllResources();
+        }
+
+        @Override
+        public boolean sufficientResourcesLoaded() {
+            return this.derivedPackage != null;
+        }
+
+        /**
+         * Returns the loaded package
+         * @return Loaded Ecore package
+         */
+        public EPackage getDerivedPackage() {
+            return this.derivedPackage;
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package org.dataflowanalysis.analysis.tests.resource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.dataflowanalysis.analysis.execution.AnalysisExecutor;
+import org.dataflowanalysis.analysis.pcm.PCMDataFlowConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.resource.ResourceProvider;
+import org.dataflowanalysis.analysis.tests.BaseTest;
+import org.eclipse.emf.common.util.URI;
+import org.eclipse.emf.ecore.EObject;
+import org.eclipse.emf.ecore.resource.Resource;
+import org.eclipse.emf.ecore.resource.ResourceSet;
+import org.eclipse.emf.ecore.resource.impl.ResourceImpl;
+import org.junit.jupiter.api.Test;
+import org.palladiosimulator.pcm.core.entity.Entity;
+import org.palladiosimulator.pcm.usagemodel.UsageModel;
+import org.palladiosimulator.pcm.usagemodel.UsagemodelFactory;
+import org.palladiosimulator.pcm.usagemodel.UsagemodelPackage;
+
+public class ResourceProviderIndexTest extends BaseTest {
+
+    /**
+     * Tests whether the indexed lookup by id returns the same elements as a lookup by condition
+     * <p>
+     * Fails if an entity of the loaded resources cannot be found by its id
+     */
+    @Test
+    public void lookupElementWithIdTest() {
+        ResourceProvider resourceProvider = ((PCMDataFlowConfidentialityAnalysis) travelPlannerAnalysis).getResourceProvider();
+        for (Resource resource : resourceProvider.getResources()) {
+            resource.getAllContents()
+                .forEachRemaining(it -> {
+                    if (it instanceof Entity entity) {
+                        Optional<EObject> result = resourceProvider.lookupElementWithId(entity.getId());
+                        assertTrue(result.isPresent());
+                        assertEquals(entity.getId(), ((Entity) result.get()).getId());
+                    }
+                });
+        }
+        assertFalse(resourceProvider.lookupElementWithId("nonExistingId")
+            .isPresent());
+    }
+
+    /**
+     * Tests whether the index of top level elements is updated after a resource has been added
+     * <p>
+     * Fails if the added usage model is not returned by the lookup of top level elements
+     */
+    @Test
+    public void indexUpdateTest() {
+        ResourceProvider resourceProvider = ((PCMDataFlowConfidentialityAnalysis) onlineShopAnalysis).getResourceProvider();
+        int usageModelCount = resourceProvider.lookupToplevelElement(UsagemodelPackage.eINSTANCE.getUsageModel())
+            .size();
+
+        ResourceSet resourceSet = resourceProvider.getResources()
+            .iterator()
+            .next()
+            .getResourceSet();
+        Resource resource = new ResourceImpl(URI.createURI("dummy.usagemodel"));
+        resourceSet.getResources()
+            .add(resource);
+        UsageModel usageModel = UsagemodelFactory.eINSTANCE.createUsageModel();
+        resource.getContents()
+            .add(usageModel);
+
+        assertTrue(resourceProvider.lookupToplevelElement(UsagemodelPackage.eINSTANCE.getUsageModel())
+            .contains(usageModel));
+
+        resourceSet.getResources()
+            .remove(resource);
+        assertEquals(usageModelCount, resourceProvider.lookupToplevelElement(UsagemodelPackage.eINSTANCE.getUsageModel())
+            .size());
+    }
+
+    /**
+     * Tests whether the lookup of top level elements returns a copy and whether the index reflects a changed id after it has been invalidated
+     * <p>
+     * Fails if modifying the returned list changes later lookups or if the changed id cannot be found after the index has been invalidated
+     */
+    @Test
+    public void indexInvalidationTest() {
+        PCMDataFlowConfidentialityAnalysis analysis = this.createTravelPlannerAnalysisBuilder()
+            .build();
+        analysis.initializeAnalysis();
+        ResourceProvider resourceProvider = analysis.getResourceProvider();
+
+        List<UsageModel> usageModels = resourceProvider.lookupToplevelElement(UsagemodelPackage.eINSTANCE.getUsageModel());
+        int usageModelCount = usageModels.size();
+        usageModels.clear();
+        assertEquals(usageModelCount, resourceProvider.lookupToplevelElement(UsagemodelPackage.eINSTANCE.getUsageModel())
+            .size());
+
+        Entity entity = resourceProvider.getResources()
+            .stream()
+            .flatMap(resource -> resource.getContents()
+                .stream())
+            .filter(UsageModel.class::isInstance)
+            .map(UsageModel.class::cast)
+            .flatMap(usageModel -> usageModel.getUsageScenario_UsageModel()
+                .stream())
+            .findFirst()
+            .orElseThrow();
+        String previousId = entity.getId();
+        entity.setId("changedId");
+        resourceProvider.invalidateIndex();
+
+        assertTrue(resourceProvider.lookupElementWithId("changedId")
+            .isPresent());
+        assertFalse(resourceProvider.lookupElementWithId(previousId)
+            .isPresent());
+    }
+
+    /**
+     * Tests whether loading the models with a parallel loading executor loads the same resources in the same order as the sequential loading.
+     * The resources parsed in temporary resource sets must be moved into the resource set of the provider and yield the same analysis results
+     * <p>
+     * Fails if the URIs of the loaded resources, their resource set, the number of unresolved proxies or the evaluated labels differ
+     */
+    @Test
+    public void parallelLoadingTest() {
+        AnalysisExecutor executor = AnalysisExecutor.fixedThreadPool(4);
+        try {
+            PCMDataFlowConfidentialityAnalysis analysis = this.createTravelPlannerAnalysisBuilder()
+                .useLoadingExecutor(executor)
+                .build();
+            analysis.initializeAnalysis();
+            PCMDataFlowConfidentialityAnalysis sequentialAnalysis = (PCMDataFlowConfidentialityAnalysis) travelPlannerAnalysis;
+
+            List<URI> expectedURIs = sequentialAnalysis.getResourceProvider()
+                .getResources()
+                .stream()
+                .map(Resource::getURI)
+                .toList();
+            List<URI> loadedURIs = analysis.getResourceProvider()
+                .getResources()
+                .stream()
+                .map(Resource::getURI)
+                .toList();
+            assertEquals(expectedURIs, loadedURIs);
+
+            ResourceSet resourceSet = analysis.getResourceProvider()
+                .getResources()
+                .iterator()
+                .next()
+                .getResourceSet();
+            assertTrue(analysis.getResourceProvider()
+                .getResources()
+                .stream()
+                .allMatch(it -> it.getResourceSet() == resourceSet && it.isLoaded()));
+            assertEquals(this.countProxies(sequentialAnalysis.getResourceProvider()), this.countProxies(analysis.getResourceProvider()));
+
+            assertEquals(this.getEvaluatedLabels(sequentialAnalysis), this.getEvaluatedLabels(analysis));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Tests whether the executor of the analysis is not used to load the models, if no loading executor is set
+     * <p>
+     * Fails if the executor of the analysis is used while the analysis is initialized
+     */
+    @Test
+    public void sequentialLoadingByDefaultTest() {
+        AtomicInteger calls = new AtomicInteger();
+        AnalysisExecutor executor = new AnalysisExecutor() {
+            @Override
+            public int getParallelism() {
+                return 4;
+            }
+
+            @Override
+            public <T, R> List<R> map(List<T> elements, Function<? super T, ? extends R> function) {
+                calls.incrementAndGet();
+                return AnalysisExecutor.sequential()
+                    .map(elements, function);
+            }
+        };
+        PCMDataFlowConfidentialityAnalysis analysis = this.createTravelPlannerAnalysisBuilder()
+            .useExecutor(executor)
+            .build();
+        analysis.initializeAnalysis();
+
+        assertEquals(0, calls.get());
+        assertFalse(analysis.getResourceProvider()
+            .getResources()
+            .isEmpty());
+    }
+
+    /**
+     * Evaluates all sequences of the given analysis and collects the labels of each element
+     * @param analysis Initialized analysis
+     * @return Returns the variable names and labels of the elements for each sequence
+     */
+    private List<List<List<String>>> getEvaluatedLabels(PCMDataFlowConfidentialityAnalysis analysis) {
+        return analysis.evaluateDataFlows(analysis.findAllSequences())
+            .stream()
+            .map(sequence -> sequence.getElements()
+                .stream()
+                .map(element -> element.getAllDataFlowVariables()
+                    .stream()
+                    .flatMap(variable -> variable.getAllCharacteristics()
+                        .stream()
+                        .map(it -> variable.variableName() + "." + it.getTypeName() + "." + it.getValueName()))
+                    .sorted()
+                    .toList())
+                .toList())
+            .toList();
+    }
+
+    /**
+     * Counts the cross references of the resources of the given provider, that could not be resolved
+     * @param resourceProvider Resource provider with loaded resources
+     * @return Returns the number of unresolved cross references
+     */
+    private long countProxies(ResourceProvider resourceProvider) {
+        long proxies = 0;
+        for (Resource resource : resourceProvider.getResources()) {
+            for (var contents = resource.getAllContents(); contents.hasNext();) {
+                proxies += contents.next()
+                    .eCrossReferences()
+                    .stream()
+                    .filter(EObject::eIsProxy)
+                    .count();
+            }
+        }
+        return proxies;
+    }
+}
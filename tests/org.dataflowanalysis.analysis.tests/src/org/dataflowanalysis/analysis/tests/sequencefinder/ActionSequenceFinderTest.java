@@ -4,12 +4,24 @@ import static org.dataflowanalysis.analysis.tests.AnalysisUtils.assertSEFFSequen
 import static org.dataflowanalysis.analysis.tests.AnalysisUtils.assertSequenceElements;
 import static org.dataflowanalysis.analysis.tests.AnalysisUtils.assertUserSequenceElementContent;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
+import org.dataflowanalysis.analysis.execution.AnalysisExecutor;
+import org.dataflowanalysis.analysis.pcm.PCMDataFlowConfidentialityAnalysis;
+import org.dataflowanalysis.analysis.pcm.core.PCMActionSequence;
+import org.dataflowanalysis.analysis.pcm.core.PCMActionSequenceFinder;
+import org.dataflowanalysis.analysis.pcm.resource.PCMResourceProvider;
+import org.dataflowanalysis.analysis.pcm.utils.SEFFResolutionCache;
 import org.dataflowanalysis.analysis.tests.BaseTest;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 public class ActionSequenceFinderTest extends BaseTest {
 	private final Logger logger = Logger.getLogger(ActionSequenceFinderTest.class);
@@ -154,4 +166,65 @@ public class ActionSequenceFinderTest extends BaseTest {
     	var sequences = onlineShopAnalysis.findAllSequences();
         assertUserSequenceElementContent(sequences.get(0), 1, "ViewEntryLevelSystemCall");
     }
+    
+    /**
+     * Tests whether the parallel exploration of branches finds the same sequences in the same order as the lazy depth-first search.
+     * Executors backed by a fork-join pool explore forks with recursive tasks, other executors split the first levels of forks
+     * <p>
+     * Fails if a sequence found in parallel differs from the sequence found depth-first at the same index
+     */
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void testParallelExplorationOrder(boolean forkJoinPool) {
+    	PCMResourceProvider resourceProvider = (PCMResourceProvider) ((PCMDataFlowConfidentialityAnalysis) internationalOnlineShopAnalysis).getResourceProvider();
+    	AnalysisExecutor executor = forkJoinPool ? AnalysisExecutor.forkJoinPool(4) : AnalysisExecutor.fixedThreadPool(4);
+    	List<PCMActionSequence> parallelSequences = new PCMActionSequenceFinder(resourceProvider.getUsageModel(), executor).findAllSequences();
+    	List<PCMActionSequence> sequentialSequences = new PCMActionSequenceFinder(resourceProvider.getUsageModel()).findSequences().toList();
+    	executor.shutdown();
+    	
+    	assertEquals(sequentialSequences.size(), parallelSequences.size());
+    	for (int i = 0; i < sequentialSequences.size(); i++) {
+    		var sequentialElements = sequentialSequences.get(i).getElements();
+    		var parallelElements = parallelSequences.get(i).getElements();
+    		assertEquals(sequentialElements.size(), parallelElements.size());
+    		for (int j = 0; j < sequentialElements.size(); j++) {
+    			assertSame(sequentialElements.get(j).getClass(), parallelElements.get(j).getClass());
+    			assertEquals(sequentialElements.get(j).toString(), parallelElements.get(j).toString());
+    		}
+    	}
+    }
+    
+    /**
+     * Tests whether resolved SEFFs are memoized in the cache given to the finder, without affecting the cache of the analysis, 
+     * and whether the sequences found with the cache and after invalidating it are the same as without the cache
+     * <p>
+     * Fails if no resolution is memoized, if the cache of the analysis is changed or if the found sequences differ
+     */
+    @Test
+    public void testSEFFResolutionCache() {
+    	PCMDataFlowConfidentialityAnalysis analysis = (PCMDataFlowConfidentialityAnalysis) travelPlannerAnalysis;
+    	PCMResourceProvider resourceProvider = (PCMResourceProvider) analysis.getResourceProvider();
+    	int analysisCacheSize = analysis.getSEFFResolutionCache().size();
+    	
+    	SEFFResolutionCache resolutionCache = new SEFFResolutionCache();
+    	PCMActionSequenceFinder sequenceFinder = new PCMActionSequenceFinder(resourceProvider.getUsageModel(), AnalysisExecutor.sequential(), 
+    			resolutionCache);
+    	List<String> sequences = sequenceFinder.findAllSequences().stream()
+    			.map(PCMActionSequence::toString)
+    			.toList();
+    	assertTrue(resolutionCache.size() > 0);
+    	assertEquals(analysisCacheSize, analysis.getSEFFResolutionCache().size());
+    	assertNotSame(analysis.getSEFFResolutionCache(), ((PCMDataFlowConfidentialityAnalysis) onlineShopAnalysis).getSEFFResolutionCache());
+    	
+    	List<String> uncachedSequences = new PCMActionSequenceFinder(resourceProvider.getUsageModel()).findAllSequences().stream()
+    			.map(PCMActionSequence::toString)
+    			.toList();
+    	assertEquals(uncachedSequences, sequences);
+    	
+    	resolutionCache.invalidate();
+    	assertEquals(0, resolutionCache.size());
+    	assertEquals(sequences, sequenceFinder.findAllSequences().stream()
+    			.map(PCMActionSequence::toString)
+    			.toList());
+    }
 }
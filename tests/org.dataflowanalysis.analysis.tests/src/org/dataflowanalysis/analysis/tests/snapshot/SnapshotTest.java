@@ -0,0 +1,76 @@
+package org.dataflowanalysis.analysis.tests.snapshot;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.dataflowanalysis.analysis.core.AbstractActionSequenceElement;
+import org.dataflowanalysis.analysis.core.ActionSequence;
+import org.dataflowanalysis.analysis.core.LabelSet;
+import org.dataflowanalysis.analysis.pcm.core.AbstractPCMActionSequenceElement;
+import org.dataflowanalysis.analysis.pcm.core.PCMSnapshotElementIdentifier;
+import org.dataflowanalysis.analysis.snapshot.SnapshotActionSequenceElement;
+import org.dataflowanalysis.analysis.snapshot.SnapshotReader;
+import org.dataflowanalysis.analysis.snapshot.SnapshotWriter;
+import org.dataflowanalysis.analysis.tests.BaseTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.palladiosimulator.pcm.core.entity.Entity;
+
+public class SnapshotTest extends BaseTest {
+
+    /**
+     * Tests whether the sequences read from a snapshot contain the same elements, labels and variables as the written sequences
+     * <p>
+     * Fails if an element read from the snapshot differs from the written element
+     */
+    @Test
+    public void readSnapshotMatchesWrittenSequencesTest(@TempDir Path directory) throws IOException {
+        List<ActionSequence> sequences = travelPlannerAnalysis.evaluateDataFlows(travelPlannerAnalysis.findAllSequences());
+        Path path = directory.resolve("travelPlanner.snapshot");
+        SnapshotWriter.write(path, sequences, new PCMSnapshotElementIdentifier());
+
+        try (SnapshotReader reader = new SnapshotReader(path)) {
+            assertEquals(sequences.size(), reader.size());
+            for (int i = 0; i < sequences.size(); i++) {
+                List<AbstractActionSequenceElement<?>> expectedElements = sequences.get(i).getElements();
+                List<AbstractActionSequenceElement<?>> actualElements = reader.getSequence(i).getElements();
+                assertEquals(expectedElements.size(), actualElements.size());
+                for (int j = 0; j < expectedElements.size(); j++) {
+                    AbstractPCMActionSequenceElement<?> expectedElement = (AbstractPCMActionSequenceElement<?>) expectedElements.get(j);
+                    SnapshotActionSequenceElement actualElement = (SnapshotActionSequenceElement) actualElements.get(j);
+                    assertEquals(expectedElement.toString(), actualElement.toString());
+                    assertEquals(expectedElement.getElement().getId(), actualElement.getElementId());
+                    assertEquals(expectedElement.getContext().stream().map(Entity::getId).toList(), actualElement.getContextIds());
+                    assertEquals(this.describe(expectedElement), this.describe(actualElement));
+                }
+            }
+        }
+    }
+
+    /**
+     * Describes the labels and variables of an element independently of the label universe and the order of label ids
+     * @param element Evaluated element
+     * @return Returns a description of the node characteristics and the incoming and outgoing data flow variables of the element
+     */
+    private List<String> describe(AbstractActionSequenceElement<?> element) {
+        return List.of(this.describe(element.getNodeCharacteristicLabels()),
+                element.getAllDataFlowVariables().stream().map(it -> it.variableName() + this.describe(it.labels())).toList().toString(),
+                element.getAllOutgoingDataFlowVariables().stream().map(it -> it.variableName() + this.describe(it.labels())).toList().toString());
+    }
+
+    /**
+     * Describes a label set independently of the order of label ids
+     * @param labels Label set
+     * @return Returns the sorted names of the labels
+     */
+    private String describe(LabelSet labels) {
+        return labels.getCharacteristicValues().stream()
+                .map(it -> it.getTypeName() + "." + it.getValueName())
+                .sorted()
+                .toList()
+                .toString();
+    }
+}
@@ -47,6 +47,7 @@ public class DataFlowAnalysisAdapter extends AbstractSubAssumptionAnalyzer imple
 	private String filesName;
 	private String scenarioName;
 	private boolean anyAssumptionViolation = false;
+	private List<ActionSequence> propagationResult = null;
 
 	/**
 	 * Initializes the adapter for analysis based on the provided
@@ -92,6 +93,7 @@ public class DataFlowAnalysisAdapter extends AbstractSubAssumptionAnalyzer imple
 
 		analysis.initializeAnalysis();
 		this.analysis = analysis;
+		this.propagationResult = null;
 		LOGGER.info("Set-Up complete.");
 	}
 
@@ -160,8 +162,7 @@ public class DataFlowAnalysisAdapter extends AbstractSubAssumptionAnalyzer imple
 	 * @return true if any violation is found, {@code false} otherwise.
 	 */
 	public boolean evaluateAssumptions(Collection<GraphAssumption> currAssumptions, boolean isParent) {
-		List<ActionSequence> actionSequences = analysis.findAllSequences();
-		List<ActionSequence> propagationResult = analysis.evaluateDataFlows(actionSequences);
+		List<ActionSequence> propagationResult = getPropagationResult();
 		boolean isAnyViolation = false;
 
 		for (GraphAssumption assumption : currAssumptions) {
@@ -304,12 +305,31 @@ public class DataFlowAnalysisAdapter extends AbstractSubAssumptionAnalyzer imple
 						|| !nodeConstraints.isEmpty() && !Collections.disjoint(nodeLiterals, nodeConstraints);
 	}
 
+	/**
+	 * Returns the result of the data flow analysis, which is shared by the
+	 * evaluation of all assumptions and sub-assumptions. The sequences are found
+	 * and evaluated once per analysis execution.
+	 *
+	 * @return The evaluated action sequences of the analysis.
+	 */
+	private List<ActionSequence> getPropagationResult() {
+		if (this.propagationResult == null) {
+			List<ActionSequence> actionSequences = analysis.findAllSequences();
+			this.propagationResult = analysis.evaluateDataFlows(actionSequences);
+		}
+		return this.propagationResult;
+	}
+
 	/**
 	 * Resets the evaluation state, setting the flag indicating whether any
-	 * assumption violation exists to false. Also clears the output buffer.
+	 * assumption violation exists to false. Also discards the shared result of the
+	 * data flow analysis and the index of the assumptions and clears the output
+	 * buffer.
 	 */
 	private void resetEvaluationState() {
 		anyAssumptionViolation = false;
+		propagationResult = null;
+		invalidateAssumptionIndex();
 		System.out.flush();
 	}
 
@@ -340,6 +360,7 @@ public class DataFlowAnalysisAdapter extends AbstractSubAssumptionAnalyzer imple
 	 */
 	public void setDataFlowAnalysis(DataFlowConfidentialityAnalysis analysis) {
 		this.analysis = analysis;
+		this.propagationResult = null;
 	}
 
 	/**
@@ -1,7 +1,14 @@
 package rest.general;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
 import java.util.stream.Collectors;
 import rest.entities.GraphAssumption;
 
@@ -12,6 +19,10 @@ import rest.entities.GraphAssumption;
  */
 public abstract class AbstractSubAssumptionAnalyzer {
 	protected Collection<GraphAssumption> assumptions;
+	private Collection<GraphAssumption> indexedAssumptions;
+	private List<GraphAssumption> orderedAssumptions;
+	private Map<UUID, List<Integer>> assumptionPositionsById;
+	private Set<UUID> dependencyIds;
 
 	/**
 	 * Performs the evaluation of the given scenario by analyzing data flows against
@@ -19,6 +30,7 @@ public abstract class AbstractSubAssumptionAnalyzer {
 	 */
 	public void performScenarioEvaluation() {
 		evaluateAssumptions(this.assumptions, false);
+		invalidateAssumptionIndex();
 	};
 
 	/**
@@ -56,8 +68,14 @@ public abstract class AbstractSubAssumptionAnalyzer {
 	 * @return A list of sub-assumptions.
 	 */
 	public List<GraphAssumption> getSubAssumptions(GraphAssumption assumption) {
-		return this.assumptions.stream()
-				.filter(currAssumption -> assumption.getDependencies().contains(currAssumption.getId()))
+		this.ensureAssumptionsIndexed();
+		return assumption.getDependencies().stream()
+				.distinct()
+				.map(this.assumptionPositionsById::get)
+				.filter(Objects::nonNull)
+				.flatMap(List::stream)
+				.sorted()
+				.map(this.orderedAssumptions::get)
 				.collect(Collectors.toList());
 	}
 
@@ -70,8 +88,43 @@ public abstract class AbstractSubAssumptionAnalyzer {
 	 *         existing assumption, otherwise {@code false}.
 	 */
 	public boolean isAssumptionInDependencies(GraphAssumption assumption) {
-		return this.assumptions.stream()
-				.anyMatch(currAssumption -> currAssumption.getDependencies().contains(assumption.getId()));
+		this.ensureAssumptionsIndexed();
+		return this.dependencyIds.contains(assumption.getId());
+	}
+
+	/**
+	 * Indexes the current assumptions by their ID together with the IDs all
+	 * assumptions depend on. Assumptions sharing an ID are all kept in the order
+	 * of the collection.
+	 */
+	private void indexAssumptions() {
+		this.orderedAssumptions = new ArrayList<>(this.assumptions);
+		this.assumptionPositionsById = new HashMap<>();
+		this.dependencyIds = new HashSet<>();
+		for (int i = 0; i < this.orderedAssumptions.size(); i++) {
+			GraphAssumption assumption = this.orderedAssumptions.get(i);
+			this.assumptionPositionsById.computeIfAbsent(assumption.getId(), it -> new ArrayList<>()).add(i);
+			this.dependencyIds.addAll(assumption.getDependencies());
+		}
+		this.indexedAssumptions = this.assumptions;
+	}
+
+	/**
+	 * Discards the index of the assumptions after an evaluation, so that the next
+	 * evaluation reflects changes made to the collection in place.
+	 */
+	protected void invalidateAssumptionIndex() {
+		this.orderedAssumptions = null;
+	}
+
+	/**
+	 * Builds the index of the assumptions, if it has not been built yet, it has
+	 * been invalidated or the collection of assumptions has been replaced since.
+	 */
+	private void ensureAssumptionsIndexed() {
+		if (this.assumptions != this.indexedAssumptions || this.orderedAssumptions == null) {
+			this.indexAssumptions();
+		}
 	}
 
 	/**